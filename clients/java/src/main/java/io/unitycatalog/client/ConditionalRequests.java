@@ -0,0 +1,266 @@
+package io.unitycatalog.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Revalidates metadata with the server instead of downloading it again.
+ *
+ * <p>The server returns an {@code ETag} with securable metadata, e.g. tables and schemas. Once
+ * enabled, the last response of every such GET request is kept, up to a maximum number of entries,
+ * and repeated requests carry its tag in an {@code If-None-Match} header. When the server answers
+ * {@code 304 Not Modified}, the kept response is handed to the caller as if it had been sent again,
+ * so the generated API classes work unchanged.
+ *
+ * <p>The API classes take the HTTP client when they are constructed, so this must be called before
+ * creating them, and after the client's HTTP client builder has been configured.
+ */
+public class ConditionalRequests {
+
+  public static final int DEFAULT_MAX_ENTRIES = 100;
+
+  private ConditionalRequests() {}
+
+  /** Enables revalidation on the given client with {@link #DEFAULT_MAX_ENTRIES}. */
+  public static ApiClient enable(ApiClient apiClient) {
+    return enable(apiClient, DEFAULT_MAX_ENTRIES);
+  }
+
+  /** Enables revalidation on the given client, keeping at most {@code maxEntries} responses. */
+  public static ApiClient enable(ApiClient apiClient, int maxEntries) {
+    HttpClient httpClient = new RevalidatingHttpClient(apiClient.getHttpClient(), maxEntries);
+    return apiClient.setHttpClientBuilder(new FixedHttpClientBuilder(httpClient));
+  }
+
+  /** A response kept for revalidation. */
+  private static class CachedResponse {
+    private final String entityTag;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    private CachedResponse(String entityTag, HttpHeaders headers, byte[] body) {
+      this.entityTag = entityTag;
+      this.headers = headers;
+      this.body = body;
+    }
+  }
+
+  static class RevalidatingHttpClient extends DelegatingHttpClient {
+
+    private final Map<String, CachedResponse> cache;
+
+    RevalidatingHttpClient(HttpClient delegate, int maxEntries) {
+      super(delegate);
+      this.cache =
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+              return size() > maxEntries;
+            }
+          };
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(
+        HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+        throws IOException, InterruptedException {
+      if (!request.method().equals("GET")) {
+        return delegate.send(request, responseBodyHandler);
+      }
+      String key = cacheKey(request);
+      CachedResponse cached = get(key);
+      HttpResponse<byte[]> response =
+          delegate.send(conditional(request, cached), HttpResponse.BodyHandlers.ofByteArray());
+      try {
+        return complete(key, cached, response, responseBodyHandler);
+      } catch (ExecutionException e) {
+        throw new IOException(e.getCause());
+      }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+        HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
+      if (!request.method().equals("GET")) {
+        return delegate.sendAsync(request, responseBodyHandler);
+      }
+      String key = cacheKey(request);
+      CachedResponse cached = get(key);
+      return delegate
+          .sendAsync(conditional(request, cached), HttpResponse.BodyHandlers.ofByteArray())
+          .thenApply(
+              response -> {
+                try {
+                  return complete(key, cached, response, responseBodyHandler);
+                } catch (ExecutionException | InterruptedException e) {
+                  throw new CompletionException(e);
+                }
+              });
+    }
+
+    private static String cacheKey(HttpRequest request) {
+      // The same resource may be sent in different encodings
+      return request.uri() + " " + request.headers().firstValue("Accept").orElse("");
+    }
+
+    private CachedResponse get(String key) {
+      synchronized (cache) {
+        return cache.get(key);
+      }
+    }
+
+    private static HttpRequest conditional(HttpRequest request, CachedResponse cached) {
+      if (cached == null) {
+        return request;
+      }
+      HttpRequest.Builder builder = HttpRequest.newBuilder(request.uri()).GET();
+      request.timeout().ifPresent(builder::timeout);
+      request.version().ifPresent(builder::version);
+      builder.expectContinue(request.expectContinue());
+      request
+          .headers()
+          .map()
+          .forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+      return builder.setHeader("If-None-Match", cached.entityTag).build();
+    }
+
+    private <T> HttpResponse<T> complete(
+        String key,
+        CachedResponse cached,
+        HttpResponse<byte[]> response,
+        HttpResponse.BodyHandler<T> responseBodyHandler)
+        throws ExecutionException, InterruptedException {
+      if (response.statusCode() == 304 && cached != null) {
+        return replay(response, 200, cached.headers, cached.body, responseBodyHandler);
+      }
+      if (response.statusCode() == 200) {
+        Optional<String> entityTag = response.headers().firstValue("ETag");
+        synchronized (cache) {
+          if (entityTag.isPresent()) {
+            cache.put(
+                key, new CachedResponse(entityTag.get(), response.headers(), response.body()));
+          } else {
+            cache.remove(key);
+          }
+        }
+      }
+      return replay(
+          response,
+          response.statusCode(),
+          response.headers(),
+          response.body(),
+          responseBodyHandler);
+    }
+
+    /** Converts a buffered response into the body type the caller asked for. */
+    private static <T> HttpResponse<T> replay(
+        HttpResponse<byte[]> response,
+        int statusCode,
+        HttpHeaders headers,
+        byte[] body,
+        HttpResponse.BodyHandler<T> responseBodyHandler)
+        throws ExecutionException, InterruptedException {
+      HttpResponse.ResponseInfo responseInfo =
+          new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+              return statusCode;
+            }
+
+            @Override
+            public HttpHeaders headers() {
+              return headers;
+            }
+
+            @Override
+            public HttpClient.Version version() {
+              return response.version();
+            }
+          };
+      HttpResponse.BodySubscriber<T> subscriber = responseBodyHandler.apply(responseInfo);
+      subscriber.onSubscribe(
+          new Flow.Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {}
+          });
+      if (body != null && body.length > 0) {
+        subscriber.onNext(List.of(ByteBuffer.wrap(body)));
+      }
+      subscriber.onComplete();
+      T result = subscriber.getBody().toCompletableFuture().get();
+      return new ReplayedResponse<>(response, statusCode, headers, result);
+    }
+  }
+
+  private static class ReplayedResponse<T> implements HttpResponse<T> {
+    private final HttpResponse<byte[]> response;
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final T body;
+
+    private ReplayedResponse(
+        HttpResponse<byte[]> response, int statusCode, HttpHeaders headers, T body) {
+      this.response = response;
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.body = body;
+    }
+
+    @Override
+    public int statusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public HttpRequest request() {
+      return response.request();
+    }
+
+    @Override
+    public Optional<HttpResponse<T>> previousResponse() {
+      return Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+      return headers;
+    }
+
+    @Override
+    public T body() {
+      return body;
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+      return response.sslSession();
+    }
+
+    @Override
+    public URI uri() {
+      return response.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+      return response.version();
+    }
+  }
+}
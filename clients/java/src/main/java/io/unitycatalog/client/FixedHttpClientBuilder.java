@@ -0,0 +1,82 @@
+package io.unitycatalog.client;
+
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+
+/**
+ * Hands out the same client, so that all API classes share it, e.g. with the responses it keeps.
+ * The client is already built, so it can't be configured anymore.
+ */
+class FixedHttpClientBuilder implements HttpClient.Builder {
+  private final HttpClient httpClient;
+
+  FixedHttpClientBuilder(HttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  @Override
+  public HttpClient build() {
+    return httpClient;
+  }
+
+  @Override
+  public HttpClient.Builder cookieHandler(CookieHandler cookieHandler) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpClient.Builder connectTimeout(Duration duration) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpClient.Builder sslContext(SSLContext sslContext) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpClient.Builder sslParameters(SSLParameters sslParameters) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpClient.Builder executor(Executor executor) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpClient.Builder followRedirects(HttpClient.Redirect policy) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpClient.Builder version(HttpClient.Version version) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpClient.Builder priority(int priority) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpClient.Builder proxy(ProxySelector proxySelector) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpClient.Builder authenticator(Authenticator authenticator) {
+    throw unsupported();
+  }
+
+  private static UnsupportedOperationException unsupported() {
+    return new UnsupportedOperationException(
+        "Configure the HTTP client before enabling conditional requests or setting its options");
+  }
+}
@@ -0,0 +1,513 @@
+package io.unitycatalog.client;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Options of the connections of an {@link ApiClient} to the server.
+ *
+ * <p>All API classes of the client share one HTTP client and its connections. With {@link
+ * #maxConnections}, at most that many requests are in flight at once and the others wait for one of
+ * them to complete, which bounds the connections opened to the server. A request whose response
+ * body is an {@link InputStream}, as with the API classes, is in flight until the stream was read
+ * to its end or closed. HTTP/2 is negotiated by default, so that requests are multiplexed over one
+ * connection when the server supports it.
+ *
+ * <p>Requests answered with {@code 429 Too Many Requests} or {@code 503 Service Unavailable}, and
+ * requests that failed to connect, are retried after the delay in the {@code Retry-After} header of
+ * the response, or else after an exponential backoff with full jitter. Other I/O errors are only
+ * retried for GET requests, as other requests may have taken effect. With a {@link
+ * #requestTimeout}, each call must complete within it, retries included.
+ *
+ * <p>The API classes take the HTTP client when they are constructed, so the options must be applied
+ * before creating them, and before enabling {@link ConditionalRequests}.
+ */
+public class HttpClientOptions {
+
+  public static final int DEFAULT_MAX_RETRIES = 3;
+  public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+  public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(10);
+
+  private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(429, 503);
+
+  private int maxConnections = 0;
+  private boolean http2 = true;
+  private int maxRetries = DEFAULT_MAX_RETRIES;
+  private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+  private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+  private Duration connectTimeout = null;
+  private Duration requestTimeout = null;
+
+  /** Sets the maximum number of requests in flight at once, 0 for no limit. */
+  public HttpClientOptions maxConnections(int maxConnections) {
+    if (maxConnections < 0) {
+      throw new IllegalArgumentException("maxConnections must not be negative");
+    }
+    this.maxConnections = maxConnections;
+    return this;
+  }
+
+  /** Sets whether to negotiate HTTP/2 with the server, or only use HTTP/1.1. */
+  public HttpClientOptions http2(boolean http2) {
+    this.http2 = http2;
+    return this;
+  }
+
+  /** Sets the maximum number of times a request is retried, 0 to never retry. */
+  public HttpClientOptions maxRetries(int maxRetries) {
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("maxRetries must not be negative");
+    }
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  /** Sets the upper bound of the delay before the first retry, doubled for every next one. */
+  public HttpClientOptions initialBackoff(Duration initialBackoff) {
+    this.initialBackoff = initialBackoff;
+    return this;
+  }
+
+  /** Sets the upper bound of the delay before any retry. */
+  public HttpClientOptions maxBackoff(Duration maxBackoff) {
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+
+  /** Sets the timeout of opening a connection, or null for the default of the HTTP client. */
+  public HttpClientOptions connectTimeout(Duration connectTimeout) {
+    this.connectTimeout = connectTimeout;
+    return this;
+  }
+
+  /** Sets the time each call must complete within, retries included, or null for no limit. */
+  public HttpClientOptions requestTimeout(Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  /** Makes the given client connect to the server with these options. */
+  public ApiClient apply(ApiClient apiClient) {
+    HttpClient.Builder builder =
+        HttpClient.newBuilder()
+            .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1);
+    if (connectTimeout != null) {
+      builder.connectTimeout(connectTimeout);
+    }
+    HttpClient httpClient =
+        new RetryingHttpClient(
+            builder.build(),
+            maxConnections,
+            maxRetries,
+            initialBackoff.toMillis(),
+            maxBackoff.toMillis(),
+            requestTimeout == null ? 0 : requestTimeout.toMillis());
+    return apiClient.setHttpClientBuilder(new FixedHttpClientBuilder(httpClient));
+  }
+
+  static class RetryingHttpClient extends DelegatingHttpClient {
+
+    private final ConnectionLimiter limiter;
+    private final int maxRetries;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long requestTimeoutMillis;
+
+    RetryingHttpClient(
+        HttpClient delegate,
+        int maxConnections,
+        int maxRetries,
+        long initialBackoffMillis,
+        long maxBackoffMillis,
+        long requestTimeoutMillis) {
+      super(delegate);
+      this.limiter = maxConnections > 0 ? new ConnectionLimiter(maxConnections) : null;
+      this.maxRetries = maxRetries;
+      this.initialBackoffMillis = initialBackoffMillis;
+      this.maxBackoffMillis = maxBackoffMillis;
+      this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(
+        HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+        throws IOException, InterruptedException {
+      long deadline = deadline();
+      for (int attempt = 0; ; attempt++) {
+        HttpRequest attemptRequest = withDeadline(request, deadline);
+        HttpResponse<T> response = null;
+        IOException error = null;
+        Permit permit = acquire();
+        try {
+          response = permit.holdUntilRead(delegate.send(attemptRequest, responseBodyHandler));
+        } catch (IOException e) {
+          error = e;
+        } finally {
+          if (response == null) {
+            permit.release();
+          }
+        }
+        long delay = retryDelay(request, attempt, response, error, deadline);
+        if (delay < 0) {
+          if (error != null) {
+            throw error;
+          }
+          return response;
+        }
+        if (response != null) {
+          discard(response);
+        }
+        Thread.sleep(delay);
+      }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+        HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
+      return sendAsync(request, responseBodyHandler, 0, deadline());
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> sendAsync(
+        HttpRequest request,
+        HttpResponse.BodyHandler<T> responseBodyHandler,
+        int attempt,
+        long deadline) {
+      HttpRequest attemptRequest;
+      try {
+        attemptRequest = withDeadline(request, deadline);
+      } catch (HttpTimeoutException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+      CompletableFuture<Void> acquired =
+          limiter == null ? CompletableFuture.completedFuture(null) : limiter.acquire();
+      Permit permit = new Permit();
+      return acquired
+          .thenCompose(
+              ignored -> {
+                try {
+                  return delegate
+                      .sendAsync(attemptRequest, responseBodyHandler)
+                      .whenComplete(
+                          (response, error) -> {
+                            if (response == null) {
+                              permit.release();
+                            }
+                          })
+                      .thenApply(permit::holdUntilRead);
+                } catch (RuntimeException e) {
+                  permit.release();
+                  throw e;
+                }
+              })
+          .handle(
+              (response, error) -> {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                long delay = -1;
+                if (cause == null) {
+                  delay = retryDelay(request, attempt, response, null, deadline);
+                } else if (cause instanceof IOException) {
+                  delay = retryDelay(request, attempt, null, (IOException) cause, deadline);
+                }
+                if (delay < 0) {
+                  return cause == null
+                      ? CompletableFuture.completedFuture(response)
+                      : CompletableFuture.<HttpResponse<T>>failedFuture(cause);
+                }
+                if (response != null) {
+                  discard(response);
+                }
+                return CompletableFuture.runAsync(
+                        () -> {}, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                    .thenCompose(
+                        ignored -> sendAsync(request, responseBodyHandler, attempt + 1, deadline));
+              })
+          .thenCompose(future -> future);
+    }
+
+    private long deadline() {
+      return requestTimeoutMillis > 0
+          ? System.currentTimeMillis() + requestTimeoutMillis
+          : Long.MAX_VALUE;
+    }
+
+    /** Returns the request with a timeout that ends no later than the deadline of the call. */
+    private static HttpRequest withDeadline(HttpRequest request, long deadline)
+        throws HttpTimeoutException {
+      if (deadline == Long.MAX_VALUE) {
+        return request;
+      }
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        throw new HttpTimeoutException("request timed out");
+      }
+      Duration timeout = Duration.ofMillis(remaining);
+      if (request.timeout().isPresent() && request.timeout().get().compareTo(timeout) < 0) {
+        return request;
+      }
+      HttpRequest.Builder builder =
+          HttpRequest.newBuilder(request.uri())
+              .method(
+                  request.method(),
+                  request.bodyPublisher().orElse(HttpRequest.BodyPublishers.noBody()))
+              .timeout(timeout)
+              .expectContinue(request.expectContinue());
+      request.version().ifPresent(builder::version);
+      request
+          .headers()
+          .map()
+          .forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+      return builder.build();
+    }
+
+    /**
+     * Returns how long to wait before retrying a request that got the given response or error, or
+     * -1 if it is not retried.
+     */
+    private long retryDelay(
+        HttpRequest request,
+        int attempt,
+        HttpResponse<?> response,
+        IOException error,
+        long deadline) {
+      if (attempt >= maxRetries) {
+        return -1;
+      }
+      long delay = backoff(attempt);
+      if (response != null) {
+        if (!RETRYABLE_STATUS_CODES.contains(response.statusCode())) {
+          return -1;
+        }
+        Long retryAfter = retryAfterMillis(response);
+        if (retryAfter != null) {
+          delay = retryAfter;
+        }
+      } else {
+        boolean connectFailed =
+            error instanceof ConnectException || error instanceof HttpConnectTimeoutException;
+        if (!connectFailed && !request.method().equals("GET")) {
+          return -1;
+        }
+      }
+      if (deadline != Long.MAX_VALUE && System.currentTimeMillis() + delay >= deadline) {
+        return -1;
+      }
+      return delay;
+    }
+
+    /** Returns a random delay up to the exponentially growing backoff of the attempt. */
+    private long backoff(int attempt) {
+      long backoff = initialBackoffMillis;
+      for (int i = 0; i < attempt && backoff < maxBackoffMillis; i++) {
+        backoff *= 2;
+      }
+      return ThreadLocalRandom.current().nextLong(Math.min(backoff, maxBackoffMillis) + 1);
+    }
+
+    /** Returns the delay in seconds of the {@code Retry-After} header in milliseconds, if any. */
+    private static Long retryAfterMillis(HttpResponse<?> response) {
+      try {
+        return response
+            .headers()
+            .firstValue("Retry-After")
+            .map(value -> Math.max(0, Long.parseLong(value.trim())) * 1000)
+            .orElse(null);
+      } catch (NumberFormatException e) {
+        // An HTTP date, the backoff is used instead
+        return null;
+      }
+    }
+
+    /** Frees the connection of a response that is not handed to the caller. */
+    private static void discard(HttpResponse<?> response) {
+      if (response.body() instanceof Closeable) {
+        try {
+          ((Closeable) response.body()).close();
+        } catch (IOException e) {
+          // The response is discarded anyway
+        }
+      }
+    }
+
+    private Permit acquire() throws InterruptedException {
+      if (limiter == null) {
+        return new Permit();
+      }
+      CompletableFuture<Void> acquired = limiter.acquire();
+      try {
+        acquired.get();
+        return new Permit();
+      } catch (InterruptedException e) {
+        // The connection may have been handed over in the meantime
+        if (!acquired.cancel(false)) {
+          limiter.release();
+        }
+        throw e;
+      } catch (ExecutionException e) {
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+
+    /** The connection of one attempt of a request, handed back to the limiter once. */
+    private class Permit {
+      private final AtomicBoolean released = new AtomicBoolean();
+
+      private void release() {
+        if (limiter != null && released.compareAndSet(false, true)) {
+          limiter.release();
+        }
+      }
+
+      /**
+       * Returns the response with a body that releases the permit once it was read to its end or
+       * closed, if it is a stream, and releases the permit right away otherwise.
+       */
+      @SuppressWarnings("unchecked")
+      private <T> HttpResponse<T> holdUntilRead(HttpResponse<T> response) {
+        if (limiter == null || !(response.body() instanceof InputStream)) {
+          release();
+          return response;
+        }
+        InputStream body =
+            new FilterInputStream((InputStream) response.body()) {
+              @Override
+              public int read() throws IOException {
+                return releaseAtEnd(super.read());
+              }
+
+              @Override
+              public int read(byte[] b, int off, int len) throws IOException {
+                return releaseAtEnd(super.read(b, off, len));
+              }
+
+              @Override
+              public void close() throws IOException {
+                try {
+                  super.close();
+                } finally {
+                  release();
+                }
+              }
+
+              private int releaseAtEnd(int read) {
+                if (read < 0) {
+                  release();
+                }
+                return read;
+              }
+            };
+        return new ResponseWithBody<>(response, (T) body);
+      }
+    }
+  }
+
+  /** A response with another body. */
+  private static class ResponseWithBody<T> implements HttpResponse<T> {
+    private final HttpResponse<T> response;
+    private final T body;
+
+    private ResponseWithBody(HttpResponse<T> response, T body) {
+      this.response = response;
+      this.body = body;
+    }
+
+    @Override
+    public int statusCode() {
+      return response.statusCode();
+    }
+
+    @Override
+    public HttpRequest request() {
+      return response.request();
+    }
+
+    @Override
+    public Optional<HttpResponse<T>> previousResponse() {
+      return response.previousResponse();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+      return response.headers();
+    }
+
+    @Override
+    public T body() {
+      return body;
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+      return response.sslSession();
+    }
+
+    @Override
+    public URI uri() {
+      return response.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+      return response.version();
+    }
+  }
+
+  /** Hands out a bounded number of connections, in the order they were asked for. */
+  private static class ConnectionLimiter {
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int available;
+
+    private ConnectionLimiter(int permits) {
+      this.available = permits;
+    }
+
+    private CompletableFuture<Void> acquire() {
+      synchronized (this) {
+        if (available > 0) {
+          available--;
+          return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        return waiter;
+      }
+    }
+
+    private void release() {
+      while (true) {
+        CompletableFuture<Void> waiter;
+        synchronized (this) {
+          waiter = waiters.poll();
+          if (waiter == null) {
+            available++;
+            return;
+          }
+        }
+        // Waiters that gave up are skipped, the connection goes to the next one
+        if (waiter.complete(null)) {
+          return;
+        }
+      }
+    }
+  }
+}
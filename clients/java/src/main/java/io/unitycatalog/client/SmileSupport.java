@@ -0,0 +1,108 @@
+package io.unitycatalog.client;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.net.http.HttpRequest;
+import java.util.function.Consumer;
+
+/**
+ * Switches an {@link ApiClient} to the Smile binary encoding of the API payloads.
+ *
+ * <p>Requests are sent as {@code application/x-jackson-smile} and ask for the same type in the
+ * {@code Accept} header, falling back to JSON. The server only answers some operations in Smile,
+ * and errors are always JSON, so responses are decoded according to their leading bytes rather
+ * than assumed to be Smile.
+ *
+ * <p>The API classes take a copy of the client's object mapper when they are constructed, so this
+ * must be called before creating them.
+ */
+public class SmileSupport {
+
+  public static final String MEDIA_TYPE = "application/x-jackson-smile";
+
+  private static final String ACCEPT = MEDIA_TYPE + ", application/json;q=0.9";
+
+  private SmileSupport() {}
+
+  /** Enables Smile on the given client, keeping any request interceptor that is already set. */
+  public static ApiClient enable(ApiClient apiClient) {
+    apiClient.setObjectMapper(
+        apiClient.getObjectMapper().copyWith(new FormatDetectingSmileFactory()));
+    Consumer<HttpRequest.Builder> interceptor = apiClient.getRequestInterceptor();
+    return apiClient.setRequestInterceptor(
+        request -> {
+          if (interceptor != null) {
+            interceptor.accept(request);
+          }
+          request.setHeader("Accept", ACCEPT);
+          request.setHeader("Content-Type", MEDIA_TYPE);
+        });
+  }
+
+  /**
+   * Writes Smile and reads either Smile or JSON. Smile documents start with the {@code ":)\n"}
+   * header, which is never the start of a JSON document.
+   */
+  static class FormatDetectingSmileFactory extends JsonFactory {
+
+    private final SmileFactory smileFactory = new SmileFactory();
+
+    FormatDetectingSmileFactory() {}
+
+    FormatDetectingSmileFactory(FormatDetectingSmileFactory src, ObjectCodec codec) {
+      super(src, codec);
+    }
+
+    @Override
+    public JsonFactory copy() {
+      return new FormatDetectingSmileFactory(this, null);
+    }
+
+    @Override
+    public JsonGenerator createGenerator(OutputStream out, JsonEncoding enc) throws IOException {
+      return smileFactory.createGenerator(out).setCodec(getCodec());
+    }
+
+    @Override
+    public JsonGenerator createGenerator(OutputStream out) throws IOException {
+      return createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    @Override
+    public JsonParser createParser(InputStream in) throws IOException {
+      PushbackInputStream input = new PushbackInputStream(in, 1);
+      int first = input.read();
+      if (first != -1) {
+        input.unread(first);
+      }
+      return first == ':'
+          ? createSmileParser(smileFactory.createParser(input))
+          : super.createParser(input);
+    }
+
+    @Override
+    public JsonParser createParser(byte[] data) throws IOException {
+      return createParser(data, 0, data.length);
+    }
+
+    @Override
+    public JsonParser createParser(byte[] data, int offset, int len) throws IOException {
+      return len > 0 && data[offset] == ':'
+          ? createSmileParser(smileFactory.createParser(data, offset, len))
+          : super.createParser(data, offset, len);
+    }
+
+    private JsonParser createSmileParser(JsonParser parser) {
+      parser.setCodec(getCodec());
+      return parser;
+    }
+  }
+}
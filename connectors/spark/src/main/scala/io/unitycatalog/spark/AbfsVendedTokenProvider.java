@@ -1,18 +1,29 @@
 package io.unitycatalog.spark;
 
+import io.unitycatalog.client.model.AzureUserDelegationSAS;
+import io.unitycatalog.client.model.TemporaryCredentials;
 import org.apache.hadoop.fs.azurebfs.extensions.SASTokenProvider;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.security.AccessControlException;
 
 import java.io.IOException;
 
+/**
+ * Provides the SAS token vended by Unity Catalog, renewed through {@link VendedCredentialsCache}
+ * before it expires.
+ */
 public class AbfsVendedTokenProvider implements SASTokenProvider {
     private Configuration conf;
     protected static final String ACCESS_TOKEN_KEY = "fs.azure.sas.fixed.token";
 
     @Override
     public String getSASToken(String account, String fileSystem, String path, String operation) throws IOException, AccessControlException {
-        return conf.get(ACCESS_TOKEN_KEY);
+        return VendedCredentialsCache.get(conf, () -> new TemporaryCredentials()
+                .azureUserDelegationSas(
+                        new AzureUserDelegationSAS().sasToken(conf.get(ACCESS_TOKEN_KEY)))
+                .expirationTime(VendedCredentialsCache.getExpirationTime(conf)))
+                .getAzureUserDelegationSas()
+                .getSasToken();
     }
 
     @Override
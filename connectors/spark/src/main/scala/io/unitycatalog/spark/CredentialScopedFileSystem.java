@@ -0,0 +1,366 @@
+package io.unitycatalog.spark;
+
+import io.unitycatalog.client.model.TableOperation;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.CreateFlag;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FSDataOutputStreamBuilder;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.FilterFileSystem;
+import org.apache.hadoop.fs.Options;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.permission.FsPermission;
+import org.apache.hadoop.util.Progressable;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.hadoop.util.ShutdownHookManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A file system that shares the file systems of tables with the same vended credentials.
+ *
+ * <p>Hadoop caches file systems by scheme, authority and user, so the file system of one table
+ * would be handed out with the credentials of another. Instead of disabling the Hadoop cache, and
+ * creating a file system with its own connection and thread pools for every task, tables use this
+ * file system with the Hadoop cache disabled. It is a thin wrapper around a file system of the
+ * class in {@code fs.unitycatalog.<scheme>.impl}, which is kept in a bounded cache keyed by scheme,
+ * authority and the scope of the credentials (see {@link VendedCredentialsCache#scope}), and reused
+ * by all tasks of the executor. Since the credential providers renew the credentials, the cached
+ * file systems stay usable for as long as they are cached.
+ *
+ * <p>The least recently opened file systems are evicted when the cache is full, so its size
+ * ({@value #CACHE_SIZE_KEY}) should exceed the number of tables used at the same time. The cached
+ * file systems are reference counted: every wrapper holds a reference until it is closed or garbage
+ * collected, and an evicted file system is only closed once the last wrapper using it is released.
+ * Wrappers are rarely closed, since with the Hadoop cache disabled every {@code FileSystem.get}
+ * returns a new one, so most references are dropped by a {@link Cleaner} once the wrapper becomes
+ * unreachable.
+ *
+ * <p>Tables loaded for an operation Spark doesn't tell, e.g. by every SELECT, get read credentials
+ * (see {@link VendedCredentialsCache#TABLE_WRITES_ON_DEMAND_KEY}). Their wrappers read through the
+ * file system of the read credentials, and only on the first write acquire the file system of the
+ * table's write credentials, which are requested from the server then, and write through it.
+ */
+public class CredentialScopedFileSystem extends FilterFileSystem {
+    private static final Logger LOG = LoggerFactory.getLogger(CredentialScopedFileSystem.class);
+    static final String IMPL_KEY_FORMAT = "fs.unitycatalog.%s.impl";
+    static final String CACHE_SIZE_KEY = "fs.unitycatalog.filesystem.cache.size";
+    static final int DEFAULT_CACHE_SIZE = 64;
+    // Run before Hadoop closes its cached file systems
+    private static final int SHUTDOWN_HOOK_PRIORITY = FileSystem.SHUTDOWN_HOOK_PRIORITY + 1;
+
+    /** A file system with the number of wrappers using it. Guarded by {@link #CACHE}. */
+    private static class SharedFileSystem {
+        private final FileSystem fs;
+        private int references;
+        private boolean evicted;
+
+        private SharedFileSystem(FileSystem fs) {
+            this.fs = fs;
+        }
+    }
+
+    private static final LinkedHashMap<String, SharedFileSystem> CACHE =
+            new LinkedHashMap<>(16, 0.75f, true);
+    // Evicted file systems that are still used by some wrapper
+    private static final Set<SharedFileSystem> IN_USE_EVICTED = new HashSet<>();
+    // Releases the references of wrappers that are garbage collected without being closed
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    static {
+        ShutdownHookManager.get().addShutdownHook(() -> {
+            List<FileSystem> open = evict(0);
+            synchronized (CACHE) {
+                IN_USE_EVICTED.forEach(shared -> open.add(shared.fs));
+                IN_USE_EVICTED.clear();
+            }
+            closeAll(open);
+        }, SHUTDOWN_HOOK_PRIORITY);
+    }
+
+    private Cleaner.Cleanable reference;
+    private URI name;
+    // The configuration of the write credentials, if they are requested on the first write
+    private Configuration writeConf;
+    private volatile FileSystem writeFs;
+    private Cleaner.Cleanable writeReference;
+
+    @Override
+    public void initialize(URI name, Configuration conf) throws IOException {
+        SharedFileSystem shared = acquire(name, conf);
+        fs = shared.fs;
+        reference = CLEANER.register(this, releaser(shared));
+        this.name = name;
+        if (conf.getBoolean(VendedCredentialsCache.TABLE_WRITES_ON_DEMAND_KEY, false)) {
+            writeConf = new Configuration(conf);
+            writeConf.unset(VendedCredentialsCache.TABLE_WRITES_ON_DEMAND_KEY);
+            writeConf.set(
+                    VendedCredentialsCache.TABLE_OPERATION_KEY,
+                    TableOperation.READ_WRITE.getValue());
+            writeConf.setBoolean(VendedCredentialsCache.VEND_ON_FIRST_USE_KEY, true);
+        }
+        super.initialize(name, conf);
+    }
+
+    @Override
+    public void close() throws IOException {
+        processDeleteOnExit();
+        // Releases the references at most once, whether closed or collected
+        if (reference != null) {
+            reference.clean();
+        }
+        synchronized (this) {
+            if (writeReference != null) {
+                writeReference.clean();
+            }
+        }
+    }
+
+    /** Returns the file system to write through, acquiring it on the first write if needed. */
+    private FileSystem writeFileSystem() throws IOException {
+        if (writeConf == null) {
+            return fs;
+        }
+        if (writeFs == null) {
+            synchronized (this) {
+                if (writeFs == null) {
+                    SharedFileSystem shared = acquire(name, writeConf);
+                    writeReference = CLEANER.register(this, releaser(shared));
+                    writeFs = shared.fs;
+                }
+            }
+        }
+        return writeFs;
+    }
+
+    @Override
+    public FSDataOutputStream create(Path f, FsPermission permission, boolean overwrite,
+            int bufferSize, short replication, long blockSize, Progressable progress)
+            throws IOException {
+        return writeFileSystem().create(
+                f, permission, overwrite, bufferSize, replication, blockSize, progress);
+    }
+
+    @Override
+    public FSDataOutputStream create(Path f, FsPermission permission, EnumSet<CreateFlag> flags,
+            int bufferSize, short replication, long blockSize, Progressable progress,
+            Options.ChecksumOpt checksumOpt) throws IOException {
+        return writeFileSystem().create(
+                f, permission, flags, bufferSize, replication, blockSize, progress, checksumOpt);
+    }
+
+    @Override
+    public FSDataOutputStream createNonRecursive(Path f, FsPermission permission,
+            EnumSet<CreateFlag> flags, int bufferSize, short replication, long blockSize,
+            Progressable progress) throws IOException {
+        return writeFileSystem().createNonRecursive(
+                f, permission, flags, bufferSize, replication, blockSize, progress);
+    }
+
+    @Override
+    public FSDataOutputStreamBuilder createFile(Path path) {
+        try {
+            return writeFileSystem().createFile(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public FSDataOutputStream append(Path f, int bufferSize, Progressable progress)
+            throws IOException {
+        return writeFileSystem().append(f, bufferSize, progress);
+    }
+
+    @Override
+    public FSDataOutputStreamBuilder appendFile(Path path) {
+        try {
+            return writeFileSystem().appendFile(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void concat(Path trg, Path[] psrcs) throws IOException {
+        writeFileSystem().concat(trg, psrcs);
+    }
+
+    @Override
+    public boolean truncate(Path f, long newLength) throws IOException {
+        return writeFileSystem().truncate(f, newLength);
+    }
+
+    @Override
+    public boolean rename(Path src, Path dst) throws IOException {
+        return writeFileSystem().rename(src, dst);
+    }
+
+    @Override
+    public boolean delete(Path f, boolean recursive) throws IOException {
+        return writeFileSystem().delete(f, recursive);
+    }
+
+    @Override
+    public boolean mkdirs(Path f) throws IOException {
+        return writeFileSystem().mkdirs(f);
+    }
+
+    @Override
+    public boolean mkdirs(Path f, FsPermission permission) throws IOException {
+        return writeFileSystem().mkdirs(f, permission);
+    }
+
+    @Override
+    public boolean setReplication(Path src, short replication) throws IOException {
+        return writeFileSystem().setReplication(src, replication);
+    }
+
+    @Override
+    public void setTimes(Path p, long mtime, long atime) throws IOException {
+        writeFileSystem().setTimes(p, mtime, atime);
+    }
+
+    @Override
+    public void setPermission(Path p, FsPermission permission) throws IOException {
+        writeFileSystem().setPermission(p, permission);
+    }
+
+    @Override
+    public void setOwner(Path p, String username, String groupname) throws IOException {
+        writeFileSystem().setOwner(p, username, groupname);
+    }
+
+    @Override
+    public void copyFromLocalFile(boolean delSrc, Path src, Path dst) throws IOException {
+        writeFileSystem().copyFromLocalFile(delSrc, src, dst);
+    }
+
+    @Override
+    public void copyFromLocalFile(boolean delSrc, boolean overwrite, Path src, Path dst)
+            throws IOException {
+        writeFileSystem().copyFromLocalFile(delSrc, overwrite, src, dst);
+    }
+
+    @Override
+    public void copyFromLocalFile(boolean delSrc, boolean overwrite, Path[] srcs, Path dst)
+            throws IOException {
+        writeFileSystem().copyFromLocalFile(delSrc, overwrite, srcs, dst);
+    }
+
+    @Override
+    public void completeLocalOutput(Path fsOutputFile, Path tmpLocalFile) throws IOException {
+        writeFileSystem().completeLocalOutput(fsOutputFile, tmpLocalFile);
+    }
+
+    /** The action that drops the reference of a wrapper, which must not refer to the wrapper. */
+    private static Runnable releaser(SharedFileSystem shared) {
+        return () -> closeAll(release(shared));
+    }
+
+    private static SharedFileSystem acquire(URI name, Configuration conf) throws IOException {
+        String scope = VendedCredentialsCache.scope(conf);
+        if (scope == null) {
+            // Credentials that aren't vended for a table or path are not shared, and their file
+            // system is closed with its only wrapper
+            SharedFileSystem shared = new SharedFileSystem(newFileSystem(name, conf));
+            shared.references = 1;
+            shared.evicted = true;
+            return shared;
+        }
+        String key = name.getScheme() + "://" + name.getAuthority() + "\n" + scope;
+        synchronized (CACHE) {
+            SharedFileSystem shared = CACHE.get(key);
+            if (shared != null) {
+                shared.references++;
+                return shared;
+            }
+        }
+        FileSystem fs = newFileSystem(name, conf);
+        SharedFileSystem shared;
+        List<FileSystem> evicted;
+        synchronized (CACHE) {
+            shared = CACHE.get(key);
+            if (shared == null) {
+                shared = new SharedFileSystem(fs);
+                CACHE.put(key, shared);
+            }
+            shared.references++;
+            evicted = evict(conf.getInt(CACHE_SIZE_KEY, DEFAULT_CACHE_SIZE));
+        }
+        if (shared.fs != fs) {
+            // Another task created the same file system concurrently
+            evicted.add(fs);
+        }
+        closeAll(evicted);
+        return shared;
+    }
+
+    /** Drops a reference, and returns the file system to close if it was the last one. */
+    private static List<FileSystem> release(SharedFileSystem shared) {
+        List<FileSystem> closed = new ArrayList<>();
+        synchronized (CACHE) {
+            shared.references--;
+            if (shared.evicted && shared.references == 0) {
+                IN_USE_EVICTED.remove(shared);
+                closed.add(shared.fs);
+            }
+        }
+        return closed;
+    }
+
+    private static FileSystem newFileSystem(URI name, Configuration conf) throws IOException {
+        String implKey = String.format(IMPL_KEY_FORMAT, name.getScheme());
+        Class<? extends FileSystem> impl = conf.getClass(implKey, null, FileSystem.class);
+        if (impl == null) {
+            throw new IOException("No file system configured in " + implKey);
+        }
+        FileSystem fs = ReflectionUtils.newInstance(impl, conf);
+        fs.initialize(name, conf);
+        return fs;
+    }
+
+    /**
+     * Removes the least recently opened file systems beyond the given size from the cache, and
+     * returns those that no wrapper uses anymore. The others are closed by their last wrapper.
+     */
+    private static List<FileSystem> evict(int size) {
+        List<FileSystem> unused = new ArrayList<>();
+        synchronized (CACHE) {
+            Iterator<Map.Entry<String, SharedFileSystem>> entries = CACHE.entrySet().iterator();
+            while (CACHE.size() > size && entries.hasNext()) {
+                SharedFileSystem shared = entries.next().getValue();
+                entries.remove();
+                shared.evicted = true;
+                if (shared.references == 0) {
+                    unused.add(shared.fs);
+                } else {
+                    IN_USE_EVICTED.add(shared);
+                }
+            }
+        }
+        return unused;
+    }
+    private static void closeAll(List<FileSystem> fileSystems) {
+        for (FileSystem fs : fileSystems) {
+            try {
+                fs.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close file system {}", fs.getUri(), e);
+            }
+        }
+    }
+}
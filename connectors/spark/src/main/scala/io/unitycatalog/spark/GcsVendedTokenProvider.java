@@ -1,11 +1,18 @@
 package io.unitycatalog.spark;
 
 import com.google.cloud.hadoop.util.AccessTokenProvider;
+import io.unitycatalog.client.model.GcpOauthToken;
+import io.unitycatalog.client.model.TemporaryCredentials;
 import org.apache.hadoop.conf.Configuration;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 
+/**
+ * Provides the GCS access token vended by Unity Catalog, renewed through
+ * {@link VendedCredentialsCache} before it expires.
+ */
 public class GcsVendedTokenProvider implements AccessTokenProvider {
     protected static final String ACCESS_TOKEN_KEY = "fs.gs.auth.access.token.credential";
     protected static final String ACCESS_TOKEN_EXPIRATION_KEY = "fs.gs.auth.access.token.expiration";
@@ -13,15 +20,30 @@ public class GcsVendedTokenProvider implements AccessTokenProvider {
 
     @Override
     public AccessToken getAccessToken() {
-        return new AccessToken(
-                conf.get(ACCESS_TOKEN_KEY),
-                Instant.ofEpochMilli(Long.parseLong(conf.get(ACCESS_TOKEN_EXPIRATION_KEY)))
-        );
+        try {
+            TemporaryCredentials credentials = getCredentials();
+            return new AccessToken(
+                    credentials.getGcpOauthToken().getOauthToken(),
+                    Instant.ofEpochMilli(credentials.getExpirationTime())
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
     public void refresh() throws IOException {
-        throw new IOException("Temporary token, not refreshable");
+        if (conf.get(VendedCredentialsCache.UC_URI_KEY) == null) {
+            throw new IOException("Temporary token, not refreshable");
+        }
+        // Renews the token if it expires soon, unless another file system renewed it already
+        getCredentials();
+    }
+
+    private TemporaryCredentials getCredentials() throws IOException {
+        return VendedCredentialsCache.get(conf, () -> new TemporaryCredentials()
+                .gcpOauthToken(new GcpOauthToken().oauthToken(conf.get(ACCESS_TOKEN_KEY)))
+                .expirationTime(Long.parseLong(conf.get(ACCESS_TOKEN_EXPIRATION_KEY))));
     }
 
     @Override
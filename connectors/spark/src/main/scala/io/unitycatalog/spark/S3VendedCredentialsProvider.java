@@ -0,0 +1,47 @@
+package io.unitycatalog.spark;
+
+import io.unitycatalog.client.model.AwsCredentials;
+import io.unitycatalog.client.model.TemporaryCredentials;
+import org.apache.hadoop.conf.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+
+/**
+ * Provides the S3 session credentials vended by Unity Catalog to S3A, renewed through
+ * {@link VendedCredentialsCache} before they expire.
+ */
+public class S3VendedCredentialsProvider implements AwsCredentialsProvider {
+    static final String ACCESS_KEY = "fs.s3a.access.key";
+    static final String SECRET_KEY = "fs.s3a.secret.key";
+    static final String SESSION_TOKEN = "fs.s3a.session.token";
+
+    private final Configuration conf;
+
+    public S3VendedCredentialsProvider(URI uri, Configuration conf) {
+        this.conf = conf;
+    }
+
+    @Override
+    public software.amazon.awssdk.auth.credentials.AwsCredentials resolveCredentials() {
+        AwsCredentials credentials;
+        try {
+            credentials = VendedCredentialsCache.get(conf, () -> new TemporaryCredentials()
+                    .awsTempCredentials(new AwsCredentials()
+                            .accessKeyId(conf.get(ACCESS_KEY))
+                            .secretAccessKey(conf.get(SECRET_KEY))
+                            .sessionToken(conf.get(SESSION_TOKEN)))
+                    .expirationTime(VendedCredentialsCache.getExpirationTime(conf)))
+                    .getAwsTempCredentials();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return AwsSessionCredentials.create(
+                credentials.getAccessKeyId(),
+                credentials.getSecretAccessKey(),
+                credentials.getSessionToken());
+    }
+}
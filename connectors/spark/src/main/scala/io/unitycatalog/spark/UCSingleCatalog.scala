@@ -1,14 +1,17 @@
 package io.unitycatalog.spark
 
-import io.unitycatalog.client.{ApiClient, ApiException}
+import io.unitycatalog.client.{ApiClient, ApiException, ConditionalRequests, HttpClientOptions, SmileSupport}
 import io.unitycatalog.client.api.{SchemasApi, TablesApi, TemporaryCredentialsApi}
-import io.unitycatalog.client.model.{ColumnInfo, ColumnTypeName, CreateSchema, CreateTable, DataSourceFormat, GenerateTemporaryPathCredential, GenerateTemporaryTableCredential, ListTablesResponse, PathOperation, SchemaInfo, TableOperation, TableType, TemporaryCredentials}
+import io.unitycatalog.client.model.{ColumnInfo, ColumnTypeName, CreateSchema, CreateTable, DataSourceFormat, GenerateTemporaryPathCredential, GenerateTemporaryTableCredential, ListSchemasResponse, ListTablesResponse, PathOperation, SchemaInfo, TableOperation, TableType, TemporaryCredentials}
 
 import java.net.URI
+import java.time.Duration
 import java.util
-import org.apache.hadoop.fs.Path
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FileSystem, Path}
 import org.apache.hadoop.fs.azurebfs.constants.ConfigurationKeys.{FS_AZURE_ACCOUNT_AUTH_TYPE_PROPERTY_NAME, FS_AZURE_ACCOUNT_IS_HNS_ENABLED, FS_AZURE_SAS_TOKEN_PROVIDER_TYPE}
 import org.apache.spark.internal.Logging
+import org.apache.spark.sql.SparkSession
 import org.apache.spark.sql.catalyst.TableIdentifier
 import org.apache.spark.sql.catalyst.analysis.{NoSuchNamespaceException, NoSuchTableException}
 import org.apache.spark.sql.catalyst.catalog.{CatalogStorageFormat, CatalogTable, CatalogTableType, CatalogUtils}
@@ -19,7 +22,10 @@ import org.apache.spark.sql.util.CaseInsensitiveStringMap
 
 import scala.collection.convert.ImplicitConversions._
 import scala.collection.JavaConverters._
+import scala.collection.mutable.ArrayBuffer
+import scala.concurrent.{blocking, Await, ExecutionContext, Future}
 import scala.language.existentials
+import scala.util.Try
 
 /**
  * A Spark catalog plugin to get/manage tables in Unity Catalog.
@@ -28,6 +34,8 @@ class UCSingleCatalog extends TableCatalog with SupportsNamespaces with Logging
 
   private[this] var apiClient: ApiClient = null;
   private[this] var temporaryCredentialsApi: TemporaryCredentialsApi = null
+  // Lets the credential providers of the file systems renew vended credentials
+  private[this] var renewalProps: Map[String, String] = Map.empty
 
   @volatile private var delegate: TableCatalog = null
 
@@ -41,14 +49,28 @@ class UCSingleCatalog extends TableCatalog with SupportsNamespaces with Logging
       .setHost(url.getHost)
       .setPort(url.getPort)
       .setScheme(url.getScheme)
+    // Pool, retry and time out the connections to the server, before the ETag cache below wraps them
+    apiClient = UCSingleCatalog.httpClientOptions(options).apply(apiClient)
     val token = options.get("token")
+    renewalProps = Map(VendedCredentialsCache.UC_URI_KEY -> urlStr)
     if (token != null && token.nonEmpty) {
       apiClient = apiClient.setRequestInterceptor { request =>
         request.header("Authorization", "Bearer " + token)
       }
+      renewalProps += VendedCredentialsCache.UC_TOKEN_KEY -> token
+    }
+    // Exchange payloads in the Smile binary format instead of JSON
+    if (options.getBoolean("smile", false)) {
+      apiClient = SmileSupport.enable(apiClient)
+    }
+    // Revalidate repeatedly loaded metadata with its ETag instead of downloading it again, if the
+    // session opts in
+    val etagCacheSize = options.getInt("etagCacheSize", 0)
+    if (etagCacheSize > 0) {
+      apiClient = ConditionalRequests.enable(apiClient, etagCacheSize)
     }
     temporaryCredentialsApi = new TemporaryCredentialsApi(apiClient)
-    val proxy = new UCProxy(apiClient, temporaryCredentialsApi)
+    val proxy = new UCProxy(apiClient, temporaryCredentialsApi, renewalProps)
     proxy.initialize(name, options)
     if (UCSingleCatalog.LOAD_DELTA_CATALOG.get()) {
       try {
@@ -72,6 +94,21 @@ class UCSingleCatalog extends TableCatalog with SupportsNamespaces with Logging
 
   override def loadTable(ident: Identifier): Table = delegate.loadTable(ident)
 
+  override def loadTable(
+      ident: Identifier,
+      writePrivileges: util.Set[TableWritePrivilege]): Table = {
+    // DeltaCatalog drops the privileges on the way to the proxy, they follow it in a thread local
+    val previous = UCProxy.WRITE_PRIVILEGES.get()
+    UCProxy.WRITE_PRIVILEGES.set(writePrivileges)
+    try {
+      delegate.loadTable(ident, writePrivileges)
+    } finally {
+      UCProxy.WRITE_PRIVILEGES.set(previous)
+    }
+  }
+
+  override def invalidateTable(ident: Identifier): Unit = delegate.invalidateTable(ident)
+
   override def tableExists(ident: Identifier): Boolean = {
     delegate.tableExists(ident)
   }
@@ -107,7 +144,11 @@ class UCSingleCatalog extends TableCatalog with SupportsNamespaces with Logging
       val newProps = new util.HashMap[String, String]
       newProps.putAll(properties)
       val credentialProps = UCSingleCatalog.generateCredentialProps(
-        CatalogUtils.stringToURI(location).getScheme, cred)
+        CatalogUtils.stringToURI(location).getScheme,
+        cred,
+        renewalProps ++ Map(
+          VendedCredentialsCache.PATH_KEY -> location,
+          VendedCredentialsCache.PATH_OPERATION_KEY -> PathOperation.PATH_CREATE_TABLE.getValue))
       newProps.putAll(credentialProps.asJava)
       // TODO: Delta requires the options to be set twice in the properties, with and without the
       //       `option.` prefix. We should revisit this in Delta.
@@ -161,10 +202,31 @@ object UCSingleCatalog {
   val LOAD_DELTA_CATALOG = ThreadLocal.withInitial[Boolean](() => true)
   val DELTA_CATALOG_LOADED = ThreadLocal.withInitial[Boolean](() => false)
 
+  /** Returns the options of the connections to the server set in the catalog options. */
+  def httpClientOptions(options: CaseInsensitiveStringMap): HttpClientOptions = {
+    def duration(key: String, default: Duration): Duration = {
+      Option(options.get(key)).map(value => Duration.ofMillis(value.toLong)).getOrElse(default)
+    }
+    new HttpClientOptions()
+      .maxConnections(options.getInt("maxConnections", 0))
+      .http2(options.getBoolean("http2", true))
+      .maxRetries(options.getInt("maxRetries", HttpClientOptions.DEFAULT_MAX_RETRIES))
+      .initialBackoff(duration("retryInitialBackoffMs", HttpClientOptions.DEFAULT_INITIAL_BACKOFF))
+      .maxBackoff(duration("retryMaxBackoffMs", HttpClientOptions.DEFAULT_MAX_BACKOFF))
+      .connectTimeout(duration("connectTimeoutMs", null))
+      .requestTimeout(duration("requestTimeoutMs", null))
+  }
+
+  /**
+   * Returns the Hadoop properties that make the file systems of a scheme use the given credentials.
+   * With the `renewalProps` of the table or path they were vended for, the credential providers
+   * renew them before they expire, see [[VendedCredentialsCache]].
+   */
   def generateCredentialProps(
       scheme: String,
-      temporaryCredentials: TemporaryCredentials): Map[String, String] = {
-    if (scheme == "s3") {
+      temporaryCredentials: TemporaryCredentials,
+      renewalProps: Map[String, String] = Map.empty): Map[String, String] = {
+    val schemeProps = if (scheme == "s3") {
       val awsCredentials = temporaryCredentials.getAwsTempCredentials
       Map(
         // TODO: how to support s3:// properly?
@@ -172,8 +234,7 @@ object UCSingleCatalog {
         "fs.s3a.secret.key" -> awsCredentials.getSecretAccessKey,
         "fs.s3a.session.token" -> awsCredentials.getSessionToken,
         "fs.s3a.path.style.access" -> "true",
-        "fs.s3.impl.disable.cache" -> "true",
-        "fs.s3a.impl.disable.cache" -> "true"
+        "fs.s3a.aws.credentials.provider" -> classOf[S3VendedCredentialsProvider].getName
       )
     } else if (scheme == "gs") {
       val gcsCredentials = temporaryCredentials.getGcpOauthToken
@@ -182,8 +243,7 @@ object UCSingleCatalog {
         GcsVendedTokenProvider.ACCESS_TOKEN_EXPIRATION_KEY -> temporaryCredentials.getExpirationTime.toString,
         "fs.gs.create.items.conflict.check.enable" -> "false",
         "fs.gs.auth.type" -> "ACCESS_TOKEN_PROVIDER",
-        "fs.gs.auth.access.token.provider" -> classOf[GcsVendedTokenProvider].getName,
-        "fs.gs.impl.disable.cache" -> "true"
+        "fs.gs.auth.access.token.provider" -> classOf[GcsVendedTokenProvider].getName
       )
     } else if (scheme == "abfs" || scheme == "abfss") {
       val azCredentials = temporaryCredentials.getAzureUserDelegationSas
@@ -191,28 +251,95 @@ object UCSingleCatalog {
         FS_AZURE_ACCOUNT_AUTH_TYPE_PROPERTY_NAME -> "SAS",
         FS_AZURE_ACCOUNT_IS_HNS_ENABLED -> "true",
         FS_AZURE_SAS_TOKEN_PROVIDER_TYPE -> classOf[AbfsVendedTokenProvider].getName,
-        AbfsVendedTokenProvider.ACCESS_TOKEN_KEY -> azCredentials.getSasToken,
-        "fs.abfs.impl.disable.cache" -> "true",
-        "fs.abfss.impl.disable.cache" -> "true"
+        AbfsVendedTokenProvider.ACCESS_TOKEN_KEY -> azCredentials.getSasToken
       )
     } else {
-      Map.empty
+      Map.empty[String, String]
+    }
+    if (schemeProps.isEmpty) {
+      schemeProps
+    } else {
+      val expirationProps = Option(temporaryCredentials.getExpirationTime)
+        .map(expirationTime => VendedCredentialsCache.EXPIRATION_KEY -> expirationTime.toString)
+      schemeProps ++ expirationProps ++ renewalProps ++
+        fileSystemProps(scheme, shared = renewalProps.nonEmpty)
     }
   }
+
+  /**
+   * Whether the file systems of tables with credentials for the scheme are wrapped by
+   * [[CredentialScopedFileSystem]], which requests write credentials on the first write of tables
+   * loaded with read credentials for an unknown operation.
+   */
+  def requestsWritesOnDemand(scheme: String): Boolean = {
+    Set("s3", "gs", "abfs", "abfss").contains(scheme) &&
+      fileSystemProps(scheme, shared = true).get(s"fs.$scheme.impl")
+        .contains(classOf[CredentialScopedFileSystem].getName)
+  }
+
+  /**
+   * Returns the Hadoop properties that keep the file systems of tables with different credentials
+   * apart. File systems with renewable credentials are shared per credential scope by
+   * [[CredentialScopedFileSystem]], which wraps the file system class configured in the session.
+   * Otherwise, or if the scheme has no file system, the Hadoop file system cache is disabled.
+   */
+  private def fileSystemProps(scheme: String, shared: Boolean): Map[String, String] = {
+    val schemes = scheme match {
+      case "s3" => Seq("s3", "s3a")
+      case "abfs" | "abfss" => Seq("abfs", "abfss")
+      case _ => Seq(scheme)
+    }
+    lazy val hadoopConf = SparkSession.getActiveSession
+      .map(_.sessionState.newHadoopConf())
+      .getOrElse(new Configuration())
+    schemes.flatMap { s =>
+      val impl = if (shared) {
+        Try(FileSystem.getFileSystemClass(s, hadoopConf)).toOption
+          .filter(_ != classOf[CredentialScopedFileSystem])
+      } else {
+        None
+      }
+      impl match {
+        case Some(implClass) => Seq(
+          s"fs.$s.impl" -> classOf[CredentialScopedFileSystem].getName,
+          s"fs.$s.impl.disable.cache" -> "true",
+          CredentialScopedFileSystem.IMPL_KEY_FORMAT.format(s) -> implClass.getName)
+        case None => Seq(s"fs.$s.impl.disable.cache" -> "true")
+      }
+    }.toMap
+  }
 }
 
 // An internal proxy to talk to the UC client.
 private class UCProxy(
     apiClient: ApiClient,
-    temporaryCredentialsApi: TemporaryCredentialsApi) extends TableCatalog with SupportsNamespaces {
+    temporaryCredentialsApi: TemporaryCredentialsApi,
+    renewalProps: Map[String, String]) extends TableCatalog with SupportsNamespaces {
   private[this] var name: String = null
   private[this] var tablesApi: TablesApi = null
   private[this] var schemasApi: SchemasApi = null
+  // Tables loaded by this session, with the operation of their credentials and the time they
+  // expire at
+  private[this] var tableCache: util.Map[Identifier, UCProxy.CachedTable] = null
+  private[this] var tableCacheTtlMs: Long = 0
+  private[this] var listPageSize: Int = 0
 
   override def initialize(name: String, options: CaseInsensitiveStringMap): Unit = {
     this.name = name
     tablesApi = new TablesApi(apiClient)
     schemasApi = new SchemasApi(apiClient)
+    // 0 lets the server choose the length of the pages of listings
+    listPageSize = options.getInt("listPageSize", 0)
+    // Reuse loaded tables, metadata and credentials alike, for repeated references in a query and
+    // the queries that follow. Once they expire, the ETag cache, if enabled, revalidates the
+    // metadata.
+    tableCacheTtlMs = options.getLong("metadataCacheTtlMs", UCProxy.DEFAULT_METADATA_CACHE_TTL_MS)
+    val tableCacheSize = options.getInt("metadataCacheSize", UCProxy.DEFAULT_METADATA_CACHE_SIZE)
+    tableCache = new util.LinkedHashMap[Identifier, UCProxy.CachedTable](16, 0.75f, true) {
+      override def removeEldestEntry(
+          eldest: util.Map.Entry[Identifier, UCProxy.CachedTable]): Boolean =
+        size() > tableCacheSize
+    }
   }
 
   override def name(): String = {
@@ -225,14 +352,94 @@ private class UCProxy(
 
     val catalogName = this.name
     val schemaName = namespace.head
-    val maxResults = 0
-    val pageToken = null
-    val response: ListTablesResponse = tablesApi.listTables(catalogName, schemaName, maxResults, pageToken)
-    response.getTables.toSeq.map(table => Identifier.of(namespace, table.getName)).toArray
+    // Only the names are needed, the columns and properties of the tables are left out
+    listAllPages[ListTablesResponse, Identifier](
+      pageToken => tablesApi.listTables(
+        catalogName, schemaName, listPageSize, pageToken, true, true),
+      _.getNextPageToken,
+      _.getTables.asScala.map(table => Identifier.of(namespace, table.getName))).toArray
   }
 
+  /**
+   * Returns the items of all pages of a listing. The next page is fetched in the background while
+   * the items of the current one are converted.
+   */
+  private def listAllPages[R, T](
+      fetch: String => R,
+      nextPageToken: R => String,
+      items: R => Seq[T]): Seq[T] = {
+    val result = ArrayBuffer.empty[T]
+    var page = Option(fetch(null))
+    while (page.isDefined) {
+      val next = Option(nextPageToken(page.get)).filter(_.nonEmpty).map { pageToken =>
+        Future(blocking(fetch(pageToken)))(ExecutionContext.global)
+      }
+      result ++= items(page.get)
+      page = next.map(Await.result(_, scala.concurrent.duration.Duration.Inf))
+    }
+    result.toSeq
+  }
 
+  /**
+   * Loads a table for an operation Spark doesn't tell, e.g. a SELECT or a write of the DeltaTable
+   * API. It gets read credentials, and its file systems request write credentials on the first
+   * write.
+   */
   override def loadTable(ident: Identifier): Table = {
+    Option(UCProxy.WRITE_PRIVILEGES.get()) match {
+      case Some(writePrivileges) => loadTable(ident, writePrivileges)
+      case None => loadTable(ident, None)
+    }
+  }
+
+  /**
+   * Loads a table with credentials for the operation Spark is about to run, which it tells with
+   * the privileges of writes.
+   */
+  override def loadTable(
+      ident: Identifier,
+      writePrivileges: util.Set[TableWritePrivilege]): Table = {
+    val operation = if (writePrivileges.isEmpty) TableOperation.READ else TableOperation.READ_WRITE
+    loadTable(ident, Some(operation))
+  }
+
+  /**
+   * Loads a table with credentials for the given operation, or if it is unknown, with read
+   * credentials that are upgraded on the first write.
+   */
+  private def loadTable(ident: Identifier, operation: Option[TableOperation]): Table = {
+    val now = System.currentTimeMillis()
+    val cached = tableCache.synchronized {
+      Option(tableCache.get(ident))
+        .filter { entry =>
+          // Credentials for writes serve reads as well
+          entry.expiresAt > now && (entry.operation == TableOperation.READ_WRITE ||
+            operation.contains(TableOperation.READ) || (operation.isEmpty && entry.anyOperation))
+        }
+        .map(_.table)
+    }
+    cached.getOrElse {
+      val entry = loadTableUncached(ident, operation)
+      if (entry.expiresAt > now) {
+        tableCache.synchronized {
+          tableCache.put(ident, entry)
+        }
+      }
+      entry.table
+    }
+  }
+
+  override def invalidateTable(ident: Identifier): Unit = tableCache.synchronized {
+    tableCache.remove(ident)
+  }
+
+  /**
+   * Loads a table from the server, returning it with its credentials' operation and the time it
+   * expires at in the cache.
+   */
+  private def loadTableUncached(
+      ident: Identifier,
+      requestedOperation: Option[TableOperation]): UCProxy.CachedTable = {
     val t = try {
       tablesApi.getTable(name + "." + ident.toString)
     } catch {
@@ -250,25 +457,32 @@ private class UCProxy(
     }.toArray
     val uri = CatalogUtils.stringToURI(t.getStorageLocation)
     val tableId = t.getTableId
-    val temporaryCredentials = {
-      try {
-        temporaryCredentialsApi
-          .generateTemporaryTableCredentials(
-            // TODO: at this time, we don't know if the table will be read or written. For now we always
-            //       request READ_WRITE credentials as the server doesn't distinguish between READ and
-            //       READ_WRITE credentials as of today. When loading a table, Spark should tell if it's
-            //       for read or write, we can request the proper credential after fixing Spark.
-            new GenerateTemporaryTableCredential().tableId(tableId).operation(TableOperation.READ_WRITE)
-          )
-      } catch {
-        case e: ApiException => temporaryCredentialsApi
-          .generateTemporaryTableCredentials(
-            new GenerateTemporaryTableCredential().tableId(tableId).operation(TableOperation.READ)
-          )
-      }
+    def generateCredentials(operation: TableOperation) =
+      temporaryCredentialsApi.generateTemporaryTableCredentials(
+        new GenerateTemporaryTableCredential().tableId(tableId).operation(operation))
+    val writesOnDemand =
+      requestedOperation.isEmpty && UCSingleCatalog.requestsWritesOnDemand(uri.getScheme)
+    val (temporaryCredentials, operation) = requestedOperation match {
+      case Some(operation) => (generateCredentials(operation), operation)
+      case None if writesOnDemand => (generateCredentials(TableOperation.READ), TableOperation.READ)
+      case None =>
+        // Without CredentialScopedFileSystem, the write credentials are requested up front
+        try {
+          (generateCredentials(TableOperation.READ_WRITE), TableOperation.READ_WRITE)
+        } catch {
+          // The user may only read the table
+          case e: ApiException if e.getCode == 403 =>
+            (generateCredentials(TableOperation.READ), TableOperation.READ)
+        }
     }
     val extraSerdeProps = UCSingleCatalog.generateCredentialProps(
-      uri.getScheme, temporaryCredentials)
+      uri.getScheme,
+      temporaryCredentials,
+      renewalProps ++ Map(
+        VendedCredentialsCache.TABLE_ID_KEY -> tableId,
+        VendedCredentialsCache.TABLE_OPERATION_KEY -> operation.getValue) ++
+        (if (writesOnDemand) Map(VendedCredentialsCache.TABLE_WRITES_ON_DEMAND_KEY -> "true")
+        else Map.empty))
     val sparkTable = CatalogTable(
       identifier,
       tableType = if (t.getTableType == TableType.MANAGED) {
@@ -289,9 +503,16 @@ private class UCProxy(
     // Spark separates table lookup and data source resolution. To support Spark native data
     // sources, here we return the `V1Table` which only contains the table metadata. Spark will
     // resolve the data source and create scan node later.
-    Class.forName("org.apache.spark.sql.connector.catalog.V1Table")
+    val table = Class.forName("org.apache.spark.sql.connector.catalog.V1Table")
       .getDeclaredConstructor(classOf[CatalogTable]).newInstance(sparkTable)
       .asInstanceOf[Table]
+    // Tables are not kept past the time their credentials would be renewed
+    val expiresAt = math.min(
+      System.currentTimeMillis() + tableCacheTtlMs,
+      Option(temporaryCredentials.getExpirationTime)
+        .map(_.longValue - VendedCredentialsCache.DEFAULT_RENEWAL_LEAD_TIME_MS)
+        .getOrElse(Long.MaxValue))
+    UCProxy.CachedTable(table, operation, requestedOperation.isEmpty, expiresAt)
   }
 
   override def createTable(ident: Identifier, schema: StructType, partitions: Array[Transform], properties: util.Map[String, String]): Table = {
@@ -333,7 +554,9 @@ private class UCProxy(
     val format: String = properties.get("provider")
     createTable.setDataSourceFormat(convertDatasourceFormat(format))
     tablesApi.createTable(createTable)
-    loadTable(ident)
+    invalidateTable(ident)
+    // The table is created to be written
+    loadTable(ident, Some(TableOperation.READ_WRITE))
   }
 
   private def convertDatasourceFormat(format: String): DataSourceFormat = {
@@ -370,6 +593,7 @@ private class UCProxy(
 
   override def dropTable(ident: Identifier): Boolean = {
     checkUnsupportedNestedNamespace(ident.namespace())
+    invalidateTable(ident)
     val ret =
       tablesApi.deleteTable(Seq(this.name, ident.namespace()(0), ident.name()).mkString("."))
     if (ret == 200) true else false
@@ -384,9 +608,10 @@ private class UCProxy(
   }
 
   override def listNamespaces(): Array[Array[String]] = {
-    schemasApi.listSchemas(name, 0, null).getSchemas.asScala.map { schema =>
-      Array(schema.getName)
-    }.toArray
+    listAllPages[ListSchemasResponse, Array[String]](
+      pageToken => schemasApi.listSchemas(name, listPageSize, pageToken),
+      _.getNextPageToken,
+      _.getSchemas.asScala.map(schema => Array(schema.getName))).toArray
   }
 
   override def listNamespaces(namespace: Array[String]): Array[Array[String]] = {
@@ -429,6 +654,28 @@ private class UCProxy(
   override def dropNamespace(namespace: Array[String], cascade: Boolean): Boolean = {
     checkUnsupportedNestedNamespace(namespace)
     schemasApi.deleteSchema(name + "." + namespace.head, cascade)
+    tableCache.synchronized {
+      tableCache.keySet.removeIf(_.namespace.sameElements(namespace))
+    }
     true
   }
 }
+
+private object UCProxy {
+  // The privileges Spark passed for the table being loaded by the current thread, null if it did
+  // not pass any
+  val WRITE_PRIVILEGES = new ThreadLocal[util.Set[TableWritePrivilege]]
+
+  /**
+   * A loaded table with the operation of its credentials, whether it was loaded for an operation
+   * Spark didn't tell, and the time it expires at.
+   */
+  case class CachedTable(
+      table: Table,
+      operation: TableOperation,
+      anyOperation: Boolean,
+      expiresAt: Long)
+
+  val DEFAULT_METADATA_CACHE_TTL_MS: Long = 30 * 1000
+  val DEFAULT_METADATA_CACHE_SIZE = 1000
+}
@@ -0,0 +1,159 @@
+package io.unitycatalog.spark;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.HttpClientOptions;
+import io.unitycatalog.client.api.TemporaryCredentialsApi;
+import io.unitycatalog.client.model.GenerateTemporaryPathCredential;
+import io.unitycatalog.client.model.GenerateTemporaryTableCredential;
+import io.unitycatalog.client.model.PathOperation;
+import io.unitycatalog.client.model.TableOperation;
+import io.unitycatalog.client.model.TemporaryCredentials;
+import org.apache.hadoop.conf.Configuration;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Temporary credentials vended by Unity Catalog, shared by the credential providers of all file
+ * systems in the JVM and renewed shortly before they expire.
+ *
+ * <p>Credentials are cached per table and operation, or per path and operation for tables being
+ * created, so that the tasks of an executor renew a credential once between them instead of
+ * failing when the credential they started with expires. The first credential is the one the
+ * driver vended while resolving the table, taken from the Hadoop configuration; renewed ones are
+ * requested from the server set in the configuration with {@link #UC_URI_KEY}. Without a server,
+ * the credential in the configuration is used as is.
+ *
+ * <p>Tables loaded for an operation Spark doesn't tell get read credentials, and with
+ * {@link #TABLE_WRITES_ON_DEMAND_KEY} their {@link CredentialScopedFileSystem} requests write
+ * credentials on the first write. Those are not in the configuration, which is marked with
+ * {@link #VEND_ON_FIRST_USE_KEY}.
+ */
+final class VendedCredentialsCache {
+    static final String UC_URI_KEY = "fs.unitycatalog.uri";
+    static final String UC_TOKEN_KEY = "fs.unitycatalog.token";
+    static final String TABLE_ID_KEY = "fs.unitycatalog.credentials.table.id";
+    static final String TABLE_OPERATION_KEY = "fs.unitycatalog.credentials.table.operation";
+    static final String TABLE_WRITES_ON_DEMAND_KEY =
+            "fs.unitycatalog.credentials.table.writes.on.demand";
+    static final String VEND_ON_FIRST_USE_KEY = "fs.unitycatalog.credentials.vend.on.first.use";
+    static final String PATH_KEY = "fs.unitycatalog.credentials.path";
+    static final String PATH_OPERATION_KEY = "fs.unitycatalog.credentials.path.operation";
+    static final String EXPIRATION_KEY = "fs.unitycatalog.credentials.expiration";
+    static final String RENEWAL_LEAD_TIME_KEY = "fs.unitycatalog.credentials.renewal.lead.time.ms";
+    static final long DEFAULT_RENEWAL_LEAD_TIME_MS = 5 * 60 * 1000;
+
+    private static final ConcurrentHashMap<String, Entry> CACHE = new ConcurrentHashMap<>();
+
+    private VendedCredentialsCache() {}
+
+    /**
+     * Returns the current credentials of the table or path in the configuration, renewing them if
+     * they expire within the renewal lead time.
+     *
+     * @param initial the credentials in the configuration, used until they need renewal
+     */
+    static TemporaryCredentials get(Configuration conf, Supplier<TemporaryCredentials> initial)
+            throws IOException {
+        String key = scope(conf);
+        if (key == null) {
+            return initial.get();
+        }
+        Entry entry = CACHE.get(key);
+        if (entry == null) {
+            // Entries of credentials that expired are not used anymore
+            long now = System.currentTimeMillis();
+            CACHE.values().removeIf(e -> e.expiresWithin(now, 0));
+            // The credentials in the configuration may be for another operation
+            boolean vend = conf.getBoolean(VEND_ON_FIRST_USE_KEY, false);
+            entry = CACHE.computeIfAbsent(key, k -> new Entry(vend ? null : initial.get()));
+        }
+        return entry.get(conf);
+    }
+
+    /**
+     * Returns the scope of the credentials in the configuration, which identifies the user, the
+     * table or path and the operation they were vended for, or null if they can't be renewed.
+     */
+    static String scope(Configuration conf) {
+        String uri = conf.get(UC_URI_KEY);
+        if (uri == null) {
+            return null;
+        }
+        String scope;
+        if (conf.get(TABLE_ID_KEY) != null) {
+            scope = "table:" + conf.get(TABLE_ID_KEY) + ":" + conf.get(TABLE_OPERATION_KEY);
+        } else if (conf.get(PATH_KEY) != null) {
+            scope = "path:" + conf.get(PATH_KEY) + ":" + conf.get(PATH_OPERATION_KEY);
+        } else {
+            return null;
+        }
+        // Credentials vended to one user are never handed out to another
+        return uri + "\n" + conf.get(UC_TOKEN_KEY, "") + "\n" + scope;
+    }
+
+    /** Returns the expiration time in the configuration, or null if there is none. */
+    static Long getExpirationTime(Configuration conf) {
+        String expirationTime = conf.get(EXPIRATION_KEY);
+        return expirationTime == null ? null : Long.parseLong(expirationTime);
+    }
+
+    private static TemporaryCredentials renew(Configuration conf) throws IOException {
+        URI uri = URI.create(conf.get(UC_URI_KEY));
+        // Renewals are retried when the server is overloaded by the tasks of many executors
+        ApiClient apiClient = new HttpClientOptions().apply(new ApiClient()
+                .setHost(uri.getHost())
+                .setPort(uri.getPort())
+                .setScheme(uri.getScheme()));
+        String token = conf.get(UC_TOKEN_KEY);
+        if (token != null && !token.isEmpty()) {
+            apiClient = apiClient.setRequestInterceptor(
+                    request -> request.header("Authorization", "Bearer " + token));
+        }
+        TemporaryCredentialsApi temporaryCredentialsApi = new TemporaryCredentialsApi(apiClient);
+        try {
+            String tableId = conf.get(TABLE_ID_KEY);
+            if (tableId != null) {
+                return temporaryCredentialsApi.generateTemporaryTableCredentials(
+                        new GenerateTemporaryTableCredential()
+                                .tableId(tableId)
+                                .operation(
+                                        TableOperation.fromValue(conf.get(TABLE_OPERATION_KEY))));
+            }
+            return temporaryCredentialsApi.generateTemporaryPathCredentials(
+                    new GenerateTemporaryPathCredential()
+                            .url(conf.get(PATH_KEY))
+                            .operation(PathOperation.fromValue(conf.get(PATH_OPERATION_KEY))));
+        } catch (ApiException e) {
+            throw new IOException("Failed to renew temporary credentials: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class Entry {
+        private TemporaryCredentials credentials;
+
+        private Entry(TemporaryCredentials credentials) {
+            this.credentials = credentials;
+        }
+
+        private synchronized TemporaryCredentials get(Configuration conf) throws IOException {
+            long leadTime = conf.getLong(RENEWAL_LEAD_TIME_KEY, DEFAULT_RENEWAL_LEAD_TIME_MS);
+            if (credentials == null || expiresWithin(System.currentTimeMillis(), leadTime)) {
+                credentials = renew(conf);
+            }
+            return credentials;
+        }
+
+        private synchronized boolean expiresWithin(long now, long leadTime) {
+            if (credentials == null) {
+                // Not vended yet
+                return false;
+            }
+            Long expirationTime = credentials.getExpirationTime();
+            return expirationTime != null && expirationTime - leadTime <= now;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.unitycatalog.spark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RawLocalFileSystem;
+import org.junit.jupiter.api.Test;
+
+public class CredentialScopedFileSystemTest {
+  private static final URI BUCKET = URI.create("test://bucket");
+
+  /** A local file system that remembers whether it was closed and the deletes it ran. */
+  public static class TrackingFileSystem extends RawLocalFileSystem {
+    private volatile boolean closed;
+    private final AtomicInteger deletes = new AtomicInteger();
+
+    @Override
+    protected void checkPath(Path path) {
+      // Paths of the test scheme are accepted
+    }
+
+    @Override
+    public boolean delete(Path p, boolean recursive) throws IOException {
+      deletes.incrementAndGet();
+      return super.delete(p, recursive);
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      super.close();
+    }
+  }
+
+  private static Configuration tableConf(String tableId, int cacheSize) {
+    Configuration conf = new Configuration(false);
+    conf.set(
+        String.format(CredentialScopedFileSystem.IMPL_KEY_FORMAT, "test"),
+        TrackingFileSystem.class.getName());
+    conf.setInt(CredentialScopedFileSystem.CACHE_SIZE_KEY, cacheSize);
+    conf.set(VendedCredentialsCache.UC_URI_KEY, "http://localhost:8080");
+    conf.set(VendedCredentialsCache.TABLE_ID_KEY, tableId);
+    conf.set(VendedCredentialsCache.TABLE_OPERATION_KEY, "READ");
+    return conf;
+  }
+
+  private static TrackingFileSystem open(URI uri, Configuration conf) throws IOException {
+    CredentialScopedFileSystem fs = new CredentialScopedFileSystem();
+    fs.initialize(uri, conf);
+    return (TrackingFileSystem) fs.getRawFileSystem();
+  }
+
+  @Test
+  public void testSharedPerCredentialScope() throws IOException {
+    String tableId = UUID.randomUUID().toString();
+    TrackingFileSystem fs = open(BUCKET, tableConf(tableId, 64));
+    assertThat(open(BUCKET, tableConf(tableId, 64))).isSameAs(fs);
+    assertThat(open(URI.create("test://other-bucket"), tableConf(tableId, 64))).isNotSameAs(fs);
+    assertThat(open(BUCKET, tableConf(UUID.randomUUID().toString(), 64))).isNotSameAs(fs);
+
+    // Closing one user of the file system leaves it open for the others
+    CredentialScopedFileSystem wrapper = new CredentialScopedFileSystem();
+    wrapper.initialize(BUCKET, tableConf(tableId, 64));
+    wrapper.close();
+    assertThat(fs.closed).isFalse();
+
+    // Credentials without a scope are not shared
+    Configuration conf = tableConf(tableId, 64);
+    conf.unset(VendedCredentialsCache.UC_URI_KEY);
+    assertThat(open(BUCKET, conf)).isNotSameAs(open(BUCKET, conf));
+  }
+
+  @Test
+  public void testEviction() throws IOException {
+    CredentialScopedFileSystem wrapper = new CredentialScopedFileSystem();
+    wrapper.initialize(BUCKET, tableConf(UUID.randomUUID().toString(), 1));
+    TrackingFileSystem first = (TrackingFileSystem) wrapper.getRawFileSystem();
+    wrapper.close();
+    TrackingFileSystem second = open(BUCKET, tableConf(UUID.randomUUID().toString(), 1));
+    assertThat(first.closed).isTrue();
+    assertThat(second.closed).isFalse();
+  }
+
+  @Test
+  public void testEvictionWhileInUse() throws IOException {
+    String tableId = UUID.randomUUID().toString();
+    CredentialScopedFileSystem first = new CredentialScopedFileSystem();
+    first.initialize(BUCKET, tableConf(tableId, 1));
+    CredentialScopedFileSystem second = new CredentialScopedFileSystem();
+    second.initialize(BUCKET, tableConf(tableId, 1));
+    TrackingFileSystem fs = (TrackingFileSystem) first.getRawFileSystem();
+
+    // Evicted while both wrappers use it, the file system stays open until both are closed
+    open(BUCKET, tableConf(UUID.randomUUID().toString(), 1));
+    assertThat(fs.closed).isFalse();
+    first.close();
+    first.close();
+    assertThat(fs.closed).isFalse();
+    second.close();
+    assertThat(fs.closed).isTrue();
+    // The next user of the same credentials gets a new file system
+    assertThat(open(BUCKET, tableConf(tableId, 1))).isNotSameAs(fs);
+  }
+
+  @Test
+  public void testEvictedFileSystemIsClosedWhenItsWrapperIsCollected() throws Exception {
+    // The wrapper is never closed, and unreachable once open returns
+    TrackingFileSystem fs = open(BUCKET, tableConf(UUID.randomUUID().toString(), 1));
+    open(BUCKET, tableConf(UUID.randomUUID().toString(), 1));
+    for (int i = 0; i < 100 && !fs.closed; i++) {
+      System.gc();
+      Thread.sleep(50);
+    }
+    assertThat(fs.closed).isTrue();
+  }
+
+  @Test
+  public void testWritesOnDemand() throws IOException {
+    String tableId = UUID.randomUUID().toString();
+    Configuration conf = tableConf(tableId, 64);
+    conf.setBoolean(VendedCredentialsCache.TABLE_WRITES_ON_DEMAND_KEY, true);
+    CredentialScopedFileSystem wrapper = new CredentialScopedFileSystem();
+    wrapper.initialize(BUCKET, conf);
+    TrackingFileSystem readFs = (TrackingFileSystem) wrapper.getRawFileSystem();
+    assertThat(open(BUCKET, tableConf(tableId, 64))).isSameAs(readFs);
+
+    // Writes go through the file system of the table's write credentials
+    Path path = new Path("file:///" + UUID.randomUUID());
+    assertThat(wrapper.exists(path)).isFalse();
+    wrapper.delete(path, false);
+    Configuration writeConf = tableConf(tableId, 64);
+    writeConf.set(VendedCredentialsCache.TABLE_OPERATION_KEY, "READ_WRITE");
+    TrackingFileSystem writeFs = open(BUCKET, writeConf);
+    assertThat(writeFs).isNotSameAs(readFs);
+    assertThat(writeFs.deletes).hasValue(1);
+    assertThat(readFs.deletes).hasValue(0);
+  }
+
+  @Test
+  public void testUnsharedFileSystemIsClosedWithItsWrapper() throws IOException {
+    Configuration conf = tableConf(UUID.randomUUID().toString(), 64);
+    conf.unset(VendedCredentialsCache.UC_URI_KEY);
+    CredentialScopedFileSystem wrapper = new CredentialScopedFileSystem();
+    wrapper.initialize(BUCKET, conf);
+    TrackingFileSystem fs = (TrackingFileSystem) wrapper.getRawFileSystem();
+    wrapper.close();
+    assertThat(fs.closed).isTrue();
+  }
+}
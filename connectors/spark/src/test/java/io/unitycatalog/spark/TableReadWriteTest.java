@@ -13,9 +13,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import org.apache.spark.network.util.JavaUtils;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.connector.catalog.Identifier;
+import org.apache.spark.sql.connector.catalog.Table;
+import org.apache.spark.sql.connector.catalog.TableCatalog;
+import org.apache.spark.sql.connector.catalog.TableWritePrivilege;
+import org.apache.spark.sql.connector.catalog.V1Table;
 import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructType;
 import org.junit.jupiter.api.BeforeEach;
@@ -94,6 +100,66 @@ public class TableReadWriteTest extends BaseSparkIntegrationTest {
     session.stop();
   }
 
+  @Test
+  public void testMetadataCache() throws IOException, ApiException {
+    SparkSession session = createSparkSessionWithCatalogs(SPARK_CATALOG);
+    String fullTableName = SPARK_CATALOG + "." + SCHEMA_NAME + "." + PARQUET_TABLE;
+    setupExternalParquetTable(PARQUET_TABLE, new ArrayList<>(0));
+    assertThat(session.table(fullTableName).collectAsList()).isEmpty();
+
+    // Tables dropped by other clients are served from the cache until it is invalidated
+    tableOperations.deleteTable(fullTableName);
+    assertThat(session.catalog().tableExists(fullTableName)).isTrue();
+    session.sql("REFRESH TABLE " + fullTableName);
+    assertThat(session.catalog().tableExists(fullTableName)).isFalse();
+
+    // DDL of the session invalidates the cache
+    setupExternalParquetTable(PARQUET_TABLE, new ArrayList<>(0));
+    assertThat(session.catalog().tableExists(fullTableName)).isTrue();
+    session.sql("DROP TABLE " + fullTableName);
+    assertThat(session.catalog().tableExists(fullTableName)).isFalse();
+
+    session.stop();
+  }
+
+  @Test
+  public void testCredentialOperation() throws Exception {
+    SparkSession session = createSparkSessionWithCatalogs(SPARK_CATALOG);
+    String location = "s3://test-bucket0" + generateTableLocation(SPARK_CATALOG, PARQUET_TABLE);
+    setupExternalParquetTable(PARQUET_TABLE, location, new ArrayList<>(0));
+    TableCatalog catalog =
+        (TableCatalog) session.sessionState().catalogManager().catalog(SPARK_CATALOG);
+    Identifier ident = Identifier.of(new String[] {SCHEMA_NAME}, PARQUET_TABLE);
+
+    // No privileges of writes means a read
+    assertThat(credentialOperation(catalog.loadTable(ident, Set.of()))).isEqualTo("READ");
+    assertThat(credentialOperation(catalog.loadTable(ident, Set.of(TableWritePrivilege.INSERT))))
+        .isEqualTo("READ_WRITE");
+    // Credentials for writes serve later reads
+    assertThat(credentialOperation(catalog.loadTable(ident, Set.of()))).isEqualTo("READ_WRITE");
+
+    // Without privileges the table may be loaded for a read or a write. It gets read credentials,
+    // and its file systems request write credentials on the first write.
+    catalog.invalidateTable(ident);
+    Table table = catalog.loadTable(ident);
+    assertThat(credentialOperation(table)).isEqualTo("READ");
+    assertThat(storageProperty(table, VendedCredentialsCache.TABLE_WRITES_ON_DEMAND_KEY))
+        .isEqualTo("true");
+    // Loads for writes request write credentials up front
+    assertThat(credentialOperation(catalog.loadTable(ident, Set.of(TableWritePrivilege.INSERT))))
+        .isEqualTo("READ_WRITE");
+
+    session.stop();
+  }
+
+  private static String credentialOperation(Table table) {
+    return storageProperty(table, VendedCredentialsCache.TABLE_OPERATION_KEY);
+  }
+
+  private static String storageProperty(Table table, String key) {
+    return ((V1Table) table).v1Table().storage().properties().get(key).get();
+  }
+
   @Test
   public void testDeltaPathTable() throws IOException {
     // We must replace the `spark_catalog` in order to support Delta path tables.
@@ -270,6 +336,8 @@ public class TableReadWriteTest extends BaseSparkIntegrationTest {
   @Test
   public void testShowTables() throws ApiException, IOException {
     SparkSession session = createSparkSessionWithCatalogs(SPARK_CATALOG);
+    // List one table per page
+    session.conf().set("spark.sql.catalog." + SPARK_CATALOG + ".listPageSize", "1");
     setupExternalParquetTable(PARQUET_TABLE, new ArrayList<>(0));
 
     Row[] tables = (Row[]) session.sql("SHOW TABLES in " + SCHEMA_NAME).collect();
@@ -277,6 +345,18 @@ public class TableReadWriteTest extends BaseSparkIntegrationTest {
     assertThat(tables[0].getString(0)).isEqualTo(SCHEMA_NAME);
     assertThat(tables[0].getString(1)).isEqualTo(PARQUET_TABLE);
 
+    setupExternalParquetTable(ANOTHER_PARQUET_TABLE, new ArrayList<>(0));
+    tables = (Row[]) session.sql("SHOW TABLES in " + SCHEMA_NAME).collect();
+    assertThat(tables)
+        .extracting(row -> row.getString(1))
+        .containsExactlyInAnyOrder(PARQUET_TABLE, ANOTHER_PARQUET_TABLE);
+
+    session.sql("CREATE NAMESPACE " + SPARK_CATALOG + ".another_schema");
+    Row[] namespaces = (Row[]) session.sql("SHOW NAMESPACES").collect();
+    assertThat(namespaces)
+        .extracting(row -> row.getString(0))
+        .containsExactlyInAnyOrder(SCHEMA_NAME, "another_schema");
+
     assertThatThrownBy(() -> session.sql("SHOW TABLES in a.b.c").collect())
         .isInstanceOf(ApiException.class)
         .hasMessageContaining("Nested namespaces are not supported");
@@ -0,0 +1,107 @@
+package io.unitycatalog.spark;
+
+import static io.unitycatalog.server.utils.TestUtils.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.model.ColumnInfo;
+import io.unitycatalog.client.model.ColumnTypeName;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.TableOperation;
+import io.unitycatalog.client.model.TableType;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import org.apache.hadoop.conf.Configuration;
+import org.junit.jupiter.api.Test;
+
+public class VendedCredentialsCacheTest extends BaseSparkIntegrationTest {
+
+  private String createTable(String name) throws ApiException {
+    return new TablesApi(createApiClient(serverConfig))
+        .createTable(
+            new CreateTable()
+                .name(name)
+                .catalogName(CATALOG_NAME)
+                .schemaName(SCHEMA_NAME)
+                .columns(
+                    List.of(
+                        new ColumnInfo()
+                            .name("id")
+                            .typeText("int")
+                            .typeJson("{\"type\": \"integer\"}")
+                            .typeName(ColumnTypeName.INT)
+                            .position(0)))
+                .storageLocation("gs://test-bucket0/" + name)
+                .tableType(TableType.EXTERNAL)
+                .dataSourceFormat(DataSourceFormat.DELTA))
+        .getTableId();
+  }
+
+  private static Configuration expiredTokenConf() {
+    Configuration conf = new Configuration(false);
+    conf.set(GcsVendedTokenProvider.ACCESS_TOKEN_KEY, "expired");
+    conf.set(
+        GcsVendedTokenProvider.ACCESS_TOKEN_EXPIRATION_KEY,
+        String.valueOf(System.currentTimeMillis() - 1000));
+    return conf;
+  }
+
+  @Test
+  public void testStaticToken() throws IOException {
+    GcsVendedTokenProvider provider = new GcsVendedTokenProvider();
+    provider.setConf(expiredTokenConf());
+    assertThat(provider.getAccessToken().getToken()).isEqualTo("expired");
+    assertThatThrownBy(provider::refresh).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void testRenewal() throws ApiException, IOException {
+    String tableId = createTable("renewal");
+    Configuration conf = expiredTokenConf();
+    conf.set(VendedCredentialsCache.UC_URI_KEY, serverConfig.getServerUrl());
+    conf.set(VendedCredentialsCache.TABLE_ID_KEY, tableId);
+    conf.set(VendedCredentialsCache.TABLE_OPERATION_KEY, TableOperation.READ.getValue());
+
+    GcsVendedTokenProvider provider = new GcsVendedTokenProvider();
+    provider.setConf(conf);
+    provider.refresh();
+    assertThat(provider.getAccessToken().getToken()).isEqualTo("testing://0");
+    assertThat(provider.getAccessToken().getExpirationTime()).isAfter(Instant.now());
+
+    // Other file systems of the same table share the renewed token
+    GcsVendedTokenProvider otherProvider = new GcsVendedTokenProvider();
+    otherProvider.setConf(new Configuration(conf));
+    assertThat(otherProvider.getAccessToken().getToken()).isEqualTo("testing://0");
+
+    // Renewing fails for tables that don't exist anymore
+    Configuration missingTableConf = new Configuration(conf);
+    missingTableConf.set(VendedCredentialsCache.TABLE_ID_KEY, createTable("dropped"));
+    new TablesApi(createApiClient(serverConfig))
+        .deleteTable(CATALOG_NAME + "." + SCHEMA_NAME + ".dropped");
+    GcsVendedTokenProvider missingTableProvider = new GcsVendedTokenProvider();
+    missingTableProvider.setConf(missingTableConf);
+    assertThatThrownBy(missingTableProvider::refresh).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void testVendOnFirstUse() throws ApiException, IOException {
+    Configuration conf = new Configuration(false);
+    // Read credentials of the table, which are not used for its write credentials
+    conf.set(GcsVendedTokenProvider.ACCESS_TOKEN_KEY, "read");
+    conf.set(
+        GcsVendedTokenProvider.ACCESS_TOKEN_EXPIRATION_KEY,
+        String.valueOf(System.currentTimeMillis() + 3600 * 1000));
+    conf.set(VendedCredentialsCache.UC_URI_KEY, serverConfig.getServerUrl());
+    conf.set(VendedCredentialsCache.TABLE_ID_KEY, createTable("vend_on_first_use"));
+    conf.set(VendedCredentialsCache.TABLE_OPERATION_KEY, TableOperation.READ_WRITE.getValue());
+    conf.setBoolean(VendedCredentialsCache.VEND_ON_FIRST_USE_KEY, true);
+
+    GcsVendedTokenProvider provider = new GcsVendedTokenProvider();
+    provider.setConf(conf);
+    assertThat(provider.getAccessToken().getToken()).isEqualTo("testing://0");
+  }
+}
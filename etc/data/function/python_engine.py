@@ -5,24 +5,30 @@ import logging
 # Configure logging
 logging.basicConfig(filename='python_engine.log', level=logging.INFO, format='%(asctime)s - %(levelname)s - %(message)s')
 
-def execute_function(func_name, routine_body, params_str, args_str):
-    try:
-        # Split the parameter names and argument values
-        param_names = params_str.split(', ')
-        args = json.loads(args_str)
-
-        # Log the inputs
-        logging.info(f"Executing function '{func_name}' with parameters {param_names} and arguments {args}")
+# Functions compiled so far, by name, parameters and routine body
+compiled_functions = {}
 
+def get_function(func_name, routine_body, param_names):
+    key = (func_name, tuple(param_names), routine_body)
+    func = compiled_functions.get(key)
+    if func is None:
         # Define the function dynamically
         func_def = f"def {func_name}({', '.join(param_names)}):\n"
         for line in routine_body.split('\\n'):
             func_def += f"    {line}\n"
-        #print(func_def)
-        exec(func_def, globals())
+        namespace = dict(globals())
+        exec(func_def, namespace)
+        func = namespace[func_name]
+        compiled_functions[key] = func
+    return func
+
+def execute_function(func_name, routine_body, param_names, args):
+    try:
+        # Log the inputs
+        logging.info(f"Executing function '{func_name}' with parameters {param_names} and arguments {args}")
 
         # Execute the function with the provided arguments
-        result = eval(f"{func_name}(*args)")
+        result = get_function(func_name, routine_body, param_names)(*args)
 
         # Log the result
         logging.info(f"Result of function '{func_name}': {result}")
@@ -32,15 +38,38 @@ def execute_function(func_name, routine_body, params_str, args_str):
         logging.error(f"Error executing function '{func_name}': {str(e)}")
         return str(e)
 
+def serve():
+    """
+    Evaluates functions for requests read from stdin, one JSON object per line, until stdin is closed.
+    Each request holds the function and a list of argument lists, and is answered on stdout with one
+    line holding the JSON encoded result of each call in order.
+    """
+    # Whatever the functions print goes to stderr, so that it can't be mistaken for a response
+    responses = sys.stdout
+    sys.stdout = sys.stderr
+    for line in sys.stdin:
+        request = json.loads(line)
+        results = [
+            json.dumps(execute_function(request["name"], request["body"], request["params"], args), default=str)
+            for args in request["args"]
+        ]
+        responses.write(json.dumps({"results": results}) + "\n")
+        responses.flush()
+
 if __name__ == "__main__":
+    if len(sys.argv) == 2 and sys.argv[1] == "--serve":
+        serve()
+        sys.exit(0)
     if len(sys.argv) < 5:
         print("Usage: python_engine.py <func_name> <routine_body> <params> <args>")
+        print("       python_engine.py --serve")
         sys.exit(1)
 
     func_name = sys.argv[1]
     routine_body = sys.argv[2]
-    params_str = sys.argv[3]
-    args_str = sys.argv[4]
+    # Split the parameter names and argument values
+    param_names = sys.argv[3].split(', ')
+    args = json.loads(sys.argv[4])
 
-    result = execute_function(func_name, routine_body, params_str, args_str)
-    print(json.dumps(result))
\ No newline at end of file
+    result = execute_function(func_name, routine_body, param_names, args)
+    print(json.dumps(result))
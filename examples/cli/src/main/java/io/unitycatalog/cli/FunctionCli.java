@@ -16,6 +16,8 @@ import io.unitycatalog.client.model.CreateFunction;
 import io.unitycatalog.client.model.CreateFunctionRequest;
 import io.unitycatalog.client.model.FunctionParameterInfos;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.cli.CommandLine;
 import org.json.JSONObject;
 
@@ -114,10 +116,18 @@ public class FunctionCli {
     String args = json.getString(CliParams.INPUT_PARAMS.getServerParam());
     String functionFullName = json.getString(CliParams.FULL_NAME.getServerParam());
     try {
-      return PythonInvoker.invokePython(
-          functionsApi.getFunction(functionFullName),
-          "etc/data/function/python_engine.py",
-          Arrays.stream(args.split(",")).map(String::trim).toArray(String[]::new));
+      // The inputs of several calls are separated by semicolons, and each call's result is
+      // printed on its own line
+      List<String[]> argLists =
+          Arrays.stream(args.split(";"))
+              .map(call -> Arrays.stream(call.split(",")).map(String::trim).toArray(String[]::new))
+              .collect(Collectors.toList());
+      return String.join(
+          "\n",
+          PythonInvoker.invokePython(
+              functionsApi.getFunction(functionFullName),
+              "etc/data/function/python_engine.py",
+              argLists));
     } catch (Exception e) {
       throw new CliException("Failed to execute function " + functionFullName, e);
     }
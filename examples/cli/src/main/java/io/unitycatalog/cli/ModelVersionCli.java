@@ -16,34 +16,33 @@ import org.json.JSONObject;
 
 public class ModelVersionCli {
   private static final ObjectMapper objectMapper = CliUtils.getObjectMapper();
-  private static ObjectWriter objectWriter;
 
   public static void handle(CommandLine cmd, ApiClient apiClient)
       throws JsonProcessingException, ApiException {
     ModelVersionsApi modelVersionsApi = new ModelVersionsApi(apiClient);
     String[] subArgs = cmd.getArgs();
     String subCommand = subArgs[1];
-    objectWriter = CliUtils.getObjectWriter(cmd);
+    ObjectWriter objectWriter = CliUtils.getObjectWriter(cmd);
     JSONObject json = CliUtils.createJsonFromOptions(cmd);
     String output = CliUtils.EMPTY;
     switch (subCommand) {
       case CliUtils.CREATE:
-        output = createModelVersion(modelVersionsApi, json);
+        output = createModelVersion(modelVersionsApi, json, objectWriter);
         break;
       case CliUtils.LIST:
-        output = listModelVersions(modelVersionsApi, json);
+        output = listModelVersions(modelVersionsApi, json, objectWriter);
         break;
       case CliUtils.GET:
-        output = getModelVersion(modelVersionsApi, json);
+        output = getModelVersion(modelVersionsApi, json, objectWriter);
         break;
       case CliUtils.UPDATE:
-        output = updateModelVersion(modelVersionsApi, json);
+        output = updateModelVersion(modelVersionsApi, json, objectWriter);
         break;
       case CliUtils.DELETE:
         output = deleteModelVersion(modelVersionsApi, json);
         break;
       case CliUtils.FINALIZE:
-        output = finalizeModelVersion(modelVersionsApi, json);
+        output = finalizeModelVersion(modelVersionsApi, json, objectWriter);
         break;
       default:
         CliUtils.printEntityHelp(CliUtils.REGISTERED_MODEL);
@@ -51,7 +50,8 @@ public class ModelVersionCli {
     CliUtils.postProcessAndPrintOutput(cmd, output, subCommand);
   }
 
-  private static String createModelVersion(ModelVersionsApi modelVersionsApi, JSONObject json)
+  private static String createModelVersion(
+      ModelVersionsApi modelVersionsApi, JSONObject json, ObjectWriter objectWriter)
       throws JsonProcessingException, ApiException {
     CreateModelVersion createModelVersion;
     // Map NAME to model_name for the CreateModelVersion request
@@ -62,7 +62,8 @@ public class ModelVersionCli {
     return objectWriter.writeValueAsString(modelVersionsApi.createModelVersion(createModelVersion));
   }
 
-  private static String listModelVersions(ModelVersionsApi modelVersionsApi, JSONObject json)
+  private static String listModelVersions(
+      ModelVersionsApi modelVersionsApi, JSONObject json, ObjectWriter objectWriter)
       throws JsonProcessingException, ApiException {
     String fullName = json.getString(CliParams.FULL_NAME.getServerParam());
     int maxResults = 100;
@@ -77,7 +78,8 @@ public class ModelVersionCli {
         modelVersionsApi.listModelVersions(fullName, maxResults, pageToken).getModelVersions());
   }
 
-  private static String getModelVersion(ModelVersionsApi modelVersionsApi, JSONObject json)
+  private static String getModelVersion(
+      ModelVersionsApi modelVersionsApi, JSONObject json, ObjectWriter objectWriter)
       throws JsonProcessingException, ApiException {
     String registeredModelFullName = json.getString(CliParams.FULL_NAME.getServerParam());
     Long version = json.getLong(CliParams.VERSION.getServerParam());
@@ -85,7 +87,8 @@ public class ModelVersionCli {
         modelVersionsApi.getModelVersion(registeredModelFullName, version));
   }
 
-  private static String updateModelVersion(ModelVersionsApi modelVersionsApi, JSONObject json)
+  private static String updateModelVersion(
+      ModelVersionsApi modelVersionsApi, JSONObject json, ObjectWriter objectWriter)
       throws JsonProcessingException, ApiException {
     String registeredModelFullName = json.getString(CliParams.FULL_NAME.getServerParam());
     json.remove(CliParams.FULL_NAME.getServerParam());
@@ -105,7 +108,8 @@ public class ModelVersionCli {
     return CliUtils.EMPTY;
   }
 
-  private static String finalizeModelVersion(ModelVersionsApi modelVersionsApi, JSONObject json)
+  private static String finalizeModelVersion(
+      ModelVersionsApi modelVersionsApi, JSONObject json, ObjectWriter objectWriter)
       throws JsonProcessingException, ApiException {
     String registeredModelFullName = json.getString(CliParams.FULL_NAME.getServerParam());
     Long version = json.getLong(CliParams.VERSION.getServerParam());
@@ -19,7 +19,9 @@ import io.unitycatalog.client.model.*;
 import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.cli.CommandLine;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -146,7 +148,9 @@ public class TableCli {
                 json.getString(CliParams.CATALOG_NAME.getServerParam()),
                 json.getString(CliParams.SCHEMA_NAME.getServerParam()),
                 maxResults,
-                pageToken)
+                pageToken,
+                null,
+                null)
             .getTables());
   }
 
@@ -169,11 +173,24 @@ public class TableCli {
     if (json.has(CliParams.MAX_RESULTS.getServerParam())) {
       maxResults = json.getInt(CliParams.MAX_RESULTS.getServerParam());
     }
+    List<String> columnNames = null;
+    if (json.has(CliParams.COLUMN_NAMES.getServerParam())) {
+      columnNames =
+          Arrays.stream(json.getString(CliParams.COLUMN_NAMES.getServerParam()).split(","))
+              .map(String::trim)
+              .collect(Collectors.toList());
+    }
+    String filter = null;
+    if (json.has(CliParams.FILTER.getServerParam())) {
+      filter = json.getString(CliParams.FILTER.getServerParam());
+    }
     try {
       return DeltaKernelUtils.readDeltaTable(
           info.getStorageLocation(),
           getTemporaryTableCredentials(temporaryCredentialsApi, tableId, TableOperation.READ),
-          maxResults);
+          maxResults,
+          columnNames,
+          filter);
     } catch (Exception e) {
       throw new CliException("Failed to read delta table " + info.getStorageLocation(), e);
     }
@@ -188,17 +205,30 @@ public class TableCli {
       throw new CliException("Only delta tables are supported for write operations");
     }
     String tableId = info.getTableId();
+    int rowCount = DeltaKernelWriteUtils.DEFAULT_ROW_COUNT;
+    if (json.has(CliParams.ROW_COUNT.getServerParam())) {
+      rowCount = json.getInt(CliParams.ROW_COUNT.getServerParam());
+    }
+    long fileSize = 0;
+    if (json.has(CliParams.FILE_SIZE.getServerParam())) {
+      fileSize = json.getLong(CliParams.FILE_SIZE.getServerParam()) * 1024 * 1024;
+    }
+    int partitions = 1;
+    if (json.has(CliParams.PARTITIONS.getServerParam())) {
+      partitions = json.getInt(CliParams.PARTITIONS.getServerParam());
+    }
     try {
-      DeltaKernelWriteUtils.writeSampleDataToDeltaTable(
+      return DeltaKernelWriteUtils.writeSampleDataToDeltaTable(
           info.getStorageLocation(),
           info.getColumns(),
-          getTemporaryTableCredentials(
-              temporaryCredentialsApi, tableId, TableOperation.READ_WRITE));
+          getTemporaryTableCredentials(temporaryCredentialsApi, tableId, TableOperation.READ_WRITE),
+          rowCount,
+          fileSize,
+          partitions);
     } catch (Exception e) {
       throw new CliException(
           "Failed to write sample data to delta table " + info.getStorageLocation(), e);
     }
-    return EMPTY;
   }
 
   private static String deleteTable(TablesApi tablesApi, JSONObject json) throws ApiException {
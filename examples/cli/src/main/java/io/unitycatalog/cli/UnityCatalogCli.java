@@ -8,7 +8,9 @@ import io.unitycatalog.cli.utils.CliParams;
 import io.unitycatalog.cli.utils.CliUtils;
 import io.unitycatalog.client.ApiClient;
 import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.HttpClientOptions;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -253,6 +255,7 @@ public class UnityCatalogCli {
       apiClient.setPort(uri.getPort());
     }
     apiClient.setScheme(uri.getScheme());
+    apiClient = getHttpClientOptions(cmd).apply(apiClient);
     String customAuthToken = loadProperty(CliUtils.AUTH_TOKEN, cmd);
     if (!customAuthToken.isEmpty()) {
       apiClient.setRequestInterceptor(
@@ -263,6 +266,39 @@ public class UnityCatalogCli {
     return apiClient;
   }
 
+  private static HttpClientOptions getHttpClientOptions(CommandLine cmd) {
+    HttpClientOptions options = new HttpClientOptions();
+    String maxConnections = loadProperty(CliParams.MAX_CONNECTIONS.val(), cmd);
+    if (!maxConnections.isEmpty()) {
+      options.maxConnections(Integer.parseInt(maxConnections));
+    }
+    String http2 = loadProperty(CliParams.HTTP2.val(), cmd);
+    if (!http2.isEmpty()) {
+      options.http2(Boolean.parseBoolean(http2));
+    }
+    String maxRetries = loadProperty(CliParams.MAX_RETRIES.val(), cmd);
+    if (!maxRetries.isEmpty()) {
+      options.maxRetries(Integer.parseInt(maxRetries));
+    }
+    String requestTimeout = loadProperty(CliParams.REQUEST_TIMEOUT.val(), cmd);
+    if (!requestTimeout.isEmpty()) {
+      options.requestTimeout(Duration.ofMillis(Long.parseLong(requestTimeout)));
+    }
+    String initialBackoff = loadProperty(CliParams.RETRY_INITIAL_BACKOFF.val(), cmd);
+    if (!initialBackoff.isEmpty()) {
+      options.initialBackoff(Duration.ofMillis(Long.parseLong(initialBackoff)));
+    }
+    String maxBackoff = loadProperty(CliParams.RETRY_MAX_BACKOFF.val(), cmd);
+    if (!maxBackoff.isEmpty()) {
+      options.maxBackoff(Duration.ofMillis(Long.parseLong(maxBackoff)));
+    }
+    String connectTimeout = loadProperty(CliParams.CONNECT_TIMEOUT.val(), cmd);
+    if (!connectTimeout.isEmpty()) {
+      options.connectTimeout(Duration.ofMillis(Long.parseLong(connectTimeout)));
+    }
+    return options;
+  }
+
   private static io.unitycatalog.control.ApiClient getControlClient(CommandLine cmd) {
     // By default, the client will connect to ref server on localhost:8080
     io.unitycatalog.control.ApiClient controlClient = new io.unitycatalog.control.ApiClient();
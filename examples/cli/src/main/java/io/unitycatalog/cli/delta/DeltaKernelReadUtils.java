@@ -4,131 +4,350 @@ import static io.delta.kernel.internal.util.Utils.singletonCloseableIterator;
 
 import de.vandermeer.asciitable.AsciiTable;
 import io.delta.kernel.Scan;
+import io.delta.kernel.data.ColumnVector;
 import io.delta.kernel.data.ColumnarBatch;
 import io.delta.kernel.data.FilteredColumnarBatch;
 import io.delta.kernel.data.Row;
 import io.delta.kernel.engine.Engine;
+import io.delta.kernel.expressions.And;
+import io.delta.kernel.expressions.Column;
+import io.delta.kernel.expressions.Literal;
+import io.delta.kernel.expressions.Predicate;
+import io.delta.kernel.expressions.PredicateEvaluator;
 import io.delta.kernel.internal.InternalScanFileUtils;
 import io.delta.kernel.internal.data.ScanStateRow;
 import io.delta.kernel.types.*;
 import io.delta.kernel.utils.CloseableIterator;
 import io.delta.kernel.utils.FileStatus;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Utility class to read data from a Delta table. It helps read data from delta file existing at the
  * given table path and prints the contents to the console with the help of the {@link AsciiTable}
  * class. The code has evolved from examples provided in <a
- * href="https://github.com/delta-io/delta/blob/master/kernel/examples/kernel-examples/src/main/java/io/delta/kernel/examples/BaseTableReader.java">BaseTableReader.java</a>
+ * href="https://github.com/delta-io/delta/blob/master/kernel/examples/kernel-examples/src/main/java/io/delta/kernel/examples/MultiThreadedTableReader.java">MultiThreadedTableReader.java</a>
  */
 public class DeltaKernelReadUtils {
 
-  protected static List<Row> getData(FilteredColumnarBatch data, int maxRowsToPrint) {
-    int printedRowCount = 0;
-    List<Row> toReturn = new ArrayList<>();
-    try (CloseableIterator<Row> rows = data.getRows()) {
-      while (rows.hasNext()) {
-        toReturn.add(rows.next());
-        printedRowCount++;
-        if (printedRowCount == maxRowsToPrint) {
-          break;
-        }
-      }
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
-    return toReturn;
+  /** The number of data files read at once. */
+  static final int PARALLELISM = Math.min(8, Runtime.getRuntime().availableProcessors());
+
+  private static final Pattern CONDITION =
+      Pattern.compile(
+          "\\s*(\\w+)\\s*(?:(<=|>=|!=|<>|=|<|>)\\s*('(?:[^']|'')*'|[^\\s']+)|\\s+IS\\s+(NOT\\s+)?NULL)"
+              + "\\s*",
+          Pattern.CASE_INSENSITIVE);
+  private static final Pattern AND = Pattern.compile("AND\\s", Pattern.CASE_INSENSITIVE);
+
+  /** Formats the value of a column vector at a row, which must not be null. */
+  interface ValueFormatter {
+    String format(ColumnVector vector, int rowId);
   }
 
-  public static String getValue(Row row, int columnOrdinal) {
-    DataType dataType = row.getSchema().at(columnOrdinal).getDataType();
-    if (row.isNullAt(columnOrdinal)) {
-      return null;
-    } else if (dataType instanceof BooleanType) {
-      return Boolean.toString(row.getBoolean(columnOrdinal));
+  static ValueFormatter getFormatter(DataType dataType) {
+    if (dataType instanceof BooleanType) {
+      return (vector, rowId) -> Boolean.toString(vector.getBoolean(rowId));
     } else if (dataType instanceof ByteType) {
-      return Byte.toString(row.getByte(columnOrdinal));
+      return (vector, rowId) -> Byte.toString(vector.getByte(rowId));
     } else if (dataType instanceof ShortType) {
-      return Short.toString(row.getShort(columnOrdinal));
+      return (vector, rowId) -> Short.toString(vector.getShort(rowId));
     } else if (dataType instanceof IntegerType) {
-      return Integer.toString(row.getInt(columnOrdinal));
+      return (vector, rowId) -> Integer.toString(vector.getInt(rowId));
     } else if (dataType instanceof DateType) {
       // DateType data is stored internally as the number of days since 1970-01-01
-      int daysSinceEpochUTC = row.getInt(columnOrdinal);
-      return LocalDate.ofEpochDay(daysSinceEpochUTC).toString();
+      return (vector, rowId) -> LocalDate.ofEpochDay(vector.getInt(rowId)).toString();
     } else if (dataType instanceof LongType) {
-      return Long.toString(row.getLong(columnOrdinal));
-    } else if (dataType instanceof TimestampType) {
-      // TimestampType data is stored internally as the number of microseconds since epoch
-      long microSecsSinceEpochUTC = row.getLong(columnOrdinal);
-      LocalDateTime dateTime =
-          LocalDateTime.ofEpochSecond(
-              microSecsSinceEpochUTC / 1_000_000 /* epochSecond */,
-              (int) (1000 * microSecsSinceEpochUTC % 1_000_000) /* nanoOfSecond */,
-              ZoneOffset.UTC);
-      return dateTime.toString();
+      return (vector, rowId) -> Long.toString(vector.getLong(rowId));
+    } else if (dataType instanceof TimestampType || dataType instanceof TimestampNTZType) {
+      // Timestamps are stored internally as the number of microseconds since epoch
+      return (vector, rowId) -> {
+        long microSecsSinceEpochUTC = vector.getLong(rowId);
+        LocalDateTime dateTime =
+            LocalDateTime.ofEpochSecond(
+                Math.floorDiv(microSecsSinceEpochUTC, 1_000_000) /* epochSecond */,
+                (int) (1000 * Math.floorMod(microSecsSinceEpochUTC, 1_000_000)) /* nanoOfSecond */,
+                ZoneOffset.UTC);
+        return dateTime.toString();
+      };
     } else if (dataType instanceof FloatType) {
-      return Float.toString(row.getFloat(columnOrdinal));
+      return (vector, rowId) -> Float.toString(vector.getFloat(rowId));
     } else if (dataType instanceof DoubleType) {
-      return Double.toString(row.getDouble(columnOrdinal));
+      return (vector, rowId) -> Double.toString(vector.getDouble(rowId));
     } else if (dataType instanceof StringType) {
-      return row.getString(columnOrdinal);
+      return ColumnVector::getString;
     } else if (dataType instanceof BinaryType) {
-      return new String(row.getBinary(columnOrdinal));
+      return (vector, rowId) -> new String(vector.getBinary(rowId));
     } else if (dataType instanceof DecimalType) {
-      return row.getDecimal(columnOrdinal).toString();
+      return (vector, rowId) -> vector.getDecimal(rowId).toString();
     } else {
       throw new UnsupportedOperationException("unsupported data type: " + dataType);
     }
   }
 
-  public static List<Row> readData(Engine engine, StructType readSchema, Scan scan, int maxRowCount)
+  /**
+   * Parses a filter of the form {@code column op value [AND column op value ...]}, where op is one
+   * of {@code =, !=, <>, <, <=, >, >=}, or {@code column IS [NOT] NULL}. String values may be
+   * quoted with single quotes.
+   *
+   * @param schema the schema of the table, which the values are converted to the types of
+   */
+  public static Predicate parseFilter(String filter, StructType schema) {
+    Predicate predicate = null;
+    Matcher condition = CONDITION.matcher(filter);
+    Matcher and = AND.matcher(filter);
+    int position = 0;
+    while (true) {
+      condition.region(position, filter.length());
+      if (!condition.lookingAt()) {
+        throw new IllegalArgumentException("Invalid filter: " + filter);
+      }
+      Predicate next = parseCondition(condition, schema);
+      predicate = predicate == null ? next : new And(predicate, next);
+      position = condition.end();
+      if (position == filter.length()) {
+        return predicate;
+      }
+      and.region(position, filter.length());
+      if (!and.lookingAt()) {
+        throw new IllegalArgumentException("Invalid filter: " + filter);
+      }
+      position = and.end();
+    }
+  }
+
+  private static Predicate parseCondition(Matcher condition, StructType schema) {
+    String name = condition.group(1);
+    if (schema.indexOf(name) < 0) {
+      throw new IllegalArgumentException("Unknown column in filter: " + name);
+    }
+    Column column = new Column(name);
+    String operator = condition.group(2);
+    if (operator == null) {
+      return new Predicate(condition.group(4) == null ? "IS_NULL" : "IS_NOT_NULL", column);
+    }
+    Literal value = getLiteral(schema.get(name).getDataType(), condition.group(3));
+    switch (operator) {
+      case "!=":
+      case "<>":
+        return new Predicate("NOT", new Predicate("=", column, value));
+      default:
+        return new Predicate(operator, column, value);
+    }
+  }
+
+  private static Literal getLiteral(DataType dataType, String text) {
+    if (text.startsWith("'")) {
+      text = text.substring(1, text.length() - 1).replace("''", "'");
+    }
+    try {
+      if (dataType instanceof BooleanType) {
+        if (!text.equalsIgnoreCase("true") && !text.equalsIgnoreCase("false")) {
+          throw new IllegalArgumentException("Invalid boolean: " + text);
+        }
+        return Literal.ofBoolean(Boolean.parseBoolean(text));
+      } else if (dataType instanceof ByteType) {
+        return Literal.ofByte(Byte.parseByte(text));
+      } else if (dataType instanceof ShortType) {
+        return Literal.ofShort(Short.parseShort(text));
+      } else if (dataType instanceof IntegerType) {
+        return Literal.ofInt(Integer.parseInt(text));
+      } else if (dataType instanceof LongType) {
+        return Literal.ofLong(Long.parseLong(text));
+      } else if (dataType instanceof FloatType) {
+        return Literal.ofFloat(Float.parseFloat(text));
+      } else if (dataType instanceof DoubleType) {
+        return Literal.ofDouble(Double.parseDouble(text));
+      } else if (dataType instanceof StringType) {
+        return Literal.ofString(text);
+      } else if (dataType instanceof DateType) {
+        return Literal.ofDate((int) LocalDate.parse(text).toEpochDay());
+      } else if (dataType instanceof TimestampType || dataType instanceof TimestampNTZType) {
+        LocalDateTime dateTime = LocalDateTime.parse(text);
+        long micros =
+            dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1000;
+        return dataType instanceof TimestampType
+            ? Literal.ofTimestamp(micros)
+            : Literal.ofTimestampNtz(micros);
+      } else if (dataType instanceof DecimalType) {
+        DecimalType decimalType = (DecimalType) dataType;
+        return Literal.ofDecimal(
+            new BigDecimal(text).setScale(decimalType.getScale(), RoundingMode.UNNECESSARY),
+            decimalType.getPrecision(),
+            decimalType.getScale());
+      }
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid " + dataType + " value in filter: " + text, e);
+    }
+    throw new UnsupportedOperationException("unsupported data type in filter: " + dataType);
+  }
+
+  /**
+   * Reads up to {@code maxRowCount} rows of the scan, formatted as strings. Data files are read by
+   * a bounded pool of threads, {@link #PARALLELISM} at a time, and their rows are returned in the
+   * order of the files in the scan. No more files are read once enough rows were read.
+   *
+   * @param columnOrdinals the ordinals in the read schema of the columns to return
+   */
+  public static List<String[]> readData(
+      Engine engine, StructType readSchema, Scan scan, int[] columnOrdinals, int maxRowCount)
       throws IOException {
-    // printSchema(readSchema);
-    List<Row> toReturn = new ArrayList<>();
     Row scanState = scan.getScanState(engine);
-    CloseableIterator<FilteredColumnarBatch> scanFileIter = scan.getScanFiles(engine);
-    int readRecordCount = 0;
-    try {
-      StructType physicalReadSchema = ScanStateRow.getPhysicalDataReadSchema(engine, scanState);
-      outer:
-      while (scanFileIter.hasNext()) {
-        FilteredColumnarBatch scanFilesBatch = scanFileIter.next();
-        try (CloseableIterator<Row> scanFileRows = scanFilesBatch.getRows()) {
-          while (scanFileRows.hasNext()) {
-            Row scanFileRow = scanFileRows.next();
-            FileStatus fileStatus = InternalScanFileUtils.getAddFileStatus(scanFileRow);
-            CloseableIterator<ColumnarBatch> physicalDataIter =
-                engine
-                    .getParquetHandler()
-                    .readParquetFiles(
-                        singletonCloseableIterator(fileStatus),
-                        physicalReadSchema,
-                        Optional.empty());
-            try (CloseableIterator<FilteredColumnarBatch> transformedData =
-                Scan.transformPhysicalData(engine, scanState, scanFileRow, physicalDataIter)) {
-              while (transformedData.hasNext()) {
-                FilteredColumnarBatch filteredData = transformedData.next();
-                List<Row> rows = getData(filteredData, maxRowCount - readRecordCount);
-                readRecordCount += rows.size();
-                toReturn.addAll(rows);
-                if (readRecordCount >= maxRowCount) {
-                  break outer;
-                }
-              }
-            }
+    StructType physicalReadSchema = ScanStateRow.getPhysicalDataReadSchema(engine, scanState);
+    ValueFormatter[] formatters = new ValueFormatter[columnOrdinals.length];
+    for (int i = 0; i < columnOrdinals.length; i++) {
+      formatters[i] = getFormatter(readSchema.at(columnOrdinals[i]).getDataType());
+    }
+    List<String[]> toReturn = new ArrayList<>();
+    Deque<Future<List<String[]>>> pending = new ArrayDeque<>();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            PARALLELISM,
+            runnable -> {
+              Thread thread = new Thread(runnable, "delta-reader");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try (CloseableIterator<FilteredColumnarBatch> scanFileIter = scan.getScanFiles(engine)) {
+      Iterator<Row> scanFiles = Collections.emptyIterator();
+      while (toReturn.size() < maxRowCount) {
+        // Keep reading the next files while the rows of the first one are waited for
+        while (pending.size() < PARALLELISM) {
+          while (!scanFiles.hasNext() && scanFileIter.hasNext()) {
+            scanFiles = getScanFiles(scanFileIter.next());
+          }
+          if (!scanFiles.hasNext()) {
+            break;
           }
+          Row scanFile = scanFiles.next();
+          pending.add(
+              executor.submit(
+                  () ->
+                      readScanFile(
+                          engine,
+                          scanState,
+                          physicalReadSchema,
+                          scanFile,
+                          scan.getRemainingFilter(),
+                          readSchema,
+                          columnOrdinals,
+                          formatters,
+                          maxRowCount)));
+        }
+        if (pending.isEmpty()) {
+          break;
         }
+        List<String[]> rows = getRows(pending.poll());
+        toReturn.addAll(rows.subList(0, Math.min(rows.size(), maxRowCount - toReturn.size())));
       }
     } finally {
-      scanFileIter.close();
+      pending.forEach(future -> future.cancel(true));
+      executor.shutdownNow();
     }
     return toReturn;
   }
+
+  private static Iterator<Row> getScanFiles(FilteredColumnarBatch scanFilesBatch)
+      throws IOException {
+    List<Row> scanFiles = new ArrayList<>();
+    try (CloseableIterator<Row> scanFileRows = scanFilesBatch.getRows()) {
+      scanFileRows.forEachRemaining(scanFiles::add);
+    }
+    return scanFiles.iterator();
+  }
+
+  private static List<String[]> getRows(Future<List<String[]>> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading the table", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private static List<String[]> readScanFile(
+      Engine engine,
+      Row scanState,
+      StructType physicalReadSchema,
+      Row scanFile,
+      Optional<Predicate> remainingFilter,
+      StructType readSchema,
+      int[] columnOrdinals,
+      ValueFormatter[] formatters,
+      int maxRowCount)
+      throws IOException {
+    // The scan only skips the files that can't match the filter, the rows still need filtering
+    Optional<PredicateEvaluator> filter =
+        remainingFilter.map(
+            predicate ->
+                engine.getExpressionHandler().getPredicateEvaluator(readSchema, predicate));
+    FileStatus fileStatus = InternalScanFileUtils.getAddFileStatus(scanFile);
+    CloseableIterator<ColumnarBatch> physicalDataIter =
+        engine
+            .getParquetHandler()
+            .readParquetFiles(
+                singletonCloseableIterator(fileStatus), physicalReadSchema, Optional.empty());
+    List<String[]> rows = new ArrayList<>();
+    try (CloseableIterator<FilteredColumnarBatch> transformedData =
+        Scan.transformPhysicalData(engine, scanState, scanFile, physicalDataIter)) {
+      while (rows.size() < maxRowCount
+          && !Thread.currentThread().isInterrupted()
+          && transformedData.hasNext()) {
+        FilteredColumnarBatch filteredData = transformedData.next();
+        ColumnarBatch data = filteredData.getData();
+        Optional<ColumnVector> selectionVector = filteredData.getSelectionVector();
+        if (filter.isPresent()) {
+          selectionVector = Optional.of(filter.get().eval(data, selectionVector));
+        }
+        addRows(data, selectionVector, columnOrdinals, formatters, maxRowCount, rows);
+      }
+    }
+    return rows;
+  }
+
+  private static void addRows(
+      ColumnarBatch data,
+      Optional<ColumnVector> selectionVector,
+      int[] columnOrdinals,
+      ValueFormatter[] formatters,
+      int maxRowCount,
+      List<String[]> rows) {
+    ColumnVector[] vectors = new ColumnVector[columnOrdinals.length];
+    for (int i = 0; i < columnOrdinals.length; i++) {
+      vectors[i] = data.getColumnVector(columnOrdinals[i]);
+    }
+    ColumnVector selected = selectionVector.orElse(null);
+    for (int rowId = 0; rowId < data.getSize() && rows.size() < maxRowCount; rowId++) {
+      if (selected != null && (selected.isNullAt(rowId) || !selected.getBoolean(rowId))) {
+        continue;
+      }
+      String[] values = new String[vectors.length];
+      for (int i = 0; i < vectors.length; i++) {
+        values[i] = vectors[i].isNullAt(rowId) ? null : formatters[i].format(vectors[i], rowId);
+      }
+      rows.add(values);
+    }
+  }
 }
@@ -4,9 +4,11 @@ import static io.unitycatalog.cli.utils.CliUtils.EMPTY;
 
 import de.vandermeer.asciitable.AsciiTable;
 import io.delta.kernel.*;
-import io.delta.kernel.data.Row;
 import io.delta.kernel.defaults.engine.DefaultEngine;
 import io.delta.kernel.engine.Engine;
+import io.delta.kernel.expressions.Column;
+import io.delta.kernel.expressions.Expression;
+import io.delta.kernel.expressions.Predicate;
 import io.delta.kernel.types.*;
 import io.delta.kernel.utils.CloseableIterable;
 import io.unitycatalog.client.model.AwsCredentials;
@@ -94,29 +96,60 @@ public class DeltaKernelUtils {
 
   public static String readDeltaTable(
       String tablePath, AwsCredentials awsCredentials, int maxResults) {
+    return readDeltaTable(tablePath, awsCredentials, maxResults, null, null);
+  }
+
+  /**
+   * Reads up to {@code maxResults} rows of the Delta table and renders them as a table.
+   *
+   * @param columnNames the columns to read, or null to read all of them
+   * @param filter the rows to read, in the format of {@link DeltaKernelReadUtils#parseFilter}, or
+   *     null to read all rows
+   */
+  public static String readDeltaTable(
+      String tablePath,
+      AwsCredentials awsCredentials,
+      int maxResults,
+      List<String> columnNames,
+      String filter) {
     Engine engine = getEngine(URI.create(tablePath), awsCredentials);
     try {
       Table table = Table.forPath(engine, substituteSchemeForS3(tablePath));
       Snapshot snapshot = table.getLatestSnapshot(engine);
-      StructType readSchema = snapshot.getSchema(engine);
+      StructType tableSchema = snapshot.getSchema(engine);
+      StructType readSchema = new StructType();
+      for (String columnName : columnNames == null ? tableSchema.fieldNames() : columnNames) {
+        if (tableSchema.indexOf(columnName) < 0) {
+          throw new IllegalArgumentException("Unknown column: " + columnName);
+        }
+        readSchema = readSchema.add(tableSchema.get(columnName));
+      }
       Object[] schema =
           readSchema.fields().stream()
               .map(x -> x.getName() + "(" + x.getDataType().toString() + ")")
               .toArray(String[]::new);
+      int[] columnOrdinals = IntStream.range(0, schema.length).toArray();
+      ScanBuilder scanBuilder = snapshot.getScanBuilder(engine);
+      if (filter != null) {
+        Predicate predicate = DeltaKernelReadUtils.parseFilter(filter, tableSchema);
+        // The columns the filter needs are read as well, but not printed
+        for (String columnName : getReferencedColumns(predicate)) {
+          if (readSchema.indexOf(columnName) < 0) {
+            readSchema = readSchema.add(tableSchema.get(columnName));
+          }
+        }
+        scanBuilder = scanBuilder.withFilter(engine, predicate);
+      }
       AsciiTable at = new AsciiTable();
       at.addRule();
       at.addRow(schema);
       at.addRule();
-      // might need to prune it later
-      ScanBuilder scanBuilder = snapshot.getScanBuilder(engine).withReadSchema(engine, readSchema);
-      List<Row> rowData =
-          DeltaKernelReadUtils.readData(engine, readSchema, scanBuilder.build(), maxResults);
-      for (Row row : rowData) {
-        Object[] rowValues =
-            IntStream.range(0, schema.length)
-                .mapToObj(colOrdinal -> DeltaKernelReadUtils.getValue(row, colOrdinal))
-                .toArray();
-        at.addRow(rowValues);
+      scanBuilder = scanBuilder.withReadSchema(engine, readSchema);
+      List<String[]> rowData =
+          DeltaKernelReadUtils.readData(
+              engine, readSchema, scanBuilder.build(), columnOrdinals, maxResults);
+      for (String[] rowValues : rowData) {
+        at.addRow((Object[]) rowValues);
         at.addRule();
       }
       return at.render();
@@ -125,6 +158,17 @@ public class DeltaKernelUtils {
     }
   }
 
+  private static Set<String> getReferencedColumns(Expression expression) {
+    Set<String> columnNames = new LinkedHashSet<>();
+    if (expression instanceof Column) {
+      columnNames.add(((Column) expression).getNames()[0]);
+    }
+    for (Expression child : expression.getChildren()) {
+      columnNames.addAll(getReferencedColumns(child));
+    }
+    return columnNames;
+  }
+
   // TODO : INTERVAL, CHAR and NULL, ARRAY, MAP, STRUCT
   public static StructType getSchema(List<ColumnInfo> columns) {
     StructType structType = new StructType();
@@ -7,12 +7,14 @@ import io.delta.kernel.data.ColumnVector;
 import io.delta.kernel.data.ColumnarBatch;
 import io.delta.kernel.data.FilteredColumnarBatch;
 import io.delta.kernel.data.Row;
+import io.delta.kernel.defaults.engine.DefaultEngine;
 import io.delta.kernel.defaults.internal.data.DefaultColumnarBatch;
 import io.delta.kernel.engine.Engine;
 import io.delta.kernel.types.*;
 import io.delta.kernel.utils.CloseableIterable;
 import io.delta.kernel.utils.CloseableIterator;
 import io.delta.kernel.utils.DataFileStatus;
+import io.delta.kernel.utils.FileStatus;
 import io.unitycatalog.cli.UnityCatalogCli;
 import io.unitycatalog.client.model.AwsCredentials;
 import io.unitycatalog.client.model.ColumnInfo;
@@ -20,7 +22,13 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.hadoop.conf.Configuration;
+import org.json.JSONObject;
 
 /**
  * Helper class to write a sample Delta table. Generates random data conforming to the given schema
@@ -29,33 +37,84 @@ import java.util.stream.Collectors;
  * href="https://github.com/delta-io/delta/blob/master/kernel/examples/kernel-examples/src/main/java/io/delta/kernel/examples/BaseTableWriter.java">BaseTableWriter.java</a>
  */
 public class DeltaKernelWriteUtils {
+  /** The number of rows written by default. */
+  public static final int DEFAULT_ROW_COUNT = 15;
+
+  /** The Hadoop configuration of the size the Parquet writer of Delta Kernel rolls files at. */
+  static final String TARGET_FILE_SIZE_CONF =
+      "delta.kernel.default.parquet.writer.targetMaxFileSize";
+
+  private static final int BATCH_SIZE = 10_000;
 
   static String accessKey = "";
   static String secretKey = "";
   static String sessionToken = "";
-  private static final Random random = new Random();
 
   public static String writeSampleDataToDeltaTable(
       String tablePath, List<ColumnInfo> columns, AwsCredentials tempCredentialResponse) {
+    return writeSampleDataToDeltaTable(
+        tablePath, columns, tempCredentialResponse, DEFAULT_ROW_COUNT, 0, 1);
+  }
+
+  /**
+   * Writes random rows to the table in one transaction.
+   *
+   * @return a JSON object of the rows, files and megabytes written and the throughput in rows and
+   *     MB per second
+   * @param rowCount the number of rows to write
+   * @param targetFileSize the size in bytes data files are rolled at, or 0 for the default of the
+   *     Parquet writer
+   * @param partitions the number of parts the rows are split into, each written to its own data
+   *     files by a pool of threads
+   */
+  public static String writeSampleDataToDeltaTable(
+      String tablePath,
+      List<ColumnInfo> columns,
+      AwsCredentials tempCredentialResponse,
+      int rowCount,
+      long targetFileSize,
+      int partitions) {
     try {
       StructType schema = DeltaKernelUtils.getSchema(columns);
       URI tablePathUri = URI.create(tablePath);
-      Engine engine = DeltaKernelUtils.getEngine(tablePathUri, tempCredentialResponse);
+      Configuration conf =
+          DeltaKernelUtils.getHDFSConfiguration(tablePathUri, tempCredentialResponse);
+      if (targetFileSize > 0) {
+        conf.setLong(TARGET_FILE_SIZE_CONF, targetFileSize);
+      }
+      Engine engine = DefaultEngine.create(conf);
       boolean createVsUpdate = true;
       if (tablePathUri.getScheme().equals("file")) {
         createVsUpdate = !(new File(tablePathUri).isDirectory());
       }
-      writeSampleDataToExistingDeltaTable(
-          engine, DeltaKernelUtils.substituteSchemeForS3(tablePath), schema, createVsUpdate);
-      return "Table written to successfully at: " + tablePath;
+      return writeSampleDataToExistingDeltaTable(
+          engine,
+          DeltaKernelUtils.substituteSchemeForS3(tablePath),
+          schema,
+          createVsUpdate,
+          rowCount,
+          partitions);
     } catch (Exception e) {
       throw new IllegalArgumentException("Failed to create delta table", e);
     }
   }
 
-  public static void writeSampleDataToExistingDeltaTable(
+  public static String writeSampleDataToExistingDeltaTable(
       Engine engine, String tablePath, StructType tableSchema, boolean createVsUpdate)
       throws IOException {
+    return writeSampleDataToExistingDeltaTable(
+        engine, tablePath, tableSchema, createVsUpdate, DEFAULT_ROW_COUNT, 1);
+  }
+
+  public static String writeSampleDataToExistingDeltaTable(
+      Engine engine,
+      String tablePath,
+      StructType tableSchema,
+      boolean createVsUpdate,
+      int rowCount,
+      int partitions)
+      throws IOException {
+    long startNanos = System.nanoTime();
     // Create a `Table` object with the given destination table path
     Table table = Table.forPath(engine, tablePath);
     // Create a transaction builder to build the transaction
@@ -64,9 +123,6 @@ public class DeltaKernelWriteUtils {
             engine,
             UnityCatalogCli.class.toString(), /* engineInfo */
             createVsUpdate ? Operation.CREATE_TABLE : Operation.WRITE);
-    // Set the schema of the new table on the transaction builder
-    // txnBuilder = txnBuilder.withSchema(engine, tableSchema);
-
     // Set the schema of the new table on the transaction builder
     if (createVsUpdate) {
       txnBuilder = txnBuilder.withSchema(engine, tableSchema);
@@ -75,21 +131,6 @@ public class DeltaKernelWriteUtils {
     Transaction txn = txnBuilder.build(engine);
     // Get the transaction state
     Row txnState = txn.getTransactionState(engine);
-    // Generate the sample data for the table that confirms to the table schema
-    FilteredColumnarBatch batch1 = generateUnpartitionedDataBatch(tableSchema, 5, 0);
-    FilteredColumnarBatch batch2 = generateUnpartitionedDataBatch(tableSchema, 5, 5);
-    FilteredColumnarBatch batch3 = generateUnpartitionedDataBatch(tableSchema, 5, 10);
-    CloseableIterator<FilteredColumnarBatch> data =
-        toCloseableIterator(Arrays.asList(batch1, batch2, batch3).iterator());
-    // First transform the logical data to physical data that needs to be written to the Parquet
-    // files
-    CloseableIterator<FilteredColumnarBatch> physicalData =
-        Transaction.transformLogicalData(
-            engine,
-            txnState,
-            data,
-            // partition values - as this table is unpartitioned, it should be empty
-            Collections.emptyMap());
     // Get the write context
     DataWriteContext writeContext =
         Transaction.getWriteContext(
@@ -97,30 +138,141 @@ public class DeltaKernelWriteUtils {
             txnState,
             // partition values - as this table is unpartitioned, it should be empty
             Collections.emptyMap());
-    // Now write the physical data to Parquet files
-    CloseableIterator<DataFileStatus> dataFiles =
-        engine
-            .getParquetHandler()
-            .writeParquetFiles(
-                writeContext.getTargetDirectory(),
-                physicalData,
-                writeContext.getStatisticsColumns());
+    // Each part of the rows is generated and written to Parquet files by its own thread
+    List<DataFileStatus> dataFiles =
+        writeParts(engine, txnState, writeContext, tableSchema, rowCount, partitions);
     // Now convert the data file status to data actions that needs to be written to the Delta
     // table log
     CloseableIterator<Row> dataActions =
-        Transaction.generateAppendActions(engine, txnState, dataFiles, writeContext);
+        Transaction.generateAppendActions(
+            engine, txnState, toCloseableIterator(dataFiles.iterator()), writeContext);
     // Create a iterable out of the data actions. If the contents are too big to fit in memory,
     // the connector may choose to write the data actions to a temporary file and return an
     // iterator that reads from the file.
     CloseableIterable<Row> dataActionsIterable = CloseableIterable.inMemoryIterable(dataActions);
-    // Commit the transaction.
+    // Commit all data files in one transaction.
     TransactionCommitResult commitResult = txn.commit(engine, dataActionsIterable);
     // Check the transaction commit result
-    if (commitResult.getVersion() >= 0) {
-      System.out.println("Table written to successfully at: " + tablePath);
-    } else {
+    if (commitResult.getVersion() < 0) {
       throw new RuntimeException("Table writing failed");
     }
+    double seconds = Math.max(1, System.nanoTime() - startNanos) / 1e9;
+    double megabytes = dataFiles.stream().mapToLong(FileStatus::getSize).sum() / (1024.0 * 1024);
+    // The throughput is the result of the command, e.g. when seeding tables for performance tests
+    return new JSONObject()
+        .put("storage_location", tablePath)
+        .put("rows", rowCount)
+        .put("files", dataFiles.size())
+        .put("megabytes", round(megabytes))
+        .put("seconds", round(seconds))
+        .put("rows_per_sec", Math.round(rowCount / seconds))
+        .put("mb_per_sec", round(megabytes / seconds))
+        .toString();
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 10) / 10.0;
+  }
+
+  /**
+   * Splits the rows into {@code partitions} parts of consecutive ids, and writes each part to its
+   * own data files on a pool of up to as many threads as there are processors.
+   */
+  private static List<DataFileStatus> writeParts(
+      Engine engine,
+      Row txnState,
+      DataWriteContext writeContext,
+      StructType tableSchema,
+      int rowCount,
+      int partitions)
+      throws IOException {
+    int parts = Math.max(1, Math.min(partitions, rowCount));
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(parts, Runtime.getRuntime().availableProcessors()),
+            runnable -> {
+              Thread thread = new Thread(runnable, "delta-writer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      List<Future<List<DataFileStatus>>> futures = new ArrayList<>();
+      for (int part = 0; part < parts; part++) {
+        int offset = (int) ((long) rowCount * part / parts);
+        int count = (int) ((long) rowCount * (part + 1) / parts) - offset;
+        futures.add(
+            executor.submit(
+                () -> writePart(engine, txnState, writeContext, tableSchema, count, offset)));
+      }
+      List<DataFileStatus> dataFiles = new ArrayList<>();
+      for (Future<List<DataFileStatus>> future : futures) {
+        dataFiles.addAll(future.get());
+      }
+      return dataFiles;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while writing the table", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static List<DataFileStatus> writePart(
+      Engine engine,
+      Row txnState,
+      DataWriteContext writeContext,
+      StructType tableSchema,
+      int count,
+      int offset)
+      throws IOException {
+    // The rows are generated one batch at a time, while the previous ones are written
+    Iterator<FilteredColumnarBatch> batches =
+        new Iterator<FilteredColumnarBatch>() {
+          private int written = 0;
+
+          @Override
+          public boolean hasNext() {
+            return written < count;
+          }
+
+          @Override
+          public FilteredColumnarBatch next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            int size = Math.min(BATCH_SIZE, count - written);
+            FilteredColumnarBatch batch =
+                generateUnpartitionedDataBatch(tableSchema, size, offset + written);
+            written += size;
+            return batch;
+          }
+        };
+    // First transform the logical data to physical data that needs to be written to the Parquet
+    // files
+    CloseableIterator<FilteredColumnarBatch> physicalData =
+        Transaction.transformLogicalData(
+            engine,
+            txnState,
+            toCloseableIterator(batches),
+            // partition values - as this table is unpartitioned, it should be empty
+            Collections.emptyMap());
+    // Now write the physical data to Parquet files
+    List<DataFileStatus> dataFiles = new ArrayList<>();
+    try (CloseableIterator<DataFileStatus> dataFileIter =
+        engine
+            .getParquetHandler()
+            .writeParquetFiles(
+                writeContext.getTargetDirectory(),
+                physicalData,
+                writeContext.getStatisticsColumns())) {
+      dataFileIter.forEachRemaining(dataFiles::add);
+    }
+    return dataFiles;
   }
 
   /** @return */
@@ -174,6 +326,7 @@ public class DeltaKernelWriteUtils {
   @SuppressWarnings("unchecked")
   public static <T> List<T> generateRandomValues(
       DataType dataType, int count, boolean isId, int offset) {
+    Random random = ThreadLocalRandom.current();
     List<T> values = new ArrayList<>(count);
     if (isId && dataType == IntegerType.INTEGER) {
       // Generate monotonically increasing IDs
@@ -206,10 +359,11 @@ public class DeltaKernelWriteUtils {
   // Helper method to generate a random string of a given length
   private static String generateRandomString(int length) {
     String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
-    return random
-        .ints(length, 0, characters.length())
-        .mapToObj(i -> String.valueOf(characters.charAt(i)))
-        .collect(Collectors.joining());
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = characters.charAt(ThreadLocalRandom.current().nextInt(characters.length()));
+    }
+    return new String(chars);
   }
 
   static ColumnVector doubleVector(List<Double> data) {
@@ -51,6 +51,33 @@ public enum CliParams {
       "output",
       "To indicate CLI output format preference. Supported values are json and jsonPretty.",
       "output"),
+  MAX_CONNECTIONS(
+      "max_connections",
+      "Maximum number of requests in flight to the server at once, each until its response was"
+          + " read. Default is no limit.",
+      "max_connections"),
+  HTTP2("http2", "Whether to negotiate HTTP/2 with the server. Default is true.", "http2"),
+  MAX_RETRIES(
+      "max_retries",
+      "Maximum number of times a request is retried when the server is unavailable. Default is 3.",
+      "max_retries"),
+  REQUEST_TIMEOUT(
+      "request_timeout",
+      "Time in milliseconds each request must complete within, retries included. Default is no limit.",
+      "request_timeout"),
+  RETRY_INITIAL_BACKOFF(
+      "retry_initial_backoff",
+      "Upper bound in milliseconds of the random delay before the first retry, doubled for every"
+          + " next one. Default is 100.",
+      "retry_initial_backoff"),
+  RETRY_MAX_BACKOFF(
+      "retry_max_backoff",
+      "Upper bound in milliseconds of the random delay before any retry. Default is 10000.",
+      "retry_max_backoff"),
+  CONNECT_TIMEOUT(
+      "connect_timeout",
+      "Time in milliseconds to connect to the server within. Default is no limit.",
+      "connect_timeout"),
   VERSION("version", "Version number of a registered model entity.", "version"),
   FORCE("force", "To force delete the entity", "force"),
   SECURABLE_TYPE("securable_type", "The type of the securable", "securable_type"),
@@ -60,6 +87,17 @@ public enum CliParams {
   EXTERNAL_ID("external_id", "The identity provider's id for the user", "externalId"),
   EMAIL("email", "The email address for the user", "email"),
   FILTER("filter", "Query by which the results have to be filtered", "filter"),
+  COLUMN_NAMES(
+      "column_names",
+      "Comma separated names of the columns to read. Default is all columns.",
+      "column_names"),
+  ROW_COUNT("row_count", "Number of rows to write. Default is 15.", "row_count"),
+  FILE_SIZE(
+      "file_size", "Target size in MB of the data files written. Default is 128.", "file_size"),
+  PARTITIONS(
+      "partitions",
+      "Number of parts the rows are split into and written in parallel. Default is 1.",
+      "partitions"),
   START_INDEX(
       "start_index", "Specifies the index (starting at 1) of the first result.", "startIndex"),
   COUNT("count", "Desired number of results per page", "count");
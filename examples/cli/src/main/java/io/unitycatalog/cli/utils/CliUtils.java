@@ -174,8 +174,15 @@ public class CliUtils {
                   put(GET, new CliOptions(List.of(CliParams.FULL_NAME), List.of()));
                   put(
                       READ,
-                      new CliOptions(List.of(CliParams.FULL_NAME), List.of(CliParams.MAX_RESULTS)));
-                  put(WRITE, new CliOptions(List.of(CliParams.FULL_NAME), List.of()));
+                      new CliOptions(
+                          List.of(CliParams.FULL_NAME),
+                          List.of(
+                              CliParams.MAX_RESULTS, CliParams.COLUMN_NAMES, CliParams.FILTER)));
+                  put(
+                      WRITE,
+                      new CliOptions(
+                          List.of(CliParams.FULL_NAME),
+                          List.of(CliParams.ROW_COUNT, CliParams.FILE_SIZE, CliParams.PARTITIONS)));
                   put(DELETE, new CliOptions(List.of(CliParams.FULL_NAME), List.of()));
                 }
               });
@@ -330,7 +337,17 @@ public class CliUtils {
       };
 
   public static final List<CliParams> commonOptions =
-      Arrays.asList(CliParams.SERVER, CliParams.AUTH_TOKEN, CliParams.OUTPUT);
+      Arrays.asList(
+          CliParams.SERVER,
+          CliParams.AUTH_TOKEN,
+          CliParams.OUTPUT,
+          CliParams.MAX_CONNECTIONS,
+          CliParams.HTTP2,
+          CliParams.MAX_RETRIES,
+          CliParams.REQUEST_TIMEOUT,
+          CliParams.RETRY_INITIAL_BACKOFF,
+          CliParams.RETRY_MAX_BACKOFF,
+          CliParams.CONNECT_TIMEOUT);
   private static final Properties properties = new Properties();
 
   static {
@@ -343,21 +360,17 @@ public class CliUtils {
   }
 
   private static final ObjectMapper objectMapper = new ObjectMapper();
-  private static ObjectWriter objectWriter;
 
   public static ObjectMapper getObjectMapper() {
     return objectMapper;
   }
 
   public static ObjectWriter getObjectWriter(CommandLine cmd) {
-    if (objectWriter == null) {
-      if (cmd.hasOption(OUTPUT) && "jsonPretty".equals(cmd.getOptionValue(OUTPUT))) {
-        objectWriter = objectMapper.writerWithDefaultPrettyPrinter();
-      } else {
-        objectWriter = objectMapper.writer();
-      }
+    // Writers are cheap and commands may run concurrently, so the writer isn't cached
+    if (cmd.hasOption(OUTPUT) && "jsonPretty".equals(cmd.getOptionValue(OUTPUT))) {
+      return objectMapper.writerWithDefaultPrettyPrinter();
     }
-    return objectWriter;
+    return objectMapper.writer();
   }
 
   public static String preprocess(String value, int length) {
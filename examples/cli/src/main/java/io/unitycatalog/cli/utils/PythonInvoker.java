@@ -4,83 +4,124 @@ import io.unitycatalog.client.ApiException;
 import io.unitycatalog.client.model.ColumnTypeName;
 import io.unitycatalog.client.model.FunctionInfo;
 import io.unitycatalog.client.model.FunctionParameterInfo;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.json.JSONArray;
 
 public class PythonInvoker {
+  // The fewest calls a worker is given before another one is started for the same batch. Each
+  // worker starts an interpreter, so smaller batches are evaluated by one worker in one round trip.
+  static final int MIN_CALLS_PER_WORKER = 1000;
+
+  private static final ExecutorService EXECUTOR =
+      Executors.newFixedThreadPool(
+          PythonWorkerPool.MAX_WORKERS,
+          r -> {
+            Thread thread = new Thread(r, "python-invoker");
+            thread.setDaemon(true);
+            return thread;
+          });
 
   public static String invokePython(FunctionInfo function, String scriptPath, String... args)
       throws ApiException {
-    try {
-      // Prepare the arguments for the Python script
-      List<String> argsList = new ArrayList<>();
-      argsList.add("python3");
-      argsList.add(scriptPath);
-
-      // Add function name and routine body
-      argsList.add(function.getName());
-      argsList.add(function.getRoutineDefinition());
+    return invokePython(function, scriptPath, List.<String[]>of(args)).get(0) + "\n";
+  }
 
-      // Retrieve and add parameters as arguments
+  /**
+   * Calls a function once for each list of arguments and returns the JSON encoded results in the
+   * same order. A worker evaluates its whole batch in a single round trip; only large batches are
+   * split between several workers.
+   */
+  public static List<String> invokePython(
+      FunctionInfo function, String scriptPath, List<String[]> argLists) throws ApiException {
+    try {
+      // Retrieve the parameters and convert the arguments to their types
       List<FunctionParameterInfo> parameters = function.getInputParams().getParameters();
       if (parameters == null || parameters.isEmpty()) {
         throw new ApiException("Function parameters not found.");
       }
-      if (args.length < parameters.size()) {
-        List<String> names =
-            parameters.stream()
-                .skip(args.length)
-                .map(FunctionParameterInfo::getName)
-                .collect(Collectors.toList());
-        throw new ApiException(
-            "Not enough parameters provided: "
-                + args.length
-                + ", expected: "
-                + parameters.size()
-                + ", missing: "
-                + names);
-      }
-      List<String> paramNames = new ArrayList<>();
-      List<Object> argValues = new ArrayList<>();
-      for (FunctionParameterInfo param : parameters) {
-        paramNames.add(param.getName());
-        String argument = args[param.getPosition()];
-        if (param.getTypeName().equals(ColumnTypeName.INT)) {
-          argValues.add(Integer.parseInt(argument));
-        } else if (param.getTypeName().equals(ColumnTypeName.DOUBLE)) {
-          argValues.add(Double.parseDouble(argument));
-        } else if (param.getTypeName().equals(ColumnTypeName.STRING)) {
-          argValues.add(argument);
-        } else {
-          throw new ApiException("Unsupported parameter type: " + param.getTypeName());
-        }
-        // Example values, these should be dynamically provided based on use case
+      List<String> paramNames =
+          parameters.stream().map(FunctionParameterInfo::getName).collect(Collectors.toList());
+      List<List<Object>> argValues = new ArrayList<>();
+      for (String[] args : argLists) {
+        argValues.add(getArgumentValues(parameters, args));
       }
 
-      // Add parameter names and values
-      argsList.add(String.join(", ", paramNames));
-      argsList.add(new JSONArray(argValues).toString());
-
-      // Invoke the Python script
-      ProcessBuilder pb = new ProcessBuilder(argsList);
-      Process p = pb.start();
-
-      // Get the output from the Python script
-      BufferedReader in = new BufferedReader(new InputStreamReader(p.getInputStream()));
-      String resultLine;
-      StringBuilder result = new StringBuilder();
-      while ((resultLine = in.readLine()) != null) {
-        result.append(resultLine).append("\n");
+      // Invoke the Python workers
+      PythonWorkerPool pool = PythonWorkerPool.get(scriptPath);
+      int workers =
+          Math.max(
+              1,
+              Math.min(
+                  PythonWorkerPool.MAX_WORKERS,
+                  (argValues.size() + MIN_CALLS_PER_WORKER - 1) / MIN_CALLS_PER_WORKER));
+      int batchSize = Math.max(1, (argValues.size() + workers - 1) / workers);
+      List<CompletableFuture<List<String>>> batches = new ArrayList<>();
+      for (int start = 0; start < argValues.size(); start += batchSize) {
+        JSONArray batch =
+            new JSONArray(argValues.subList(start, Math.min(start + batchSize, argValues.size())));
+        batches.add(
+            CompletableFuture.supplyAsync(
+                () -> {
+                  try {
+                    return pool.call(
+                        function.getName(), function.getRoutineDefinition(), paramNames, batch);
+                  } catch (Exception e) {
+                    throw new CompletionException(e);
+                  }
+                },
+                EXECUTOR));
+      }
+      List<String> results = new ArrayList<>(argValues.size());
+      for (CompletableFuture<List<String>> batch : batches) {
+        results.addAll(batch.join());
       }
-      in.close();
-      return result.toString();
+      return results;
+    } catch (ApiException e) {
+      throw e;
+    } catch (CompletionException e) {
+      e.getCause().printStackTrace();
+      throw new ApiException("Error invoking Python script: " + e.getCause().getMessage());
     } catch (Exception e) {
       e.printStackTrace();
       throw new ApiException("Error invoking Python script: " + e.getMessage());
     }
   }
+
+  private static List<Object> getArgumentValues(
+      List<FunctionParameterInfo> parameters, String[] args) throws ApiException {
+    if (args.length < parameters.size()) {
+      List<String> names =
+          parameters.stream()
+              .skip(args.length)
+              .map(FunctionParameterInfo::getName)
+              .collect(Collectors.toList());
+      throw new ApiException(
+          "Not enough parameters provided: "
+              + args.length
+              + ", expected: "
+              + parameters.size()
+              + ", missing: "
+              + names);
+    }
+    List<Object> argValues = new ArrayList<>();
+    for (FunctionParameterInfo param : parameters) {
+      String argument = args[param.getPosition()];
+      if (param.getTypeName().equals(ColumnTypeName.INT)) {
+        argValues.add(Integer.parseInt(argument));
+      } else if (param.getTypeName().equals(ColumnTypeName.DOUBLE)) {
+        argValues.add(Double.parseDouble(argument));
+      } else if (param.getTypeName().equals(ColumnTypeName.STRING)) {
+        argValues.add(argument);
+      } else {
+        throw new ApiException("Unsupported parameter type: " + param.getTypeName());
+      }
+    }
+    return argValues;
+  }
 }
@@ -0,0 +1,153 @@
+package io.unitycatalog.cli.utils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Python processes running the engine script in serving mode, kept alive between function calls so
+ * that the interpreter starts and each function body compiles only once.
+ *
+ * <p>A worker handles one request at a time: a JSON object on a line of its stdin holding the
+ * function and a list of argument lists, answered by a JSON object on a line of its stdout holding
+ * the JSON encoded result of each call. Workers are started on demand, up to {@link #MAX_WORKERS}
+ * per script, and stop when the JVM exits, so they are not reused across invocations of the CLI.
+ */
+class PythonWorkerPool {
+  static final int MAX_WORKERS = Math.min(4, Runtime.getRuntime().availableProcessors());
+  // How long to wait for an idle worker before checking whether a new one may be started
+  private static final long IDLE_WORKER_WAIT_MS = 100;
+
+  private static final Map<String, PythonWorkerPool> POOLS = new ConcurrentHashMap<>();
+
+  static {
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(() -> POOLS.values().forEach(PythonWorkerPool::close)));
+  }
+
+  private final String scriptPath;
+  private final BlockingQueue<Worker> idleWorkers = new LinkedBlockingQueue<>();
+  private final List<Worker> workers = new ArrayList<>();
+
+  private PythonWorkerPool(String scriptPath) {
+    this.scriptPath = scriptPath;
+  }
+
+  /** Returns the pool of workers running the given engine script. */
+  static PythonWorkerPool get(String scriptPath) {
+    return POOLS.computeIfAbsent(scriptPath, PythonWorkerPool::new);
+  }
+
+  /**
+   * Calls a function once for each list of arguments in a single round trip to a worker, and
+   * returns the JSON encoded results in the same order.
+   */
+  List<String> call(
+      String functionName, String routineDefinition, List<String> paramNames, JSONArray args)
+      throws IOException, InterruptedException {
+    JSONObject request =
+        new JSONObject()
+            .put("name", functionName)
+            .put("body", routineDefinition)
+            .put("params", new JSONArray(paramNames))
+            .put("args", args);
+    Worker worker = acquire();
+    JSONArray results;
+    try {
+      results = worker.send(request).getJSONArray("results");
+    } catch (IOException | RuntimeException e) {
+      // The worker may have died or left a partial response behind, so it isn't reused
+      discard(worker);
+      throw e;
+    }
+    idleWorkers.add(worker);
+    List<String> output = new ArrayList<>(results.length());
+    for (int i = 0; i < results.length(); i++) {
+      output.add(results.getString(i));
+    }
+    return output;
+  }
+
+  private Worker acquire() throws IOException, InterruptedException {
+    Worker worker = idleWorkers.poll();
+    while (worker == null) {
+      synchronized (workers) {
+        if (workers.size() < MAX_WORKERS) {
+          worker = new Worker(scriptPath);
+          workers.add(worker);
+          return worker;
+        }
+      }
+      // A worker that failed is discarded instead of coming back, which leaves room for a new one
+      worker = idleWorkers.poll(IDLE_WORKER_WAIT_MS, TimeUnit.MILLISECONDS);
+    }
+    return worker;
+  }
+
+  private void discard(Worker worker) {
+    synchronized (workers) {
+      workers.remove(worker);
+    }
+    worker.close();
+  }
+
+  private void close() {
+    synchronized (workers) {
+      workers.forEach(Worker::close);
+      workers.clear();
+    }
+    idleWorkers.clear();
+  }
+
+  private static class Worker {
+    private final Process process;
+    private final BufferedWriter requests;
+    private final BufferedReader responses;
+
+    private Worker(String scriptPath) throws IOException {
+      // Whatever the functions print goes to the worker's stderr
+      process =
+          new ProcessBuilder("python3", scriptPath, "--serve")
+              .redirectError(ProcessBuilder.Redirect.INHERIT)
+              .start();
+      requests =
+          new BufferedWriter(
+              new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+      responses =
+          new BufferedReader(
+              new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private JSONObject send(JSONObject request) throws IOException {
+      requests.write(request.toString());
+      requests.newLine();
+      requests.flush();
+      String response = responses.readLine();
+      if (response == null) {
+        throw new IOException("Python worker exited before responding");
+      }
+      return new JSONObject(response);
+    }
+
+    private void close() {
+      // Workers exit once their stdin is closed
+      try {
+        requests.close();
+      } catch (IOException e) {
+        process.destroy();
+      }
+    }
+  }
+}
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.unitycatalog.server.base.ServerConfig;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,13 +16,58 @@ import java.util.stream.Collectors;
 public class TestUtils {
   public static ObjectMapper objectMapper = new ObjectMapper();
 
+  /** Where each thread running a command writes its output, or null to write to stdout. */
+  private static final ThreadLocal<OutputStream> COMMAND_OUTPUT = new ThreadLocal<>();
+
+  /** Writes to the output of the current command, or to the stdout it replaced if there is none. */
+  private static class CommandOutputStream extends OutputStream {
+    private final PrintStream stdout;
+
+    private CommandOutputStream(PrintStream stdout) {
+      this.stdout = stdout;
+    }
+
+    private OutputStream target() {
+      OutputStream output = COMMAND_OUTPUT.get();
+      return output != null ? output : stdout;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      target().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      target().write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      target().flush();
+    }
+  }
+
+  private static PrintStream commandOutput;
+
+  /**
+   * Makes System.out write to the output of the command of each thread, so that commands running
+   * concurrently capture their own output. The test runner sets System.out for every test class, so
+   * it is checked on every command.
+   */
+  private static synchronized void captureCommandOutput() {
+    if (System.out != commandOutput) {
+      commandOutput = new PrintStream(new CommandOutputStream(System.out), true);
+      System.setOut(commandOutput);
+    }
+  }
+
   public static JsonNode executeCLICommand(String[] args) {
     ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    PrintStream printStream = new PrintStream(outputStream);
-    PrintStream oldOut = System.out;
+    captureCommandOutput();
+    COMMAND_OUTPUT.set(outputStream);
     String output;
     try {
-      System.setOut(printStream);
       UnityCatalogCli.main(args);
       System.out.flush();
       output = outputStream.toString();
@@ -28,7 +75,7 @@ public class TestUtils {
     } catch (JsonProcessingException e) {
       System.out.println("Error parsing output: " + e.getMessage());
     } finally {
-      System.setOut(oldOut);
+      COMMAND_OUTPUT.remove();
     }
     return null;
   }
@@ -1,14 +1,28 @@
 package io.unitycatalog.cli.function;
 
+import static io.unitycatalog.server.utils.TestUtils.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.unitycatalog.cli.catalog.CliCatalogOperations;
 import io.unitycatalog.cli.schema.CliSchemaOperations;
+import io.unitycatalog.cli.utils.PythonInvoker;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.model.*;
 import io.unitycatalog.server.base.ServerConfig;
 import io.unitycatalog.server.base.catalog.CatalogOperations;
 import io.unitycatalog.server.base.function.BaseFunctionCRUDTest;
 import io.unitycatalog.server.base.function.FunctionOperations;
 import io.unitycatalog.server.base.schema.SchemaOperations;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
 
 public class CliFunctionCRUDTest extends BaseFunctionCRUDTest {
+  private static final String PYTHON_ENGINE =
+      Paths.get(System.getProperty("user.dir"), "etc", "data", "function", "python_engine.py")
+          .toString();
+
   @Override
   protected CatalogOperations createCatalogOperations(ServerConfig serverConfig) {
     return new CliCatalogOperations(serverConfig);
@@ -23,4 +37,56 @@ public class CliFunctionCRUDTest extends BaseFunctionCRUDTest {
   protected FunctionOperations createFunctionOperations(ServerConfig serverConfig) {
     return new CliFunctionOperations(serverConfig);
   }
+
+  private static FunctionParameterInfo parameter(String name, ColumnTypeName type, int position) {
+    return new FunctionParameterInfo()
+        .name(name)
+        .typeName(type)
+        .typeText(type.getValue().toLowerCase())
+        .typeJson("{\"type\":\"" + type.getValue().toLowerCase() + "\"}")
+        .position(position);
+  }
+
+  @Test
+  public void testCallFunction() throws ApiException {
+    createCommonResources();
+    CreateFunction createFunction =
+        new CreateFunction()
+            .name(FUNCTION_NAME)
+            .catalogName(CATALOG_NAME)
+            .schemaName(SCHEMA_NAME)
+            .parameterStyle(CreateFunction.ParameterStyleEnum.S)
+            .isDeterministic(true)
+            .externalLanguage("python")
+            .dataType(ColumnTypeName.STRING)
+            .fullDataType("String")
+            .isNullCall(false)
+            .routineBody(CreateFunction.RoutineBodyEnum.EXTERNAL)
+            .routineDefinition("print('ignored')\\nreturn name * count")
+            .securityType(CreateFunction.SecurityTypeEnum.DEFINER)
+            .specificName(FUNCTION_NAME)
+            .sqlDataAccess(CreateFunction.SqlDataAccessEnum.NO_SQL)
+            .inputParams(
+                new FunctionParameterInfos()
+                    .parameters(
+                        List.of(
+                            parameter("name", ColumnTypeName.STRING, 0),
+                            parameter("count", ColumnTypeName.INT, 1))));
+    functionOperations.createFunction(new CreateFunctionRequest().functionInfo(createFunction));
+    FunctionInfo functionInfo =
+        functionOperations.getFunction(CATALOG_NAME + "." + SCHEMA_NAME + "." + FUNCTION_NAME);
+
+    assertThat(PythonInvoker.invokePython(functionInfo, PYTHON_ENGINE, "ab", "2"))
+        .isEqualTo("\"abab\"\n");
+
+    // The results of a batch come back in the order of its calls, whichever worker ran them
+    List<String[]> argLists = new ArrayList<>();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      argLists.add(new String[] {"x", String.valueOf(i)});
+      expected.add("\"" + "x".repeat(i) + "\"");
+    }
+    assertThat(PythonInvoker.invokePython(functionInfo, PYTHON_ENGINE, argLists))
+        .containsExactlyElementsOf(expected);
+  }
 }
@@ -4,10 +4,12 @@ import static io.unitycatalog.server.utils.TestUtils.*;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
 import io.unitycatalog.cli.catalog.CliCatalogOperations;
 import io.unitycatalog.cli.delta.DeltaKernelUtils;
+import io.unitycatalog.cli.delta.DeltaKernelWriteUtils;
 import io.unitycatalog.cli.schema.CliSchemaOperations;
 import io.unitycatalog.client.ApiException;
 import io.unitycatalog.client.model.*;
@@ -17,9 +19,14 @@ import io.unitycatalog.server.base.schema.SchemaOperations;
 import io.unitycatalog.server.base.table.TableOperations;
 import java.io.IOException;
 import java.nio.file.*;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -89,6 +96,67 @@ public class CliExternalTableCreationTest extends BaseServerTest {
     createTableAndAssertReadTableSucceeds(tablePath, columns);
   }
 
+  @Test
+  public void testReadTableWithColumnsAndFilter() throws IOException {
+    String tablePath = "/tmp/" + UUID.randomUUID();
+    String tableUri = Paths.get(tablePath).toUri().toString();
+    // Each write adds the ids 1 to 15 in new data files
+    DeltaKernelWriteUtils.writeSampleDataToDeltaTable(tableUri, columns, null);
+    DeltaKernelWriteUtils.writeSampleDataToDeltaTable(tableUri, columns, null);
+
+    String output = DeltaKernelUtils.readDeltaTable(tableUri, null, 100, List.of("id"), "id > 13");
+    assertThat(output).contains("id(integer)").doesNotContain("name(string)");
+    assertThat(getIds(output)).containsExactly("14", "15", "14", "15");
+
+    // Reading stops at the maximum number of rows, in the order of the data files
+    String limited = DeltaKernelUtils.readDeltaTable(tableUri, null, 3, null, "name IS NOT NULL");
+    assertThat(limited).contains("name(string)");
+    assertThat(getIds(limited)).containsExactly("1", "2", "3");
+
+    assertThatThrownBy(() -> DeltaKernelUtils.readDeltaTable(tableUri, null, 3, null, "id >"))
+        .isInstanceOf(IllegalArgumentException.class);
+    deleteDirectory(Paths.get(tablePath).toFile());
+  }
+
+  @Test
+  public void testWriteTableInParallel() throws IOException {
+    String tablePath = "/tmp/" + UUID.randomUUID();
+    String tableUri = Paths.get(tablePath).toUri().toString();
+    JSONObject result =
+        new JSONObject(
+            DeltaKernelWriteUtils.writeSampleDataToDeltaTable(
+                tableUri, columns, null, 25_000, 0, 4));
+    // The result of the command is the amount written and the throughput
+    assertThat(result.getInt("rows")).isEqualTo(25_000);
+    assertThat(result.getInt("files")).isEqualTo(4);
+    assertThat(result.getDouble("rows_per_sec")).isPositive();
+    assertThat(result.has("mb_per_sec")).isTrue();
+
+    // All parts are committed in one version, each in its own data files
+    Path deltaLog = Paths.get(tablePath, "_delta_log");
+    try (Stream<Path> commits = Files.list(deltaLog)) {
+      assertThat(commits.filter(p -> p.toString().endsWith(".json"))).hasSize(1);
+    }
+    try (Stream<Path> dataFiles = Files.list(Paths.get(tablePath))) {
+      assertThat(dataFiles.filter(p -> p.toString().endsWith(".parquet"))).hasSize(4);
+    }
+    // The ids of the parts follow each other
+    String output =
+        DeltaKernelUtils.readDeltaTable(tableUri, null, 100, List.of("id"), "id > 24998");
+    assertThat(getIds(output)).containsExactly("24999", "25000");
+    deleteDirectory(Paths.get(tablePath).toFile());
+  }
+
+  /** Returns the values of the first column of a rendered table. */
+  private static List<String> getIds(String table) {
+    List<String> ids = new ArrayList<>();
+    Matcher matcher = Pattern.compile("(?m)^\\W(\\d+)\\s").matcher(table);
+    while (matcher.find()) {
+      ids.add(matcher.group(1));
+    }
+    return ids;
+  }
+
   private void createTableAndAssertReadTableSucceeds(String tablePath, List<ColumnInfo> columns)
       throws IOException, ApiException {
     TableInfo tableInfo =
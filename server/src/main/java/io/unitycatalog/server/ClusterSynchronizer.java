@@ -0,0 +1,148 @@
+package io.unitycatalog.server;
+
+import io.unitycatalog.server.auth.JCasbinAuthorizer;
+import io.unitycatalog.server.model.ChangeEvent;
+import io.unitycatalog.server.model.ChangeOperation;
+import io.unitycatalog.server.model.ListChangesResponse;
+import io.unitycatalog.server.model.SecurableType;
+import io.unitycatalog.server.persist.ChangeRepository;
+import io.unitycatalog.server.persist.Repositories;
+import io.unitycatalog.server.persist.dao.CatalogInfoDAO;
+import io.unitycatalog.server.persist.dao.SchemaInfoDAO;
+import io.unitycatalog.server.persist.utils.StorageLocationIndex;
+import io.unitycatalog.server.utils.ServerProperties;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the in-process state of a server consistent with the changes made by the other servers
+ * sharing its database, without an external message broker.
+ *
+ * <p>Every poll interval, the change log (see {@link ChangeRepository}) is read from where the last
+ * poll stopped, and the changed catalogs and schemas are evicted from the metadata cache, along
+ * with the cached name lookups, and the storage locations of created and deleted tables and volumes
+ * are applied to the {@link StorageLocationIndex}, which also catches up on the locations created
+ * since when it checks a new one. The authorization policy changes recorded by the other servers
+ * are then applied (see {@link JCasbinAuthorizer#syncPolicy()}), and the whole policy is reloaded
+ * from time to time as a safety net. A server therefore sees the changes of the others within about
+ * one poll interval, and so do the clients waiting on its change feed, which are notified once the
+ * changes have been applied.
+ */
+public class ClusterSynchronizer {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClusterSynchronizer.class);
+  static final long DEFAULT_POLL_INTERVAL_MS = 1000;
+  static final long DEFAULT_POLICY_RELOAD_INTERVAL_MS = 600_000;
+
+  private final ChangeRepository changeRepository;
+  private final Cache cache;
+  private final StorageLocationIndex storageLocationIndex;
+  private final JCasbinAuthorizer authorizer;
+  private final long pollIntervalMs;
+  private final long policyReloadIntervalMs;
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "uc-cluster-sync");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private volatile long sequenceNumber;
+  private long lastPolicyReload;
+
+  /**
+   * @param authorizer the authorizer whose policy to keep in sync, or null if authorization is
+   *     disabled
+   */
+  public ClusterSynchronizer(
+      ServerProperties serverProperties, Repositories repositories, JCasbinAuthorizer authorizer) {
+    this.changeRepository = repositories.getChangeRepository();
+    this.cache = repositories.getSessionFactory().getCache();
+    this.storageLocationIndex = repositories.getStorageLocationIndex();
+    this.authorizer = authorizer;
+    this.pollIntervalMs =
+        Long.parseLong(
+            serverProperties.getProperty(
+                ServerProperties.Property.CLUSTER_POLL_INTERVAL_MS.getKey(),
+                String.valueOf(DEFAULT_POLL_INTERVAL_MS)));
+    this.policyReloadIntervalMs =
+        Long.parseLong(
+            serverProperties.getProperty(
+                ServerProperties.Property.CLUSTER_POLICY_RELOAD_INTERVAL_MS.getKey(),
+                String.valueOf(DEFAULT_POLICY_RELOAD_INTERVAL_MS)));
+    // Nothing is cached yet, so earlier changes need not be applied
+    this.sequenceNumber = changeRepository.getLatestSequenceNumber();
+    storageLocationIndex.enableSharedDatabase(() -> sequenceNumber);
+    if (authorizer != null) {
+      authorizer.enablePolicySync(repositories.getPolicyChangeRepository());
+    }
+    this.lastPolicyReload = System.currentTimeMillis();
+  }
+
+  public void start() {
+    executor.scheduleWithFixedDelay(
+        this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    LOGGER.info("Cluster synchronization started, polling every {} ms", pollIntervalMs);
+  }
+
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  void poll() {
+    try {
+      invalidateMetadata();
+      if (authorizer != null) {
+        if (policyReloadIntervalMs > 0
+            && System.currentTimeMillis() - lastPolicyReload >= policyReloadIntervalMs) {
+          authorizer.reloadPolicy();
+          lastPolicyReload = System.currentTimeMillis();
+        }
+        authorizer.syncPolicy();
+      }
+    } catch (RuntimeException e) {
+      // Keep polling; the next poll resumes where this one failed
+      LOGGER.warn("Cluster synchronization failed", e);
+    }
+  }
+
+  /**
+   * Evicts the metadata changed since the last poll from the cache, and updates the storage
+   * location index. Changes made by this server were already applied to both, so evicting them
+   * again only costs a reload.
+   */
+  private void invalidateMetadata() {
+    ListChangesResponse response = changeRepository.listChanges(sequenceNumber, Optional.empty());
+    while (!response.getChanges().isEmpty()) {
+      for (ChangeEvent change : response.getChanges()) {
+        if (change.getSecurableId() == null) {
+          continue;
+        }
+        UUID id = UUID.fromString(change.getSecurableId());
+        if (change.getSecurableType() == SecurableType.CATALOG) {
+          cache.evictEntityData(CatalogInfoDAO.class, id);
+        } else if (change.getSecurableType() == SecurableType.SCHEMA) {
+          cache.evictEntityData(SchemaInfoDAO.class, id);
+        } else if (change.getSecurableType() == SecurableType.TABLE
+            || change.getSecurableType() == SecurableType.VOLUME) {
+          if (change.getOperation() == ChangeOperation.DELETE) {
+            storageLocationIndex.remove(id);
+          } else {
+            storageLocationIndex.refresh(change.getSecurableType(), id);
+          }
+        }
+      }
+      // Name lookups are cached as query results, which cannot be evicted individually
+      cache.evictQueryRegions();
+      sequenceNumber = response.getNextSequenceNumber();
+      // Changes committed by other servers do not wake the change feed of this one
+      changeRepository.notifyChanges();
+      response = changeRepository.listChanges(sequenceNumber, Optional.empty());
+    }
+  }
+}
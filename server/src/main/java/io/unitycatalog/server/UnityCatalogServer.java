@@ -3,14 +3,13 @@ package io.unitycatalog.server;
 import static io.unitycatalog.server.security.SecurityContext.Issuers.INTERNAL;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.linecorp.armeria.common.Flags;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.server.Server;
 import com.linecorp.armeria.server.ServerBuilder;
-import com.linecorp.armeria.server.annotation.JacksonRequestConverterFunction;
 import com.linecorp.armeria.server.annotation.JacksonResponseConverterFunction;
 import com.linecorp.armeria.server.docs.DocService;
 import io.unitycatalog.server.auth.AllowingAuthorizer;
@@ -35,6 +34,7 @@ import io.unitycatalog.server.service.iceberg.FileIOFactory;
 import io.unitycatalog.server.service.iceberg.MetadataService;
 import io.unitycatalog.server.service.iceberg.TableConfigService;
 import io.unitycatalog.server.utils.OptionParser;
+import io.unitycatalog.server.utils.ParsedJsonRequestConverterFunction;
 import io.unitycatalog.server.utils.RESTObjectMapper;
 import io.unitycatalog.server.utils.ServerProperties;
 import io.unitycatalog.server.utils.VersionUtils;
@@ -54,6 +54,7 @@ public class UnityCatalogServer {
   private final Server server;
   private final ServerProperties serverProperties;
   private final SecurityContext securityContext;
+  private ClusterSynchronizer clusterSynchronizer;
 
   static {
     System.setProperty("log4j.configurationFile", "etc/conf/server.log4j2.properties");
@@ -106,13 +107,40 @@ public class UnityCatalogServer {
         new HibernateConfigurator(unityCatalogServerBuilder.serverProperties);
     // Init all repositories
     Repositories repositories =
-        new Repositories(hibernateConfigurator.getSessionFactory(), serverProperties);
+        new Repositories(
+            hibernateConfigurator.getSessionFactory(),
+            hibernateConfigurator.getReadReplicaRouter(),
+            serverProperties);
     // Init metastore
     repositories.getMetastoreRepository().initMetastoreIfNeeded();
     // Init authorizer
     UnityCatalogAuthorizer authorizer =
         initializeAuthorizer(
             unityCatalogServerBuilder.serverProperties, hibernateConfigurator, repositories);
+    // Init cluster synchronization
+    if (unityCatalogServerBuilder.serverProperties.isClusterEnabled()) {
+      clusterSynchronizer =
+          new ClusterSynchronizer(
+              unityCatalogServerBuilder.serverProperties,
+              repositories,
+              authorizer instanceof JCasbinAuthorizer jcasbinAuthorizer ? jcasbinAuthorizer : null);
+    }
+    // Load the storage locations after the cluster synchronization starts from the latest change,
+    // so that no location created in between is missed
+    repositories.getStorageLocationIndex().load();
+    // Columns can be read before their types are migrated, so the server need not wait for it
+    Thread migration =
+        new Thread(
+            () -> {
+              try {
+                repositories.getColumnTypeDictionary().migrate();
+              } catch (RuntimeException e) {
+                LOGGER.warn("Failed to migrate column types, retrying on the next start", e);
+              }
+            },
+            "uc-column-type-migration");
+    migration.setDaemon(true);
+    migration.start();
     // Init services
     addApiServices(armeriaServerBuilder, unityCatalogServerBuilder, authorizer, repositories);
     // Init security decorators
@@ -129,8 +157,15 @@ public class UnityCatalogServer {
     if (serverProperties.isAuthorizationEnabled()) {
       try {
         LOGGER.info("Initializing JCasbinAuthorizer...");
-        UnityCatalogAuthorizer authorizer = new JCasbinAuthorizer(hibernateConfigurator);
+        JCasbinAuthorizer authorizer =
+            new JCasbinAuthorizer(hibernateConfigurator, serverProperties);
+        authorizer.bindTo(Flags.meterRegistry());
         new UnityAccessUtil(repositories).initializeAdmin(authorizer);
+        if (authorizer.loadsGrantsPerPrincipal()) {
+          Thread warmUp = new Thread(authorizer::warmUpPolicy, "uc-policy-warm-up");
+          warmUp.setDaemon(true);
+          warmUp.start();
+        }
         return authorizer;
       } catch (Exception e) {
         throw new BaseException(ErrorCode.INTERNAL, "Problem initializing authorizer.");
@@ -161,7 +196,8 @@ public class UnityCatalogServer {
     TableService tableService = new TableService(authorizer, repositories);
     FunctionService functionService = new FunctionService(authorizer, repositories);
     ModelService modelService = new ModelService(authorizer, repositories);
-    MetastoreService metastoreService = new MetastoreService(repositories);
+    MetastoreService metastoreService = new MetastoreService(authorizer, repositories);
+    ChangeService changeService = new ChangeService(authorizer, repositories);
     // TODO: combine these into a single service in a follow-up PR
     TemporaryTableCredentialsService temporaryTableCredentialsService =
         new TemporaryTableCredentialsService(authorizer, credentialOperations, repositories);
@@ -170,13 +206,10 @@ public class UnityCatalogServer {
     TemporaryModelVersionCredentialsService temporaryModelVersionCredentialsService =
         new TemporaryModelVersionCredentialsService(authorizer, credentialOperations, repositories);
     TemporaryPathCredentialsService temporaryPathCredentialsService =
-        new TemporaryPathCredentialsService(credentialOperations);
+        new TemporaryPathCredentialsService(authorizer, credentialOperations, repositories);
 
-    JacksonRequestConverterFunction requestConverterFunction =
-        new JacksonRequestConverterFunction(
-            JsonMapper.builder()
-                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-                .build());
+    ParsedJsonRequestConverterFunction requestConverterFunction =
+        new ParsedJsonRequestConverterFunction();
     JacksonResponseConverterFunction scimResponseConverterFunction =
         new JacksonResponseConverterFunction(
             JsonMapper.builder()
@@ -204,6 +237,7 @@ public class UnityCatalogServer {
         .annotatedService(BASE_PATH + "functions", functionService, requestConverterFunction)
         .annotatedService(BASE_PATH + "models", modelService, requestConverterFunction)
         .annotatedService(BASE_PATH, metastoreService, requestConverterFunction)
+        .annotatedService(BASE_PATH + "changes", changeService)
         .annotatedService(
             BASE_PATH + "temporary-table-credentials",
             temporaryTableCredentialsService,
@@ -243,8 +277,8 @@ public class UnityCatalogServer {
 
     // Add support for Iceberg REST APIs
     ObjectMapper icebergMapper = RESTObjectMapper.mapper();
-    JacksonRequestConverterFunction icebergRequestConverter =
-        new JacksonRequestConverterFunction(icebergMapper);
+    ParsedJsonRequestConverterFunction icebergRequestConverter =
+        new ParsedJsonRequestConverterFunction(icebergMapper);
     JacksonResponseConverterFunction icebergResponseConverter =
         new JacksonResponseConverterFunction(icebergMapper);
     MetadataService metadataService =
@@ -315,10 +349,16 @@ public class UnityCatalogServer {
   public void start() {
     LOGGER.info("Starting Unity Catalog server...");
     server.start().join();
+    if (clusterSynchronizer != null) {
+      clusterSynchronizer.start();
+    }
     LOGGER.info("Unity Catalog server started.");
   }
 
   public void stop() {
+    if (clusterSynchronizer != null) {
+      clusterSynchronizer.stop();
+    }
     server.stop().join();
     LOGGER.info("Unity Catalog server stopped.");
   }
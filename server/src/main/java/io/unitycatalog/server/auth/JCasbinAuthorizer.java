@@ -1,7 +1,20 @@
 package io.unitycatalog.server.auth;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
+import io.unitycatalog.server.persist.PolicyChangeRepository;
+import io.unitycatalog.server.persist.dao.PolicyChangeDAO;
 import io.unitycatalog.server.persist.model.Privileges;
 import io.unitycatalog.server.persist.utils.HibernateConfigurator;
+import io.unitycatalog.server.utils.JsonUtils;
+import io.unitycatalog.server.utils.ServerProperties;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -9,11 +22,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.io.IOUtils;
 import org.casbin.adapter.JDBCAdapter;
 import org.casbin.jcasbin.main.Enforcer;
 import org.casbin.jcasbin.model.Model;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * An authorizer that uses the JCasbin library to enforce access control policies.
@@ -22,9 +45,41 @@ import org.casbin.jcasbin.model.Model;
  * both store and enforce access control policies.
  *
  * <p>The implementation stores the policies in a database using the JDBCAdapter class.
+ *
+ * <p>The policies are loaded into memory once. When several servers share the database, {@link
+ * #enablePolicySync} records every change in the {@link PolicyChangeRepository}, and each server
+ * applies the recorded changes to its own copy with {@link #syncPolicy()}. The enforcer is guarded
+ * by a read-write lock, since those changes are applied concurrently with authorization checks.
+ *
+ * <p>With {@code server.authorization.policy-loading=lazy}, only the securable hierarchy is loaded
+ * at startup. The grants of a principal are loaded on its first access, and the grants of the least
+ * recently used principals are dropped from memory once more than {@code
+ * server.authorization.policy-max-principals} are resident. {@link #warmUpPolicy()} loads the
+ * grants of some principals ahead of their first access. The load time and the size of the resident
+ * policy are reported as metrics (see {@link #bindTo}).
  */
-public class JCasbinAuthorizer implements UnityCatalogAuthorizer {
+public class JCasbinAuthorizer implements UnityCatalogAuthorizer, MeterBinder {
+  private static final Logger LOGGER = LoggerFactory.getLogger(JCasbinAuthorizer.class);
+  static final String LAZY_POLICY_LOADING = "lazy";
+  static final int DEFAULT_MAX_RESIDENT_PRINCIPALS = 10_000;
+
   private final Enforcer enforcer;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private PolicyChangeRepository policyChangeRepository;
+  private PolicyChangeWatcher policyChangeWatcher;
+  private long policySequenceNumber;
+
+  // Only set when the grants are loaded per principal
+  private final PrincipalPolicyAdapter principalPolicyAdapter;
+  private final int maxResidentPrincipals;
+  // The resident principals, with the tick of their last access
+  private final Map<String, Long> residentPrincipals = new ConcurrentHashMap<>();
+  private final AtomicLong accessClock = new AtomicLong();
+  private final AtomicLong principalLoads = new AtomicLong();
+  // Incremented on every change that may touch the grants of principals that are not resident, so
+  // that a principal load overlapping such a change reads the grants again
+  private volatile long grantsVersion;
+  private volatile long policyLoadTimeNanos;
 
   private static final int PRINCIPAL_INDEX = 0;
   private static final int RESOURCE_INDEX = 1;
@@ -35,64 +90,134 @@ public class JCasbinAuthorizer implements UnityCatalogAuthorizer {
   private static final int HIERARCHY_CHILD_INDEX = 1;
 
   public JCasbinAuthorizer(HibernateConfigurator hibernateConfigurator) throws Exception {
+    this(hibernateConfigurator, new ServerProperties());
+  }
+
+  public JCasbinAuthorizer(
+      HibernateConfigurator hibernateConfigurator, ServerProperties serverProperties)
+      throws Exception {
     Properties properties = hibernateConfigurator.getHibernateProperties();
     String driver = properties.getProperty("hibernate.connection.driver_class");
     String url = properties.getProperty("hibernate.connection.url");
     String user = properties.getProperty("hibernate.connection.user");
     String password = properties.getProperty("hibernate.connection.password");
-    JDBCAdapter adapter = new JDBCAdapter(driver, url, user, password);
+    JDBCAdapter adapter;
+    if (LAZY_POLICY_LOADING.equalsIgnoreCase(
+        serverProperties.get(ServerProperties.Property.AUTHORIZATION_POLICY_LOADING))) {
+      principalPolicyAdapter =
+          new PrincipalPolicyAdapter(
+              driver, url, user, password, hibernateConfigurator.getSessionFactory());
+      maxResidentPrincipals =
+          Integer.parseInt(
+              serverProperties.getProperty(
+                  ServerProperties.Property.AUTHORIZATION_POLICY_MAX_PRINCIPALS.getKey(),
+                  String.valueOf(DEFAULT_MAX_RESIDENT_PRINCIPALS)));
+      adapter = principalPolicyAdapter;
+    } else {
+      principalPolicyAdapter = null;
+      maxResidentPrincipals = 0;
+      adapter = new JDBCAdapter(driver, url, user, password);
+    }
 
     InputStream modelStream = this.getClass().getResourceAsStream("/jcasbin_auth_model.conf");
     String string = IOUtils.toString(modelStream, StandardCharsets.UTF_8);
     Model model = new Model();
     model.loadModelFromText(string);
 
+    long start = System.nanoTime();
     enforcer = new Enforcer(model, adapter);
+    policyLoadTimeNanos = System.nanoTime() - start;
     enforcer.enableAutoSave(true);
+    LOGGER.info(
+        "Loaded {} authorization rules in {} ms",
+        residentRules().count(),
+        TimeUnit.NANOSECONDS.toMillis(policyLoadTimeNanos));
   }
 
   @Override
   public boolean grantAuthorization(UUID principal, UUID resource, Privileges action) {
-    return enforcer.addPolicy(principal.toString(), resource.toString(), action.toString());
+    return withGrantsOf(
+        principal.toString(),
+        true,
+        () -> enforcer.addPolicy(principal.toString(), resource.toString(), action.toString()));
   }
 
   @Override
   public boolean revokeAuthorization(UUID principal, UUID resource, Privileges action) {
-    return enforcer.removePolicy(principal.toString(), resource.toString(), action.toString());
+    return withGrantsOf(
+        principal.toString(),
+        true,
+        () -> enforcer.removePolicy(principal.toString(), resource.toString(), action.toString()));
   }
 
   @Override
   public boolean clearAuthorizationsForPrincipal(UUID principal) {
-    return enforcer.removeFilteredPolicy(PRINCIPAL_INDEX, principal.toString());
+    return update(() -> removeGrants(PRINCIPAL_INDEX, principal.toString()));
   }
 
   @Override
   public boolean clearAuthorizationsForResource(UUID resource) {
-    return enforcer.removeFilteredPolicy(RESOURCE_INDEX, resource.toString());
+    return update(() -> removeGrants(RESOURCE_INDEX, resource.toString()));
+  }
+
+  /**
+   * Removes the grants matching a field. When grants are loaded per principal, none of them may be
+   * resident, in which case the enforcer still deletes them from the database but neither reports
+   * the removal nor notifies the watcher. Whether there are any is then looked up in the database,
+   * and the removal is recorded here, so that the other servers drop the grants they hold.
+   */
+  private boolean removeGrants(int fieldIndex, String value) {
+    if (principalPolicyAdapter == null) {
+      return enforcer.removeFilteredPolicy(fieldIndex, value);
+    }
+    boolean stored = principalPolicyAdapter.hasGrants(fieldIndex, value);
+    grantsVersion++;
+    if (enforcer.removeFilteredPolicy(fieldIndex, value)) {
+      return true;
+    }
+    if (!stored) {
+      return false;
+    }
+    if (policyChangeWatcher != null) {
+      policyChangeWatcher.updateForRemoveFilteredPolicy(
+          PrincipalPolicyAdapter.GRANT_POLICY,
+          PrincipalPolicyAdapter.GRANT_POLICY,
+          fieldIndex,
+          value);
+    }
+    return true;
   }
 
   @Override
   public boolean addHierarchyChild(UUID parent, UUID child) {
-    return enforcer.addNamedGroupingPolicy(HIERARCHY_POLICY, parent.toString(), child.toString());
+    return update(
+        () ->
+            enforcer.addNamedGroupingPolicy(HIERARCHY_POLICY, parent.toString(), child.toString()));
   }
 
   @Override
   public boolean removeHierarchyChild(UUID parent, UUID child) {
-    return enforcer.removeNamedGroupingPolicy(
-        HIERARCHY_POLICY, parent.toString(), child.toString());
+    return update(
+        () ->
+            enforcer.removeNamedGroupingPolicy(
+                HIERARCHY_POLICY, parent.toString(), child.toString()));
   }
 
   @Override
   public boolean removeHierarchyChildren(UUID resource) {
-    return enforcer.removeFilteredNamedGroupingPolicy(
-        HIERARCHY_POLICY, HIERARCHY_PARENT_INDEX, resource.toString());
+    return update(
+        () ->
+            enforcer.removeFilteredNamedGroupingPolicy(
+                HIERARCHY_POLICY, HIERARCHY_PARENT_INDEX, resource.toString()));
   }
 
   @Override
   public UUID getHierarchyParent(UUID resource) {
     List<List<String>> policy =
-        enforcer.getFilteredNamedGroupingPolicy(
-            HIERARCHY_POLICY, HIERARCHY_CHILD_INDEX, resource.toString());
+        withReadLock(
+            () ->
+                enforcer.getFilteredNamedGroupingPolicy(
+                    HIERARCHY_POLICY, HIERARCHY_CHILD_INDEX, resource.toString()));
     if (policy.isEmpty() || policy.get(0).isEmpty()) {
       return null;
     }
@@ -101,29 +226,46 @@ public class JCasbinAuthorizer implements UnityCatalogAuthorizer {
 
   @Override
   public boolean authorize(UUID principal, UUID resource, Privileges action) {
-    return enforcer.enforce(principal.toString(), resource.toString(), action.toString());
+    return withGrantsOf(
+        principal.toString(),
+        false,
+        () -> enforcer.enforce(principal.toString(), resource.toString(), action.toString()));
   }
 
   @Override
   public boolean authorizeAny(UUID principal, UUID resource, Privileges... actions) {
-    return Arrays.stream(actions)
-        .anyMatch(
-            action ->
-                enforcer.enforce(principal.toString(), resource.toString(), action.toString()));
+    return withGrantsOf(
+        principal.toString(),
+        false,
+        () ->
+            Arrays.stream(actions)
+                .anyMatch(
+                    action ->
+                        enforcer.enforce(
+                            principal.toString(), resource.toString(), action.toString())));
   }
 
   @Override
   public boolean authorizeAll(UUID principal, UUID resource, Privileges... actions) {
-    return Arrays.stream(actions)
-        .allMatch(
-            action ->
-                enforcer.enforce(principal.toString(), resource.toString(), action.toString()));
+    return withGrantsOf(
+        principal.toString(),
+        false,
+        () ->
+            Arrays.stream(actions)
+                .allMatch(
+                    action ->
+                        enforcer.enforce(
+                            principal.toString(), resource.toString(), action.toString())));
   }
 
   @Override
   public List<Privileges> listAuthorizations(UUID principal, UUID resource) {
     List<List<String>> list =
-        enforcer.getPermissionsForUserInDomain(principal.toString(), resource.toString());
+        withGrantsOf(
+            principal.toString(),
+            false,
+            () ->
+                enforcer.getPermissionsForUserInDomain(principal.toString(), resource.toString()));
     return list.stream()
         .map(l -> l.get(PRIVILEGE_INDEX))
         .map(Privileges::fromValue)
@@ -132,11 +274,300 @@ public class JCasbinAuthorizer implements UnityCatalogAuthorizer {
 
   @Override
   public Map<UUID, List<Privileges>> listAuthorizations(UUID resource) {
-    return enforcer.getFilteredPolicy(RESOURCE_INDEX, resource.toString()).stream()
+    List<List<String>> grants =
+        principalPolicyAdapter != null
+            ? principalPolicyAdapter.loadGrantsOnResource(resource.toString())
+            : withReadLock(() -> enforcer.getFilteredPolicy(RESOURCE_INDEX, resource.toString()));
+    return grants.stream()
         .collect(
             Collectors.groupingBy(
                 l -> UUID.fromString(l.get(PRINCIPAL_INDEX)),
                 Collectors.mapping(
                     l -> Privileges.fromValue(l.get(PRIVILEGE_INDEX)), Collectors.toList())));
   }
+
+  /**
+   * Records the changes made through this authorizer for the other servers sharing the database.
+   * The policy is reloaded, so that the changes recorded from now on can be applied on top of it.
+   */
+  public void enablePolicySync(PolicyChangeRepository policyChangeRepository) {
+    withWriteLock(
+        () -> {
+          this.policyChangeRepository = policyChangeRepository;
+          policySequenceNumber = policyChangeRepository.getLatestSequenceNumber();
+          loadPolicy();
+          policyChangeWatcher = new PolicyChangeWatcher(policyChangeRepository);
+          enforcer.setWatcher(policyChangeWatcher);
+          return null;
+        });
+  }
+
+  /**
+   * Applies the changes recorded since the last sync, in order. The changes made through this
+   * authorizer are applied again, which has no effect unless another server changed the same rule
+   * in between.
+   */
+  public void syncPolicy() {
+    List<PolicyChangeDAO> changes = policyChangeRepository.listChanges(policySequenceNumber);
+    while (!changes.isEmpty()) {
+      List<PolicyChangeDAO> batch = changes;
+      withWriteLock(
+          () -> {
+            if (batch.stream()
+                .anyMatch(
+                    change -> PrincipalPolicyAdapter.GRANT_POLICY.equals(change.getPolicyType()))) {
+              grantsVersion++;
+            }
+            batch.forEach(this::applyPolicyChange);
+            return null;
+          });
+      policySequenceNumber = batch.get(batch.size() - 1).getSequenceNumber();
+      changes = policyChangeRepository.listChanges(policySequenceNumber);
+    }
+  }
+
+  /**
+   * Reloads the whole policy, in case a change was not recorded, e.g. because a server stopped
+   * between saving a rule and recording it. Changes recorded after the last sync are applied again
+   * by the next one.
+   */
+  public void reloadPolicy() {
+    withWriteLock(
+        () -> {
+          loadPolicy();
+          return null;
+        });
+  }
+
+  private void loadPolicy() {
+    long start = System.nanoTime();
+    enforcer.loadPolicy();
+    residentPrincipals.clear();
+    grantsVersion++;
+    policyLoadTimeNanos = System.nanoTime() - start;
+  }
+
+  private void applyPolicyChange(PolicyChangeDAO change) {
+    PolicyChangeDAO.Operation operation = PolicyChangeDAO.Operation.valueOf(change.getOperation());
+    if (operation == PolicyChangeDAO.Operation.RELOAD) {
+      loadPolicy();
+      return;
+    }
+    List<String> values;
+    try {
+      values = JsonUtils.getInstance().readValue(change.getRuleValues(), new TypeReference<>() {});
+    } catch (JsonProcessingException e) {
+      throw new BaseException(ErrorCode.INTERNAL, "Failed to read policy change.", e);
+    }
+    String sec = change.getSection();
+    String ptype = change.getPolicyType();
+    Model model = enforcer.getModel();
+    List<List<String>> effects;
+    Model.PolicyOperations roleOperation;
+    if (operation == PolicyChangeDAO.Operation.ADD) {
+      if (principalPolicyAdapter != null
+          && PrincipalPolicyAdapter.GRANT_POLICY.equals(ptype)
+          && !residentPrincipals.containsKey(values.get(PRINCIPAL_INDEX))) {
+        // Loaded with the rest of the principal's grants when needed
+        return;
+      }
+      effects = model.addPolicy(sec, ptype, values) ? List.of(values) : List.of();
+      roleOperation = Model.PolicyOperations.POLICY_ADD;
+    } else if (operation == PolicyChangeDAO.Operation.REMOVE) {
+      effects = model.removePolicy(sec, ptype, values) ? List.of(values) : List.of();
+      roleOperation = Model.PolicyOperations.POLICY_REMOVE;
+    } else {
+      effects =
+          model.removeFilteredPolicyReturnsEffects(
+              sec, ptype, change.getFieldIndex(), values.toArray(new String[0]));
+      roleOperation = Model.PolicyOperations.POLICY_REMOVE;
+    }
+    if ("g".equals(sec) && !effects.isEmpty()) {
+      enforcer.buildIncrementalRoleLinks(roleOperation, ptype, effects);
+    }
+  }
+
+  /** Returns whether the grants are loaded per principal rather than all at startup. */
+  public boolean loadsGrantsPerPrincipal() {
+    return principalPolicyAdapter != null;
+  }
+
+  /**
+   * Loads the grants of up to the maximum number of resident principals, so that their first
+   * requests need not wait for it. Does nothing unless grants are loaded per principal.
+   */
+  public void warmUpPolicy() {
+    if (principalPolicyAdapter == null) {
+      return;
+    }
+    long start = System.nanoTime();
+    for (String principal : principalPolicyAdapter.listPrincipals(maxResidentPrincipals)) {
+      if (residentPrincipals.size() >= maxResidentPrincipals) {
+        break;
+      }
+      if (!residentPrincipals.containsKey(principal)) {
+        loadGrants(principal);
+      }
+    }
+    LOGGER.info(
+        "Loaded the grants of {} principals in {} ms",
+        residentPrincipals.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  /**
+   * Reports the time the last full policy load took, the number of principals whose grants are
+   * resident, the number of resident rules, an estimate of the heap they take and the number of
+   * principal loads.
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    TimeGauge.builder(
+            "uc.authorization.policy.load.time",
+            this,
+            TimeUnit.NANOSECONDS,
+            authorizer -> authorizer.policyLoadTimeNanos)
+        .register(registry);
+    Gauge.builder(
+            "uc.authorization.policy.principals",
+            this,
+            authorizer ->
+                authorizer.principalPolicyAdapter != null
+                    ? authorizer.residentPrincipals.size()
+                    : authorizer.withReadLock(() -> authorizer.enforcer.getAllSubjects().size()))
+        .register(registry);
+    Gauge.builder(
+            "uc.authorization.policy.rules",
+            this,
+            authorizer -> authorizer.withReadLock(() -> authorizer.residentRules().count()))
+        .register(registry);
+    Gauge.builder(
+            "uc.authorization.policy.size",
+            this,
+            authorizer ->
+                authorizer.withReadLock(
+                    () ->
+                        authorizer
+                            .residentRules()
+                            .mapToLong(JCasbinAuthorizer::estimateSize)
+                            .sum()))
+        .baseUnit("bytes")
+        .register(registry);
+    FunctionCounter.builder(
+            "uc.authorization.policy.principal.loads", principalLoads, AtomicLong::get)
+        .register(registry);
+  }
+
+  private Stream<List<String>> residentRules() {
+    return enforcer.getModel().model.values().stream()
+        .flatMap(section -> section.values().stream())
+        .flatMap(assertion -> assertion.policy.stream());
+  }
+
+  /** Roughly estimates the heap taken by a rule: the list, its array and its strings. */
+  private static long estimateSize(List<String> rule) {
+    return 40 + 4L * rule.size() + rule.stream().mapToLong(value -> 40 + value.length()).sum();
+  }
+
+  /** Runs an action, which changes the policy, under the write lock. */
+  private <T> T update(Supplier<T> action) {
+    return withWriteLock(action);
+  }
+
+  /**
+   * Runs an action that reads, or changes if {@code write} is set, the grants of a principal. When
+   * the grants are loaded per principal, they are loaded first unless they are resident.
+   */
+  private <T> T withGrantsOf(String principal, boolean write, Supplier<T> action) {
+    Lock actionLock = write ? lock.writeLock() : lock.readLock();
+    while (true) {
+      actionLock.lock();
+      try {
+        if (principalPolicyAdapter == null
+            || residentPrincipals.replace(principal, accessClock.incrementAndGet()) != null) {
+          return action.get();
+        }
+      } finally {
+        actionLock.unlock();
+      }
+      loadGrants(principal);
+    }
+  }
+
+  /**
+   * Loads the grants of a principal from the database, outside of the lock. If grants changed in
+   * the meantime, the change may be missing from them, and they are read again under the lock
+   * rather than retried, so that a steady stream of changes cannot keep the principal from loading.
+   */
+  private void loadGrants(String principal) {
+    long version = grantsVersion;
+    List<List<String>> loadedGrants = principalPolicyAdapter.loadGrants(principal);
+    withWriteLock(
+        () -> {
+          if (!residentPrincipals.containsKey(principal)) {
+            List<List<String>> grants =
+                grantsVersion == version
+                    ? loadedGrants
+                    : principalPolicyAdapter.loadGrants(principal);
+            Model model = enforcer.getModel();
+            grants.forEach(
+                grant ->
+                    model.addPolicy(
+                        PrincipalPolicyAdapter.GRANT_POLICY,
+                        PrincipalPolicyAdapter.GRANT_POLICY,
+                        grant));
+            residentPrincipals.put(principal, accessClock.incrementAndGet());
+            principalLoads.incrementAndGet();
+            evictPrincipals(principal);
+          }
+          return null;
+        });
+  }
+
+  /**
+   * Drops the grants of the least recently used principals once too many are resident. A tenth of
+   * the resident principals are dropped at once, so that the cost of sorting them is spread out.
+   */
+  private void evictPrincipals(String loadedPrincipal) {
+    int excess = residentPrincipals.size() - maxResidentPrincipals;
+    if (excess <= 0) {
+      return;
+    }
+    // A load of an evicted principal that is in progress may miss the changes made while resident
+    grantsVersion++;
+    Model model = enforcer.getModel();
+    residentPrincipals.entrySet().stream()
+        .filter(entry -> !entry.getKey().equals(loadedPrincipal))
+        .sorted(Map.Entry.comparingByValue())
+        .limit(excess + maxResidentPrincipals / 10)
+        .map(Map.Entry::getKey)
+        .toList()
+        .forEach(
+            principal -> {
+              model.removeFilteredPolicy(
+                  PrincipalPolicyAdapter.GRANT_POLICY,
+                  PrincipalPolicyAdapter.GRANT_POLICY,
+                  PRINCIPAL_INDEX,
+                  principal);
+              residentPrincipals.remove(principal);
+            });
+  }
+
+  private <T> T withReadLock(Supplier<T> action) {
+    lock.readLock().lock();
+    try {
+      return action.get();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private <T> T withWriteLock(Supplier<T> action) {
+    lock.writeLock().lock();
+    try {
+      return action.get();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
 }
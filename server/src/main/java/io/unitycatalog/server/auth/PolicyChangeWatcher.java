@@ -0,0 +1,94 @@
+package io.unitycatalog.server.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
+import io.unitycatalog.server.persist.PolicyChangeRepository;
+import io.unitycatalog.server.persist.dao.PolicyChangeDAO;
+import io.unitycatalog.server.persist.dao.PolicyChangeDAO.Operation;
+import io.unitycatalog.server.utils.JsonUtils;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import org.casbin.jcasbin.model.Model;
+import org.casbin.jcasbin.persist.WatcherEx;
+
+/**
+ * Records the policy changes made through an enforcer, so that the other servers sharing the
+ * database can apply them (see {@link JCasbinAuthorizer#syncPolicy()}). Changes are pulled from the
+ * database by the other servers rather than pushed, so the update callbacks are not used.
+ */
+class PolicyChangeWatcher implements WatcherEx {
+  private final PolicyChangeRepository policyChangeRepository;
+
+  PolicyChangeWatcher(PolicyChangeRepository policyChangeRepository) {
+    this.policyChangeRepository = policyChangeRepository;
+  }
+
+  @Override
+  public void setUpdateCallback(Runnable runnable) {}
+
+  @Override
+  public void setUpdateCallback(Consumer<String> func) {}
+
+  @Override
+  public void update() {
+    policyChangeRepository.recordChanges(
+        List.of(PolicyChangeDAO.builder().operation(Operation.RELOAD.name()).build()));
+  }
+
+  @Override
+  public void updateForAddPolicy(String sec, String ptype, String... params) {
+    policyChangeRepository.recordChanges(
+        List.of(toPolicyChange(Operation.ADD, sec, ptype, null, Arrays.asList(params))));
+  }
+
+  @Override
+  public void updateForRemovePolicy(String sec, String ptype, String... params) {
+    policyChangeRepository.recordChanges(
+        List.of(toPolicyChange(Operation.REMOVE, sec, ptype, null, Arrays.asList(params))));
+  }
+
+  @Override
+  public void updateForRemoveFilteredPolicy(
+      String sec, String ptype, int fieldIndex, String... fieldValues) {
+    policyChangeRepository.recordChanges(
+        List.of(
+            toPolicyChange(
+                Operation.REMOVE_FILTERED, sec, ptype, fieldIndex, Arrays.asList(fieldValues))));
+  }
+
+  @Override
+  public void updateForSavePolicy(Model model) {
+    update();
+  }
+
+  @Override
+  public void updateForAddPolicies(String sec, String ptype, List<List<String>> rules) {
+    policyChangeRepository.recordChanges(
+        rules.stream().map(rule -> toPolicyChange(Operation.ADD, sec, ptype, null, rule)).toList());
+  }
+
+  @Override
+  public void updateForRemovePolicies(String sec, String ptype, List<List<String>> rules) {
+    policyChangeRepository.recordChanges(
+        rules.stream()
+            .map(rule -> toPolicyChange(Operation.REMOVE, sec, ptype, null, rule))
+            .toList());
+  }
+
+  private static PolicyChangeDAO toPolicyChange(
+      Operation operation, String sec, String ptype, Integer fieldIndex, List<String> values) {
+    try {
+      return PolicyChangeDAO.builder()
+          .operation(operation.name())
+          .section(sec)
+          .policyType(ptype)
+          .fieldIndex(fieldIndex)
+          .ruleValues(JsonUtils.getInstance().writeValueAsString(values))
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new BaseException(ErrorCode.INTERNAL, "Failed to record policy change.", e);
+    }
+  }
+}
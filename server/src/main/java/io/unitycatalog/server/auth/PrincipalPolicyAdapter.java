@@ -0,0 +1,124 @@
+package io.unitycatalog.server.auth;
+
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.casbin.adapter.JDBCAdapter;
+import org.casbin.jcasbin.model.Model;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+/**
+ * A JDBC adapter that leaves the grants ("p" rules) out of the policy it loads, so that they can be
+ * loaded one principal at a time when needed. All other rules, i.e. the securable hierarchy, are
+ * still loaded up front, as authorizing any principal may need any of them.
+ *
+ * <p>Grants are loaded concurrently with each other and with changes, so they are read through
+ * connections of the session factory's pool rather than the adapter's single connection, which is
+ * left to the changes made under the authorizer's write lock.
+ */
+class PrincipalPolicyAdapter extends JDBCAdapter {
+  static final String GRANT_POLICY = "p";
+  private static final int MAX_FIELDS = 6;
+
+  private final SessionFactory sessionFactory;
+
+  PrincipalPolicyAdapter(
+      String driver, String url, String user, String password, SessionFactory sessionFactory)
+      throws Exception {
+    super(driver, url, user, password);
+    this.sessionFactory = sessionFactory;
+  }
+
+  @Override
+  public void loadPolicy(Model model) {
+    for (List<String> line : query("SELECT * FROM %s WHERE ptype <> ?", GRANT_POLICY)) {
+      String ptype = line.get(0);
+      model.addPolicy(ptype.substring(0, 1), ptype, line.subList(1, line.size()));
+    }
+  }
+
+  /** Loads the grants of a principal. */
+  List<List<String>> loadGrants(String principal) {
+    return removePolicyType(
+        query("SELECT * FROM %s WHERE ptype = ? AND v0 = ?", GRANT_POLICY, principal));
+  }
+
+  /** Loads the grants on a securable, for all principals. */
+  List<List<String>> loadGrantsOnResource(String resource) {
+    return removePolicyType(
+        query("SELECT * FROM %s WHERE ptype = ? AND v1 = ?", GRANT_POLICY, resource));
+  }
+
+  /** Returns whether any grant has the given value in the field at the given index. */
+  boolean hasGrants(int fieldIndex, String value) {
+    return !query(
+            "SELECT * FROM %s WHERE ptype = ? AND v" + fieldIndex + " = ?", GRANT_POLICY, value)
+        .isEmpty();
+  }
+
+  /** Lists up to {@code limit} principals that have grants. */
+  List<String> listPrincipals(int limit) {
+    try (Session session = sessionFactory.openSession()) {
+      return session.doReturningWork(
+          connection -> {
+            List<String> principals = new ArrayList<>();
+            try (PreparedStatement statement =
+                connection.prepareStatement(
+                    String.format("SELECT DISTINCT v0 FROM %s WHERE ptype = ?", tableName))) {
+              statement.setString(1, GRANT_POLICY);
+              statement.setMaxRows(limit);
+              try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                  principals.add(resultSet.getString(1));
+                }
+              }
+            }
+            return principals;
+          });
+    } catch (HibernateException e) {
+      throw new BaseException(ErrorCode.INTERNAL, "Failed to list principals.", e);
+    }
+  }
+
+  private static List<List<String>> removePolicyType(List<List<String>> lines) {
+    return lines.stream().map(line -> line.subList(1, line.size())).toList();
+  }
+
+  /** Runs a query on the rule table and returns the policy type and values of each rule. */
+  private List<List<String>> query(String sql, String... parameters) {
+    try (Session session = sessionFactory.openSession()) {
+      return session.doReturningWork(
+          connection -> {
+            List<List<String>> lines = new ArrayList<>();
+            try (PreparedStatement statement =
+                connection.prepareStatement(String.format(sql, tableName))) {
+              for (int i = 0; i < parameters.length; i++) {
+                statement.setString(i + 1, parameters[i]);
+              }
+              try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                  List<String> line = new ArrayList<>();
+                  line.add(resultSet.getString("ptype"));
+                  for (int i = 0; i < MAX_FIELDS; i++) {
+                    String value = resultSet.getString("v" + i);
+                    if (value == null || value.isEmpty()) {
+                      break;
+                    }
+                    line.add(value);
+                  }
+                  lines.add(line);
+                }
+              }
+            }
+            return lines;
+          });
+    } catch (HibernateException e) {
+      throw new BaseException(ErrorCode.INTERNAL, "Failed to load authorization policy.", e);
+    }
+  }
+}
@@ -1,11 +1,13 @@
 package io.unitycatalog.server.auth.decorator;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.linecorp.armeria.common.HttpData;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.internal.server.annotation.AnnotatedService;
 import com.linecorp.armeria.server.DecoratingHttpServiceFunction;
 import com.linecorp.armeria.server.HttpService;
@@ -21,10 +23,11 @@ import io.unitycatalog.server.exception.ErrorCode;
 import io.unitycatalog.server.model.SecurableType;
 import io.unitycatalog.server.persist.Repositories;
 import io.unitycatalog.server.persist.UserRepository;
+import io.unitycatalog.server.utils.ParsedJsonRequestConverterFunction;
+import io.unitycatalog.server.utils.SmileFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -34,6 +37,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static io.unitycatalog.server.auth.decorator.KeyLocator.Source.PARAM;
 import static io.unitycatalog.server.auth.decorator.KeyLocator.Source.PAYLOAD;
@@ -138,40 +142,56 @@ public class UnityAccessDecorator implements DecoratingHttpServiceFunction {
 
       return delegate.serve(ctx, req);
     } else {
-      // Since we have PAYLOAD locators, we can only interrogate the payload while the request
-      // is being evaluated, via peekData()
-      LOGGER.debug("Checking authorization before in peekData.");
-
-      PeekDataHandler peekDataHandler = new PeekDataHandler(req.contentType(), payloadLocators, resourceKeys);
-
-      // Note that peekData only gets called for requests that actually have data (like PUT and POST)
-
-      var peekReq = req.peekData(data -> {
-        LOGGER.debug("Authorization peekData invoked.");
-
-        if (peekDataHandler.processPeekData(data)) {
-          checkAuthorization(principal, expression, resourceKeys);
-        }
-      });
-
-      return delegate.serve(ctx, peekReq);
+      // Since we have PAYLOAD locators, the whole body has to be available before we can
+      // authorize. It is aggregated and parsed once here, and the parsed tree is shared with
+      // the request converter so the service method doesn't parse the same bytes again.
+      LOGGER.debug("Checking authorization after aggregating payload.");
+
+      CompletableFuture<HttpResponse> future = req.aggregate()
+              .thenApplyAsync(aggregated -> {
+                JsonNode payload = parsePayload(aggregated);
+                ctx.setAttr(ParsedJsonRequestConverterFunction.PARSED_JSON, payload);
+
+                payloadLocators.forEach(l -> resourceKeys.put(l.getType(), findPayloadValue(l.getKey(), payload)));
+                checkAuthorization(principal, expression, resourceKeys);
+
+                try {
+                  return delegate.serve(ctx, aggregated.toHttpRequest());
+                } catch (Exception e) {
+                  return Exceptions.throwUnsafely(e);
+                }
+              }, ctx.blockingTaskExecutor());
+
+      return HttpResponse.of(future);
     }
   }
 
-  private static Object findPayloadValue(String key, Map<String, Object> payload) {
-    // TODO: investigate better object traversal functionality
-    String[] args = key.split("[.]", 2);
-    if (args.length == 1) {
-      return payload.get(args[0]);
-    } else {
-      if (payload.get(args[0]) instanceof Map) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> value = (Map<String, Object>) payload.get(args[0]);
-        return findPayloadValue(args[1], value);
-      } else {
-        return null;
+  private static JsonNode parsePayload(AggregatedHttpRequest request) {
+    MediaType contentType = request.contentType();
+    boolean smile = SmileFormat.is(contentType);
+    if (!smile && (contentType == null || !contentType.isJson())) {
+      LOGGER.warn("Skipping content-type: {}", contentType);
+      return MissingNode.getInstance();
+    }
+    if (request.content().isEmpty()) {
+      return MissingNode.getInstance();
+    }
+    try {
+      if (smile) {
+        return MAPPER.readTree(SmileFormat.createParser(MAPPER, request.content().array()));
       }
+      return MAPPER.readTree(request.content().array());
+    } catch (IOException e) {
+      throw new BaseException(ErrorCode.INVALID_ARGUMENT, "Error parsing payload.", e);
+    }
+  }
+
+  private static Object findPayloadValue(String key, JsonNode payload) {
+    JsonNode value = payload;
+    for (String name : key.split("[.]")) {
+      value = value.path(name);
     }
+    return value.isValueNode() && !value.isNull() ? value.asText() : null;
   }
 
   private void checkAuthorization(UUID principal, String expression, Map<SecurableType, Object> resourceKeys) {
@@ -276,58 +296,4 @@ public class UnityAccessDecorator implements DecoratingHttpServiceFunction {
 
     return matchingMethods;
   }
-
-  private static class PeekDataHandler {
-    // This is a little ugly - peekData provides only a block of data at a time, so lets
-    // buffer it up until we think its complete. A better long term solution would be to
-    // abandon this method and either integrate with Spring Boot to get full AOP support
-    // with aspect weaving, or build implement custom aspect weaving so we can intercept
-    // the method call directly and extract the payload data from the method arguments.
-
-    private final MediaType contentType;
-    private final List<KeyLocator> payloadLocators;
-    private final Map<SecurableType, Object> resourceKeys;
-    private final ByteArrayOutputStream dataStream = new ByteArrayOutputStream();
-
-    private PeekDataHandler(MediaType contentType, List<KeyLocator> payloadLocators, Map<SecurableType, Object> resourceKeys) {
-      this.contentType = contentType;
-      this.payloadLocators = payloadLocators;
-      this.resourceKeys = resourceKeys;
-    }
-
-    private boolean processPeekData(HttpData data) {
-      // TODO: For now, we're going to assume JSON data, but might need to support other
-      // content types.
-      if (contentType.equals(MediaType.JSON)) {
-        try {
-          dataStream.write(data.array());
-          LOGGER.debug("Payload: {}", dataStream.toString());
-        } catch (IOException e) {
-          // IGNORE
-        }
-
-        // Unfortunately we don't appear to get a signal that we've got all the data, so we have to
-        // resort to attempting to parse the data whenever it _looks_ complete.
-        // TODO: try to optimize this using Jackson streaming or something else.
-        if (data.array()[data.array().length - 1] == '}') {
-          try {
-            Map<String, Object> payload = MAPPER.readValue(dataStream.toByteArray(), new TypeReference<>() {
-            });
-
-            payloadLocators.forEach(l -> resourceKeys.put(l.getType(), findPayloadValue(l.getKey(), payload)));
-            return true;
-          } catch (IOException e) {
-            // This is probably because we read partial data.
-            LOGGER.warn("Error parsing payload: {}", e.getMessage());
-          }
-        }
-
-      } else {
-        LOGGER.warn("Skipping content-type: {}", contentType);
-      }
-
-      return false;
-    }
-
-  }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package io.unitycatalog.server.exception;
 
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.server.DecoratingHttpServiceFunction;
 import com.linecorp.armeria.server.HttpService;
 import com.linecorp.armeria.server.ServiceRequestContext;
@@ -29,10 +30,21 @@ public class ExceptionHandlingDecorator implements DecoratingHttpServiceFunction
   @Override
   public HttpResponse serve(HttpService delegate, ServiceRequestContext ctx, HttpRequest req)
       throws Exception {
+    HttpResponse response;
     try {
-      return delegate.serve(ctx, req);
+      response = delegate.serve(ctx, req);
     } catch (Exception e) {
       return exceptionHandlerFunction.handleException(ctx, req, e);
     }
+    // Decorators that need the aggregated request, like the access decorator, report their
+    // errors by failing the response instead of throwing.
+    return response.recover(
+        cause -> {
+          Throwable peeled = Exceptions.peel(cause);
+          if (peeled instanceof BaseException) {
+            return exceptionHandlerFunction.handleException(ctx, req, peeled);
+          }
+          return HttpResponse.ofFailure(peeled);
+        });
   }
 }
@@ -6,12 +6,13 @@ import io.unitycatalog.server.model.*;
 import io.unitycatalog.server.persist.dao.CatalogInfoDAO;
 import io.unitycatalog.server.persist.dao.PropertyDAO;
 import io.unitycatalog.server.persist.utils.PagedListingHelper;
+import io.unitycatalog.server.persist.utils.ReadReplicaRouter;
 import io.unitycatalog.server.persist.utils.RepositoryUtils;
 import io.unitycatalog.server.utils.Constants;
+import io.unitycatalog.server.utils.EntityTags;
 import io.unitycatalog.server.utils.IdentityUtils;
 import io.unitycatalog.server.utils.ValidationUtils;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import org.hibernate.Session;
@@ -25,12 +26,14 @@ public class CatalogRepository {
   private static final Logger LOGGER = LoggerFactory.getLogger(CatalogRepository.class);
   private final Repositories repositories;
   private final SessionFactory sessionFactory;
+  private final ReadReplicaRouter readReplicaRouter;
   private static final PagedListingHelper<CatalogInfoDAO> LISTING_HELPER =
       new PagedListingHelper<>(CatalogInfoDAO.class);
 
   public CatalogRepository(Repositories repositories, SessionFactory sessionFactory) {
     this.repositories = repositories;
     this.sessionFactory = sessionFactory;
+    this.readReplicaRouter = repositories.getReadReplicaRouter();
   }
 
   public CatalogInfo addCatalog(CreateCatalog createCatalog) {
@@ -60,6 +63,15 @@ public class CatalogRepository {
         PropertyDAO.from(catalogInfo.getProperties(), catalogInfoDAO.getId(), Constants.CATALOG)
             .forEach(session::persist);
         session.persist(catalogInfoDAO);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.CATALOG,
+                catalogInfo.getName(),
+                null,
+                catalogInfoDAO.getId(),
+                ChangeOperation.CREATE);
         tx.commit();
         LOGGER.info("Added catalog: {}", catalogInfo.getName());
         return catalogInfo;
@@ -79,8 +91,7 @@ public class CatalogRepository {
    */
   public ListCatalogsResponse listCatalogs(
       Optional<Integer> maxResults, Optional<String> pageToken) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         ListCatalogsResponse response = listCatalogs(session, maxResults, pageToken);
@@ -109,8 +120,7 @@ public class CatalogRepository {
   }
 
   public CatalogInfo getCatalog(String name) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         CatalogInfoDAO catalogInfoDAO = getCatalogDAO(session, name);
@@ -128,11 +138,29 @@ public class CatalogRepository {
     }
   }
 
+  /**
+   * Returns the entity tag of a catalog without loading its properties, or null if the catalog does
+   * not exist.
+   */
+  public String getCatalogEntityTag(String name) {
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
+      CatalogInfoDAO catalogInfoDAO = getCatalogDAO(session, name);
+      return catalogInfoDAO == null
+          ? null
+          : EntityTags.of(
+              name,
+              catalogInfoDAO.getId(),
+              catalogInfoDAO.getCreatedAt(),
+              catalogInfoDAO.getUpdatedAt());
+    }
+  }
+
   public CatalogInfoDAO getCatalogDAO(Session session, String name) {
     Query<CatalogInfoDAO> query =
         session.createQuery("FROM CatalogInfoDAO WHERE name = :value", CatalogInfoDAO.class);
     query.setParameter("value", name);
     query.setMaxResults(1);
+    query.setCacheable(true);
     return query.uniqueResult();
   }
 
@@ -175,9 +203,18 @@ public class CatalogRepository {
           PropertyDAO.from(updateCatalog.getProperties(), catalogInfoDAO.getId(), Constants.CATALOG)
               .forEach(session::persist);
         }
-        catalogInfoDAO.setUpdatedAt(new Date());
+        catalogInfoDAO.setUpdatedAt(RepositoryUtils.nextUpdateTime(catalogInfoDAO.getUpdatedAt()));
         catalogInfoDAO.setUpdatedBy(callerId);
         session.merge(catalogInfoDAO);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.CATALOG,
+                name,
+                updateCatalog.getNewName(),
+                catalogInfoDAO.getId(),
+                ChangeOperation.UPDATE);
         tx.commit();
         CatalogInfo catalogInfo = catalogInfoDAO.toCatalogInfo();
         return RepositoryUtils.attachProperties(
@@ -238,6 +275,15 @@ public class CatalogRepository {
           PropertyRepository.findProperties(session, catalogInfo.getId(), Constants.CATALOG)
               .forEach(session::remove);
           session.remove(catalogInfo);
+          repositories
+              .getChangeRepository()
+              .recordChange(
+                  session,
+                  SecurableType.CATALOG,
+                  name,
+                  null,
+                  catalogInfo.getId(),
+                  ChangeOperation.DELETE);
           tx.commit();
           LOGGER.info("Deleted catalog: {}", catalogInfo.getName());
         } else {
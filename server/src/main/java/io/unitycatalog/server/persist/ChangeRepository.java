@@ -0,0 +1,167 @@
+package io.unitycatalog.server.persist;
+
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
+import io.unitycatalog.server.model.ChangeEvent;
+import io.unitycatalog.server.model.ChangeOperation;
+import io.unitycatalog.server.model.ListChangesResponse;
+import io.unitycatalog.server.model.SecurableType;
+import io.unitycatalog.server.persist.dao.ChangeEventDAO;
+import io.unitycatalog.server.persist.utils.PagedListingHelper;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.query.Query;
+
+/**
+ * Append-only log of metadata changes, used by clients to invalidate their caches.
+ *
+ * <p>Repositories record a change in the same transaction as the mutation itself, so a change is
+ * visible if and only if the mutation committed. Sequence numbers are assigned on insert, so
+ * concurrent transactions may commit out of order. To avoid skipping a change that commits after a
+ * later one was read, listing stops before a gap in the sequence until the gap is older than {@link
+ * #GAP_GRACE_PERIOD_MS}; gaps left by rolled back transactions are skipped after that.
+ *
+ * <p>The log is therefore lossy: a transaction that commits more than the grace period after
+ * recording its change is not listed to clients that have already read past it. Clients should
+ * still expire cached metadata eventually rather than rely on the log alone.
+ */
+public class ChangeRepository {
+  static final long GAP_GRACE_PERIOD_MS = 5000;
+
+  private final SessionFactory sessionFactory;
+  private final AtomicReference<CompletableFuture<Void>> nextChange =
+      new AtomicReference<>(new CompletableFuture<>());
+
+  public ChangeRepository(SessionFactory sessionFactory) {
+    this.sessionFactory = sessionFactory;
+  }
+
+  /**
+   * Records a change as part of the session's transaction. Waiting listeners are notified once the
+   * transaction commits.
+   *
+   * @param newFullName the full name after a rename, or null
+   */
+  public void recordChange(
+      Session session,
+      SecurableType securableType,
+      String fullName,
+      String newFullName,
+      UUID securableId,
+      ChangeOperation operation) {
+    session.persist(
+        ChangeEventDAO.builder()
+            .securableType(securableType.getValue())
+            .fullName(fullName)
+            .newFullName(newFullName)
+            .securableId(securableId)
+            .operation(operation.getValue())
+            .createdAt(new Date())
+            .build());
+    session
+        .getTransaction()
+        .registerSynchronization(
+            new Synchronization() {
+              @Override
+              public void beforeCompletion() {}
+
+              @Override
+              public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                  notifyChanges();
+                }
+              }
+            });
+  }
+
+  /** Records a change in a transaction of its own. */
+  public void recordChange(
+      SecurableType securableType, String fullName, UUID securableId, ChangeOperation operation) {
+    try (Session session = sessionFactory.openSession()) {
+      Transaction tx = session.beginTransaction();
+      try {
+        recordChange(session, securableType, fullName, null, securableId, operation);
+        tx.commit();
+      } catch (Exception e) {
+        tx.rollback();
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Notifies the listeners waiting for the next change, e.g. once the changes committed by other
+   * servers sharing the database have been read.
+   */
+  public void notifyChanges() {
+    nextChange.getAndSet(new CompletableFuture<>()).complete(null);
+  }
+
+  /**
+   * Returns a future that completes when the next change is committed. Obtain it before listing
+   * changes, so that no change committed in between is missed.
+   */
+  public CompletableFuture<Void> nextChange() {
+    return nextChange.get();
+  }
+
+  /** Lists the changes with a sequence number greater than {@code since}, in sequence order. */
+  public ListChangesResponse listChanges(long since, Optional<Integer> maxResults) {
+    if (maxResults.isPresent() && maxResults.get() < 0) {
+      throw new BaseException(
+          ErrorCode.INVALID_ARGUMENT, "maxResults must be greater than or equal to 0");
+    }
+    List<ChangeEventDAO> changeEventDAOs;
+    try (Session session = sessionFactory.openSession()) {
+      session.setDefaultReadOnly(true);
+      Transaction tx = session.beginTransaction();
+      try {
+        Query<ChangeEventDAO> query =
+            session.createQuery(
+                "FROM ChangeEventDAO WHERE sequenceNumber > :since ORDER BY sequenceNumber",
+                ChangeEventDAO.class);
+        query.setParameter("since", since);
+        query.setMaxResults(PagedListingHelper.getPageSize(maxResults));
+        changeEventDAOs = query.list();
+        tx.commit();
+      } catch (Exception e) {
+        tx.rollback();
+        throw e;
+      }
+    }
+    long gapDeadline = System.currentTimeMillis() - GAP_GRACE_PERIOD_MS;
+    long last = since;
+    List<ChangeEvent> changes = new ArrayList<>();
+    for (ChangeEventDAO changeEventDAO : changeEventDAOs) {
+      if (changeEventDAO.getSequenceNumber() != last + 1
+          && changeEventDAO.getCreatedAt().getTime() > gapDeadline) {
+        break;
+      }
+      changes.add(changeEventDAO.toChangeEvent());
+      last = changeEventDAO.getSequenceNumber();
+    }
+    return new ListChangesResponse().changes(changes).nextSequenceNumber(last);
+  }
+
+  /** Returns the sequence number of the latest change, or 0 if there are none. */
+  public long getLatestSequenceNumber() {
+    try (Session session = sessionFactory.openSession()) {
+      session.setDefaultReadOnly(true);
+      Long latest =
+          session
+              .createQuery("SELECT MAX(sequenceNumber) FROM ChangeEventDAO", Long.class)
+              .uniqueResult();
+      return latest != null ? latest : 0;
+    }
+  }
+}
@@ -6,8 +6,10 @@ import io.unitycatalog.server.model.*;
 import io.unitycatalog.server.persist.dao.FunctionInfoDAO;
 import io.unitycatalog.server.persist.dao.SchemaInfoDAO;
 import io.unitycatalog.server.persist.utils.PagedListingHelper;
+import io.unitycatalog.server.persist.utils.ReadReplicaRouter;
 import io.unitycatalog.server.persist.utils.RepositoryUtils;
 import io.unitycatalog.server.utils.Constants;
+import io.unitycatalog.server.utils.EntityTags;
 import io.unitycatalog.server.utils.IdentityUtils;
 import io.unitycatalog.server.utils.ValidationUtils;
 import java.util.ArrayList;
@@ -25,12 +27,14 @@ public class FunctionRepository {
   private static final Logger LOGGER = LoggerFactory.getLogger(FunctionRepository.class);
   private final Repositories repositories;
   private final SessionFactory sessionFactory;
+  private final ReadReplicaRouter readReplicaRouter;
   private static final PagedListingHelper<FunctionInfoDAO> LISTING_HELPER =
       new PagedListingHelper<>(FunctionInfoDAO.class);
 
   public FunctionRepository(Repositories repositories, SessionFactory sessionFactory) {
     this.repositories = repositories;
     this.sessionFactory = sessionFactory;
+    this.readReplicaRouter = repositories.getReadReplicaRouter();
   }
 
   public FunctionInfo createFunction(CreateFunctionRequest createFunctionRequest) {
@@ -105,6 +109,15 @@ public class FunctionRepository {
                   p.setFunction(dao);
                 });
         session.persist(dao);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.FUNCTION,
+                functionInfo.getFullName(),
+                null,
+                dao.getId(),
+                ChangeOperation.CREATE);
         tx.commit();
         return functionInfo;
       } catch (Exception e) {
@@ -143,8 +156,7 @@ public class FunctionRepository {
       String schemaName,
       Optional<Integer> maxResults,
       Optional<String> pageToken) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         UUID schemaId = getSchemaId(session, catalogName, schemaName);
@@ -182,8 +194,7 @@ public class FunctionRepository {
 
   public FunctionInfo getFunction(String name) {
     FunctionInfo functionInfo = null;
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         String[] parts = name.split("\\.");
@@ -210,6 +221,29 @@ public class FunctionRepository {
     return functionInfo;
   }
 
+  /**
+   * Returns the entity tag of a function without loading its parameters, or null if the function
+   * does not exist.
+   */
+  public String getFunctionEntityTag(String name) {
+    String[] parts = name.split("\\.");
+    if (parts.length != 3) {
+      return null;
+    }
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
+      FunctionInfoDAO functionInfoDAO = getFunctionDAO(session, parts[0], parts[1], parts[2]);
+      return functionInfoDAO == null
+          ? null
+          : EntityTags.of(
+              name,
+              functionInfoDAO.getId(),
+              functionInfoDAO.getCreatedAt(),
+              functionInfoDAO.getUpdatedAt());
+    } catch (BaseException e) {
+      return null;
+    }
+  }
+
   public void addNamespaceInfo(FunctionInfo functionInfo, String catalogName, String schemaName) {
     functionInfo.setCatalogName(catalogName);
     functionInfo.setSchemaName(schemaName);
@@ -251,7 +285,11 @@ public class FunctionRepository {
         if (schemaInfo == null) {
           throw new BaseException(ErrorCode.NOT_FOUND, "Schema not found: " + schemaName);
         }
-        deleteFunction(session, schemaInfo.getId(), functionName);
+        UUID functionId = deleteFunction(session, schemaInfo.getId(), functionName);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session, SecurableType.FUNCTION, name, null, functionId, ChangeOperation.DELETE);
         tx.commit();
         LOGGER.info("Deleted function: {}", functionName);
       } catch (Exception e) {
@@ -261,11 +299,13 @@ public class FunctionRepository {
     }
   }
 
-  public void deleteFunction(Session session, UUID schemaId, String functionName) {
+  /** Deletes a function as part of the session's transaction and returns its id. */
+  public UUID deleteFunction(Session session, UUID schemaId, String functionName) {
     FunctionInfoDAO functionInfoDAO = getFunctionDAO(session, schemaId, functionName);
     if (functionInfoDAO == null) {
       throw new BaseException(ErrorCode.NOT_FOUND, "Function not found: " + functionName);
     }
     session.remove(functionInfoDAO);
+    return functionInfoDAO.getId();
   }
 }
@@ -0,0 +1,846 @@
+package io.unitycatalog.server.persist;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
+import io.unitycatalog.server.model.CatalogInfo;
+import io.unitycatalog.server.model.ChangeOperation;
+import io.unitycatalog.server.model.ColumnInfo;
+import io.unitycatalog.server.model.FunctionInfo;
+import io.unitycatalog.server.model.MetastoreExportGrant;
+import io.unitycatalog.server.model.MetastoreExportRecord;
+import io.unitycatalog.server.model.ModelVersionInfo;
+import io.unitycatalog.server.model.RegisteredModelInfo;
+import io.unitycatalog.server.model.SchemaInfo;
+import io.unitycatalog.server.model.SecurableType;
+import io.unitycatalog.server.model.TableInfo;
+import io.unitycatalog.server.model.VolumeInfo;
+import io.unitycatalog.server.persist.dao.CatalogInfoDAO;
+import io.unitycatalog.server.persist.dao.ColumnInfoDAO;
+import io.unitycatalog.server.persist.dao.FunctionInfoDAO;
+import io.unitycatalog.server.persist.dao.FunctionParameterInfoDAO;
+import io.unitycatalog.server.persist.dao.IdentifiableDAO;
+import io.unitycatalog.server.persist.dao.MetastoreDAO;
+import io.unitycatalog.server.persist.dao.ModelVersionInfoDAO;
+import io.unitycatalog.server.persist.dao.PropertyDAO;
+import io.unitycatalog.server.persist.dao.RegisteredModelInfoDAO;
+import io.unitycatalog.server.persist.dao.SchemaInfoDAO;
+import io.unitycatalog.server.persist.dao.TableInfoDAO;
+import io.unitycatalog.server.persist.dao.VolumeInfoDAO;
+import io.unitycatalog.server.persist.model.Privileges;
+import io.unitycatalog.server.persist.utils.ReadReplicaRouter;
+import io.unitycatalog.server.utils.Constants;
+import io.unitycatalog.server.utils.JsonUtils;
+import io.unitycatalog.server.utils.ValidationUtils;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.query.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports all objects of the metastore as a stream of records, and imports such a stream again,
+ * e.g. to migrate a metastore to another database or to clone it.
+ *
+ * <p>Both directions run in constant memory. The export reads each kind of object in pages ordered
+ * by id, every page starting after the last id of the previous one, so that no database cursor is
+ * held open between pages. The properties and parameters of a page are read with one query per
+ * page, and the columns of a page of tables with one query per {@value #MAX_BATCH_COLUMNS} columns.
+ * Parents are exported before their children.
+ *
+ * <p>The import reads one record at a time and commits the objects in batches of {@value
+ * #PAGE_SIZE}, whose inserts are sent in JDBC batches. Objects keep their ids, and parents are
+ * looked up by name, so an export can be imported into a metastore that already has some of the
+ * parents. Since batches are committed as they go, an import that fails keeps the objects of the
+ * batches committed before the failure.
+ */
+public class MetastoreTransferRepository {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MetastoreTransferRepository.class);
+  static final int PAGE_SIZE = 500;
+  // Tables are read in smaller pages, since each of them may have thousands of columns
+  static final int TABLE_PAGE_SIZE = 100;
+  // Bound of the columns imported in one batch, and of the columns exported in one query
+  static final int MAX_BATCH_COLUMNS = 50_000;
+  // Bound of the ids of parents remembered during an import, which are looked up again if evicted
+  private static final int MAX_CACHED_PARENT_IDS = 10_000;
+
+  /** Receives the exported records, with the id of the securable whose grants they should carry. */
+  @FunctionalInterface
+  public interface ExportWriter {
+    void write(MetastoreExportRecord record, UUID securableId) throws IOException;
+  }
+
+  /**
+   * An imported securable, with its parent in the securable hierarchy (null for catalogs and the
+   * metastore) and its exported grants.
+   */
+  public record ImportedSecurable(
+      UUID parentId, UUID securableId, List<MetastoreExportGrant> grants) {}
+
+  private final Repositories repositories;
+  private final SessionFactory sessionFactory;
+  private final ReadReplicaRouter readReplicaRouter;
+
+  public MetastoreTransferRepository(Repositories repositories, SessionFactory sessionFactory) {
+    this.repositories = repositories;
+    this.sessionFactory = sessionFactory;
+    this.readReplicaRouter = repositories.getReadReplicaRouter();
+  }
+
+  /** Writes every object of the metastore, parents first, starting with the metastore itself. */
+  public void exportMetastore(ExportWriter writer) throws IOException {
+    long start = System.currentTimeMillis();
+    long exported = 0;
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
+      MetastoreDAO metastoreDAO = repositories.getMetastoreRepository().getMetastoreDAO(session);
+      if (metastoreDAO == null) {
+        throw new BaseException(ErrorCode.NOT_FOUND, "No metastore found.");
+      }
+      writer.write(
+          new MetastoreExportRecord().metastore(metastoreDAO.toGetMetastoreSummaryResponse()),
+          metastoreDAO.getId());
+      exported += exportCatalogs(session, writer);
+      exported += exportSchemas(session, writer);
+      exported += exportTables(session, writer);
+      exported += exportVolumes(session, writer);
+      exported += exportFunctions(session, writer);
+      exported += exportRegisteredModels(session, writer);
+      exported += exportModelVersions(session, writer);
+    }
+    LOGGER.info("Exported {} objects in {} ms", exported, System.currentTimeMillis() - start);
+  }
+
+  private long exportCatalogs(Session session, ExportWriter writer) throws IOException {
+    return exportPages(
+        session,
+        "SELECT c FROM CatalogInfoDAO c",
+        "c.id",
+        PAGE_SIZE,
+        page -> {
+          List<UUID> ids = page.stream().map(row -> ((CatalogInfoDAO) row[0]).getId()).toList();
+          Map<UUID, Map<String, String>> properties =
+              findProperties(session, ids, Constants.CATALOG);
+          for (Object[] row : page) {
+            CatalogInfoDAO catalogInfoDAO = (CatalogInfoDAO) row[0];
+            CatalogInfo catalogInfo =
+                catalogInfoDAO.toCatalogInfo().properties(properties.get(catalogInfoDAO.getId()));
+            writer.write(new MetastoreExportRecord().catalog(catalogInfo), catalogInfoDAO.getId());
+          }
+        });
+  }
+
+  private long exportSchemas(Session session, ExportWriter writer) throws IOException {
+    return exportPages(
+        session,
+        "SELECT s, c.name FROM SchemaInfoDAO s, CatalogInfoDAO c WHERE s.catalogId = c.id",
+        "s.id",
+        PAGE_SIZE,
+        page -> {
+          List<UUID> ids = page.stream().map(row -> ((SchemaInfoDAO) row[0]).getId()).toList();
+          Map<UUID, Map<String, String>> properties =
+              findProperties(session, ids, Constants.SCHEMA);
+          for (Object[] row : page) {
+            SchemaInfoDAO schemaInfoDAO = (SchemaInfoDAO) row[0];
+            SchemaInfo schemaInfo =
+                schemaInfoDAO
+                    .toSchemaInfo()
+                    .catalogName((String) row[1])
+                    .fullName(row[1] + "." + schemaInfoDAO.getName())
+                    .properties(properties.get(schemaInfoDAO.getId()));
+            writer.write(new MetastoreExportRecord().schema(schemaInfo), schemaInfoDAO.getId());
+          }
+        });
+  }
+
+  private long exportTables(Session session, ExportWriter writer) throws IOException {
+    return exportPages(
+        session,
+        selectWithNames("TableInfoDAO"),
+        "e.id",
+        TABLE_PAGE_SIZE,
+        page -> {
+          List<UUID> ids = page.stream().map(row -> ((TableInfoDAO) row[0]).getId()).toList();
+          Map<UUID, Map<String, String>> properties =
+              findProperties(session, ids, Constants.TABLE);
+          Map<UUID, Long> columnCounts = new HashMap<>();
+          session
+              .createQuery(
+                  "SELECT c.table.id, COUNT(c) FROM ColumnInfoDAO c WHERE c.table.id IN (:ids)"
+                      + " GROUP BY c.table.id",
+                  Object[].class)
+              .setParameterList("ids", ids)
+              .getResultList()
+              .forEach(row -> columnCounts.put((UUID) row[0], (Long) row[1]));
+          // The columns are read for as many tables at a time as fit in MAX_BATCH_COLUMNS, and a
+          // table with more columns than that is read on its own
+          int from = 0;
+          while (from < page.size()) {
+            int to = from + 1;
+            long batchColumns = columnCounts.getOrDefault(ids.get(from), 0L);
+            while (to < page.size()
+                && batchColumns + columnCounts.getOrDefault(ids.get(to), 0L)
+                    <= MAX_BATCH_COLUMNS) {
+              batchColumns += columnCounts.getOrDefault(ids.get(to), 0L);
+              to++;
+            }
+            exportTableBatch(session, writer, page.subList(from, to), properties);
+            from = to;
+          }
+        });
+  }
+
+  private void exportTableBatch(
+      Session session,
+      ExportWriter writer,
+      List<Object[]> rows,
+      Map<UUID, Map<String, String>> properties)
+      throws IOException {
+    List<UUID> ids = rows.stream().map(row -> ((TableInfoDAO) row[0]).getId()).toList();
+    List<ColumnInfoDAO> columnInfoDAOs =
+        session
+            .createQuery(
+                "FROM ColumnInfoDAO WHERE table.id IN (:ids) ORDER BY ordinalPosition",
+                ColumnInfoDAO.class)
+            .setParameterList("ids", ids)
+            .getResultList();
+    Map<UUID, List<ColumnInfoDAO>> columns = new HashMap<>();
+    for (ColumnInfoDAO column : columnInfoDAOs) {
+      columns.computeIfAbsent(column.getTable().getId(), id -> new ArrayList<>()).add(column);
+    }
+    for (Object[] row : rows) {
+      TableInfoDAO tableInfoDAO = (TableInfoDAO) row[0];
+      TableInfo tableInfo =
+          tableInfoDAO
+              .toTableInfo()
+              .catalogName((String) row[1])
+              .schemaName((String) row[2])
+              .columns(
+                  repositories
+                      .getColumnTypeDictionary()
+                      .toColumnInfos(
+                          session, columns.getOrDefault(tableInfoDAO.getId(), List.of())))
+              .properties(properties.get(tableInfoDAO.getId()));
+      writer.write(new MetastoreExportRecord().table(tableInfo), tableInfoDAO.getId());
+    }
+    // The tables of the page stay attached until the page is done, their columns do not
+    columnInfoDAOs.forEach(session::detach);
+  }
+
+  private long exportVolumes(Session session, ExportWriter writer) throws IOException {
+    return exportPages(
+        session,
+        selectWithNames("VolumeInfoDAO"),
+        "e.id",
+        PAGE_SIZE,
+        page -> {
+          for (Object[] row : page) {
+            VolumeInfoDAO volumeInfoDAO = (VolumeInfoDAO) row[0];
+            VolumeInfo volumeInfo =
+                volumeInfoDAO
+                    .toVolumeInfo()
+                    .catalogName((String) row[1])
+                    .schemaName((String) row[2])
+                    .fullName(row[1] + "." + row[2] + "." + volumeInfoDAO.getName());
+            writer.write(new MetastoreExportRecord().volume(volumeInfo), volumeInfoDAO.getId());
+          }
+        });
+  }
+
+  private long exportFunctions(Session session, ExportWriter writer) throws IOException {
+    return exportPages(
+        session,
+        selectWithNames("FunctionInfoDAO"),
+        "e.id",
+        PAGE_SIZE,
+        page -> {
+          List<UUID> ids = page.stream().map(row -> ((FunctionInfoDAO) row[0]).getId()).toList();
+          // Initialize the parameters of the whole page, one kind of parameter per query
+          for (String params : List.of("inputParams", "returnParams")) {
+            session
+                .createQuery(
+                    "SELECT DISTINCT f FROM FunctionInfoDAO f LEFT JOIN FETCH f."
+                        + params
+                        + " WHERE f.id IN (:ids)",
+                    FunctionInfoDAO.class)
+                .setParameterList("ids", ids)
+                .getResultList();
+          }
+          for (Object[] row : page) {
+            FunctionInfoDAO functionInfoDAO = (FunctionInfoDAO) row[0];
+            FunctionInfo functionInfo =
+                functionInfoDAO
+                    .toFunctionInfo()
+                    .catalogName((String) row[1])
+                    .schemaName((String) row[2])
+                    .fullName(row[1] + "." + row[2] + "." + functionInfoDAO.getName());
+            writer.write(
+                new MetastoreExportRecord().function(functionInfo), functionInfoDAO.getId());
+          }
+        });
+  }
+
+  private long exportRegisteredModels(Session session, ExportWriter writer) throws IOException {
+    return exportPages(
+        session,
+        selectWithNames("RegisteredModelInfoDAO"),
+        "e.id",
+        PAGE_SIZE,
+        page -> {
+          for (Object[] row : page) {
+            RegisteredModelInfoDAO registeredModelInfoDAO = (RegisteredModelInfoDAO) row[0];
+            RegisteredModelInfo registeredModelInfo =
+                registeredModelInfoDAO
+                    .toRegisteredModelInfo()
+                    .catalogName((String) row[1])
+                    .schemaName((String) row[2])
+                    .fullName(row[1] + "." + row[2] + "." + registeredModelInfoDAO.getName());
+            writer.write(
+                new MetastoreExportRecord().registeredModel(registeredModelInfo),
+                registeredModelInfoDAO.getId());
+          }
+        });
+  }
+
+  private long exportModelVersions(Session session, ExportWriter writer) throws IOException {
+    return exportPages(
+        session,
+        "SELECT v, c.name, s.name, m.name FROM ModelVersionInfoDAO v, RegisteredModelInfoDAO m,"
+            + " SchemaInfoDAO s, CatalogInfoDAO c WHERE v.registeredModelId = m.id"
+            + " AND m.schemaId = s.id AND s.catalogId = c.id",
+        "v.id",
+        PAGE_SIZE,
+        page -> {
+          for (Object[] row : page) {
+            ModelVersionInfo modelVersionInfo =
+                ((ModelVersionInfoDAO) row[0])
+                    .toModelVersionInfo()
+                    .catalogName((String) row[1])
+                    .schemaName((String) row[2])
+                    .modelName((String) row[3]);
+            // Model versions are not securables of their own
+            writer.write(new MetastoreExportRecord().modelVersion(modelVersionInfo), null);
+          }
+        });
+  }
+
+  /** Writes one page of rows, whose first element is the entity. */
+  @FunctionalInterface
+  private interface PageWriter {
+    void write(List<Object[]> page) throws IOException;
+  }
+
+  /**
+   * Reads the rows of a query page by page in the order of their ids, each page starting after the
+   * last id of the previous one, and returns the number of rows.
+   */
+  private static long exportPages(
+      Session session, String select, String idPath, int pageSize, PageWriter pageWriter)
+      throws IOException {
+    long exported = 0;
+    UUID after = null;
+    List<Object[]> page;
+    do {
+      String query = select;
+      if (after != null) {
+        query += (select.contains(" WHERE ") ? " AND " : " WHERE ") + idPath + " > :after";
+      }
+      Query<Object[]> pageQuery =
+          session.createQuery(query + " ORDER BY " + idPath, Object[].class);
+      if (after != null) {
+        pageQuery.setParameter("after", after);
+      }
+      page = pageQuery.setMaxResults(pageSize).getResultList();
+      if (!page.isEmpty()) {
+        pageWriter.write(page);
+        Object last = page.get(page.size() - 1)[0];
+        after =
+            last instanceof ModelVersionInfoDAO modelVersionInfoDAO
+                ? modelVersionInfoDAO.getId()
+                : ((IdentifiableDAO) last).getId();
+      }
+      exported += page.size();
+      // Nothing read is needed past its page
+      session.clear();
+    } while (page.size() == pageSize);
+    return exported;
+  }
+
+  /** Selects the entities of a schema with the names of their catalog and schema. */
+  private static String selectWithNames(String entityName) {
+    return "SELECT e, c.name, s.name FROM "
+        + entityName
+        + " e, SchemaInfoDAO s, CatalogInfoDAO c WHERE e.schemaId = s.id AND s.catalogId = c.id";
+  }
+
+  private static Map<UUID, Map<String, String>> findProperties(
+      Session session, List<UUID> entityIds, String entityType) {
+    Map<UUID, Map<String, String>> properties = new HashMap<>();
+    if (entityIds.isEmpty()) {
+      return properties;
+    }
+    session
+        .createQuery(
+            "FROM PropertyDAO WHERE entityType = :entityType AND entityId IN (:entityIds)",
+            PropertyDAO.class)
+        .setParameter("entityType", entityType)
+        .setParameterList("entityIds", entityIds)
+        .getResultList()
+        .forEach(
+            property ->
+                properties
+                    .computeIfAbsent(property.getEntityId(), id -> new HashMap<>())
+                    .put(property.getKey(), property.getValue()));
+    return properties;
+  }
+
+  /**
+   * Creates the objects of the given records, in the order of an export. The imported securables
+   * of each batch are passed to {@code onCommit} after the batch committed, e.g. to apply their
+   * grants. The privileges of the grants are checked before the batch commits.
+   *
+   * @return the number of objects created
+   */
+  public long importMetastore(JsonParser parser, Consumer<List<ImportedSecurable>> onCommit) {
+    long start = System.currentTimeMillis();
+    UUID metastoreId = repositories.getMetastoreRepository().getMetastoreId();
+    Cache<String, UUID> parentIds =
+        Caffeine.newBuilder().maximumSize(MAX_CACHED_PARENT_IDS).build();
+    List<MetastoreExportRecord> batch = new ArrayList<>();
+    long imported = 0;
+    try {
+      MappingIterator<MetastoreExportRecord> records =
+          JsonUtils.getInstance().readerFor(MetastoreExportRecord.class).readValues(parser);
+      int batchColumns = 0;
+      while (records.hasNextValue()) {
+        MetastoreExportRecord record = records.nextValue();
+        batch.add(record);
+        if (record.getTable() != null && record.getTable().getColumns() != null) {
+          batchColumns += record.getTable().getColumns().size();
+        }
+        if (batch.size() >= PAGE_SIZE || batchColumns >= MAX_BATCH_COLUMNS) {
+          imported += importBatch(batch, metastoreId, parentIds, onCommit);
+          batch.clear();
+          batchColumns = 0;
+        }
+      }
+      imported += importBatch(batch, metastoreId, parentIds, onCommit);
+    } catch (IOException e) {
+      throw new BaseException(
+          ErrorCode.INVALID_ARGUMENT,
+          "Invalid export record after " + imported + " imported objects: " + e.getMessage(),
+          e);
+    } catch (BaseException e) {
+      throw new BaseException(
+          e.getErrorCode(),
+          "Import failed after " + imported + " imported objects: " + e.getErrorMessage(),
+          e);
+    }
+    LOGGER.info("Imported {} objects in {} ms", imported, System.currentTimeMillis() - start);
+    return imported;
+  }
+
+  private long importBatch(
+      List<MetastoreExportRecord> records,
+      UUID metastoreId,
+      Cache<String, UUID> parentIds,
+      Consumer<List<ImportedSecurable>> onCommit) {
+    if (records.isEmpty()) {
+      return 0;
+    }
+    List<ImportedSecurable> securables;
+    try (Session session = sessionFactory.openSession()) {
+      Transaction tx = session.beginTransaction();
+      try {
+        ImportBatch batch = new ImportBatch(session, metastoreId, parentIds);
+        records.forEach(batch::add);
+        batch.save();
+        tx.commit();
+        securables = batch.securables;
+      } catch (RuntimeException e) {
+        if (tx.getStatus().canRollback()) {
+          tx.rollback();
+        }
+        throw e;
+      }
+    } catch (RuntimeException e) {
+      if (e instanceof BaseException) {
+        throw e;
+      }
+      throw new BaseException(ErrorCode.INTERNAL, "Error importing objects: " + e.getMessage(), e);
+    }
+    onCommit.accept(securables);
+    return records.stream().filter(record -> record.getMetastore() == null).count();
+  }
+
+  /**
+   * The objects of one import batch. Records are resolved and checked first, without writing
+   * anything, so that the checks neither see nor flush the pending inserts of the batch.
+   */
+  private class ImportBatch {
+    private record Change(SecurableType securableType, String fullName, UUID id) {}
+
+    private record Location(String url, SecurableType securableType, UUID id) {}
+
+    private final Session session;
+    private final UUID metastoreId;
+    private final Cache<String, UUID> parentIds;
+    // The names to check per entity, as "<parent id>/<name>" keys mapped to the full names
+    private final Map<Class<?>, Map<String, String>> names = new HashMap<>();
+    private final List<Object> entities = new ArrayList<>();
+    private final List<ColumnInfoDAO> columns = new ArrayList<>();
+    private final List<Location> locations = new ArrayList<>();
+    private final List<Change> changes = new ArrayList<>();
+    private final Map<UUID, Long> maxVersionNumbers = new LinkedHashMap<>();
+    private final Map<UUID, String> modelNames = new HashMap<>();
+    private final List<ImportedSecurable> securables = new ArrayList<>();
+
+    private ImportBatch(Session session, UUID metastoreId, Cache<String, UUID> parentIds) {
+      this.session = session;
+      this.metastoreId = metastoreId;
+      this.parentIds = parentIds;
+    }
+
+    private void add(MetastoreExportRecord record) {
+      checkPrivileges(record.getGrants());
+      if (record.getMetastore() != null) {
+        // The grants on the exported metastore apply to this one
+        securables.add(new ImportedSecurable(null, metastoreId, record.getGrants()));
+      } else if (record.getCatalog() != null) {
+        addCatalog(record.getCatalog(), record.getGrants());
+      } else if (record.getSchema() != null) {
+        addSchema(record.getSchema(), record.getGrants());
+      } else if (record.getTable() != null) {
+        addTable(record.getTable(), record.getGrants());
+      } else if (record.getVolume() != null) {
+        addVolume(record.getVolume(), record.getGrants());
+      } else if (record.getFunction() != null) {
+        addFunction(record.getFunction(), record.getGrants());
+      } else if (record.getRegisteredModel() != null) {
+        addRegisteredModel(record.getRegisteredModel(), record.getGrants());
+      } else if (record.getModelVersion() != null) {
+        addModelVersion(record.getModelVersion());
+      } else {
+        throw new BaseException(ErrorCode.INVALID_ARGUMENT, "Export record without an object.");
+      }
+    }
+
+    /**
+     * Fails the batch on an unknown privilege, as its grants are only applied once it committed.
+     */
+    private void checkPrivileges(List<MetastoreExportGrant> grants) {
+      if (grants == null) {
+        return;
+      }
+      for (MetastoreExportGrant grant : grants) {
+        for (String privilege : grant.getPrivileges()) {
+          try {
+            Privileges.fromValue(privilege);
+          } catch (IllegalArgumentException e) {
+            throw new BaseException(
+                ErrorCode.INVALID_ARGUMENT, "Unknown privilege: " + privilege, e);
+          }
+        }
+      }
+    }
+
+    private void addCatalog(CatalogInfo catalogInfo, List<MetastoreExportGrant> grants) {
+      String name = catalogInfo.getName();
+      CatalogInfoDAO catalogInfoDAO = CatalogInfoDAO.from(catalogInfo);
+      addName(CatalogInfoDAO.class, null, name, name);
+      parentIds.put(name, catalogInfoDAO.getId());
+      entities.addAll(
+          PropertyDAO.from(catalogInfo.getProperties(), catalogInfoDAO.getId(), Constants.CATALOG));
+      entities.add(catalogInfoDAO);
+      changes.add(new Change(SecurableType.CATALOG, name, catalogInfoDAO.getId()));
+      securables.add(new ImportedSecurable(null, catalogInfoDAO.getId(), grants));
+    }
+
+    private void addSchema(SchemaInfo schemaInfo, List<MetastoreExportGrant> grants) {
+      String fullName = schemaInfo.getCatalogName() + "." + schemaInfo.getName();
+      UUID catalogId = findCatalogId(schemaInfo.getCatalogName());
+      SchemaInfoDAO schemaInfoDAO = SchemaInfoDAO.from(schemaInfo);
+      schemaInfoDAO.setCatalogId(catalogId);
+      addName(SchemaInfoDAO.class, catalogId, schemaInfo.getName(), fullName);
+      parentIds.put(fullName, schemaInfoDAO.getId());
+      entities.addAll(
+          PropertyDAO.from(schemaInfo.getProperties(), schemaInfoDAO.getId(), Constants.SCHEMA));
+      entities.add(schemaInfoDAO);
+      changes.add(new Change(SecurableType.SCHEMA, fullName, schemaInfoDAO.getId()));
+      securables.add(new ImportedSecurable(catalogId, schemaInfoDAO.getId(), grants));
+    }
+
+    private void addTable(TableInfo tableInfo, List<MetastoreExportGrant> grants) {
+      String fullName =
+          tableInfo.getCatalogName() + "." + tableInfo.getSchemaName() + "." + tableInfo.getName();
+      UUID schemaId = findSchemaId(tableInfo.getCatalogName(), tableInfo.getSchemaName());
+      TableInfoDAO tableInfoDAO = TableInfoDAO.from(tableInfo);
+      tableInfoDAO.setSchemaId(schemaId);
+      tableInfoDAO
+          .getColumns()
+          .forEach(
+              c -> {
+                c.setId(UUID.randomUUID());
+                c.setTable(tableInfoDAO);
+              });
+      columns.addAll(tableInfoDAO.getColumns());
+      addName(TableInfoDAO.class, schemaId, tableInfo.getName(), fullName);
+      if (tableInfoDAO.getUrl() != null) {
+        locations.add(
+            new Location(tableInfoDAO.getUrl(), SecurableType.TABLE, tableInfoDAO.getId()));
+      }
+      entities.addAll(
+          PropertyDAO.from(tableInfo.getProperties(), tableInfoDAO.getId(), Constants.TABLE));
+      entities.add(tableInfoDAO);
+      changes.add(new Change(SecurableType.TABLE, fullName, tableInfoDAO.getId()));
+      securables.add(new ImportedSecurable(schemaId, tableInfoDAO.getId(), grants));
+    }
+
+    private void addVolume(VolumeInfo volumeInfo, List<MetastoreExportGrant> grants) {
+      String fullName =
+          volumeInfo.getCatalogName()
+              + "."
+              + volumeInfo.getSchemaName()
+              + "."
+              + volumeInfo.getName();
+      UUID schemaId = findSchemaId(volumeInfo.getCatalogName(), volumeInfo.getSchemaName());
+      VolumeInfoDAO volumeInfoDAO = VolumeInfoDAO.from(volumeInfo);
+      volumeInfoDAO.setSchemaId(schemaId);
+      addName(VolumeInfoDAO.class, schemaId, volumeInfo.getName(), fullName);
+      locations.add(
+          new Location(
+              volumeInfoDAO.getStorageLocation(), SecurableType.VOLUME, volumeInfoDAO.getId()));
+      entities.add(volumeInfoDAO);
+      changes.add(new Change(SecurableType.VOLUME, fullName, volumeInfoDAO.getId()));
+      securables.add(new ImportedSecurable(schemaId, volumeInfoDAO.getId(), grants));
+    }
+
+    private void addFunction(FunctionInfo functionInfo, List<MetastoreExportGrant> grants) {
+      String fullName =
+          functionInfo.getCatalogName()
+              + "."
+              + functionInfo.getSchemaName()
+              + "."
+              + functionInfo.getName();
+      UUID schemaId = findSchemaId(functionInfo.getCatalogName(), functionInfo.getSchemaName());
+      FunctionInfoDAO functionInfoDAO = FunctionInfoDAO.from(functionInfo);
+      functionInfoDAO.setSchemaId(schemaId);
+      for (List<FunctionParameterInfoDAO> params :
+          List.of(functionInfoDAO.getInputParams(), functionInfoDAO.getReturnParams())) {
+        params.forEach(p -> p.setId(UUID.randomUUID()));
+      }
+      addName(FunctionInfoDAO.class, schemaId, functionInfo.getName(), fullName);
+      entities.add(functionInfoDAO);
+      changes.add(new Change(SecurableType.FUNCTION, fullName, functionInfoDAO.getId()));
+      securables.add(new ImportedSecurable(schemaId, functionInfoDAO.getId(), grants));
+    }
+
+    private void addRegisteredModel(
+        RegisteredModelInfo registeredModelInfo, List<MetastoreExportGrant> grants) {
+      String fullName =
+          registeredModelInfo.getCatalogName()
+              + "."
+              + registeredModelInfo.getSchemaName()
+              + "."
+              + registeredModelInfo.getName();
+      UUID schemaId =
+          findSchemaId(registeredModelInfo.getCatalogName(), registeredModelInfo.getSchemaName());
+      RegisteredModelInfoDAO registeredModelInfoDAO =
+          RegisteredModelInfoDAO.from(registeredModelInfo);
+      registeredModelInfoDAO.setSchemaId(schemaId);
+      // Raised by the versions of the model as they are imported
+      registeredModelInfoDAO.setMaxVersionNumber(0L);
+      addName(RegisteredModelInfoDAO.class, schemaId, registeredModelInfo.getName(), fullName);
+      parentIds.put(fullName, registeredModelInfoDAO.getId());
+      entities.add(registeredModelInfoDAO);
+      changes.add(
+          new Change(SecurableType.REGISTERED_MODEL, fullName, registeredModelInfoDAO.getId()));
+      securables.add(new ImportedSecurable(schemaId, registeredModelInfoDAO.getId(), grants));
+    }
+
+    private void addModelVersion(ModelVersionInfo modelVersionInfo) {
+      String modelFullName =
+          modelVersionInfo.getCatalogName()
+              + "."
+              + modelVersionInfo.getSchemaName()
+              + "."
+              + modelVersionInfo.getModelName();
+      UUID modelId = findRegisteredModelId(modelFullName);
+      ModelVersionInfoDAO modelVersionInfoDAO = ModelVersionInfoDAO.from(modelVersionInfo);
+      modelVersionInfoDAO.setRegisteredModelId(modelId);
+      addName(
+          ModelVersionInfoDAO.class,
+          modelId,
+          String.valueOf(modelVersionInfo.getVersion()),
+          modelFullName + " version " + modelVersionInfo.getVersion());
+      maxVersionNumbers.merge(modelId, modelVersionInfo.getVersion(), Math::max);
+      modelNames.put(modelId, modelFullName);
+      entities.add(modelVersionInfoDAO);
+    }
+
+    /** Adds a name to check, failing if the batch already has an object of that name. */
+    private void addName(Class<?> entityClass, UUID parentId, String name, String fullName) {
+      if (entityClass != ModelVersionInfoDAO.class) {
+        ValidationUtils.validateSqlObjectName(name);
+      }
+      Map<String, String> fullNames = names.computeIfAbsent(entityClass, c -> new HashMap<>());
+      if (fullNames.put(parentId + "/" + name, fullName) != null) {
+        throw new BaseException(ErrorCode.ALREADY_EXISTS, "Duplicate object: " + fullName);
+      }
+    }
+
+    private UUID findCatalogId(String catalogName) {
+      return findParentId(
+          catalogName,
+          "SELECT id FROM CatalogInfoDAO WHERE name = :name",
+          Map.of("name", catalogName),
+          "Catalog");
+    }
+
+    private UUID findSchemaId(String catalogName, String schemaName) {
+      return findParentId(
+          catalogName + "." + schemaName,
+          "SELECT s.id FROM SchemaInfoDAO s, CatalogInfoDAO c WHERE s.catalogId = c.id"
+              + " AND c.name = :catalogName AND s.name = :name",
+          Map.of("catalogName", catalogName, "name", schemaName),
+          "Schema");
+    }
+
+    private UUID findRegisteredModelId(String fullName) {
+      String[] parts = fullName.split("\\.", 3);
+      return findParentId(
+          fullName,
+          "SELECT m.id FROM RegisteredModelInfoDAO m, SchemaInfoDAO s, CatalogInfoDAO c"
+              + " WHERE m.schemaId = s.id AND s.catalogId = c.id AND c.name = :catalogName"
+              + " AND s.name = :schemaName AND m.name = :name",
+          Map.of("catalogName", parts[0], "schemaName", parts[1], "name", parts[2]),
+          "Registered model");
+    }
+
+    private UUID findParentId(
+        String fullName, String query, Map<String, String> parameters, String kind) {
+      return parentIds.get(
+          fullName,
+          key -> {
+            Query<UUID> parentQuery = session.createQuery(query, UUID.class);
+            parameters.forEach(parentQuery::setParameter);
+            UUID id = parentQuery.setMaxResults(1).uniqueResult();
+            if (id == null) {
+              throw new BaseException(ErrorCode.NOT_FOUND, kind + " not found: " + fullName);
+            }
+            return id;
+          });
+    }
+
+    /** Fails if an object of the batch exists already, then saves the objects of the batch. */
+    private void save() {
+      names.forEach(this::checkNames);
+      repositories.getColumnTypeDictionary().intern(session, columns);
+      for (Location location : locations) {
+        repositories
+            .getStorageLocationIndex()
+            .register(session, location.url(), location.securableType(), location.id());
+      }
+      entities.forEach(session::persist);
+      // Change events have database generated sequence numbers and are inserted one by one,
+      // which would otherwise interrupt the batches of the other inserts
+      session.flush();
+      ChangeRepository changeRepository = repositories.getChangeRepository();
+      for (Change change : changes) {
+        changeRepository.recordChange(
+            session,
+            change.securableType(),
+            change.fullName(),
+            null,
+            change.id(),
+            ChangeOperation.CREATE);
+      }
+      maxVersionNumbers.forEach(
+          (modelId, version) -> {
+            session
+                .createMutationQuery(
+                    "UPDATE RegisteredModelInfoDAO SET maxVersionNumber = :version"
+                        + " WHERE id = :id AND maxVersionNumber < :version")
+                .setParameter("version", version)
+                .setParameter("id", modelId)
+                .executeUpdate();
+            changeRepository.recordChange(
+                session,
+                SecurableType.REGISTERED_MODEL,
+                modelNames.get(modelId),
+                null,
+                modelId,
+                ChangeOperation.UPDATE);
+          });
+    }
+
+    private void checkNames(Class<?> entityClass, Map<String, String> fullNames) {
+      Set<UUID> parents = new HashSet<>();
+      Set<Object> values = new HashSet<>();
+      for (String key : fullNames.keySet()) {
+        int separator = key.indexOf('/');
+        String parent = key.substring(0, separator);
+        String value = key.substring(separator + 1);
+        if (!parent.equals("null")) {
+          parents.add(UUID.fromString(parent));
+        }
+        values.add(entityClass == ModelVersionInfoDAO.class ? Long.valueOf(value) : value);
+      }
+      Query<Object[]> query;
+      if (entityClass == ModelVersionInfoDAO.class) {
+        query =
+            session
+                .createQuery(
+                    "SELECT registeredModelId, version FROM ModelVersionInfoDAO"
+                        + " WHERE registeredModelId IN (:parents) AND version IN (:values)",
+                    Object[].class)
+                .setParameterList("parents", parents);
+      } else {
+        Optional<String> parentColumn =
+            IdentifiableDAO.getParentIdColumnName(entityClass.asSubclass(IdentifiableDAO.class));
+        if (parentColumn.isEmpty()) {
+          query =
+              session.createQuery(
+                  "SELECT id, name FROM "
+                      + entityClass.getSimpleName()
+                      + " WHERE name IN (:values)",
+                  Object[].class);
+        } else {
+          query =
+              session
+                  .createQuery(
+                      String.format(
+                          "SELECT %1$s, name FROM %2$s WHERE %1$s IN (:parents)"
+                              + " AND name IN (:values)",
+                          parentColumn.get(),
+                          entityClass.getSimpleName()),
+                      Object[].class)
+                  .setParameterList("parents", parents);
+        }
+      }
+      for (Object[] existing : query.setParameterList("values", values).getResultList()) {
+        String fullName =
+            parents.isEmpty()
+                ? fullNames.get("null/" + existing[1])
+                : fullNames.get(existing[0] + "/" + existing[1]);
+        if (fullName != null) {
+          throw new BaseException(ErrorCode.ALREADY_EXISTS, "Object already exists: " + fullName);
+        }
+      }
+    }
+  }
+}
@@ -9,8 +9,10 @@ import io.unitycatalog.server.persist.dao.RegisteredModelInfoDAO;
 import io.unitycatalog.server.persist.dao.SchemaInfoDAO;
 import io.unitycatalog.server.persist.utils.FileOperations;
 import io.unitycatalog.server.persist.utils.PagedListingHelper;
+import io.unitycatalog.server.persist.utils.ReadReplicaRouter;
 import io.unitycatalog.server.persist.utils.RepositoryUtils;
 import io.unitycatalog.server.persist.utils.UriUtils;
+import io.unitycatalog.server.utils.EntityTags;
 import io.unitycatalog.server.utils.IdentityUtils;
 import io.unitycatalog.server.utils.ValidationUtils;
 import java.util.*;
@@ -24,6 +26,7 @@ import org.slf4j.LoggerFactory;
 public class ModelRepository {
   private static final Logger LOGGER = LoggerFactory.getLogger(ModelRepository.class);
   private final SessionFactory sessionFactory;
+  private final ReadReplicaRouter readReplicaRouter;
   private final Repositories repositories;
   private final FileOperations fileOperations;
   private static final PagedListingHelper<RegisteredModelInfoDAO> REGISTERED_MODEL_LISTING_HELPER =
@@ -32,6 +35,7 @@ public class ModelRepository {
   public ModelRepository(Repositories repositories, SessionFactory sessionFactory) {
     this.repositories = repositories;
     this.sessionFactory = sessionFactory;
+    this.readReplicaRouter = repositories.getReadReplicaRouter();
     this.fileOperations = repositories.getFileOperations();
   }
 
@@ -138,8 +142,7 @@ public class ModelRepository {
   public RegisteredModelInfo getRegisteredModel(String fullName) {
     LOGGER.info("Getting registered model: {}", fullName);
     RegisteredModelInfo registeredModelInfo = null;
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         String[] parts = RepositoryUtils.parseFullName(fullName);
@@ -166,6 +169,27 @@ public class ModelRepository {
     }
   }
 
+  /** Returns the entity tag of a registered model, or null if the model does not exist. */
+  public String getRegisteredModelEntityTag(String fullName) {
+    String[] parts = fullName.split("\\.");
+    if (parts.length != 3) {
+      return null;
+    }
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
+      RegisteredModelInfoDAO registeredModelInfoDAO =
+          findRegisteredModel(session, parts[0], parts[1], parts[2]);
+      return registeredModelInfoDAO == null
+          ? null
+          : EntityTags.of(
+              fullName,
+              registeredModelInfoDAO.getId(),
+              registeredModelInfoDAO.getCreatedAt(),
+              registeredModelInfoDAO.getUpdatedAt());
+    } catch (BaseException e) {
+      return null;
+    }
+  }
+
   private RegisteredModelInfoDAO findRegisteredModel(
       Session session, String catalogName, String schemaName, String registeredModelName) {
     UUID schemaId = getSchemaId(session, catalogName, schemaName);
@@ -217,6 +241,15 @@ public class ModelRepository {
         registeredModelInfoDAO.setSchemaId(schemaId);
         registeredModelInfoDAO.setMaxVersionNumber(0L);
         session.persist(registeredModelInfoDAO);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.REGISTERED_MODEL,
+                fullName,
+                null,
+                registeredModelInfoDAO.getId(),
+                ChangeOperation.CREATE);
         UriUtils.createStorageLocationPath(storageLocation);
         tx.commit();
       } catch (RuntimeException e) {
@@ -261,8 +294,7 @@ public class ModelRepository {
           ErrorCode.INVALID_ARGUMENT,
           "Cannot specify schema w/o catalog for list registered models.");
     }
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         ListRegisteredModelsResponse response = new ListRegisteredModelsResponse();
@@ -380,14 +412,25 @@ public class ModelRepository {
         if (updateRegisteredModel.getComment() != null) {
           origRegisteredModelInfoDAO.setComment(updateRegisteredModel.getComment());
         }
-        long updatedTime = System.currentTimeMillis();
-        origRegisteredModelInfoDAO.setUpdatedAt(new Date(updatedTime));
+        origRegisteredModelInfoDAO.setUpdatedAt(
+            RepositoryUtils.nextUpdateTime(origRegisteredModelInfoDAO.getUpdatedAt()));
         origRegisteredModelInfoDAO.setUpdatedBy(callerId);
         session.persist(origRegisteredModelInfoDAO);
         registeredModelInfo = origRegisteredModelInfoDAO.toRegisteredModelInfo();
         registeredModelInfo.setCatalogName(catalogName);
         registeredModelInfo.setSchemaName(schemaName);
         registeredModelInfo.setFullName(getRegisteredModelFullName(registeredModelInfo));
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.REGISTERED_MODEL,
+                fullName,
+                updateRegisteredModel.getNewName() != null
+                    ? registeredModelInfo.getFullName()
+                    : null,
+                origRegisteredModelInfoDAO.getId(),
+                ChangeOperation.UPDATE);
         tx.commit();
       } catch (RuntimeException e) {
         if (tx != null && tx.getStatus().canRollback()) {
@@ -419,7 +462,17 @@ public class ModelRepository {
       String registeredModelName = parts[2];
       try {
         UUID schemaId = getSchemaId(session, catalogName, schemaName);
-        deleteRegisteredModel(session, schemaId, registeredModelName, force);
+        UUID registeredModelId =
+            deleteRegisteredModel(session, schemaId, registeredModelName, force);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.REGISTERED_MODEL,
+                fullName,
+                null,
+                registeredModelId,
+                ChangeOperation.DELETE);
         tx.commit();
       } catch (RuntimeException e) {
         if (tx != null && tx.getStatus().canRollback()) {
@@ -430,7 +483,8 @@ public class ModelRepository {
     }
   }
 
-  public void deleteRegisteredModel(
+  /** Deletes a registered model as part of the session's transaction and returns its id. */
+  public UUID deleteRegisteredModel(
       Session session, UUID schemaId, String registeredModelName, boolean force) {
     RegisteredModelInfoDAO registeredModelInfoDAO =
         getRegisteredModelDaoOrThrow(session, schemaId, registeredModelName);
@@ -456,14 +510,14 @@ public class ModelRepository {
       }
     }
     session.remove(registeredModelInfoDAO);
+    return registeredModelInfoDAO.getId();
   }
 
   /** **************** Model version handlers ***************** */
   public ModelVersionInfo getModelVersion(String fullName, long version) {
     LOGGER.info("Getting model version: {}/{}", fullName, version);
     ModelVersionInfo modelVersionInfo = null;
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         String[] parts = RepositoryUtils.parseFullName(fullName);
@@ -520,52 +574,49 @@ public class ModelRepository {
     String registeredModelFullName = getRegisteredModelFullName(catalogName, schemaName, modelName);
     LOGGER.info("Creating Registered Model: {}", registeredModelFullName);
 
-    Transaction tx;
-    try (Session session = sessionFactory.openSession()) {
-      tx = session.beginTransaction();
-      UUID catalogId = getCatalogId(session, catalogName);
-      UUID schemaId = getSchemaId(session, catalogName, schemaName);
-      String storageLocation = "";
-      try {
-        // Check if registered model already exists
-        RegisteredModelInfoDAO existingRegisteredModel =
-            getRegisteredModelDaoOrThrow(session, schemaId, modelName);
-        if (existingRegisteredModel.getMaxVersionNumber() == null
-            || existingRegisteredModel.getMaxVersionNumber() < 0) {
-          throw new BaseException(
-              ErrorCode.OUT_OF_RANGE,
-              "Registered model has invalid max model version: "
-                  + existingRegisteredModel.getMaxVersionNumber());
-        }
-        UUID modelId = existingRegisteredModel.getId();
-        Long version = existingRegisteredModel.getMaxVersionNumber() + 1;
+    try {
+      // Resolve the model and create its storage location before the write transaction, so slow
+      // storage calls never hold the lock on the registered model row.
+      UUID modelId;
+      String storageLocation;
+      try (Session session = sessionFactory.openSession()) {
+        session.setDefaultReadOnly(true);
+        UUID catalogId = getCatalogId(session, catalogName);
+        UUID schemaId = getSchemaId(session, catalogName, schemaName);
+        modelId = getRegisteredModelDaoOrThrow(session, schemaId, modelName).getId();
         storageLocation =
             fileOperations.getModelVersionStorageLocation(
                 catalogId.toString(), schemaId.toString(), modelId.toString(), modelVersionId);
-        modelVersionInfo.setVersion(version);
-        modelVersionInfo.setStorageLocation(storageLocation);
-        ModelVersionInfoDAO modelVersionInfoDAO = ModelVersionInfoDAO.from(modelVersionInfo);
-        modelVersionInfoDAO.setRegisteredModelId(modelId);
-        session.persist(modelVersionInfoDAO);
-        UriUtils.createStorageLocationPath(storageLocation);
-        // update the registered model
-        existingRegisteredModel.setMaxVersionNumber(version);
-        session.persist(existingRegisteredModel);
-        tx.commit();
-      } catch (RuntimeException e) {
-        if (tx != null && tx.getStatus().canRollback()) {
-          try {
-            // For now, never delete.  We will implement a soft delete later.
-            // UriUtils.deleteStorageLocationPath(storageLocation);
-          } catch (Exception deleteErr) {
-            LOGGER.error(
-                "Unable to delete storage location {} during rollback: {}",
-                storageLocation,
-                deleteErr.getMessage());
+      }
+      // For now, the storage location is never deleted if the version fails to be created.
+      // We will implement a soft delete later.
+      UriUtils.createStorageLocationPath(storageLocation);
+      modelVersionInfo.setStorageLocation(storageLocation);
+
+      try (Session session = sessionFactory.openSession()) {
+        Transaction tx = session.beginTransaction();
+        try {
+          Long version = allocateModelVersion(session, modelId, modelName);
+          modelVersionInfo.setVersion(version);
+          ModelVersionInfoDAO modelVersionInfoDAO = ModelVersionInfoDAO.from(modelVersionInfo);
+          modelVersionInfoDAO.setRegisteredModelId(modelId);
+          session.persist(modelVersionInfoDAO);
+          repositories
+              .getChangeRepository()
+              .recordChange(
+                  session,
+                  SecurableType.REGISTERED_MODEL,
+                  registeredModelFullName,
+                  null,
+                  modelId,
+                  ChangeOperation.UPDATE);
+          tx.commit();
+        } catch (RuntimeException e) {
+          if (tx != null && tx.getStatus().canRollback()) {
+            tx.rollback();
           }
-          tx.rollback();
+          throw e;
         }
-        throw e;
       }
     } catch (RuntimeException e) {
       if (e instanceof BaseException) {
@@ -579,6 +630,34 @@ public class ModelRepository {
     return modelVersionInfo;
   }
 
+  /**
+   * Allocates the next version number of a registered model with a single conditional UPDATE. The
+   * row lock taken by the update serializes concurrent creators only until the surrounding
+   * transaction commits, and a rolled back transaction releases its number, so versions are
+   * allocated without duplicates or gaps.
+   */
+  private Long allocateModelVersion(Session session, UUID modelId, String modelName) {
+    int updated =
+        session
+            .createMutationQuery(
+                "UPDATE RegisteredModelInfoDAO SET maxVersionNumber = maxVersionNumber + 1 "
+                    + "WHERE id = :id AND maxVersionNumber >= 0")
+            .setParameter("id", modelId)
+            .executeUpdate();
+    RegisteredModelInfoDAO registeredModelInfoDAO =
+        session.get(RegisteredModelInfoDAO.class, modelId);
+    if (registeredModelInfoDAO == null) {
+      throw new BaseException(ErrorCode.NOT_FOUND, "Registered model not found: " + modelName);
+    }
+    if (updated == 0) {
+      throw new BaseException(
+          ErrorCode.OUT_OF_RANGE,
+          "Registered model has invalid max model version: "
+              + registeredModelInfoDAO.getMaxVersionNumber());
+    }
+    return registeredModelInfoDAO.getMaxVersionNumber();
+  }
+
   public ListModelVersionsResponse listModelVersions(
       String registeredModelFullName, Optional<Integer> maxResults, Optional<String> pageToken) {
     LOGGER.info("Listing model versions in {}", registeredModelFullName);
@@ -594,8 +673,7 @@ public class ModelRepository {
             ErrorCode.INVALID_ARGUMENT, "Invalid page token received: " + pageToken.get());
       }
     }
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         // Check if registered model already exists
@@ -683,6 +761,15 @@ public class ModelRepository {
         modelVersionInfo.setCatalogName(catalogName);
         modelVersionInfo.setSchemaName(schemaName);
         modelVersionInfo.setModelName(registeredModelName);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.REGISTERED_MODEL,
+                fullName,
+                null,
+                origModelVersionInfoDAO.getRegisteredModelId(),
+                ChangeOperation.UPDATE);
         tx.commit();
       } catch (RuntimeException e) {
         if (tx != null && tx.getStatus().canRollback()) {
@@ -717,6 +804,15 @@ public class ModelRepository {
         RegisteredModelInfoDAO existingRegisteredModel =
             getRegisteredModelDaoOrThrow(session, schemaId, registeredModelName);
         deleteModelVersion(session, existingRegisteredModel.getId(), fullName, version);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.REGISTERED_MODEL,
+                fullName,
+                null,
+                existingRegisteredModel.getId(),
+                ChangeOperation.UPDATE);
         tx.commit();
       } catch (RuntimeException e) {
         if (tx != null && tx.getStatus().canRollback()) {
@@ -780,6 +876,15 @@ public class ModelRepository {
         modelVersionInfo.setCatalogName(catalogName);
         modelVersionInfo.setSchemaName(schemaName);
         modelVersionInfo.setModelName(registeredModelName);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.REGISTERED_MODEL,
+                fullName,
+                null,
+                origModelVersionInfoDAO.getRegisteredModelId(),
+                ChangeOperation.UPDATE);
         tx.commit();
       } catch (RuntimeException e) {
         if (tx != null && tx.getStatus().canRollback()) {
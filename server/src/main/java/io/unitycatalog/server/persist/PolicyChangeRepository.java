@@ -0,0 +1,83 @@
+package io.unitycatalog.server.persist;
+
+import io.unitycatalog.server.persist.dao.PolicyChangeDAO;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.query.Query;
+
+/**
+ * Append-only log of authorization policy changes, used by servers sharing a database to apply each
+ * other's changes to their in-memory policy.
+ *
+ * <p>Like {@link ChangeRepository}, listing stops before a recent gap in the sequence, so that a
+ * change committed out of order is not skipped.
+ */
+public class PolicyChangeRepository {
+  static final int MAX_RESULTS = 1000;
+
+  private final SessionFactory sessionFactory;
+
+  public PolicyChangeRepository(SessionFactory sessionFactory) {
+    this.sessionFactory = sessionFactory;
+  }
+
+  public void recordChanges(List<PolicyChangeDAO> changes) {
+    Date now = new Date();
+    try (Session session = sessionFactory.openSession()) {
+      Transaction tx = session.beginTransaction();
+      try {
+        for (PolicyChangeDAO change : changes) {
+          change.setCreatedAt(now);
+          session.persist(change);
+        }
+        tx.commit();
+      } catch (Exception e) {
+        tx.rollback();
+        throw e;
+      }
+    }
+  }
+
+  /** Lists the changes with a sequence number greater than {@code since}, in sequence order. */
+  public List<PolicyChangeDAO> listChanges(long since) {
+    List<PolicyChangeDAO> policyChangeDAOs;
+    try (Session session = sessionFactory.openSession()) {
+      session.setDefaultReadOnly(true);
+      Query<PolicyChangeDAO> query =
+          session.createQuery(
+              "FROM PolicyChangeDAO WHERE sequenceNumber > :since ORDER BY sequenceNumber",
+              PolicyChangeDAO.class);
+      query.setParameter("since", since);
+      query.setMaxResults(MAX_RESULTS);
+      policyChangeDAOs = query.list();
+    }
+    long gapDeadline = System.currentTimeMillis() - ChangeRepository.GAP_GRACE_PERIOD_MS;
+    long last = since;
+    List<PolicyChangeDAO> changes = new ArrayList<>();
+    for (PolicyChangeDAO policyChangeDAO : policyChangeDAOs) {
+      if (policyChangeDAO.getSequenceNumber() != last + 1
+          && policyChangeDAO.getCreatedAt().getTime() > gapDeadline) {
+        break;
+      }
+      changes.add(policyChangeDAO);
+      last = policyChangeDAO.getSequenceNumber();
+    }
+    return changes;
+  }
+
+  /** Returns the sequence number of the latest change, or 0 if there are none. */
+  public long getLatestSequenceNumber() {
+    try (Session session = sessionFactory.openSession()) {
+      session.setDefaultReadOnly(true);
+      Long latest =
+          session
+              .createQuery("SELECT MAX(sequenceNumber) FROM PolicyChangeDAO", Long.class)
+              .uniqueResult();
+      return latest != null ? latest : 0;
+    }
+  }
+}
@@ -1,6 +1,9 @@
 package io.unitycatalog.server.persist;
 
+import io.unitycatalog.server.persist.utils.ColumnTypeDictionary;
 import io.unitycatalog.server.persist.utils.FileOperations;
+import io.unitycatalog.server.persist.utils.ReadReplicaRouter;
+import io.unitycatalog.server.persist.utils.StorageLocationIndex;
 import io.unitycatalog.server.utils.ServerProperties;
 import lombok.Getter;
 import org.hibernate.SessionFactory;
@@ -12,7 +15,10 @@ import org.hibernate.SessionFactory;
 @Getter
 public class Repositories {
   private final SessionFactory sessionFactory;
+  private final ReadReplicaRouter readReplicaRouter;
   private final FileOperations fileOperations;
+  private final StorageLocationIndex storageLocationIndex;
+  private final ColumnTypeDictionary columnTypeDictionary;
 
   private final CatalogRepository catalogRepository;
   private final SchemaRepository schemaRepository;
@@ -22,10 +28,23 @@ public class Repositories {
   private final MetastoreRepository metastoreRepository;
   private final FunctionRepository functionRepository;
   private final ModelRepository modelRepository;
+  private final ChangeRepository changeRepository;
+  private final PolicyChangeRepository policyChangeRepository;
+  private final MetastoreTransferRepository metastoreTransferRepository;
 
   public Repositories(SessionFactory sessionFactory, ServerProperties serverProperties) {
+    this(sessionFactory, new ReadReplicaRouter(sessionFactory), serverProperties);
+  }
+
+  public Repositories(
+      SessionFactory sessionFactory,
+      ReadReplicaRouter readReplicaRouter,
+      ServerProperties serverProperties) {
     this.sessionFactory = sessionFactory;
+    this.readReplicaRouter = readReplicaRouter;
     this.fileOperations = new FileOperations(serverProperties);
+    this.storageLocationIndex = new StorageLocationIndex(sessionFactory);
+    this.columnTypeDictionary = new ColumnTypeDictionary(sessionFactory);
 
     this.catalogRepository = new CatalogRepository(this, sessionFactory);
     this.schemaRepository = new SchemaRepository(this, sessionFactory);
@@ -35,5 +54,8 @@ public class Repositories {
     this.metastoreRepository = new MetastoreRepository(this, sessionFactory);
     this.functionRepository = new FunctionRepository(this, sessionFactory);
     this.modelRepository = new ModelRepository(this, sessionFactory);
+    this.changeRepository = new ChangeRepository(sessionFactory);
+    this.policyChangeRepository = new PolicyChangeRepository(sessionFactory);
+    this.metastoreTransferRepository = new MetastoreTransferRepository(this, sessionFactory);
   }
 }
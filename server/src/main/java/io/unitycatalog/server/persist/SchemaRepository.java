@@ -7,11 +7,14 @@ import io.unitycatalog.server.persist.dao.CatalogInfoDAO;
 import io.unitycatalog.server.persist.dao.PropertyDAO;
 import io.unitycatalog.server.persist.dao.SchemaInfoDAO;
 import io.unitycatalog.server.persist.utils.PagedListingHelper;
+import io.unitycatalog.server.persist.utils.ReadReplicaRouter;
 import io.unitycatalog.server.persist.utils.RepositoryUtils;
 import io.unitycatalog.server.utils.Constants;
+import io.unitycatalog.server.utils.EntityTags;
 import io.unitycatalog.server.utils.IdentityUtils;
 import io.unitycatalog.server.utils.ValidationUtils;
 import java.util.*;
+import java.util.function.BiConsumer;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
@@ -20,12 +23,14 @@ import org.hibernate.query.Query;
 public class SchemaRepository {
   private final Repositories repositories;
   private final SessionFactory sessionFactory;
+  private final ReadReplicaRouter readReplicaRouter;
   private static final PagedListingHelper<SchemaInfoDAO> LISTING_HELPER =
       new PagedListingHelper<>(SchemaInfoDAO.class);
 
   public SchemaRepository(Repositories repositories, SessionFactory sessionFactory) {
     this.repositories = repositories;
     this.sessionFactory = sessionFactory;
+    this.readReplicaRouter = repositories.getReadReplicaRouter();
   }
 
   public SchemaInfo createSchema(CreateSchema createSchema) {
@@ -60,6 +65,15 @@ public class SchemaRepository {
         PropertyDAO.from(schemaInfo.getProperties(), schemaInfoDAO.getId(), Constants.SCHEMA)
             .forEach(session::persist);
         session.persist(schemaInfoDAO);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.SCHEMA,
+                createSchema.getCatalogName() + "." + createSchema.getName(),
+                null,
+                schemaInfoDAO.getId(),
+                ChangeOperation.CREATE);
         tx.commit();
         addNamespaceData(schemaInfo, createSchema.getCatalogName());
         return schemaInfo;
@@ -91,6 +105,7 @@ public class SchemaRepository {
     query.setParameter("name", schemaName);
     query.setParameter("catalogId", catalogId);
     query.setMaxResults(1);
+    query.setCacheable(true);
     return query.uniqueResult();
   }
 
@@ -127,8 +142,7 @@ public class SchemaRepository {
    */
   public ListSchemasResponse listSchemas(
       String catalogName, Optional<Integer> maxResults, Optional<String> pageToken) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       // TODO: Implement pagination and filtering if required
       // For now, returning all schemas without pagination
@@ -165,9 +179,58 @@ public class SchemaRepository {
     return new ListSchemasResponse().schemas(result).nextPageToken(nextPageToken);
   }
 
+  /**
+   * Iterate over the ids and names of the schemas in a catalog, in ascending order of schema name.
+   * Only these two columns are read, one page at a time in a short transaction of its own. Each
+   * page is handed to the consumer after its session closed, so a slow consumer, e.g. a streamed
+   * response, does not hold a database connection.
+   *
+   * @param catalogId
+   * @param consumer
+   */
+  public void forEachSchema(UUID catalogId, BiConsumer<UUID, String> consumer) {
+    String after = null;
+    List<Object[]> rows;
+    do {
+      rows = listSchemaIdsAndNames(catalogId, after);
+      rows.forEach(row -> consumer.accept((UUID) row[0], (String) row[1]));
+      if (!rows.isEmpty()) {
+        after = (String) rows.get(rows.size() - 1)[1];
+      }
+    } while (rows.size() == PagedListingHelper.DEFAULT_PAGE_SIZE);
+  }
+
+  /** Lists a page of the ids and names of the schemas in a catalog, after the given name. */
+  private List<Object[]> listSchemaIdsAndNames(UUID catalogId, String after) {
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
+      Transaction tx = session.beginTransaction();
+      try {
+        Query<Object[]> query =
+            session
+                .createQuery(
+                    "SELECT id, name FROM SchemaInfoDAO WHERE catalogId = :catalogId"
+                        + (after != null ? " AND name > :after" : "")
+                        + " ORDER BY name",
+                    Object[].class)
+                .setParameter("catalogId", catalogId)
+                .setMaxResults(PagedListingHelper.DEFAULT_PAGE_SIZE);
+        if (after != null) {
+          query.setParameter("after", after);
+        }
+        List<Object[]> rows = query.list();
+        tx.commit();
+        return rows;
+      } catch (Exception e) {
+        if (tx != null && tx.getStatus().canRollback()) {
+          tx.rollback();
+        }
+        throw e;
+      }
+    }
+  }
+
   public SchemaInfo getSchema(String fullName) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       SchemaInfoDAO schemaInfoDAO;
       try {
@@ -186,6 +249,29 @@ public class SchemaRepository {
     }
   }
 
+  /**
+   * Returns the entity tag of a schema without loading its properties, or null if the schema does
+   * not exist.
+   */
+  public String getSchemaEntityTag(String fullName) {
+    String[] namespace = fullName.split("\\.");
+    if (namespace.length != 2) {
+      return null;
+    }
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
+      SchemaInfoDAO schemaInfoDAO = getSchemaDAO(session, namespace[0], namespace[1]);
+      return schemaInfoDAO == null
+          ? null
+          : EntityTags.of(
+              fullName,
+              schemaInfoDAO.getId(),
+              schemaInfoDAO.getCreatedAt(),
+              schemaInfoDAO.getUpdatedAt());
+    } catch (BaseException e) {
+      return null;
+    }
+  }
+
   public SchemaInfo updateSchema(String fullName, UpdateSchema updateSchema) {
     if (updateSchema.getNewName() != null) {
       ValidationUtils.validateSqlObjectName(updateSchema.getNewName());
@@ -224,9 +310,20 @@ public class SchemaRepository {
           PropertyDAO.from(updateSchema.getProperties(), schemaInfoDAO.getId(), Constants.SCHEMA)
               .forEach(session::persist);
         }
-        schemaInfoDAO.setUpdatedAt(new Date());
+        schemaInfoDAO.setUpdatedAt(RepositoryUtils.nextUpdateTime(schemaInfoDAO.getUpdatedAt()));
         schemaInfoDAO.setUpdatedBy(callerId);
         session.merge(schemaInfoDAO);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.SCHEMA,
+                fullName,
+                updateSchema.getNewName() != null
+                    ? fullName.split("\\.")[0] + "." + updateSchema.getNewName()
+                    : null,
+                schemaInfoDAO.getId(),
+                ChangeOperation.UPDATE);
         tx.commit();
         return convertFromDAO(session, schemaInfoDAO, fullName);
       } catch (Exception e) {
@@ -293,7 +390,17 @@ public class SchemaRepository {
                     true,
                     true);
         for (TableInfo tableInfo : listTablesResponse.getTables()) {
-          repositories.getTableRepository().deleteTable(session, schemaId, tableInfo.getName());
+          UUID tableId =
+              repositories.getTableRepository().deleteTable(session, schemaId, tableInfo.getName());
+          repositories
+              .getChangeRepository()
+              .recordChange(
+                  session,
+                  SecurableType.TABLE,
+                  catalogName + "." + schemaName + "." + tableInfo.getName(),
+                  null,
+                  tableId,
+                  ChangeOperation.DELETE);
         }
         nextToken = listTablesResponse.getNextPageToken();
       } while (nextToken != null);
@@ -326,7 +433,19 @@ public class SchemaRepository {
                     Optional.empty(),
                     Optional.ofNullable(nextToken));
         for (VolumeInfo volumeInfo : listVolumesResponse.getVolumes()) {
-          repositories.getVolumeRepository().deleteVolume(session, schemaId, volumeInfo.getName());
+          UUID volumeId =
+              repositories
+                  .getVolumeRepository()
+                  .deleteVolume(session, schemaId, volumeInfo.getName());
+          repositories
+              .getChangeRepository()
+              .recordChange(
+                  session,
+                  SecurableType.VOLUME,
+                  catalogName + "." + schemaName + "." + volumeInfo.getName(),
+                  null,
+                  volumeId,
+                  ChangeOperation.DELETE);
         }
         nextToken = listVolumesResponse.getNextPageToken();
       } while (nextToken != null);
@@ -360,9 +479,19 @@ public class SchemaRepository {
                     Optional.empty(),
                     Optional.ofNullable(nextToken));
         for (FunctionInfo functionInfo : listFunctionsResponse.getFunctions()) {
+          UUID functionId =
+              repositories
+                  .getFunctionRepository()
+                  .deleteFunction(session, schemaId, functionInfo.getName());
           repositories
-              .getFunctionRepository()
-              .deleteFunction(session, schemaId, functionInfo.getName());
+              .getChangeRepository()
+              .recordChange(
+                  session,
+                  SecurableType.FUNCTION,
+                  catalogName + "." + schemaName + "." + functionInfo.getName(),
+                  null,
+                  functionId,
+                  ChangeOperation.DELETE);
         }
         nextToken = listFunctionsResponse.getNextPageToken();
       } while (nextToken != null);
@@ -396,9 +525,19 @@ public class SchemaRepository {
                     Optional.ofNullable(nextToken));
         for (RegisteredModelInfo registeredModelInfo :
             listRegisteredModelsResponse.getRegisteredModels()) {
+          UUID registeredModelId =
+              repositories
+                  .getModelRepository()
+                  .deleteRegisteredModel(session, schemaId, registeredModelInfo.getName(), true);
           repositories
-              .getModelRepository()
-              .deleteRegisteredModel(session, schemaId, registeredModelInfo.getName(), true);
+              .getChangeRepository()
+              .recordChange(
+                  session,
+                  SecurableType.REGISTERED_MODEL,
+                  catalogName + "." + schemaName + "." + registeredModelInfo.getName(),
+                  null,
+                  registeredModelId,
+                  ChangeOperation.DELETE);
         }
         nextToken = listRegisteredModelsResponse.getNextPageToken();
       } while (nextToken != null);
@@ -416,6 +555,15 @@ public class SchemaRepository {
       session.remove(schemaInfo);
       PropertyRepository.findProperties(session, schemaInfo.getId(), Constants.SCHEMA)
           .forEach(session::remove);
+      repositories
+          .getChangeRepository()
+          .recordChange(
+              session,
+              SecurableType.SCHEMA,
+              catalogName + "." + schemaName,
+              null,
+              schemaInfo.getId(),
+              ChangeOperation.DELETE);
     } else {
       throw new BaseException(ErrorCode.NOT_FOUND, "Schema not found: " + schemaName);
     }
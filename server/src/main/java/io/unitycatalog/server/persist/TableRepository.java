@@ -4,16 +4,20 @@ import io.unitycatalog.server.exception.BaseException;
 import io.unitycatalog.server.exception.ErrorCode;
 import io.unitycatalog.server.model.*;
 import io.unitycatalog.server.persist.dao.CatalogInfoDAO;
+import io.unitycatalog.server.persist.dao.ColumnInfoDAO;
 import io.unitycatalog.server.persist.dao.PropertyDAO;
 import io.unitycatalog.server.persist.dao.SchemaInfoDAO;
 import io.unitycatalog.server.persist.dao.TableInfoDAO;
 import io.unitycatalog.server.persist.utils.FileOperations;
 import io.unitycatalog.server.persist.utils.PagedListingHelper;
+import io.unitycatalog.server.persist.utils.ReadReplicaRouter;
 import io.unitycatalog.server.persist.utils.RepositoryUtils;
 import io.unitycatalog.server.utils.Constants;
+import io.unitycatalog.server.utils.EntityTags;
 import io.unitycatalog.server.utils.IdentityUtils;
 import io.unitycatalog.server.utils.ValidationUtils;
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
@@ -25,6 +29,7 @@ import org.slf4j.LoggerFactory;
 public class TableRepository {
   private static final Logger LOGGER = LoggerFactory.getLogger(TableRepository.class);
   private final SessionFactory sessionFactory;
+  private final ReadReplicaRouter readReplicaRouter;
   private final Repositories repositories;
   private final FileOperations fileOperations;
   private static final PagedListingHelper<TableInfoDAO> LISTING_HELPER =
@@ -33,13 +38,13 @@ public class TableRepository {
   public TableRepository(Repositories repositories, SessionFactory sessionFactory) {
     this.repositories = repositories;
     this.sessionFactory = sessionFactory;
+    this.readReplicaRouter = repositories.getReadReplicaRouter();
     this.fileOperations = repositories.getFileOperations();
   }
 
   public TableInfo getTableById(String tableId) {
     LOGGER.debug("Getting table by id: {}", tableId);
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         TableInfoDAO tableInfoDAO = session.get(TableInfoDAO.class, UUID.fromString(tableId));
@@ -57,7 +62,11 @@ public class TableRepository {
           throw new BaseException(
               ErrorCode.NOT_FOUND, "Catalog not found: " + schemaInfoDAO.getCatalogId());
         }
-        TableInfo tableInfo = tableInfoDAO.toTableInfo(true);
+        TableInfo tableInfo = tableInfoDAO.toTableInfo();
+        tableInfo.columns(
+            repositories
+                .getColumnTypeDictionary()
+                .toColumnInfos(session, tableInfoDAO.getColumns()));
         tableInfo.setSchemaName(schemaInfoDAO.getName());
         tableInfo.setCatalogName(catalogInfoDAO.getName());
         tx.commit();
@@ -72,10 +81,40 @@ public class TableRepository {
   }
 
   public TableInfo getTable(String fullName) {
+    return getTable(fullName, false, List.of(), Optional.empty(), Optional.empty());
+  }
+
+  /**
+   * Gets a table with all, some or none of its columns. When only some columns are requested, they
+   * are read by a query of their own so that the other columns are never loaded. Pages of columns
+   * are in ascending order of position, and the position of the last column in a page is the token
+   * of the next page.
+   *
+   * @param fullName the full name of the table
+   * @param omitColumns whether to leave out all columns
+   * @param columnNames the names of the columns to return, or all columns if empty
+   * @param maxColumns the maximum number of columns to return, all columns if absent or 0
+   * @param columnPageToken the token of the page of columns to return
+   * @return the table
+   */
+  public TableInfo getTable(
+      String fullName,
+      boolean omitColumns,
+      List<String> columnNames,
+      Optional<Integer> maxColumns,
+      Optional<String> columnPageToken) {
     LOGGER.debug("Getting table: {}", fullName);
+    if (maxColumns.isPresent() && maxColumns.get() < 0) {
+      throw new BaseException(
+          ErrorCode.INVALID_ARGUMENT, "maxColumns must be greater than or equal to 0");
+    }
+    boolean pageColumns = maxColumns.filter(x -> x > 0).isPresent() || columnPageToken.isPresent();
+    if (omitColumns && (!columnNames.isEmpty() || pageColumns)) {
+      throw new BaseException(
+          ErrorCode.INVALID_ARGUMENT, "Columns cannot be both omitted and selected");
+    }
     TableInfo tableInfo = null;
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         String[] parts = fullName.split("\\.");
@@ -89,7 +128,25 @@ public class TableRepository {
         if (tableInfoDAO == null) {
           throw new BaseException(ErrorCode.NOT_FOUND, "Table not found: " + fullName);
         }
-        tableInfo = tableInfoDAO.toTableInfo(true);
+        tableInfo = tableInfoDAO.toTableInfo();
+        if (columnNames.isEmpty() && !pageColumns) {
+          if (!omitColumns) {
+            tableInfo.columns(
+                repositories
+                    .getColumnTypeDictionary()
+                    .toColumnInfos(session, tableInfoDAO.getColumns()));
+          }
+        } else {
+          List<ColumnInfoDAO> columnInfoDAOs =
+              findColumns(session, tableInfoDAO.getId(), columnNames, maxColumns, columnPageToken);
+          tableInfo.columns(
+              repositories.getColumnTypeDictionary().toColumnInfos(session, columnInfoDAOs));
+          if (maxColumns.filter(x -> x > 0).isPresent()
+              && columnInfoDAOs.size() == maxColumns.get()) {
+            tableInfo.nextColumnPageToken(
+                String.valueOf(columnInfoDAOs.get(columnInfoDAOs.size() - 1).getOrdinalPosition()));
+          }
+        }
         tableInfo.setCatalogName(catalogName);
         tableInfo.setSchemaName(schemaName);
         RepositoryUtils.attachProperties(
@@ -105,6 +162,58 @@ public class TableRepository {
     }
   }
 
+  private List<ColumnInfoDAO> findColumns(
+      Session session,
+      UUID tableId,
+      List<String> columnNames,
+      Optional<Integer> maxColumns,
+      Optional<String> columnPageToken) {
+    short afterPosition;
+    try {
+      afterPosition = columnPageToken.map(Short::parseShort).orElse((short) -1);
+    } catch (NumberFormatException e) {
+      throw new BaseException(
+          ErrorCode.INVALID_ARGUMENT, "Invalid column page token: " + columnPageToken.get());
+    }
+    Query<ColumnInfoDAO> query =
+        session
+            .createQuery(
+                "FROM ColumnInfoDAO WHERE table.id = :tableId AND ordinalPosition > :afterPosition"
+                    + (columnNames.isEmpty() ? "" : " AND name IN (:names)")
+                    + " ORDER BY ordinalPosition",
+                ColumnInfoDAO.class)
+            .setParameter("tableId", tableId)
+            .setParameter("afterPosition", afterPosition);
+    if (!columnNames.isEmpty()) {
+      query.setParameterList("names", columnNames);
+    }
+    maxColumns.filter(x -> x > 0).ifPresent(query::setMaxResults);
+    return query.getResultList();
+  }
+
+  /**
+   * Returns the entity tag of a table without loading its columns or properties, or null if the
+   * table does not exist.
+   */
+  public String getTableEntityTag(String fullName) {
+    String[] parts = fullName.split("\\.");
+    if (parts.length != 3) {
+      return null;
+    }
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
+      TableInfoDAO tableInfoDAO = findTable(session, parts[0], parts[1], parts[2]);
+      return tableInfoDAO == null
+          ? null
+          : EntityTags.of(
+              fullName,
+              tableInfoDAO.getId(),
+              tableInfoDAO.getCreatedAt(),
+              tableInfoDAO.getUpdatedAt());
+    } catch (BaseException e) {
+      return null;
+    }
+  }
+
   public String getTableUniformMetadataLocation(
       Session session, String catalogName, String schemaName, String tableName) {
     TableInfoDAO dao = findTable(session, catalogName, schemaName, tableName);
@@ -118,70 +227,120 @@ public class TableRepository {
   }
 
   public TableInfo createTable(CreateTable createTable) {
-    ValidationUtils.validateSqlObjectName(createTable.getName());
+    return createTables(List.of(createTable)).get(0);
+  }
+
+  /**
+   * Creates tables in a single transaction, so that either all or none of them are created. The
+   * rows of all tables, their columns and properties are flushed together and thus inserted in JDBC
+   * batches shared by the tables.
+   *
+   * @param createTables the tables to create
+   * @return the created tables, in the order of the requests
+   */
+  public List<TableInfo> createTables(List<CreateTable> createTables) {
     String callerId = IdentityUtils.findPrincipalEmailAddress();
-    List<ColumnInfo> columnInfos =
-        createTable.getColumns().stream()
-            .map(c -> c.typeText(c.getTypeText().toLowerCase(Locale.ROOT)))
-            .collect(Collectors.toList());
     Long createTime = System.currentTimeMillis();
-    TableInfo tableInfo =
-        new TableInfo()
-            .tableId(UUID.randomUUID().toString())
-            .name(createTable.getName())
-            .catalogName(createTable.getCatalogName())
-            .schemaName(createTable.getSchemaName())
-            .tableType(createTable.getTableType())
-            .dataSourceFormat(createTable.getDataSourceFormat())
-            .columns(columnInfos)
-            .storageLocation(
-                FileOperations.convertRelativePathToURI(createTable.getStorageLocation()))
-            .comment(createTable.getComment())
-            .properties(createTable.getProperties())
-            .owner(callerId)
-            .createdAt(createTime)
-            .createdBy(callerId)
-            .updatedAt(createTime)
-            .updatedBy(callerId);
-    String fullName = getTableFullName(tableInfo);
-    LOGGER.debug("Creating table: {}", fullName);
+    List<TableInfo> tableInfos = new ArrayList<>(createTables.size());
+    for (CreateTable createTable : createTables) {
+      ValidationUtils.validateSqlObjectName(createTable.getName());
+      List<ColumnInfo> columnInfos =
+          createTable.getColumns().stream()
+              .map(c -> c.typeText(c.getTypeText().toLowerCase(Locale.ROOT)))
+              .collect(Collectors.toList());
+      tableInfos.add(
+          new TableInfo()
+              .tableId(UUID.randomUUID().toString())
+              .name(createTable.getName())
+              .catalogName(createTable.getCatalogName())
+              .schemaName(createTable.getSchemaName())
+              .tableType(createTable.getTableType())
+              .dataSourceFormat(createTable.getDataSourceFormat())
+              .columns(columnInfos)
+              .columnCount(columnInfos.size())
+              .storageLocation(
+                  FileOperations.convertRelativePathToURI(createTable.getStorageLocation()))
+              .comment(createTable.getComment())
+              .properties(createTable.getProperties())
+              .owner(callerId)
+              .createdAt(createTime)
+              .createdBy(callerId)
+              .updatedAt(createTime)
+              .updatedBy(callerId));
+    }
+    String fullNames =
+        tableInfos.stream().map(this::getTableFullName).collect(Collectors.joining(", "));
+    LOGGER.debug("Creating tables: {}", fullNames);
 
     Transaction tx;
     try (Session session = sessionFactory.openSession()) {
-      String catalogName = tableInfo.getCatalogName();
-      String schemaName = tableInfo.getSchemaName();
-      UUID schemaId = getSchemaId(session, catalogName, schemaName);
       tx = session.beginTransaction();
 
       try {
-        // Check if table already exists
-        TableInfoDAO existingTable = findBySchemaIdAndName(session, schemaId, tableInfo.getName());
-        if (existingTable != null) {
-          throw new BaseException(ErrorCode.ALREADY_EXISTS, "Table already exists: " + fullName);
+        Map<String, UUID> schemaIds = new HashMap<>();
+        Set<String> createdFullNames = new HashSet<>();
+        List<TableInfoDAO> tableInfoDAOs = new ArrayList<>(tableInfos.size());
+        List<ColumnInfoDAO> columnInfoDAOs = new ArrayList<>();
+        for (TableInfo tableInfo : tableInfos) {
+          String fullName = getTableFullName(tableInfo);
+          String catalogName = tableInfo.getCatalogName();
+          String schemaName = tableInfo.getSchemaName();
+          UUID schemaId =
+              schemaIds.computeIfAbsent(
+                  catalogName + "." + schemaName,
+                  key -> getSchemaId(session, catalogName, schemaName));
+          // Check if table already exists
+          if (!createdFullNames.add(fullName)
+              || findBySchemaIdAndName(session, schemaId, tableInfo.getName()) != null) {
+            throw new BaseException(ErrorCode.ALREADY_EXISTS, "Table already exists: " + fullName);
+          }
+          if (TableType.MANAGED.equals(tableInfo.getTableType())) {
+            throw new BaseException(
+                ErrorCode.INVALID_ARGUMENT, "MANAGED table creation is not supported yet.");
+          }
+          // only external table creation is supported at this time
+          if (tableInfo.getStorageLocation() == null) {
+            throw new BaseException(
+                ErrorCode.INVALID_ARGUMENT, "Storage location is required for external table");
+          }
+          TableInfoDAO tableInfoDAO = TableInfoDAO.from(tableInfo);
+          tableInfoDAO.setSchemaId(schemaId);
+          // create columns
+          tableInfoDAO
+              .getColumns()
+              .forEach(
+                  c -> {
+                    c.setId(UUID.randomUUID());
+                    c.setTable(tableInfoDAO);
+                  });
+          tableInfoDAOs.add(tableInfoDAO);
+          columnInfoDAOs.addAll(tableInfoDAO.getColumns());
         }
-        if (TableType.MANAGED.equals(tableInfo.getTableType())) {
-          throw new BaseException(
-              ErrorCode.INVALID_ARGUMENT, "MANAGED table creation is not supported yet.");
+        repositories.getColumnTypeDictionary().intern(session, columnInfoDAOs);
+        for (int i = 0; i < tableInfos.size(); i++) {
+          TableInfoDAO tableInfoDAO = tableInfoDAOs.get(i);
+          // create properties
+          PropertyDAO.from(tableInfos.get(i).getProperties(), tableInfoDAO.getId(), Constants.TABLE)
+              .forEach(session::persist);
+          repositories
+              .getStorageLocationIndex()
+              .register(session, tableInfoDAO.getUrl(), SecurableType.TABLE, tableInfoDAO.getId());
+          session.persist(tableInfoDAO);
         }
-        // only external table creation is supported at this time
-        if (tableInfo.getStorageLocation() == null) {
-          throw new BaseException(
-              ErrorCode.INVALID_ARGUMENT, "Storage location is required for external table");
+        // Change events have database generated sequence numbers and are inserted one by one,
+        // which would otherwise interrupt the batches of the other inserts
+        session.flush();
+        for (TableInfo tableInfo : tableInfos) {
+          repositories
+              .getChangeRepository()
+              .recordChange(
+                  session,
+                  SecurableType.TABLE,
+                  getTableFullName(tableInfo),
+                  null,
+                  UUID.fromString(tableInfo.getTableId()),
+                  ChangeOperation.CREATE);
         }
-        TableInfoDAO tableInfoDAO = TableInfoDAO.from(tableInfo);
-        tableInfoDAO.setSchemaId(schemaId);
-        // create columns
-        tableInfoDAO
-            .getColumns()
-            .forEach(
-                c -> {
-                  c.setId(UUID.randomUUID());
-                  c.setTable(tableInfoDAO);
-                });
-        // create properties
-        PropertyDAO.from(tableInfo.getProperties(), tableInfoDAO.getId(), Constants.TABLE)
-            .forEach(session::persist);
-        session.persist(tableInfoDAO);
         tx.commit();
       } catch (RuntimeException e) {
         if (tx != null && tx.getStatus().canRollback()) {
@@ -194,9 +353,9 @@ public class TableRepository {
         throw e;
       }
       throw new BaseException(
-          ErrorCode.INTERNAL, "Error creating table: " + fullName + ". " + e.getMessage(), e);
+          ErrorCode.INTERNAL, "Error creating table: " + fullNames + ". " + e.getMessage(), e);
     }
-    return tableInfo;
+    return tableInfos;
   }
 
   public TableInfoDAO findBySchemaIdAndName(Session session, UUID schemaId, String name) {
@@ -239,8 +398,7 @@ public class TableRepository {
       Optional<String> pageToken,
       Boolean omitProperties,
       Boolean omitColumns) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         UUID schemaId = getSchemaId(session, catalogName, schemaName);
@@ -279,7 +437,13 @@ public class TableRepository {
     String nextPageToken = LISTING_HELPER.getNextPageToken(tableInfoDAOList, maxResults);
     List<TableInfo> result = new ArrayList<>();
     for (TableInfoDAO tableInfoDAO : tableInfoDAOList) {
-      TableInfo tableInfo = tableInfoDAO.toTableInfo(!omitColumns);
+      TableInfo tableInfo = tableInfoDAO.toTableInfo();
+      if (!omitColumns) {
+        tableInfo.columns(
+            repositories
+                .getColumnTypeDictionary()
+                .toColumnInfos(session, tableInfoDAO.getColumns()));
+      }
       if (!omitProperties) {
         RepositoryUtils.attachProperties(
             tableInfo, tableInfo.getTableId(), Constants.TABLE, session);
@@ -291,6 +455,59 @@ public class TableRepository {
     return new ListTablesResponse().tables(result).nextPageToken(nextPageToken);
   }
 
+  /**
+   * Iterate over the ids and names of the tables in a schema that have Iceberg metadata, in
+   * ascending order of table name. Only these two columns are read, one page at a time in a short
+   * transaction of its own. Each page is handed to the consumer after its session closed, so a slow
+   * consumer, e.g. a streamed response, does not hold a database connection.
+   *
+   * @param schemaId
+   * @param consumer
+   */
+  public void forEachUniformTable(UUID schemaId, BiConsumer<UUID, String> consumer) {
+    String after = null;
+    List<Object[]> rows;
+    do {
+      rows = listUniformTableIdsAndNames(schemaId, after);
+      rows.forEach(row -> consumer.accept((UUID) row[0], (String) row[1]));
+      if (!rows.isEmpty()) {
+        after = (String) rows.get(rows.size() - 1)[1];
+      }
+    } while (rows.size() == PagedListingHelper.DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Lists a page of the ids and names of the tables with Iceberg metadata, after the given name.
+   */
+  private List<Object[]> listUniformTableIdsAndNames(UUID schemaId, String after) {
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
+      Transaction tx = session.beginTransaction();
+      try {
+        Query<Object[]> query =
+            session
+                .createQuery(
+                    "SELECT id, name FROM TableInfoDAO WHERE schemaId = :schemaId"
+                        + " AND uniformIcebergMetadataLocation IS NOT NULL"
+                        + (after != null ? " AND name > :after" : "")
+                        + " ORDER BY name",
+                    Object[].class)
+                .setParameter("schemaId", schemaId)
+                .setMaxResults(PagedListingHelper.DEFAULT_PAGE_SIZE);
+        if (after != null) {
+          query.setParameter("after", after);
+        }
+        List<Object[]> rows = query.list();
+        tx.commit();
+        return rows;
+      } catch (Exception e) {
+        if (tx != null && tx.getStatus().canRollback()) {
+          tx.rollback();
+        }
+        throw e;
+      }
+    }
+  }
+
   public void deleteTable(String fullName) {
     try (Session session = sessionFactory.openSession()) {
       Transaction tx = session.beginTransaction();
@@ -303,7 +520,11 @@ public class TableRepository {
       String tableName = parts[2];
       try {
         UUID schemaId = getSchemaId(session, catalogName, schemaName);
-        deleteTable(session, schemaId, tableName);
+        UUID tableId = deleteTable(session, schemaId, tableName);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session, SecurableType.TABLE, fullName, null, tableId, ChangeOperation.DELETE);
         tx.commit();
       } catch (RuntimeException e) {
         if (tx != null && tx.getStatus().canRollback()) {
@@ -314,7 +535,8 @@ public class TableRepository {
     }
   }
 
-  public void deleteTable(Session session, UUID schemaId, String tableName) {
+  /** Deletes a table as part of the session's transaction and returns its id. */
+  public UUID deleteTable(Session session, UUID schemaId, String tableName) {
     TableInfoDAO tableInfoDAO = findBySchemaIdAndName(session, schemaId, tableName);
     if (tableInfoDAO == null) {
       throw new BaseException(ErrorCode.NOT_FOUND, "Table not found: " + tableName);
@@ -329,5 +551,7 @@ public class TableRepository {
     PropertyRepository.findProperties(session, tableInfoDAO.getId(), Constants.TABLE)
         .forEach(session::remove);
     session.remove(tableInfoDAO);
+    repositories.getStorageLocationIndex().unregister(session, tableInfoDAO.getId());
+    return tableInfoDAO.getId();
   }
 }
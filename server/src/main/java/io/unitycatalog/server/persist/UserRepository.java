@@ -7,6 +7,7 @@ import io.unitycatalog.server.persist.dao.UserDAO;
 import io.unitycatalog.server.persist.model.CreateUser;
 import io.unitycatalog.server.persist.model.UpdateUser;
 import io.unitycatalog.server.persist.utils.PagedListingHelper;
+import io.unitycatalog.server.persist.utils.ReadReplicaRouter;
 import io.unitycatalog.server.utils.IdentityUtils;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,11 +25,13 @@ import org.slf4j.LoggerFactory;
 public class UserRepository {
   private static final Logger LOGGER = LoggerFactory.getLogger(UserRepository.class);
   private final SessionFactory sessionFactory;
+  private final ReadReplicaRouter readReplicaRouter;
   private static final PagedListingHelper<UserDAO> LISTING_HELPER =
       new PagedListingHelper<>(UserDAO.class);
 
   public UserRepository(Repositories repositories, SessionFactory sessionFactory) {
     this.sessionFactory = sessionFactory;
+    this.readReplicaRouter = repositories.getReadReplicaRouter();
   }
 
   public User createUser(CreateUser createUser) {
@@ -61,8 +64,7 @@ public class UserRepository {
   }
 
   public List<User> listUsers(int startIndex, int maxUsers, Predicate<User> filter) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       int count = 0;
       List<User> users = new ArrayList<>();
@@ -108,8 +110,7 @@ public class UserRepository {
   }
 
   public User getUser(String id) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         UserDAO userDAO = getUserById(session, id);
@@ -133,8 +134,7 @@ public class UserRepository {
   }
 
   public User getUserByEmail(String email) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         UserDAO userDAO = getUserByEmail(session, email);
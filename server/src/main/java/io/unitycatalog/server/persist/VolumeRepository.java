@@ -8,6 +8,9 @@ import io.unitycatalog.server.persist.dao.SchemaInfoDAO;
 import io.unitycatalog.server.persist.dao.VolumeInfoDAO;
 import io.unitycatalog.server.persist.utils.FileOperations;
 import io.unitycatalog.server.persist.utils.PagedListingHelper;
+import io.unitycatalog.server.persist.utils.ReadReplicaRouter;
+import io.unitycatalog.server.persist.utils.RepositoryUtils;
+import io.unitycatalog.server.utils.EntityTags;
 import io.unitycatalog.server.utils.IdentityUtils;
 import io.unitycatalog.server.utils.ValidationUtils;
 import java.util.*;
@@ -22,6 +25,7 @@ public class VolumeRepository {
   private static final Logger LOGGER = LoggerFactory.getLogger(VolumeRepository.class);
   private final Repositories repositories;
   private final SessionFactory sessionFactory;
+  private final ReadReplicaRouter readReplicaRouter;
   private final FileOperations fileOperations;
   private static final PagedListingHelper<VolumeInfoDAO> LISTING_HELPER =
       new PagedListingHelper<>(VolumeInfoDAO.class);
@@ -29,6 +33,7 @@ public class VolumeRepository {
   public VolumeRepository(Repositories repositories, SessionFactory sessionFactory) {
     this.repositories = repositories;
     this.sessionFactory = sessionFactory;
+    this.readReplicaRouter = repositories.getReadReplicaRouter();
     this.fileOperations = repositories.getFileOperations();
   }
 
@@ -93,7 +98,23 @@ public class VolumeRepository {
               ErrorCode.ALREADY_EXISTS, "Volume already exists: " + volumeFullName);
         }
         volumeInfoDAO.setSchemaId(schemaInfoDAO.getId());
+        repositories
+            .getStorageLocationIndex()
+            .register(
+                session,
+                volumeInfoDAO.getStorageLocation(),
+                SecurableType.VOLUME,
+                volumeInfoDAO.getId());
         session.persist(volumeInfoDAO);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.VOLUME,
+                volumeFullName,
+                null,
+                volumeInfoDAO.getId(),
+                ChangeOperation.CREATE);
         tx.commit();
         LOGGER.info("Added volume: {}", volumeInfo.getName());
         return convertFromDAO(
@@ -124,6 +145,26 @@ public class VolumeRepository {
     }
   }
 
+  /** Returns the entity tag of a volume, or null if the volume does not exist. */
+  public String getVolumeEntityTag(String fullName) {
+    String[] namespace = fullName.split("\\.");
+    if (namespace.length != 3) {
+      return null;
+    }
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
+      VolumeInfoDAO volumeInfoDAO = getVolumeDAO(session, namespace[0], namespace[1], namespace[2]);
+      return volumeInfoDAO == null
+          ? null
+          : EntityTags.of(
+              fullName,
+              volumeInfoDAO.getId(),
+              volumeInfoDAO.getCreatedAt(),
+              volumeInfoDAO.getUpdatedAt());
+    } catch (BaseException e) {
+      return null;
+    }
+  }
+
   public VolumeInfoDAO getVolumeDAO(
       Session session, String catalogName, String schemaName, String volumeName) {
     SchemaInfoDAO schemaInfo =
@@ -146,8 +187,7 @@ public class VolumeRepository {
   }
 
   public VolumeInfo getVolumeById(String volumeId) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         VolumeInfoDAO volumeInfoDAO = session.get(VolumeInfoDAO.class, UUID.fromString(volumeId));
@@ -208,8 +248,7 @@ public class VolumeRepository {
       Optional<Integer> maxResults,
       Optional<String> pageToken,
       Optional<Boolean> includeBrowse) {
-    try (Session session = sessionFactory.openSession()) {
-      session.setDefaultReadOnly(true);
+    try (Session session = readReplicaRouter.openReadOnlySession()) {
       Transaction tx = session.beginTransaction();
       try {
         UUID schemaId = getSchemaId(session, catalogName, schemaName);
@@ -285,9 +324,20 @@ public class VolumeRepository {
         if (updateVolumeRequest.getComment() != null) {
           volumeInfo.setComment(updateVolumeRequest.getComment());
         }
-        volumeInfo.setUpdatedAt(new Date());
+        volumeInfo.setUpdatedAt(RepositoryUtils.nextUpdateTime(volumeInfo.getUpdatedAt()));
         volumeInfo.setUpdatedBy(callerId);
         session.merge(volumeInfo);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session,
+                SecurableType.VOLUME,
+                name,
+                updateVolumeRequest.getNewName() != null
+                    ? catalog + "." + schema + "." + updateVolumeRequest.getNewName()
+                    : null,
+                volumeInfo.getId(),
+                ChangeOperation.UPDATE);
         tx.commit();
         LOGGER.info("Updated volume: {}", volumeInfo.getName());
         return convertFromDAO(volumeInfo, catalog, schema);
@@ -313,7 +363,11 @@ public class VolumeRepository {
           throw new BaseException(
               ErrorCode.NOT_FOUND, "Schema not found: " + catalog + "." + schema);
         }
-        deleteVolume(session, schemaInfo.getId(), volume);
+        UUID volumeId = deleteVolume(session, schemaInfo.getId(), volume);
+        repositories
+            .getChangeRepository()
+            .recordChange(
+                session, SecurableType.VOLUME, name, null, volumeId, ChangeOperation.DELETE);
         tx.commit();
       } catch (Exception e) {
         tx.rollback();
@@ -322,7 +376,8 @@ public class VolumeRepository {
     }
   }
 
-  public void deleteVolume(Session session, UUID schemaId, String volumeName) {
+  /** Deletes a volume as part of the session's transaction and returns its id. */
+  public UUID deleteVolume(Session session, UUID schemaId, String volumeName) {
     VolumeInfoDAO volumeInfoDAO = getVolumeDAO(session, schemaId, volumeName);
     if (volumeInfoDAO == null) {
       throw new BaseException(ErrorCode.NOT_FOUND, "Volume not found: " + volumeName);
@@ -335,6 +390,8 @@ public class VolumeRepository {
       }
     }
     session.remove(volumeInfoDAO);
+    repositories.getStorageLocationIndex().unregister(session, volumeInfoDAO.getId());
     LOGGER.info("Deleted volume: {}", volumeInfoDAO.getName());
+    return volumeInfoDAO.getId();
   }
 }
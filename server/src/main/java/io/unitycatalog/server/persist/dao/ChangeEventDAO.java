@@ -0,0 +1,61 @@
+package io.unitycatalog.server.persist.dao;
+
+import io.unitycatalog.server.model.ChangeEvent;
+import io.unitycatalog.server.model.ChangeOperation;
+import io.unitycatalog.server.model.SecurableType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Date;
+import java.util.UUID;
+import lombok.*;
+
+// Hibernate annotations
+@Entity
+@Table(name = "uc_change_events")
+// Lombok annotations
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class ChangeEventDAO {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "sequence_number", updatable = false, nullable = false)
+  private Long sequenceNumber;
+
+  @Column(name = "securable_type", nullable = false)
+  private String securableType;
+
+  @Column(name = "full_name", nullable = false)
+  private String fullName;
+
+  @Column(name = "new_full_name")
+  private String newFullName;
+
+  @Column(name = "securable_id")
+  private UUID securableId;
+
+  @Column(name = "operation", nullable = false)
+  private String operation;
+
+  @Column(name = "created_at", nullable = false)
+  private Date createdAt;
+
+  public ChangeEvent toChangeEvent() {
+    return new ChangeEvent()
+        .sequenceNumber(sequenceNumber)
+        .securableType(SecurableType.fromValue(securableType))
+        .fullName(fullName)
+        .newFullName(newFullName)
+        .securableId(securableId != null ? securableId.toString() : null)
+        .operation(ChangeOperation.fromValue(operation))
+        .createdAt(createdAt.getTime());
+  }
+}
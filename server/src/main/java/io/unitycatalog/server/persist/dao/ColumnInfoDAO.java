@@ -38,6 +38,11 @@ public class ColumnInfoDAO extends IdentifiableDAO {
   @Column(name = "type_json", nullable = false, length = 16777215)
   private String typeJson;
 
+  // Key of the column's type in the column type dictionary, in which case the type text and JSON
+  // above are empty. Columns written before the dictionary existed have their type inline.
+  @Column(name = "type_hash", length = 64)
+  private String typeHash;
+
   @Column(name = "type_name", nullable = false, length = 32)
   private String typeName;
 
@@ -94,13 +99,6 @@ public class ColumnInfoDAO extends IdentifiableDAO {
         .partitionIndex(partitionIndex != null ? partitionIndex.intValue() : null);
   }
 
-  public static List<ColumnInfo> toList(List<ColumnInfoDAO> columnInfoDAOs) {
-    if (columnInfoDAOs == null) {
-      return new ArrayList<>();
-    }
-    return columnInfoDAOs.stream().map(ColumnInfoDAO::toColumnInfo).collect(Collectors.toList());
-  }
-
   public static List<ColumnInfoDAO> fromList(List<ColumnInfo> columnInfos) {
     if (columnInfos == null) {
       return new ArrayList<>();
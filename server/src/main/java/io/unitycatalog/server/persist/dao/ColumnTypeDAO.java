@@ -0,0 +1,36 @@
+package io.unitycatalog.server.persist.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.*;
+
+// Hibernate annotations
+@Entity
+@Table(name = "uc_column_types")
+// Lombok annotations
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class ColumnTypeDAO {
+  // Hex encoded SHA-256 hash of the type text and type JSON
+  @Id
+  @Column(name = "type_hash", length = 64, updatable = false, nullable = false)
+  private String typeHash;
+
+  // Deflate compressed UTF-8 type text
+  @Lob
+  @Column(name = "type_text", nullable = false, length = 16777215)
+  private byte[] typeText;
+
+  // Deflate compressed UTF-8 type JSON
+  @Lob
+  @Column(name = "type_json", nullable = false, length = 16777215)
+  private byte[] typeJson;
+}
@@ -13,7 +13,7 @@ import lombok.experimental.SuperBuilder;
 @Table(
     name = "uc_model_versions",
     indexes = {
-      @Index(name = "idx_model_version", columnList = "registered_model_id,version"),
+      @Index(name = "idx_model_version", columnList = "registered_model_id,version", unique = true),
     })
 // Lombok annotations
 @Getter
@@ -0,0 +1,54 @@
+package io.unitycatalog.server.persist.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Date;
+import lombok.*;
+
+// Hibernate annotations
+@Entity
+@Table(name = "uc_policy_changes")
+// Lombok annotations
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class PolicyChangeDAO {
+  public enum Operation {
+    ADD,
+    REMOVE,
+    REMOVE_FILTERED,
+    RELOAD
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "sequence_number", updatable = false, nullable = false)
+  private Long sequenceNumber;
+
+  @Column(name = "operation", nullable = false)
+  private String operation;
+
+  @Column(name = "section")
+  private String section;
+
+  @Column(name = "policy_type")
+  private String policyType;
+
+  @Column(name = "field_index")
+  private Integer fieldIndex;
+
+  // JSON array of the rule values, or of the filter values for REMOVE_FILTERED
+  @Column(name = "rule_values", length = 1024)
+  private String ruleValues;
+
+  @Column(name = "created_at", nullable = false)
+  private Date createdAt;
+}
@@ -89,23 +89,23 @@ public class TableInfoDAO extends IdentifiableDAO {
         .build();
   }
 
-  public TableInfo toTableInfo(boolean fetchColumns) {
-    TableInfo tableInfo =
-        new TableInfo()
-            .tableId(getId().toString())
-            .name(getName())
-            .tableType(TableType.valueOf(type))
-            .dataSourceFormat(DataSourceFormat.valueOf(dataSourceFormat))
-            .storageLocation(FileOperations.convertRelativePathToURI(url))
-            .comment(comment)
-            .owner(owner)
-            .createdAt(createdAt != null ? createdAt.getTime() : null)
-            .createdBy(createdBy)
-            .updatedAt(updatedAt != null ? updatedAt.getTime() : null)
-            .updatedBy(updatedBy);
-    if (fetchColumns) {
-      tableInfo.columns(ColumnInfoDAO.toList(columns));
-    }
-    return tableInfo;
+  /**
+   * Converts the table to its API model without its columns, whose types have to be looked up in
+   * the {@link io.unitycatalog.server.persist.utils.ColumnTypeDictionary}.
+   */
+  public TableInfo toTableInfo() {
+    return new TableInfo()
+        .tableId(getId().toString())
+        .name(getName())
+        .tableType(TableType.valueOf(type))
+        .dataSourceFormat(DataSourceFormat.valueOf(dataSourceFormat))
+        .storageLocation(FileOperations.convertRelativePathToURI(url))
+        .comment(comment)
+        .owner(owner)
+        .createdAt(createdAt != null ? createdAt.getTime() : null)
+        .createdBy(createdBy)
+        .updatedAt(updatedAt != null ? updatedAt.getTime() : null)
+        .updatedBy(updatedBy)
+        .columnCount(columnCount);
   }
 }
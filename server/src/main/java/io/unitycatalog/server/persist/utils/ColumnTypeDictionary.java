@@ -0,0 +1,297 @@
+package io.unitycatalog.server.persist.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
+import io.unitycatalog.server.model.ColumnInfo;
+import io.unitycatalog.server.persist.dao.ColumnInfoDAO;
+import io.unitycatalog.server.persist.dao.ColumnTypeDAO;
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Content-addressed dictionary of column types. The type text and type JSON of a column are stored
+ * once per distinct type, compressed and keyed by their hash, and columns only keep the hash. Wide
+ * tables and tables of the same shape thus share their type definitions, which are often large
+ * nested structs, instead of repeating them in every column row.
+ *
+ * <p>Entries are immutable, so decoded types are cached without invalidation. New entries are added
+ * in the transaction of the columns referencing them, and cached once it commits. Unreferenced
+ * entries are not removed.
+ *
+ * <p>Columns written before the dictionary existed keep their type inline until {@link #migrate()}
+ * moves it into the dictionary. Both kinds of columns can be read in the meantime.
+ */
+public class ColumnTypeDictionary {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ColumnTypeDictionary.class);
+  // Number of entries looked up or columns migrated at once
+  private static final int BATCH_SIZE = 1000;
+  // Bound of the decoded types cache, in characters of type text and JSON
+  private static final long MAX_CACHED_CHARS = 32L << 20;
+
+  /** The decoded type of a column. */
+  public record ColumnType(String typeText, String typeJson) {}
+
+  private final SessionFactory sessionFactory;
+  private final Cache<String, ColumnType> cache =
+      Caffeine.newBuilder()
+          .maximumWeight(MAX_CACHED_CHARS)
+          .<String, ColumnType>weigher(
+              (hash, type) -> type.typeText().length() + type.typeJson().length())
+          .build();
+
+  public ColumnTypeDictionary(SessionFactory sessionFactory) {
+    this.sessionFactory = sessionFactory;
+  }
+
+  /**
+   * Moves the types of the given columns into the dictionary, leaving their hash in the columns.
+   * New entries are added within the session's transaction.
+   */
+  public void intern(Session session, List<ColumnInfoDAO> columns) {
+    Map<String, ColumnType> types = new HashMap<>();
+    for (ColumnInfoDAO column : columns) {
+      ColumnType type = new ColumnType(column.getTypeText(), column.getTypeJson());
+      String typeHash = hash(type);
+      types.putIfAbsent(typeHash, type);
+      column.setTypeHash(typeHash);
+      column.setTypeText("");
+      column.setTypeJson("");
+    }
+    // Cached entries are known to be stored already
+    types.keySet().removeAll(cache.getAllPresent(types.keySet()).keySet());
+    if (types.isEmpty()) {
+      return;
+    }
+    session.doWork(
+        connection -> {
+          // The entries are inserted under a savepoint, so that entries added by a concurrent
+          // transaction only fail the inserts, which are then retried without them
+          Savepoint savepoint = connection.setSavepoint();
+          try {
+            store(session, connection, types);
+          } catch (PersistenceException e) {
+            LOGGER.debug("Retrying to store column types", e);
+            connection.rollback(savepoint);
+            savepoint = connection.setSavepoint();
+            store(session, connection, types);
+          }
+          connection.releaseSavepoint(savepoint);
+        });
+    session
+        .getTransaction()
+        .registerSynchronization(
+            new Synchronization() {
+              @Override
+              public void beforeCompletion() {}
+
+              @Override
+              public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                  cache.putAll(types);
+                }
+              }
+            });
+  }
+
+  /**
+   * Inserts the entries that are not stored yet. A stateless session on the connection of the
+   * caller's session is used, so that failed inserts leave nothing behind in the caller's session.
+   */
+  private void store(Session session, Connection connection, Map<String, ColumnType> types) {
+    Set<String> stored = new HashSet<>();
+    for (List<String> batch : batches(types.keySet())) {
+      stored.addAll(
+          session
+              .createQuery(
+                  "SELECT typeHash FROM ColumnTypeDAO WHERE typeHash IN (:typeHashes)",
+                  String.class)
+              .setParameterList("typeHashes", batch)
+              .getResultList());
+    }
+    try (StatelessSession inserts =
+        sessionFactory.withStatelessOptions().connection(connection).openStatelessSession()) {
+      for (Map.Entry<String, ColumnType> entry : types.entrySet()) {
+        if (!stored.contains(entry.getKey())) {
+          inserts.insert(
+              ColumnTypeDAO.builder()
+                  .typeHash(entry.getKey())
+                  .typeText(compress(entry.getValue().typeText()))
+                  .typeJson(compress(entry.getValue().typeJson()))
+                  .build());
+        }
+      }
+    }
+  }
+
+  /**
+   * Converts columns to their API model, looking up the types of those that reference the
+   * dictionary. Types missing from the cache are read in batches within the given session.
+   */
+  public List<ColumnInfo> toColumnInfos(Session session, List<ColumnInfoDAO> columns) {
+    if (columns == null) {
+      return new ArrayList<>();
+    }
+    Set<String> typeHashes = new HashSet<>();
+    for (ColumnInfoDAO column : columns) {
+      if (column.getTypeHash() != null) {
+        typeHashes.add(column.getTypeHash());
+      }
+    }
+    Map<String, ColumnType> types = new HashMap<>(cache.getAllPresent(typeHashes));
+    typeHashes.removeAll(types.keySet());
+    for (List<String> batch : batches(typeHashes)) {
+      List<Object[]> rows =
+          session
+              .createQuery(
+                  "SELECT typeHash, typeText, typeJson FROM ColumnTypeDAO"
+                      + " WHERE typeHash IN (:typeHashes)",
+                  Object[].class)
+              .setParameterList("typeHashes", batch)
+              .getResultList();
+      for (Object[] row : rows) {
+        ColumnType type = new ColumnType(decompress((byte[]) row[1]), decompress((byte[]) row[2]));
+        types.put((String) row[0], type);
+        cache.put((String) row[0], type);
+      }
+    }
+    List<ColumnInfo> columnInfos = new ArrayList<>(columns.size());
+    for (ColumnInfoDAO column : columns) {
+      ColumnInfo columnInfo = column.toColumnInfo();
+      if (column.getTypeHash() != null) {
+        ColumnType type = types.get(column.getTypeHash());
+        if (type == null) {
+          throw new BaseException(
+              ErrorCode.INTERNAL, "Column type not found: " + column.getTypeHash());
+        }
+        columnInfo.typeText(type.typeText()).typeJson(type.typeJson());
+      }
+      columnInfos.add(columnInfo);
+    }
+    return columnInfos;
+  }
+
+  /**
+   * Moves the inline types of columns written before the dictionary existed into it, in
+   * transactions of {@value #BATCH_SIZE} columns. Servers may migrate concurrently with each other
+   * and with requests, since they all write the same values.
+   */
+  public void migrate() {
+    long start = System.currentTimeMillis();
+    long migrated = 0;
+    while (true) {
+      try (Session session = sessionFactory.openSession()) {
+        Transaction tx = session.beginTransaction();
+        try {
+          List<ColumnInfoDAO> columns =
+              session
+                  .createQuery("FROM ColumnInfoDAO WHERE typeHash IS NULL", ColumnInfoDAO.class)
+                  .setMaxResults(BATCH_SIZE)
+                  .getResultList();
+          intern(session, columns);
+          tx.commit();
+          migrated += columns.size();
+          if (columns.size() < BATCH_SIZE) {
+            break;
+          }
+        } catch (Exception e) {
+          if (tx != null && tx.getStatus().canRollback()) {
+            tx.rollback();
+          }
+          throw e;
+        }
+      }
+    }
+    if (migrated > 0) {
+      LOGGER.info(
+          "Moved the types of {} columns to the column type dictionary in {} ms",
+          migrated,
+          System.currentTimeMillis() - start);
+    }
+  }
+
+  static String hash(ColumnType type) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    digest.update(type.typeText().getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+    digest.update(type.typeJson().getBytes(StandardCharsets.UTF_8));
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  static byte[] compress(String value) {
+    Deflater deflater = new Deflater();
+    try {
+      deflater.setInput(value.getBytes(StandardCharsets.UTF_8));
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  static String decompress(byte[] value) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(value);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      while (!inflater.finished()) {
+        int length = inflater.inflate(buffer);
+        if (length == 0 && inflater.needsInput()) {
+          throw new UncheckedIOException(new IOException("Truncated column type"));
+        }
+        out.write(buffer, 0, length);
+      }
+      return out.toString(StandardCharsets.UTF_8);
+    } catch (DataFormatException e) {
+      throw new UncheckedIOException(new IOException("Corrupt column type", e));
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static List<List<String>> batches(Set<String> values) {
+    List<String> list = new ArrayList<>(values);
+    List<List<String>> batches = new ArrayList<>();
+    for (int i = 0; i < list.size(); i += BATCH_SIZE) {
+      batches.add(list.subList(i, Math.min(i + BATCH_SIZE, list.size())));
+    }
+    return batches;
+  }
+}
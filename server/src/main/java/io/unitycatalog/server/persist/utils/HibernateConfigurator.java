@@ -8,9 +8,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Properties;
+import java.util.function.Supplier;
 import lombok.Getter;
+import org.hibernate.Interceptor;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.service.ServiceRegistry;
 import org.slf4j.Logger;
@@ -20,29 +23,56 @@ import org.slf4j.LoggerFactory;
  * This class configures the hibernate properties and adds annotated classes to the session factory.
  * This session factory is used to create sessions for database operations across the repository
  * classes.
+ *
+ * <p>When {@code server.read-replica.url} is set, a second session factory is created for the read
+ * replica, and read-only sessions are routed through the {@link ReadReplicaRouter}.
  */
 @Getter
 public class HibernateConfigurator {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(HibernateConfigurator.class);
+  public static final int DEFAULT_JDBC_BATCH_SIZE = 100;
 
   private final SessionFactory sessionFactory;
   private final Properties hibernateProperties;
+  private final ReadReplicaRouter readReplicaRouter;
 
   public HibernateConfigurator(ServerProperties serverProperties) {
     this.hibernateProperties = setupHibernateProperties(serverProperties);
-    this.sessionFactory = createSessionFactory(hibernateProperties);
+    if (!serverProperties.isReadReplicaEnabled()) {
+      this.sessionFactory = createSessionFactory(hibernateProperties, null);
+      this.readReplicaRouter = new ReadReplicaRouter(sessionFactory);
+      return;
+    }
+    long readYourWritesWindowMs =
+        Long.parseLong(
+            serverProperties.getProperty(
+                ServerProperties.Property.READ_REPLICA_READ_YOUR_WRITES_WINDOW_MS.getKey(),
+                String.valueOf(ReadReplicaRouter.DEFAULT_READ_YOUR_WRITES_WINDOW_MS)));
+    this.readReplicaRouter = new ReadReplicaRouter(readYourWritesWindowMs);
+    this.sessionFactory =
+        createSessionFactory(hibernateProperties, readReplicaRouter::newWriteTracker);
+    readReplicaRouter.setSessionFactories(
+        sessionFactory, createSessionFactory(setupReadReplicaProperties(serverProperties), null));
+    LOGGER.info("Read replica enabled");
   }
 
-  private static SessionFactory createSessionFactory(Properties hibernateProperties) {
+  private static SessionFactory createSessionFactory(
+      Properties hibernateProperties, Supplier<Interceptor> sessionScopedInterceptor) {
     try {
-      Configuration configuration = new Configuration().setProperties(hibernateProperties);
+      Properties properties = new Properties();
+      properties.putAll(hibernateProperties);
+      if (sessionScopedInterceptor != null) {
+        properties.put(AvailableSettings.SESSION_SCOPED_INTERCEPTOR, sessionScopedInterceptor);
+      }
+      Configuration configuration = new Configuration().setProperties(properties);
 
       // Add annotated classes
       configuration.addAnnotatedClass(CatalogInfoDAO.class);
       configuration.addAnnotatedClass(SchemaInfoDAO.class);
       configuration.addAnnotatedClass(TableInfoDAO.class);
       configuration.addAnnotatedClass(ColumnInfoDAO.class);
+      configuration.addAnnotatedClass(ColumnTypeDAO.class);
       configuration.addAnnotatedClass(PropertyDAO.class);
       configuration.addAnnotatedClass(FunctionInfoDAO.class);
       configuration.addAnnotatedClass(RegisteredModelInfoDAO.class);
@@ -51,6 +81,8 @@ public class HibernateConfigurator {
       configuration.addAnnotatedClass(VolumeInfoDAO.class);
       configuration.addAnnotatedClass(UserDAO.class);
       configuration.addAnnotatedClass(MetastoreDAO.class);
+      configuration.addAnnotatedClass(ChangeEventDAO.class);
+      configuration.addAnnotatedClass(PolicyChangeDAO.class);
 
       ServiceRegistry serviceRegistry =
           new StandardServiceRegistryBuilder().applySettings(configuration.getProperties()).build();
@@ -88,6 +120,70 @@ public class HibernateConfigurator {
       hibernateProperties.setProperty("hibernate.hbm2ddl.auto", "create-drop");
       LOGGER.debug("Hibernate configuration set for testing");
     }
+
+    // Server properties take precedence, e.g. to point several servers at one database
+    hibernateProperties.putAll(serverProperties.getPropertiesWithPrefix("hibernate."));
+
+    // Send inserts, updates and deletes in JDBC batches, e.g. the rows of the columns of a table,
+    // grouped by entity so that the rows of many tables created at once share their batches.
+    // Identifiers are UUIDs assigned up front, so batching is only disabled for entities with
+    // database generated sequence numbers, which are inserted one by one.
+    hibernateProperties.putIfAbsent(
+        "hibernate.jdbc.batch_size", String.valueOf(DEFAULT_JDBC_BATCH_SIZE));
+    hibernateProperties.putIfAbsent("hibernate.order_inserts", "true");
+    hibernateProperties.putIfAbsent("hibernate.order_updates", "true");
+
+    if (serverProperties.isMetadataCacheEnabled()) {
+      setupMetadataCacheProperties(serverProperties, hibernateProperties);
+    } else {
+      // Hibernate would otherwise pick up the JCache provider from the classpath on its own
+      hibernateProperties.setProperty("hibernate.cache.use_second_level_cache", "false");
+    }
     return hibernateProperties;
   }
+
+  /**
+   * Returns the properties of the read replica, which are those of the primary with the connection
+   * replaced. The replica never changes the schema, and has no second-level cache since writes to
+   * the primary would not invalidate it.
+   */
+  private Properties setupReadReplicaProperties(ServerProperties serverProperties) {
+    Properties replicaProperties = new Properties();
+    replicaProperties.putAll(hibernateProperties);
+    replicaProperties.setProperty(
+        "hibernate.connection.url",
+        serverProperties.get(ServerProperties.Property.READ_REPLICA_URL));
+    String user = serverProperties.get(ServerProperties.Property.READ_REPLICA_USER);
+    if (user != null && !user.isEmpty()) {
+      replicaProperties.setProperty("hibernate.connection.username", user);
+      replicaProperties.setProperty(
+          "hibernate.connection.password",
+          serverProperties.getProperty(
+              ServerProperties.Property.READ_REPLICA_PASSWORD.getKey(), ""));
+    }
+    replicaProperties.setProperty("hibernate.hbm2ddl.auto", "none");
+    replicaProperties.setProperty("hibernate.cache.use_second_level_cache", "false");
+    replicaProperties.setProperty("hibernate.cache.use_query_cache", "false");
+    replicaProperties.remove("hibernate.cache.region.factory_class");
+    return replicaProperties;
+  }
+
+  /**
+   * Enables the second-level and query caches used for metastore, catalog and schema lookups. The
+   * cache is in-process and bounded by {@code server.metadata-cache.max-entries} per region.
+   */
+  private static void setupMetadataCacheProperties(
+      ServerProperties serverProperties, Properties hibernateProperties) {
+    hibernateProperties.setProperty("hibernate.cache.use_second_level_cache", "true");
+    hibernateProperties.setProperty("hibernate.cache.use_query_cache", "true");
+    hibernateProperties.setProperty(
+        "hibernate.cache.region.factory_class", MetadataCacheRegionFactory.class.getName());
+    hibernateProperties.setProperty(
+        MetadataCacheRegionFactory.MAX_ENTRIES,
+        serverProperties.getProperty(
+            ServerProperties.Property.METADATA_CACHE_MAX_ENTRIES.getKey(),
+            String.valueOf(MetadataCacheRegionFactory.DEFAULT_MAX_ENTRIES)));
+    hibernateProperties.setProperty("hibernate.generate_statistics", "true");
+    LOGGER.info("Metadata second-level cache enabled");
+  }
 }
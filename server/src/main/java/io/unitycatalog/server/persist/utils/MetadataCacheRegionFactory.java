@@ -0,0 +1,56 @@
+package io.unitycatalog.server.persist.utils;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.Cache;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * JCache backed second-level cache region factory for slowly changing metadata (metastore, catalogs
+ * and schemas). Every region is an in-process Caffeine cache bounded to a configurable number of
+ * entries, with JCache statistics and management beans enabled so hit ratios can be inspected over
+ * JMX.
+ *
+ * <p>Each session factory gets its own cache manager, so caches never outlive the server instance
+ * that populated them.
+ */
+public class MetadataCacheRegionFactory extends JCacheRegionFactory {
+
+  public static final String MAX_ENTRIES = "hibernate.cache.unitycatalog.max_entries";
+  public static final long DEFAULT_MAX_ENTRIES = 10_000L;
+
+  private long maxEntries = DEFAULT_MAX_ENTRIES;
+
+  @Override
+  protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    Object configuredMaxEntries = configValues.get(MAX_ENTRIES);
+    if (configuredMaxEntries != null) {
+      maxEntries = Long.parseLong(configuredMaxEntries.toString());
+    }
+    super.prepareForUse(settings, configValues);
+  }
+
+  @Override
+  protected URI getUri(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    return URI.create("unitycatalog:metadata-cache:" + UUID.randomUUID());
+  }
+
+  @Override
+  protected Cache<Object, Object> createCache(String regionName) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    // Hibernate keeps disassembled, immutable state in the cache, copying it is not needed
+    configuration.setStoreByValue(false);
+    configuration.setStatisticsEnabled(true);
+    configuration.setManagementEnabled(true);
+    // Evicting an update timestamp would make stale query results look up to date
+    if (!regionName.endsWith(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)) {
+      configuration.setMaximumSize(OptionalLong.of(maxEntries));
+    }
+    return getCacheManager().createCache(regionName, configuration);
+  }
+}
@@ -0,0 +1,130 @@
+package io.unitycatalog.server.persist.utils;
+
+import com.linecorp.armeria.server.ServiceRequestContext;
+import io.unitycatalog.server.service.AuthDecorator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.resource.transaction.spi.TransactionStatus;
+import org.hibernate.type.Type;
+
+/**
+ * Routes read-only sessions to a read replica of the database, when one is configured.
+ *
+ * <p>A replica lags behind the primary, so a principal could fail to see its own changes right
+ * after making them. To avoid that, the reads of a principal go to the primary for {@code
+ * server.read-replica.read-your-writes-window-ms} after it committed a change on the primary.
+ * Requests without a principal, e.g. when authorization is disabled, count as a single principal.
+ * Changes made by other principals may still take as long as the replication lag to be visible.
+ */
+public class ReadReplicaRouter {
+  static final long DEFAULT_READ_YOUR_WRITES_WINDOW_MS = 5000;
+  private static final int MAX_TRACKED_PRINCIPALS = 10_000;
+  private static final String ANONYMOUS = "";
+
+  private final long readYourWritesWindowMs;
+  // The time of the last committed change of each principal, only tracked with a replica
+  private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+  private SessionFactory primary;
+  private SessionFactory replica;
+
+  /** Creates a router that sends all sessions to the primary. */
+  public ReadReplicaRouter(SessionFactory primary) {
+    this(0);
+    setSessionFactories(primary, null);
+  }
+
+  /**
+   * Creates a router whose session factories are set later, since the primary's sessions need the
+   * write tracker of the router.
+   */
+  ReadReplicaRouter(long readYourWritesWindowMs) {
+    this.readYourWritesWindowMs = readYourWritesWindowMs;
+  }
+
+  void setSessionFactories(SessionFactory primary, SessionFactory replica) {
+    this.primary = primary;
+    this.replica = replica;
+  }
+
+  /**
+   * Opens a read-only session, on the replica unless the current principal changed something
+   * recently. Must not be used to read data that is about to be changed.
+   */
+  public Session openReadOnlySession() {
+    Session session;
+    if (replica == null || wroteRecently(currentPrincipal())) {
+      session = primary.openSession();
+    } else {
+      session = replica.openSession();
+    }
+    session.setDefaultReadOnly(true);
+    return session;
+  }
+
+  private boolean wroteRecently(String principal) {
+    Long lastWrite = lastWrites.get(principal);
+    return lastWrite != null && System.currentTimeMillis() - lastWrite < readYourWritesWindowMs;
+  }
+
+  private void recordWrite() {
+    long now = System.currentTimeMillis();
+    if (lastWrites.size() >= MAX_TRACKED_PRINCIPALS) {
+      lastWrites.values().removeIf(lastWrite -> now - lastWrite >= readYourWritesWindowMs);
+    }
+    lastWrites.put(currentPrincipal(), now);
+  }
+
+  private static String currentPrincipal() {
+    ServiceRequestContext ctx = ServiceRequestContext.currentOrNull();
+    if (ctx == null || ctx.attr(AuthDecorator.DECODED_JWT_ATTR) == null) {
+      return ANONYMOUS;
+    }
+    return ctx.attr(AuthDecorator.DECODED_JWT_ATTR).getSubject();
+  }
+
+  /** Returns an interceptor for a session on the primary, recording the changes it commits. */
+  Interceptor newWriteTracker() {
+    return new WriteTracker();
+  }
+
+  private class WriteTracker implements Interceptor {
+    private boolean wrote;
+
+    @Override
+    public boolean onSave(
+        Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+      wrote = true;
+      return false;
+    }
+
+    @Override
+    public boolean onFlushDirty(
+        Object entity,
+        Object id,
+        Object[] currentState,
+        Object[] previousState,
+        String[] propertyNames,
+        Type[] types) {
+      wrote = true;
+      return false;
+    }
+
+    @Override
+    public void onDelete(
+        Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+      wrote = true;
+    }
+
+    @Override
+    public void afterTransactionCompletion(Transaction tx) {
+      if (wrote && tx.getStatus() == TransactionStatus.COMMITTED) {
+        recordWrite();
+      }
+      wrote = false;
+    }
+  }
+}
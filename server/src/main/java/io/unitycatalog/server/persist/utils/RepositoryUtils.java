@@ -11,6 +11,7 @@ import io.unitycatalog.server.persist.dao.SchemaInfoDAO;
 import io.unitycatalog.server.utils.Constants;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -45,6 +46,16 @@ public class RepositoryUtils {
     }
   }
 
+  /**
+   * Returns the time to record for an update of an entity last updated at {@code previous}. It is
+   * strictly later than the previous update, so entity tags derived from it change even when two
+   * updates happen within the same millisecond.
+   */
+  public static Date nextUpdateTime(Date previous) {
+    long now = System.currentTimeMillis();
+    return new Date(previous != null && previous.getTime() >= now ? previous.getTime() + 1 : now);
+  }
+
   public static String[] parseFullName(String fullName) {
     String[] parts = fullName.split("\\.");
     if (parts.length != 3) {
@@ -0,0 +1,432 @@
+package io.unitycatalog.server.persist.utils;
+
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
+import io.unitycatalog.server.model.ChangeOperation;
+import io.unitycatalog.server.model.SecurableType;
+import io.unitycatalog.server.persist.dao.MetastoreDAO;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory index of the storage locations of tables and volumes, used to find the securable that
+ * owns a path and to keep the locations of securables from overlapping.
+ *
+ * <p>Locations are split into segments, the scheme and authority followed by each path element, and
+ * kept in a trie. Finding the owner of a path therefore takes time proportional to the length of
+ * the path, whatever the number of locations. Each node counts the locations at or below it, so a
+ * new location is checked against the locations containing it and those it contains in a single
+ * walk.
+ *
+ * <p>The index is loaded from the database on first use. A location is registered as part of the
+ * transaction creating its securable, so that concurrent transactions cannot create overlapping
+ * locations, and released if the transaction rolls back. A location is unregistered when the
+ * transaction deleting its securable commits.
+ *
+ * <p>When several servers share the database (see {@link #enableSharedDatabase}), the transactions
+ * registering locations are serialized across the servers by a lock on the metastore row, and the
+ * locations the other servers created since the last synchronization are added before checking.
+ */
+public class StorageLocationIndex {
+  private static final Logger LOGGER = LoggerFactory.getLogger(StorageLocationIndex.class);
+  private static final int FETCH_SIZE = 1000;
+
+  /** A securable owning a storage location. */
+  public record Owner(SecurableType securableType, UUID id) {}
+
+  private static class Node {
+    private final Node parent;
+    private final String segment;
+    private Map<String, Node> children;
+    // Only ever holds more than one owner for locations shared before overlaps were rejected
+    private List<Owner> owners;
+    private int count;
+
+    private Node(Node parent, String segment) {
+      this.parent = parent;
+      this.segment = segment;
+    }
+  }
+
+  private final SessionFactory sessionFactory;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Node root = new Node(null, null);
+  private final Map<UUID, Node> nodesById = new HashMap<>();
+  private volatile boolean loaded;
+  // Only set when servers share the database
+  private volatile LongSupplier syncedSequenceNumber;
+  // The sessions whose transaction holds the lock on the metastore row
+  private final Set<Session> lockingSessions = ConcurrentHashMap.newKeySet();
+
+  public StorageLocationIndex(SessionFactory sessionFactory) {
+    this.sessionFactory = sessionFactory;
+  }
+
+  /**
+   * Checks new locations against the locations created by the other servers sharing the database,
+   * including those they created since the last synchronization.
+   *
+   * @param syncedSequenceNumber the sequence number of the change log up to which the changes of
+   *     the other servers have been applied to the index
+   */
+  public void enableSharedDatabase(LongSupplier syncedSequenceNumber) {
+    this.syncedSequenceNumber = syncedSequenceNumber;
+  }
+
+  /** Loads the locations of all tables and volumes, unless they were already loaded. */
+  public void load() {
+    if (loaded) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+      long start = System.currentTimeMillis();
+      try (Session session = sessionFactory.openSession()) {
+        session.setDefaultReadOnly(true);
+        forEachLocation(
+            session,
+            "SELECT t.id, t.url FROM TableInfoDAO t WHERE t.url IS NOT NULL",
+            SecurableType.TABLE);
+        forEachLocation(
+            session,
+            "SELECT v.id, v.storageLocation FROM VolumeInfoDAO v "
+                + "WHERE v.storageLocation IS NOT NULL",
+            SecurableType.VOLUME);
+      }
+      loaded = true;
+      LOGGER.info(
+          "Loaded {} storage locations in {} ms",
+          nodesById.size(),
+          System.currentTimeMillis() - start);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void forEachLocation(Session session, String hql, SecurableType securableType) {
+    try (Stream<Object[]> rows =
+        session.createQuery(hql, Object[].class).setFetchSize(FETCH_SIZE).stream()) {
+      rows.forEach(row -> addLoaded(new Owner(securableType, (UUID) row[0]), (String) row[1]));
+    }
+  }
+
+  private void addLoaded(Owner owner, String location) {
+    try {
+      add(owner, segments(location));
+    } catch (BaseException e) {
+      LOGGER.warn("Skipping invalid storage location of {} {}", owner.securableType(), owner.id());
+    }
+  }
+
+  /**
+   * Returns the securable whose location is the given path or contains it, if any. When locations
+   * overlap, the one closest to the path is returned.
+   */
+  public Optional<Owner> findOwner(String path) {
+    List<String> segments = segments(path);
+    load();
+    lock.readLock().lock();
+    try {
+      Node node = root;
+      Owner owner = null;
+      for (String segment : segments) {
+        node = node.children != null ? node.children.get(segment) : null;
+        if (node == null) {
+          break;
+        }
+        if (node.owners != null) {
+          owner = node.owners.get(0);
+        }
+      }
+      return Optional.ofNullable(owner);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Registers the location of a securable being created in the session's transaction. The location
+   * is released again if the transaction does not commit.
+   *
+   * @throws BaseException if the location overlaps with the location of another securable
+   */
+  public void register(
+      Session session, String location, SecurableType securableType, UUID securableId) {
+    List<String> segments = segments(location);
+    load();
+    if (syncedSequenceNumber != null) {
+      addLocationsOfOtherServers(session);
+    }
+    lock.writeLock().lock();
+    try {
+      checkNoOverlap(location, segments);
+      add(new Owner(securableType, securableId), segments);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    afterCompletion(
+        session,
+        status -> {
+          if (status != Status.STATUS_COMMITTED) {
+            remove(securableId);
+          }
+        });
+  }
+
+  /**
+   * Locks the metastore row until the session's transaction completes, unless it holds the lock
+   * already, then adds the locations created by the other servers since the last synchronization.
+   * Their transactions registered them under the same lock, so they have all committed, and their
+   * creations are in the change log after the synchronized sequence number.
+   */
+  private void addLocationsOfOtherServers(Session session) {
+    if (!lockingSessions.add(session)) {
+      return;
+    }
+    afterCompletion(session, status -> lockingSessions.remove(session));
+    session
+        .createQuery("FROM MetastoreDAO", MetastoreDAO.class)
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .list();
+    List<Object[]> created =
+        session
+            .createQuery(
+                "SELECT c.securableType, c.securableId FROM ChangeEventDAO c "
+                    + "WHERE c.sequenceNumber > :since AND c.operation = :operation "
+                    + "AND c.securableType IN (:types)",
+                Object[].class)
+            .setParameter("since", syncedSequenceNumber.getAsLong())
+            .setParameter("operation", ChangeOperation.CREATE.getValue())
+            .setParameter(
+                "types", List.of(SecurableType.TABLE.getValue(), SecurableType.VOLUME.getValue()))
+            .list();
+    for (Object[] row : created) {
+      refresh(SecurableType.fromValue((String) row[0]), (UUID) row[1]);
+    }
+  }
+
+  /** Unregisters the location of a securable once the session's transaction deleting it commits. */
+  public void unregister(Session session, UUID securableId) {
+    afterCompletion(
+        session,
+        status -> {
+          if (status == Status.STATUS_COMMITTED) {
+            remove(securableId);
+          }
+        });
+  }
+
+  /**
+   * Reads the location of a securable created by another server from the database and adds it, if
+   * it is not indexed yet. The other server checked it for overlaps already.
+   */
+  public void refresh(SecurableType securableType, UUID securableId) {
+    if (!loaded) {
+      return;
+    }
+    lock.readLock().lock();
+    try {
+      if (nodesById.containsKey(securableId)) {
+        return;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    String hql =
+        securableType == SecurableType.TABLE
+            ? "SELECT t.url FROM TableInfoDAO t WHERE t.id = :id"
+            : "SELECT v.storageLocation FROM VolumeInfoDAO v WHERE v.id = :id";
+    String location;
+    try (Session session = sessionFactory.openSession()) {
+      session.setDefaultReadOnly(true);
+      location =
+          session.createQuery(hql, String.class).setParameter("id", securableId).uniqueResult();
+    }
+    if (location == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (!nodesById.containsKey(securableId)) {
+        addLoaded(new Owner(securableType, securableId), location);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Removes the location of a securable, if it is indexed. */
+  public void remove(UUID securableId) {
+    lock.writeLock().lock();
+    try {
+      Node node = nodesById.remove(securableId);
+      if (node == null) {
+        return;
+      }
+      node.owners.removeIf(owner -> owner.id().equals(securableId));
+      if (node.owners.isEmpty()) {
+        node.owners = null;
+      }
+      for (Node current = node; current != root; current = current.parent) {
+        current.count--;
+        if (current.count == 0) {
+          current.parent.children.remove(current.segment);
+          if (current.parent.children.isEmpty()) {
+            current.parent.children = null;
+          }
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void checkNoOverlap(String location, List<String> segments) {
+    Node node = root;
+    for (String segment : segments) {
+      node = node.children != null ? node.children.get(segment) : null;
+      if (node == null) {
+        return;
+      }
+      if (node.owners != null) {
+        throw overlapException(location, node);
+      }
+    }
+    // Some location is at or below the new one
+    while (node.owners == null) {
+      node = node.children.values().iterator().next();
+    }
+    throw overlapException(location, node);
+  }
+
+  private static BaseException overlapException(String location, Node node) {
+    Owner owner = node.owners.get(0);
+    StringBuilder ownerLocation = new StringBuilder();
+    for (Node current = node; current.parent != null; current = current.parent) {
+      ownerLocation.insert(
+          0, current.parent.parent != null ? "/" + current.segment : current.segment);
+    }
+    return new BaseException(
+        ErrorCode.INVALID_ARGUMENT,
+        "Storage location "
+            + location
+            + " overlaps with the location of "
+            + owner.securableType().getValue()
+            + " "
+            + owner.id()
+            + ": "
+            + ownerLocation);
+  }
+
+  private void add(Owner owner, List<String> segments) {
+    Node node = root;
+    for (String segment : segments) {
+      if (node.children == null) {
+        node.children = new HashMap<>(4);
+      }
+      Node parent = node;
+      node = node.children.computeIfAbsent(segment, key -> new Node(parent, key));
+      node.count++;
+    }
+    if (node.owners == null) {
+      node.owners = new ArrayList<>(1);
+    }
+    node.owners.add(owner);
+    nodesById.put(owner.id(), node);
+  }
+
+  private static void afterCompletion(Session session, Consumer<Integer> action) {
+    session
+        .getTransaction()
+        .registerSynchronization(
+            new Synchronization() {
+              @Override
+              public void beforeCompletion() {}
+
+              @Override
+              public void afterCompletion(int status) {
+                action.accept(status);
+              }
+            });
+  }
+
+  /**
+   * Returns a location the way it is looked up in the index: relative and local paths are resolved
+   * like the locations stored for tables, and {@code .} elements are removed. Callers that act on
+   * the location after looking it up should use the returned value, so that both refer to the same
+   * path.
+   *
+   * @throws BaseException if the location is invalid or has {@code ..} elements
+   */
+  public static String normalize(String location) {
+    if (location == null || location.isEmpty()) {
+      throw new BaseException(ErrorCode.INVALID_ARGUMENT, "Storage location is null or empty.");
+    }
+    URI uri;
+    try {
+      uri = URI.create(FileOperations.convertRelativePathToURI(location));
+    } catch (IllegalArgumentException e) {
+      throw new BaseException(ErrorCode.INVALID_ARGUMENT, "Invalid storage location: " + location);
+    }
+    if (uri.getScheme() == null
+        || uri.getPath() == null
+        || Arrays.asList(uri.getPath().split("/")).contains("..")) {
+      throw new BaseException(ErrorCode.INVALID_ARGUMENT, "Invalid storage location: " + location);
+    }
+    return uri.normalize().toString();
+  }
+
+  /**
+   * Splits a location into its scheme and authority, followed by its path elements. Relative and
+   * local paths are resolved like the locations stored for tables, and {@code .} and {@code ..}
+   * elements are resolved.
+   */
+  static List<String> segments(String location) {
+    URI uri;
+    try {
+      uri = URI.create(FileOperations.convertRelativePathToURI(location)).normalize();
+    } catch (IllegalArgumentException e) {
+      throw new BaseException(ErrorCode.INVALID_ARGUMENT, "Invalid storage location: " + location);
+    }
+    if (uri.getScheme() == null || uri.getPath() == null) {
+      throw new BaseException(ErrorCode.INVALID_ARGUMENT, "Invalid storage location: " + location);
+    }
+    List<String> segments = new ArrayList<>();
+    String authority = uri.getAuthority() != null ? uri.getAuthority() : "";
+    segments.add(uri.getScheme().toLowerCase(Locale.ROOT) + "://" + authority);
+    for (String element : uri.getPath().split("/")) {
+      if (element.equals("..")) {
+        throw new BaseException(
+            ErrorCode.INVALID_ARGUMENT, "Invalid storage location: " + location);
+      }
+      if (!element.isEmpty() && !element.equals(".")) {
+        segments.add(element);
+      }
+    }
+    return segments;
+  }
+}
@@ -2,6 +2,7 @@ package io.unitycatalog.server.service;
 
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.server.annotation.Delete;
 import com.linecorp.armeria.server.annotation.ExceptionHandler;
 import com.linecorp.armeria.server.annotation.Get;
@@ -22,6 +23,7 @@ import io.unitycatalog.server.persist.MetastoreRepository;
 import io.unitycatalog.server.persist.Repositories;
 import io.unitycatalog.server.persist.UserRepository;
 import io.unitycatalog.server.persist.model.Privileges;
+import io.unitycatalog.server.utils.EntityTags;
 import lombok.SneakyThrows;
 
 import java.util.List;
@@ -81,8 +83,19 @@ public class CatalogService {
       #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG)
       """)
   @AuthorizeKey(METASTORE)
-  public HttpResponse getCatalog(@Param("name") @AuthorizeKey(CATALOG) String name) {
-    return HttpResponse.ofJson(catalogRepository.getCatalog(name));
+  public HttpResponse getCatalog(
+      @Param("name") @AuthorizeKey(CATALOG) String name, RequestHeaders headers) {
+    if (EntityTags.isConditional(headers)) {
+      String entityTag = catalogRepository.getCatalogEntityTag(name);
+      if (entityTag != null && EntityTags.matches(headers, entityTag)) {
+        return EntityTags.notModified(entityTag);
+      }
+    }
+    CatalogInfo catalogInfo = catalogRepository.getCatalog(name);
+    return EntityTags.withEntityTag(
+        HttpResponse.ofJson(catalogInfo),
+        EntityTags.of(
+            name, catalogInfo.getId(), catalogInfo.getCreatedAt(), catalogInfo.getUpdatedAt()));
   }
 
   @Patch("/{name}")
@@ -0,0 +1,188 @@
+package io.unitycatalog.server.service;
+
+import static io.unitycatalog.server.model.SecurableType.METASTORE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.sse.ServerSentEvent;
+import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.common.stream.StreamWriter;
+import com.linecorp.armeria.common.util.TimeoutMode;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.annotation.ExceptionHandler;
+import com.linecorp.armeria.server.annotation.Get;
+import com.linecorp.armeria.server.annotation.Param;
+import com.linecorp.armeria.server.streaming.ServerSentEvents;
+import io.unitycatalog.server.auth.UnityCatalogAuthorizer;
+import io.unitycatalog.server.auth.annotation.AuthorizeExpression;
+import io.unitycatalog.server.auth.decorator.KeyMapper;
+import io.unitycatalog.server.auth.decorator.UnityAccessEvaluator;
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
+import io.unitycatalog.server.exception.GlobalExceptionHandler;
+import io.unitycatalog.server.model.ChangeEvent;
+import io.unitycatalog.server.model.ListChangesResponse;
+import io.unitycatalog.server.persist.ChangeRepository;
+import io.unitycatalog.server.persist.Repositories;
+import io.unitycatalog.server.persist.UserRepository;
+import io.unitycatalog.server.utils.JsonUtils;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+
+/**
+ * Serves the change log, so that clients can invalidate cached metadata precisely instead of
+ * expiring it after a short time.
+ *
+ * <p>Changes are listed after a sequence number, optionally waiting for the next change to be
+ * committed (long polling), or streamed as server-sent events whose ids are the sequence numbers.
+ * Waiting does not hold a thread; it completes when a change commits or the timeout elapses.
+ *
+ * <p>Changes name securables across the whole metastore, so reading them requires ownership of, or
+ * USE CATALOG on, the metastore. A stream checks this again before each batch of changes it sends,
+ * and ends once the principal has lost the privilege.
+ */
+@ExceptionHandler(GlobalExceptionHandler.class)
+public class ChangeService {
+  static final long MAX_TIMEOUT_MS = 60_000;
+  static final long HEARTBEAT_INTERVAL_MS = 15_000;
+  static final String READ_CHANGES_EXPRESSION =
+      "#authorizeAny(#principal, #metastore, OWNER, USE_CATALOG)";
+
+  private final ChangeRepository changeRepository;
+  private final UserRepository userRepository;
+  private final UnityAccessEvaluator evaluator;
+  private final KeyMapper keyMapper;
+
+  @SneakyThrows
+  public ChangeService(UnityCatalogAuthorizer authorizer, Repositories repositories) {
+    this.changeRepository = repositories.getChangeRepository();
+    this.userRepository = repositories.getUserRepository();
+    this.evaluator = new UnityAccessEvaluator(authorizer);
+    this.keyMapper = new KeyMapper(repositories);
+  }
+
+  @Get("")
+  @AuthorizeExpression("#defer")
+  public HttpResponse listChanges(
+      @Param("since") Optional<Long> since,
+      @Param("max_results") Optional<Integer> maxResults,
+      @Param("timeout_ms") Optional<Integer> timeoutMs,
+      ServiceRequestContext ctx) {
+    if (!canReadChanges(userRepository.findPrincipalId())) {
+      throw new BaseException(ErrorCode.PERMISSION_DENIED, "Access denied.");
+    }
+    long start = since.orElse(0L);
+    CompletableFuture<Void> nextChange = changeRepository.nextChange();
+    ListChangesResponse response = changeRepository.listChanges(start, maxResults);
+    long timeout = Math.min(timeoutMs.orElse(0), MAX_TIMEOUT_MS);
+    if (!response.getChanges().isEmpty() || timeout <= 0) {
+      return HttpResponse.ofJson(response);
+    }
+    ctx.setRequestTimeout(TimeoutMode.EXTEND, Duration.ofMillis(timeout));
+    return HttpResponse.of(
+        nextChange
+            .copy()
+            .completeOnTimeout(null, timeout, TimeUnit.MILLISECONDS)
+            .thenApplyAsync(
+                unused -> HttpResponse.ofJson(changeRepository.listChanges(start, maxResults)),
+                ctx.blockingTaskExecutor()));
+  }
+
+  @Get("/stream")
+  @AuthorizeExpression("#defer")
+  public HttpResponse streamChanges(
+      @Param("since") Optional<Long> since, RequestHeaders headers, ServiceRequestContext ctx) {
+    UUID principalId = userRepository.findPrincipalId();
+    if (!canReadChanges(principalId)) {
+      throw new BaseException(ErrorCode.PERMISSION_DENIED, "Access denied.");
+    }
+    long start =
+        since
+            .or(() -> getLastEventId(headers))
+            .orElseGet(changeRepository::getLatestSequenceNumber);
+    StreamWriter<ServerSentEvent> writer = StreamMessage.streaming();
+    ctx.clearRequestTimeout();
+    ctx.blockingTaskExecutor().execute(() -> sendChanges(writer, start, principalId, ctx));
+    return ServerSentEvents.fromPublisher(writer);
+  }
+
+  private boolean canReadChanges(UUID principalId) {
+    return evaluator.evaluate(
+        principalId,
+        READ_CHANGES_EXPRESSION,
+        keyMapper.mapResourceKeys(Map.of(METASTORE, "metastore")));
+  }
+
+  private static Optional<Long> getLastEventId(RequestHeaders headers) {
+    String lastEventId = headers.get(HttpHeaderNames.LAST_EVENT_ID);
+    if (lastEventId == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Long.parseLong(lastEventId.trim()));
+    } catch (NumberFormatException e) {
+      throw new BaseException(ErrorCode.INVALID_ARGUMENT, "Invalid Last-Event-ID: " + lastEventId);
+    }
+  }
+
+  /**
+   * Sends the changes after {@code since}, then schedules itself again once they have been consumed
+   * or, if there were none, once the next change commits. A comment is sent as a heartbeat when no
+   * change commits for {@link #HEARTBEAT_INTERVAL_MS}.
+   */
+  private void sendChanges(
+      StreamWriter<ServerSentEvent> writer,
+      long since,
+      UUID principalId,
+      ServiceRequestContext ctx) {
+    if (!writer.isOpen()) {
+      return;
+    }
+    CompletableFuture<Void> nextChange = changeRepository.nextChange();
+    ListChangesResponse response;
+    try {
+      if (!canReadChanges(principalId)) {
+        writer.close(new BaseException(ErrorCode.PERMISSION_DENIED, "Access denied."));
+        return;
+      }
+      response = changeRepository.listChanges(since, Optional.empty());
+      for (ChangeEvent change : response.getChanges()) {
+        writer.tryWrite(
+            ServerSentEvent.builder()
+                .id(String.valueOf(change.getSequenceNumber()))
+                .event("change")
+                .data(JsonUtils.getInstance().writeValueAsString(change))
+                .build());
+      }
+    } catch (JsonProcessingException | RuntimeException e) {
+      writer.close(e);
+      return;
+    }
+    long next = response.getNextSequenceNumber();
+    if (!response.getChanges().isEmpty()) {
+      writer
+          .whenConsumed()
+          .thenRunAsync(
+              () -> sendChanges(writer, next, principalId, ctx), ctx.blockingTaskExecutor());
+      return;
+    }
+    nextChange
+        .copy()
+        .completeOnTimeout(null, HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS)
+        .thenRunAsync(
+            () -> {
+              if (!nextChange.isDone()) {
+                writer.tryWrite(ServerSentEvent.ofComment(""));
+              }
+              sendChanges(writer, next, principalId, ctx);
+            },
+            ctx.blockingTaskExecutor());
+  }
+}
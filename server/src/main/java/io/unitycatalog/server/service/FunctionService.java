@@ -2,6 +2,7 @@ package io.unitycatalog.server.service;
 
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.server.annotation.Delete;
 import com.linecorp.armeria.server.annotation.ExceptionHandler;
 import com.linecorp.armeria.server.annotation.Get;
@@ -20,6 +21,7 @@ import io.unitycatalog.server.model.ListFunctionsResponse;
 import io.unitycatalog.server.model.SchemaInfo;
 import io.unitycatalog.server.persist.*;
 import io.unitycatalog.server.persist.model.Privileges;
+import io.unitycatalog.server.utils.EntityTags;
 import lombok.SneakyThrows;
 
 import java.util.List;
@@ -97,8 +99,25 @@ public class FunctionService {
           (#authorize(#principal, #schema, OWNER) && #authorizeAny(#principal, #catalog, USE_CATALOG)) ||
           (#authorize(#principal, #catalog, USE_CATALOG) && #authorize(#principal, #schema, USE_SCHEMA) && #authorizeAny(#principal, #function, OWNER, EXECUTE))
           """)
-  public HttpResponse getFunction(@Param("name") @AuthorizeKey(FUNCTION) String name) {
-    return HttpResponse.ofJson(functionRepository.getFunction(name));
+  public HttpResponse getFunction(
+      @Param("name") @AuthorizeKey(FUNCTION) String name, RequestHeaders headers) {
+    if (EntityTags.isConditional(headers)) {
+      String entityTag = functionRepository.getFunctionEntityTag(name);
+      if (entityTag != null && EntityTags.matches(headers, entityTag)) {
+        return EntityTags.notModified(entityTag);
+      }
+    }
+    FunctionInfo functionInfo = functionRepository.getFunction(name);
+    if (functionInfo == null) {
+      return HttpResponse.ofJson(functionInfo);
+    }
+    return EntityTags.withEntityTag(
+        HttpResponse.ofJson(functionInfo),
+        EntityTags.of(
+            name,
+            functionInfo.getFunctionId(),
+            functionInfo.getCreatedAt(),
+            functionInfo.getUpdatedAt()));
   }
 
   @Delete("/{name}")
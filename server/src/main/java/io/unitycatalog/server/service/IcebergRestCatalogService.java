@@ -1,9 +1,9 @@
 package io.unitycatalog.server.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.server.annotation.ExceptionHandler;
 import com.linecorp.armeria.server.annotation.Get;
 import com.linecorp.armeria.server.annotation.Head;
@@ -11,20 +11,21 @@ import com.linecorp.armeria.server.annotation.Param;
 import com.linecorp.armeria.server.annotation.Post;
 import com.linecorp.armeria.server.annotation.ProducesJson;
 import io.unitycatalog.server.exception.IcebergRestExceptionHandler;
-import io.unitycatalog.server.model.ListSchemasResponse;
-import io.unitycatalog.server.model.ListTablesResponse;
 import io.unitycatalog.server.model.SchemaInfo;
 import io.unitycatalog.server.persist.Repositories;
+import io.unitycatalog.server.persist.SchemaRepository;
 import io.unitycatalog.server.persist.TableRepository;
 import io.unitycatalog.server.service.iceberg.MetadataService;
 import io.unitycatalog.server.service.iceberg.TableConfigService;
-import io.unitycatalog.server.utils.JsonUtils;
-import java.util.Collections;
-import java.util.List;
+import io.unitycatalog.server.utils.EntityTags;
+import io.unitycatalog.server.utils.RESTObjectMapper;
+import io.unitycatalog.server.utils.StreamingJsonResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.function.Predicate;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
@@ -49,6 +50,7 @@ public class IcebergRestCatalogService {
   private final TableService tableService;
   private final TableConfigService tableConfigService;
   private final MetadataService metadataService;
+  private final SchemaRepository schemaRepository;
   private final TableRepository tableRepository;
   private final SessionFactory sessionFactory;
 
@@ -64,6 +66,7 @@ public class IcebergRestCatalogService {
     this.tableService = tableService;
     this.tableConfigService = tableConfigService;
     this.metadataService = metadataService;
+    this.schemaRepository = repositories.getSchemaRepository();
     this.tableRepository = repositories.getTableRepository();
     this.sessionFactory = repositories.getSessionFactory();
   }
@@ -86,43 +89,47 @@ public class IcebergRestCatalogService {
 
   @Get("/v1/catalogs/{catalog}/namespaces")
   @ProducesJson
-  public ListNamespacesResponse listNamespaces(
-      @Param("catalog") String catalog, @Param("parent") Optional<String> parent)
-      throws JsonProcessingException {
-    List<Namespace> namespaces;
+  public HttpResponse listNamespaces(
+      @Param("catalog") String catalog, @Param("parent") Optional<String> parent) {
     if (parent.isPresent() && !parent.get().isEmpty()) {
       // nested namespaces is not supported, so child namespaces will be empty
-      namespaces = Collections.emptyList();
-    } else {
-      String respContent =
-          schemaService
-              .listSchemas(catalog, Optional.of(Integer.MAX_VALUE), Optional.empty())
-              .aggregate()
-              .join()
-              .contentUtf8();
-      ListSchemasResponse resp =
-          JsonUtils.getInstance().readValue(respContent, ListSchemasResponse.class);
-      assert resp.getSchemas() != null;
-      namespaces =
-          resp.getSchemas().stream()
-              .map(schemaInfo -> Namespace.of(schemaInfo.getName()))
-              .collect(Collectors.toList());
+      return HttpResponse.ofJson(ListNamespacesResponse.builder().build());
     }
 
-    return ListNamespacesResponse.builder().addAll(namespaces).build();
+    UUID catalogId;
+    try (Session session = sessionFactory.openSession()) {
+      catalogId = schemaRepository.getCatalogId(session, catalog);
+    }
+    Predicate<UUID> visible = schemaService.schemaFilter(catalogId);
+
+    // Namespaces are written out as schemas are read, instead of collecting a response object
+    return StreamingJsonResponse.of(
+        RESTObjectMapper.mapper(),
+        generator -> {
+          generator.writeStartObject();
+          generator.writeArrayFieldStart("namespaces");
+          schemaRepository.forEachSchema(
+              catalogId,
+              (schemaId, schemaName) -> {
+                if (visible.test(schemaId)) {
+                  writeObject(generator, Namespace.of(schemaName));
+                }
+              });
+          generator.writeEndArray();
+          generator.writeEndObject();
+        });
   }
 
   @Get("/v1/catalogs/{catalog}/namespaces/{namespace}")
   @ProducesJson
   public GetNamespaceResponse getNamespace(
-      @Param("catalog") String catalog, @Param("namespace") String namespace)
-      throws JsonProcessingException {
+      @Param("catalog") String catalog, @Param("namespace") String namespace) {
 
     String schemaFullName = String.join(".", catalog, namespace);
-    String resp = schemaService.getSchema(schemaFullName).aggregate().join().contentUtf8();
+    SchemaInfo schemaInfo = schemaRepository.getSchema(schemaFullName);
     return GetNamespaceResponse.builder()
         .withNamespace(Namespace.of(namespace))
-        .setProperties(JsonUtils.getInstance().readValue(resp, SchemaInfo.class).getProperties())
+        .setProperties(schemaInfo.getProperties())
         .build();
   }
 
@@ -147,13 +154,19 @@ public class IcebergRestCatalogService {
 
   @Get("/v1/catalogs/{catalog}/namespaces/{namespace}/tables/{table}")
   @ProducesJson
-  public LoadTableResponse loadTable(
+  public HttpResponse loadTable(
       @Param("catalog") String catalog,
       @Param("namespace") String namespace,
-      @Param("table") String table) {
+      @Param("table") String table,
+      RequestHeaders headers) {
+    String fullName = catalog + "." + namespace + "." + table;
+    String tableEntityTag = tableRepository.getTableEntityTag(fullName);
+    if (tableEntityTag == null) {
+      // Reports the missing catalog, schema or table
+      tableRepository.getTable(fullName);
+    }
     String metadataLocation;
     try (Session session = sessionFactory.openSession()) {
-      tableRepository.getTable(catalog + "." + namespace + "." + table);
       metadataLocation =
           tableRepository.getTableUniformMetadataLocation(session, catalog, namespace, table);
     }
@@ -162,13 +175,22 @@ public class IcebergRestCatalogService {
       throw new NoSuchTableException("Table does not exist: %s", namespace + "." + table);
     }
 
+    // Every commit writes a new metadata file, so the location identifies the table metadata.
+    // Storage credentials in the config are not part of the tag and are vended again on a 200.
+    // The response may be JSON or Smile, and each encoding has a tag of its own.
+    String entityTag =
+        EntityTags.forEncoding(EntityTags.of(tableEntityTag, metadataLocation), headers);
+    if (EntityTags.matches(headers, entityTag)) {
+      return EntityTags.notModified(entityTag);
+    }
+
     TableMetadata tableMetadata = metadataService.readTableMetadata(metadataLocation);
     Map<String, String> config = tableConfigService.getTableConfig(tableMetadata);
 
-    return LoadTableResponse.builder()
-        .withTableMetadata(tableMetadata)
-        .addAllConfig(config)
-        .build();
+    LoadTableResponse response =
+        LoadTableResponse.builder().withTableMetadata(tableMetadata).addAllConfig(config).build();
+    return EntityTags.withEntityTag(
+        StreamingJsonResponse.of(RESTObjectMapper.mapper(), response), entityTag);
   }
 
   @Get("/v1/catalogs/{catalog}/namespaces/{namespace}/views/{view}")
@@ -190,44 +212,39 @@ public class IcebergRestCatalogService {
 
   @Get("/v1/catalogs/{catalog}/namespaces/{namespace}/tables")
   @ProducesJson
-  public org.apache.iceberg.rest.responses.ListTablesResponse listTables(
-      @Param("catalog") String catalog, @Param("namespace") String namespace)
-      throws JsonProcessingException {
-    AggregatedHttpResponse resp =
-        tableService
-            .listTables(
-                catalog,
-                namespace,
-                Optional.of(Integer.MAX_VALUE),
-                Optional.empty(),
-                Optional.empty(),
-                Optional.empty())
-            .aggregate()
-            .join();
-    List<TableIdentifier> filteredTables;
+  public HttpResponse listTables(
+      @Param("catalog") String catalog, @Param("namespace") String namespace) {
+    UUID catalogId;
+    UUID schemaId;
     try (Session session = sessionFactory.openSession()) {
-      filteredTables =
-          Objects.requireNonNull(
-                  JsonUtils.getInstance()
-                      .readValue(resp.contentUtf8(), ListTablesResponse.class)
-                      .getTables())
-              .stream()
-              .filter(
-                  tableInfo -> {
-                    String metadataLocation =
-                        tableRepository.getTableUniformMetadataLocation(
-                            session, catalog, namespace, tableInfo.getName());
-                    return metadataLocation != null;
-                  })
-              .map(
-                  tableInfo ->
-                      TableIdentifier.of(
-                          Namespace.of(tableInfo.getSchemaName()), tableInfo.getName()))
-              .collect(Collectors.toList());
+      catalogId = schemaRepository.getCatalogId(session, catalog);
+      schemaId = tableRepository.getSchemaId(session, catalog, namespace);
     }
+    Predicate<UUID> visible = tableService.tableFilter(catalogId, schemaId);
+
+    // Identifiers are written out as tables are read, without loading columns or properties
+    return StreamingJsonResponse.of(
+        RESTObjectMapper.mapper(),
+        generator -> {
+          generator.writeStartObject();
+          generator.writeArrayFieldStart("identifiers");
+          tableRepository.forEachUniformTable(
+              schemaId,
+              (tableId, tableName) -> {
+                if (visible.test(tableId)) {
+                  writeObject(generator, TableIdentifier.of(Namespace.of(namespace), tableName));
+                }
+              });
+          generator.writeEndArray();
+          generator.writeEndObject();
+        });
+  }
 
-    return org.apache.iceberg.rest.responses.ListTablesResponse.builder()
-        .addAll(filteredTables)
-        .build();
+  private static void writeObject(JsonGenerator generator, Object value) {
+    try {
+      generator.writeObject(value);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 }
@@ -1,22 +1,204 @@
 package io.unitycatalog.server.service;
 
+import static io.unitycatalog.server.model.SecurableType.METASTORE;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.annotation.ExceptionHandler;
 import com.linecorp.armeria.server.annotation.Get;
+import com.linecorp.armeria.server.annotation.Post;
+import io.unitycatalog.server.auth.UnityCatalogAuthorizer;
+import io.unitycatalog.server.auth.annotation.AuthorizeExpression;
+import io.unitycatalog.server.auth.annotation.AuthorizeKey;
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
 import io.unitycatalog.server.exception.GlobalExceptionHandler;
+import io.unitycatalog.server.model.ImportMetastoreResponse;
+import io.unitycatalog.server.model.MetastoreExportGrant;
 import io.unitycatalog.server.persist.MetastoreRepository;
+import io.unitycatalog.server.persist.MetastoreTransferRepository;
+import io.unitycatalog.server.persist.MetastoreTransferRepository.ImportedSecurable;
 import io.unitycatalog.server.persist.Repositories;
+import io.unitycatalog.server.persist.UserRepository;
+import io.unitycatalog.server.persist.model.Privileges;
+import io.unitycatalog.server.utils.JsonUtils;
+import io.unitycatalog.server.utils.SmileFormat;
+import io.unitycatalog.server.utils.StreamingJsonResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 @ExceptionHandler(GlobalExceptionHandler.class)
 public class MetastoreService {
+  // Bound of the principals remembered while exporting or importing grants
+  private static final int MAX_CACHED_PRINCIPALS = 10_000;
+
+  private final UnityCatalogAuthorizer authorizer;
   private final MetastoreRepository metastoreRepository;
+  private final MetastoreTransferRepository metastoreTransferRepository;
+  private final UserRepository userRepository;
 
-  public MetastoreService(Repositories repositories) {
+  public MetastoreService(UnityCatalogAuthorizer authorizer, Repositories repositories) {
+    this.authorizer = authorizer;
     this.metastoreRepository = repositories.getMetastoreRepository();
+    this.metastoreTransferRepository = repositories.getMetastoreTransferRepository();
+    this.userRepository = repositories.getUserRepository();
   }
 
   @Get("/metastore_summary")
   public HttpResponse getMetastoreSummary() {
     return HttpResponse.ofJson(metastoreRepository.getMetastoreSummary());
   }
+
+  @Get("/metastore/export")
+  @AuthorizeExpression("#authorize(#principal, #metastore, OWNER)")
+  @AuthorizeKey(METASTORE)
+  public HttpResponse exportMetastore(ServiceRequestContext ctx) {
+    // The export takes as long as the metastore is large
+    ctx.clearRequestTimeout();
+    Cache<UUID, Optional<String>> emails =
+        Caffeine.newBuilder().maximumSize(MAX_CACHED_PRINCIPALS).build();
+    return StreamingJsonResponse.ofSequence(
+        JsonUtils.getInstance(),
+        generator ->
+            metastoreTransferRepository.exportMetastore(
+                (record, securableId) ->
+                    generator.writeObject(record.grants(getGrants(securableId, emails)))));
+  }
+
+  @Post("/metastore/import")
+  @AuthorizeExpression("#authorize(#principal, #metastore, OWNER)")
+  @AuthorizeKey(METASTORE)
+  public HttpResponse importMetastore(HttpRequest request, ServiceRequestContext ctx) {
+    // The body is read as a stream, so its size is not bounded
+    ctx.setMaxRequestLength(0);
+    ctx.clearRequestTimeout();
+    ObjectMapper mapper = JsonUtils.getInstance();
+    boolean smile = SmileFormat.is(request.contentType());
+    return HttpResponse.of(
+        CompletableFuture.supplyAsync(
+            () -> {
+              Cache<String, Optional<UUID>> principalIds =
+                  Caffeine.newBuilder().maximumSize(MAX_CACHED_PRINCIPALS).build();
+              AtomicLong importedGrants = new AtomicLong();
+              AtomicLong skippedGrants = new AtomicLong();
+              long importedObjects;
+              try (InputStream in =
+                      request.toInputStream(
+                          obj -> obj instanceof HttpData data ? data : HttpData.empty());
+                  JsonParser parser =
+                      smile
+                          ? SmileFormat.createParser(mapper, in)
+                          : mapper.createParser(in)) {
+                importedObjects =
+                    metastoreTransferRepository.importMetastore(
+                        parser,
+                        securables -> {
+                          // All securables of the batch are reachable before any grant applies
+                          for (ImportedSecurable securable : securables) {
+                            if (securable.parentId() != null) {
+                              authorizer.addHierarchyChild(
+                                  securable.parentId(), securable.securableId());
+                            }
+                          }
+                          for (ImportedSecurable securable : securables) {
+                            grant(securable, principalIds, importedGrants, skippedGrants);
+                          }
+                        });
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+              return HttpResponse.ofJson(
+                  new ImportMetastoreResponse()
+                      .importedObjects(importedObjects)
+                      .importedGrants(importedGrants.get())
+                      .skippedGrants(skippedGrants.get()));
+            },
+            ctx.blockingTaskExecutor()));
+  }
+
+  /** Returns the grants on a securable, by the email of their principal. */
+  private List<MetastoreExportGrant> getGrants(
+      UUID securableId, Cache<UUID, Optional<String>> emails) {
+    if (securableId == null) {
+      return null;
+    }
+    List<MetastoreExportGrant> grants = new ArrayList<>();
+    for (Map.Entry<UUID, List<Privileges>> entry :
+        authorizer.listAuthorizations(securableId).entrySet()) {
+      // Grants of deleted principals are not exported
+      emails
+          .get(entry.getKey(), this::findEmail)
+          .ifPresent(
+              email ->
+                  grants.add(
+                      new MetastoreExportGrant()
+                          .principal(email)
+                          .privileges(
+                              entry.getValue().stream().map(Privileges::getValue).toList())));
+    }
+    return grants.isEmpty() ? null : grants;
+  }
+
+  /**
+   * Grants the privileges on an imported securable to the principals of the same email. Grants to
+   * principals that do not exist here are skipped. The privileges were checked before the batch of
+   * the securable committed.
+   */
+  private void grant(
+      ImportedSecurable securable,
+      Cache<String, Optional<UUID>> principalIds,
+      AtomicLong importedGrants,
+      AtomicLong skippedGrants) {
+    if (securable.grants() == null) {
+      return;
+    }
+    for (MetastoreExportGrant grant : securable.grants()) {
+      Optional<UUID> principalId = principalIds.get(grant.getPrincipal(), this::findPrincipalId);
+      for (String privilege : grant.getPrivileges()) {
+        if (principalId.isEmpty()) {
+          skippedGrants.incrementAndGet();
+          continue;
+        }
+        authorizer.grantAuthorization(
+            principalId.get(), securable.securableId(), Privileges.fromValue(privilege));
+        importedGrants.incrementAndGet();
+      }
+    }
+  }
+
+  private Optional<String> findEmail(UUID principalId) {
+    try {
+      return Optional.of(userRepository.getUser(principalId.toString()).getEmail());
+    } catch (BaseException e) {
+      if (e.getErrorCode() != ErrorCode.NOT_FOUND) {
+        throw e;
+      }
+      return Optional.empty();
+    }
+  }
+
+  private Optional<UUID> findPrincipalId(String email) {
+    try {
+      return Optional.of(UUID.fromString(userRepository.getUserByEmail(email).getId()));
+    } catch (BaseException e) {
+      if (e.getErrorCode() != ErrorCode.NOT_FOUND) {
+        throw e;
+      }
+      return Optional.empty();
+    }
+  }
 }
@@ -2,6 +2,7 @@ package io.unitycatalog.server.service;
 
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.server.annotation.*;
 import io.unitycatalog.server.auth.UnityCatalogAuthorizer;
 import io.unitycatalog.server.auth.annotation.AuthorizeExpression;
@@ -13,6 +14,7 @@ import io.unitycatalog.server.model.*;
 import io.unitycatalog.server.persist.*;
 import io.unitycatalog.server.persist.model.Privileges;
 
+import io.unitycatalog.server.utils.EntityTags;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -95,10 +97,24 @@ public class ModelService {
           (#authorizeAny(#principal, #registered_model, OWNER, EXECUTE) && #authorize(#principal, #schema, USE_SCHEMA) && #authorize(#principal, #catalog, USE_CATALOG))
           """)
   @AuthorizeKey(METASTORE)
-  public HttpResponse getRegisteredModel(@Param("full_name") @AuthorizeKey(REGISTERED_MODEL) String fullNameArg) {
+  public HttpResponse getRegisteredModel(
+      @Param("full_name") @AuthorizeKey(REGISTERED_MODEL) String fullNameArg,
+      RequestHeaders headers) {
     assert fullNameArg != null;
+    if (EntityTags.isConditional(headers)) {
+      String entityTag = modelRepository.getRegisteredModelEntityTag(fullNameArg);
+      if (entityTag != null && EntityTags.matches(headers, entityTag)) {
+        return EntityTags.notModified(entityTag);
+      }
+    }
     RegisteredModelInfo registeredModelInfo = modelRepository.getRegisteredModel(fullNameArg);
-    return HttpResponse.ofJson(registeredModelInfo);
+    return EntityTags.withEntityTag(
+        HttpResponse.ofJson(registeredModelInfo),
+        EntityTags.of(
+            fullNameArg,
+            registeredModelInfo.getId(),
+            registeredModelInfo.getCreatedAt(),
+            registeredModelInfo.getUpdatedAt()));
   }
 
   @Patch("/{full_name}")
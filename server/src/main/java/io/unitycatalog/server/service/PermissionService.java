@@ -12,6 +12,7 @@ import io.unitycatalog.server.auth.annotation.AuthorizeKey;
 import io.unitycatalog.server.exception.BaseException;
 import io.unitycatalog.server.exception.ErrorCode;
 import io.unitycatalog.server.exception.GlobalExceptionHandler;
+import io.unitycatalog.server.model.ChangeOperation;
 import io.unitycatalog.server.model.PermissionsChange;
 import io.unitycatalog.server.model.PermissionsList;
 import io.unitycatalog.server.model.Privilege;
@@ -50,6 +51,7 @@ public class PermissionService {
   private final FunctionRepository functionRepository;
   private final VolumeRepository volumeRepository;
   private final ModelRepository modelRepository;
+  private final ChangeRepository changeRepository;
 
   public PermissionService(UnityCatalogAuthorizer authorizer, Repositories repositories) {
     this.authorizer = authorizer;
@@ -61,6 +63,7 @@ public class PermissionService {
     this.functionRepository = repositories.getFunctionRepository();
     this.volumeRepository = repositories.getVolumeRepository();
     this.modelRepository = repositories.getModelRepository();
+    this.changeRepository = repositories.getChangeRepository();
   }
 
   // TODO: Refactor these endpoints to use a common method with dynamic resource id lookup
@@ -260,6 +263,8 @@ public class PermissionService {
                       Optional.ofNullable(Privileges.fromPrivilege(privilege))
                           .map(p -> authorizer.revokeAuthorization(principalId, resourceId, p)));
         });
+    changeRepository.recordChange(
+        securableType, name, resourceId, ChangeOperation.UPDATE_PERMISSIONS);
 
     Map<UUID, List<Privileges>> authorizations = authorizer.listAuthorizations(resourceId);
     List<PrivilegeAssignment> privilegeAssignments =
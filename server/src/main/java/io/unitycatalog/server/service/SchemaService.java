@@ -2,6 +2,7 @@ package io.unitycatalog.server.service;
 
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.server.annotation.Delete;
 import com.linecorp.armeria.server.annotation.ExceptionHandler;
 import com.linecorp.armeria.server.annotation.Get;
@@ -20,12 +21,14 @@ import io.unitycatalog.server.model.SchemaInfo;
 import io.unitycatalog.server.model.UpdateSchema;
 import io.unitycatalog.server.persist.*;
 import io.unitycatalog.server.persist.model.Privileges;
+import io.unitycatalog.server.utils.EntityTags;
 import lombok.SneakyThrows;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static io.unitycatalog.server.model.SecurableType.CATALOG;
 import static io.unitycatalog.server.model.SecurableType.METASTORE;
@@ -33,6 +36,12 @@ import static io.unitycatalog.server.model.SecurableType.SCHEMA;
 
 @ExceptionHandler(GlobalExceptionHandler.class)
 public class SchemaService {
+  private static final String LIST_SCHEMAS_FILTER = """
+      #authorize(#principal, #metastore, OWNER) ||
+      #authorize(#principal, #catalog, OWNER) ||
+      (#authorize(#principal, #schema, USE_SCHEMA) && #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG))
+      """;
+
   private final SchemaRepository schemaRepository;
   private final CatalogRepository catalogRepository;
   private final MetastoreRepository metastoreRepository;
@@ -71,12 +80,7 @@ public class SchemaService {
       @Param("page_token") Optional<String> pageToken) {
     ListSchemasResponse listSchemasResponse =
         schemaRepository.listSchemas(catalogName, maxResults, pageToken);
-    filterSchemas("""
-        #authorize(#principal, #metastore, OWNER) ||
-        #authorize(#principal, #catalog, OWNER) ||
-        (#authorize(#principal, #schema, USE_SCHEMA) && #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG))
-        """,
-        listSchemasResponse.getSchemas());
+    filterSchemas(LIST_SCHEMAS_FILTER, listSchemasResponse.getSchemas());
     return HttpResponse.ofJson(listSchemasResponse);
   }
 
@@ -87,8 +91,22 @@ public class SchemaService {
       (#authorizeAny(#principal, #schema, OWNER, USE_SCHEMA) && #authorizeAny(#principal, #catalog, USE_CATALOG))
       """)
   @AuthorizeKey(METASTORE)
-  public HttpResponse getSchema(@Param("full_name") @AuthorizeKey(SCHEMA) String fullName) {
-    return HttpResponse.ofJson(schemaRepository.getSchema(fullName));
+  public HttpResponse getSchema(
+      @Param("full_name") @AuthorizeKey(SCHEMA) String fullName, RequestHeaders headers) {
+    if (EntityTags.isConditional(headers)) {
+      String entityTag = schemaRepository.getSchemaEntityTag(fullName);
+      if (entityTag != null && EntityTags.matches(headers, entityTag)) {
+        return EntityTags.notModified(entityTag);
+      }
+    }
+    SchemaInfo schemaInfo = schemaRepository.getSchema(fullName);
+    return EntityTags.withEntityTag(
+        HttpResponse.ofJson(schemaInfo),
+        EntityTags.of(
+            fullName,
+            schemaInfo.getSchemaId(),
+            schemaInfo.getCreatedAt(),
+            schemaInfo.getUpdatedAt()));
   }
 
   @Patch("/{full_name}")
@@ -142,6 +160,21 @@ public class SchemaService {
         });
   }
 
+  /**
+   * Returns a predicate on schema ids that applies the same access filter as {@link #listSchemas}
+   * to schemas of the given catalog, for callers that iterate over schemas without building
+   * {@link SchemaInfo}s.
+   */
+  public Predicate<UUID> schemaFilter(UUID catalogId) {
+    UUID principalId = userRepository.findPrincipalId();
+    UUID metastoreId = metastoreRepository.getMetastoreId();
+    return schemaId ->
+        evaluator.evaluate(
+            principalId,
+            LIST_SCHEMAS_FILTER,
+            Map.of(METASTORE, metastoreId, CATALOG, catalogId, SCHEMA, schemaId));
+  }
+
   private void createAuthorizations(SchemaInfo schemaInfo) {
     CatalogInfo catalogInfo = catalogRepository.getCatalog(schemaInfo.getCatalogName());
     UUID principalId = userRepository.findPrincipalId();
@@ -2,6 +2,7 @@ package io.unitycatalog.server.service;
 
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.server.annotation.Delete;
 import com.linecorp.armeria.server.annotation.ExceptionHandler;
 import com.linecorp.armeria.server.annotation.Get;
@@ -11,21 +12,31 @@ import io.unitycatalog.server.auth.UnityCatalogAuthorizer;
 import io.unitycatalog.server.auth.annotation.AuthorizeExpression;
 import io.unitycatalog.server.auth.annotation.AuthorizeKey;
 import io.unitycatalog.server.auth.annotation.AuthorizeKeys;
+import io.unitycatalog.server.auth.decorator.KeyMapper;
 import io.unitycatalog.server.auth.decorator.UnityAccessEvaluator;
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
 import io.unitycatalog.server.exception.GlobalExceptionHandler;
 import io.unitycatalog.server.model.CatalogInfo;
 import io.unitycatalog.server.model.CreateTable;
+import io.unitycatalog.server.model.CreateTables;
+import io.unitycatalog.server.model.CreateTablesResponse;
 import io.unitycatalog.server.model.ListTablesResponse;
 import io.unitycatalog.server.model.SchemaInfo;
 import io.unitycatalog.server.model.TableInfo;
 import io.unitycatalog.server.persist.*;
 import io.unitycatalog.server.persist.model.Privileges;
+import io.unitycatalog.server.utils.EntityTags;
+import io.unitycatalog.server.utils.StreamingJsonResponse;
 import lombok.SneakyThrows;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static io.unitycatalog.server.model.SecurableType.CATALOG;
 import static io.unitycatalog.server.model.SecurableType.METASTORE;
@@ -35,6 +46,20 @@ import static io.unitycatalog.server.model.SecurableType.TABLE;
 @ExceptionHandler(GlobalExceptionHandler.class)
 public class TableService {
 
+  private static final String LIST_TABLES_FILTER = """
+          #authorize(#principal, #metastore, OWNER) ||
+          #authorize(#principal, #catalog, OWNER) ||
+          (#authorize(#principal, #schema, OWNER) && #authorize(#principal, #catalog, USE_CATALOG)) ||
+          (#authorize(#principal, #schema, USE_SCHEMA) && #authorize(#principal, #catalog, USE_CATALOG) && #authorizeAny(#principal, #table, OWNER, SELECT, MODIFY))
+          """;
+
+  private static final String CREATE_TABLE_EXPRESSION = """
+          (#authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) && #authorize(#principal, #schema, OWNER)) ||
+          (#authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) && #authorizeAll(#principal, #schema, USE_SCHEMA, CREATE_TABLE))
+          """;
+
+  private static final int MAX_BATCH_SIZE = 1000;
+
   private final TableRepository tableRepository;
   private final SchemaRepository schemaRepository;
   private final CatalogRepository catalogRepository;
@@ -43,11 +68,13 @@ public class TableService {
 
   private final UnityCatalogAuthorizer authorizer;
   private final UnityAccessEvaluator evaluator;
+  private final KeyMapper keyMapper;
 
   @SneakyThrows
   public TableService(UnityCatalogAuthorizer authorizer, Repositories repositories) {
     this.authorizer = authorizer;
     this.evaluator = new UnityAccessEvaluator(authorizer);
+    this.keyMapper = new KeyMapper(repositories);
     this.tableRepository = repositories.getTableRepository();
     this.schemaRepository = repositories.getSchemaRepository();
     this.catalogRepository = repositories.getCatalogRepository();
@@ -56,10 +83,7 @@ public class TableService {
   }
 
   @Post("")
-  @AuthorizeExpression("""
-          (#authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) && #authorize(#principal, #schema, OWNER)) ||
-          (#authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) && #authorizeAll(#principal, #schema, USE_SCHEMA, CREATE_TABLE))
-      """)
+  @AuthorizeExpression(CREATE_TABLE_EXPRESSION)
   @AuthorizeKey(METASTORE)
   public HttpResponse createTable(
           @AuthorizeKeys({
@@ -70,7 +94,40 @@ public class TableService {
     assert createTable != null;
     TableInfo tableInfo = tableRepository.createTable(createTable);
     initializeAuthorizations(tableInfo);
-    return HttpResponse.ofJson(tableInfo);
+    return StreamingJsonResponse.of(tableInfo);
+  }
+
+  @Post("/batch")
+  @AuthorizeExpression("#defer")
+  public HttpResponse createTables(CreateTables createTables) {
+    List<CreateTable> tables = createTables.getTables();
+    if (tables == null || tables.isEmpty() || tables.size() > MAX_BATCH_SIZE) {
+      throw new BaseException(
+          ErrorCode.INVALID_ARGUMENT,
+          "Between 1 and " + MAX_BATCH_SIZE + " tables can be created at once");
+    }
+    // The same as for creating a single table, once per schema
+    UUID principalId = userRepository.findPrincipalId();
+    Set<String> authorizedSchemas = new HashSet<>();
+    for (CreateTable createTable : tables) {
+      if (authorizedSchemas.add(createTable.getCatalogName() + "." + createTable.getSchemaName())
+          && !evaluator.evaluate(
+              principalId,
+              CREATE_TABLE_EXPRESSION,
+              keyMapper.mapResourceKeys(
+                  Map.of(
+                      METASTORE,
+                      "metastore",
+                      CATALOG,
+                      createTable.getCatalogName(),
+                      SCHEMA,
+                      createTable.getSchemaName())))) {
+        throw new BaseException(ErrorCode.PERMISSION_DENIED, "Access denied.");
+      }
+    }
+    List<TableInfo> tableInfos = tableRepository.createTables(tables);
+    tableInfos.forEach(this::initializeAuthorizations);
+    return StreamingJsonResponse.of(new CreateTablesResponse().tables(tableInfos));
   }
 
   @Get("/{full_name}")
@@ -81,10 +138,51 @@ public class TableService {
           (#authorize(#principal, #schema, USE_SCHEMA) && #authorize(#principal, #catalog, USE_CATALOG) && #authorizeAny(#principal, #table, OWNER, SELECT, MODIFY))
           """)
   @AuthorizeKey(METASTORE)
-  public HttpResponse getTable(@Param("full_name") @AuthorizeKey(TABLE) String fullName) {
+  public HttpResponse getTable(
+      @Param("full_name") @AuthorizeKey(TABLE) String fullName,
+      @Param("omit_columns") Optional<Boolean> omitColumns,
+      @Param("column_names") Optional<List<String>> columnNames,
+      @Param("max_columns") Optional<Integer> maxColumns,
+      @Param("column_page_token") Optional<String> columnPageToken,
+      RequestHeaders headers) {
     assert fullName != null;
-    TableInfo tableInfo = tableRepository.getTable(fullName);
-    return HttpResponse.ofJson(tableInfo);
+    // Each selection of columns and each encoding is a representation of its own, with a tag of
+    // its own
+    String columnSelection =
+        String.join(
+            "&",
+            omitColumns.map(String::valueOf).orElse(""),
+            String.join(",", columnNames.orElse(List.of())),
+            maxColumns.map(String::valueOf).orElse(""),
+            columnPageToken.orElse(""));
+    if (EntityTags.isConditional(headers)) {
+      String tableEntityTag = tableRepository.getTableEntityTag(fullName);
+      String entityTag =
+          tableEntityTag != null
+              ? EntityTags.forEncoding(EntityTags.of(tableEntityTag, columnSelection), headers)
+              : null;
+      if (entityTag != null && EntityTags.matches(headers, entityTag)) {
+        return EntityTags.notModified(entityTag);
+      }
+    }
+    TableInfo tableInfo =
+        tableRepository.getTable(
+            fullName,
+            omitColumns.orElse(false),
+            columnNames.orElse(List.of()),
+            maxColumns,
+            columnPageToken);
+    return EntityTags.withEntityTag(
+        StreamingJsonResponse.of(tableInfo),
+        EntityTags.forEncoding(
+            EntityTags.of(
+                EntityTags.of(
+                    fullName,
+                    tableInfo.getTableId(),
+                    tableInfo.getCreatedAt(),
+                    tableInfo.getUpdatedAt()),
+                columnSelection),
+            headers));
   }
 
   @Get("")
@@ -105,14 +203,9 @@ public class TableService {
             omitProperties.orElse(false),
             omitColumns.orElse(false));
 
-    filterTables("""
-          #authorize(#principal, #metastore, OWNER) ||
-          #authorize(#principal, #catalog, OWNER) ||
-          (#authorize(#principal, #schema, OWNER) && #authorize(#principal, #catalog, USE_CATALOG)) ||
-          (#authorize(#principal, #schema, USE_SCHEMA) && #authorize(#principal, #catalog, USE_CATALOG) && #authorizeAny(#principal, #table, OWNER, SELECT, MODIFY))
-          """, listTablesResponse.getTables());
+    filterTables(LIST_TABLES_FILTER, listTablesResponse.getTables());
 
-    return HttpResponse.ofJson(listTablesResponse);
+    return StreamingJsonResponse.of(listTablesResponse);
   }
 
   @Delete("/{full_name}")
@@ -128,6 +221,21 @@ public class TableService {
     return HttpResponse.of(HttpStatus.OK);
   }
 
+  /**
+   * Returns a predicate on table ids that applies the same access filter as {@link #listTables}
+   * to tables of the given schema, for callers that iterate over tables without building
+   * {@link TableInfo}s.
+   */
+  public Predicate<UUID> tableFilter(UUID catalogId, UUID schemaId) {
+    UUID principalId = userRepository.findPrincipalId();
+    UUID metastoreId = metastoreRepository.getMetastoreId();
+    return tableId ->
+            evaluator.evaluate(
+                    principalId,
+                    LIST_TABLES_FILTER,
+                    Map.of(METASTORE, metastoreId, CATALOG, catalogId, SCHEMA, schemaId, TABLE, tableId));
+  }
+
   public void filterTables(String expression, List<TableInfo> entries) {
     // TODO: would be nice to move this to filtering in the Decorator response
     UUID principalId = userRepository.findPrincipalId();
@@ -3,37 +3,68 @@ package io.unitycatalog.server.service;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.server.annotation.ExceptionHandler;
 import com.linecorp.armeria.server.annotation.Post;
-import io.unitycatalog.server.auth.annotation.AuthorizeExpression;
-import io.unitycatalog.server.auth.annotation.AuthorizeKey;
+import io.unitycatalog.server.auth.UnityCatalogAuthorizer;
+import io.unitycatalog.server.auth.decorator.KeyMapper;
+import io.unitycatalog.server.auth.decorator.UnityAccessEvaluator;
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.exception.ErrorCode;
 import io.unitycatalog.server.exception.GlobalExceptionHandler;
 import io.unitycatalog.server.model.GenerateTemporaryPathCredential;
 import io.unitycatalog.server.model.PathOperation;
+import io.unitycatalog.server.model.SecurableType;
+import io.unitycatalog.server.persist.Repositories;
+import io.unitycatalog.server.persist.UserRepository;
+import io.unitycatalog.server.persist.utils.StorageLocationIndex;
 import io.unitycatalog.server.service.credential.CredentialContext;
 import io.unitycatalog.server.service.credential.CredentialOperations;
+import lombok.SneakyThrows;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.unitycatalog.server.model.SecurableType.METASTORE;
 import static io.unitycatalog.server.service.credential.CredentialContext.Privilege.SELECT;
 import static io.unitycatalog.server.service.credential.CredentialContext.Privilege.UPDATE;
 
+/**
+ * Vends credentials for arbitrary paths. Metastore owners may access any path. Other principals may
+ * read or write a path inside the location of a table or volume if they could get credentials for
+ * that table or volume, which is found through the {@link StorageLocationIndex}.
+ */
 @ExceptionHandler(GlobalExceptionHandler.class)
 public class TemporaryPathCredentialsService {
+    private static final String METASTORE_OWNER_EXPRESSION =
+            "#authorize(#principal, #metastore, OWNER)";
+
+    private final UserRepository userRepository;
+    private final StorageLocationIndex storageLocationIndex;
+
+    private final UnityAccessEvaluator evaluator;
     private final CredentialOperations credentialOps;
+    private final KeyMapper keyMapper;
 
-    public TemporaryPathCredentialsService(CredentialOperations credentialOps) {
+    @SneakyThrows
+    public TemporaryPathCredentialsService(UnityCatalogAuthorizer authorizer, CredentialOperations credentialOps, Repositories repositories) {
+        this.evaluator = new UnityAccessEvaluator(authorizer);
         this.credentialOps = credentialOps;
+        this.keyMapper = new KeyMapper(repositories);
+        this.userRepository = repositories.getUserRepository();
+        this.storageLocationIndex = repositories.getStorageLocationIndex();
     }
 
     @Post("")
-    @AuthorizeExpression("#authorize(#principal, #metastore, OWNER)")
-    @AuthorizeKey(METASTORE)
     public HttpResponse generateTemporaryPathCredential(
         GenerateTemporaryPathCredential generateTemporaryPathCredential) {
+        // The path is authorized and vended in the same form, so that both refer to the same location
+        String url = StorageLocationIndex.normalize(generateTemporaryPathCredential.getUrl());
+        authorizeForOperation(url, generateTemporaryPathCredential.getOperation());
+
         return HttpResponse.ofJson(
                 credentialOps.vendCredential(
-                        generateTemporaryPathCredential.getUrl(),
+                        url,
                         pathOperationToPrivileges(generateTemporaryPathCredential.getOperation())));
     }
 
@@ -44,4 +75,35 @@ public class TemporaryPathCredentialsService {
             case UNKNOWN_PATH_OPERATION -> Collections.emptySet();
         };
     }
+
+    private void authorizeForOperation(String url, PathOperation operation) {
+        Map<SecurableType, Object> resourceKeys = new HashMap<>();
+        resourceKeys.put(METASTORE, "metastore");
+        String authorizeExpression = METASTORE_OWNER_EXPRESSION;
+
+        // Creating a table at a path is not tied to an existing securable, so it stays with the
+        // metastore owner
+        boolean read = operation == PathOperation.PATH_READ;
+        Optional<StorageLocationIndex.Owner> owner =
+                storageLocationIndex.findOwner(url);
+        if (owner.isPresent() && (read || operation == PathOperation.PATH_READ_WRITE)) {
+            String securableExpression = switch (owner.get().securableType()) {
+                case TABLE -> read
+                        ? TemporaryTableCredentialsService.READ_EXPRESSION
+                        : TemporaryTableCredentialsService.WRITE_EXPRESSION;
+                case VOLUME -> read
+                        ? TemporaryVolumeCredentialsService.READ_EXPRESSION
+                        : TemporaryVolumeCredentialsService.WRITE_EXPRESSION;
+                default -> throw new BaseException(
+                        ErrorCode.INTERNAL, "Unexpected owner of path: " + owner.get().securableType());
+            };
+            authorizeExpression += " || (" + securableExpression + ")";
+            resourceKeys.put(owner.get().securableType(), owner.get().id().toString());
+        }
+
+        if (!evaluator.evaluate(
+                userRepository.findPrincipalId(), authorizeExpression, keyMapper.mapResourceKeys(resourceKeys))) {
+            throw new BaseException(ErrorCode.PERMISSION_DENIED, "Access denied.");
+        }
+    }
 }
@@ -31,6 +31,17 @@ import static io.unitycatalog.server.service.credential.CredentialContext.Privil
 
 @ExceptionHandler(GlobalExceptionHandler.class)
 public class TemporaryTableCredentialsService {
+  // TODO: This is a short term solution to conditional expression evaluation based on additional request parameters.
+  // This should be replaced with more direct annotations and syntax in the future.
+  static final String READ_EXPRESSION = """
+        #authorizeAny(#principal, #schema, OWNER, USE_SCHEMA) && #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) && #authorizeAny(#principal, #table, OWNER, SELECT)
+        """;
+
+  static final String WRITE_EXPRESSION = """
+        #authorizeAny(#principal, #schema, OWNER, USE_SCHEMA) && #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) &&
+        (#authorize(#principal, #table, OWNER) || #authorizeAll(#principal, #table, SELECT, MODIFY))
+        """;
+
   private final TableRepository tableRepository;
   private final UserRepository userRepository;
 
@@ -67,22 +78,9 @@ public class TemporaryTableCredentialsService {
   }
 
   private void authorizeForOperation(GenerateTemporaryTableCredential generateTemporaryTableCredential) {
-
-    // TODO: This is a short term solution to conditional expression evaluation based on additional request parameters.
-    // This should be replaced with more direct annotations and syntax in the future.
-
-    String readExpression = """
-          #authorizeAny(#principal, #schema, OWNER, USE_SCHEMA) && #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) && #authorizeAny(#principal, #table, OWNER, SELECT)
-          """;
-
-    String writeExpression = """
-          #authorizeAny(#principal, #schema, OWNER, USE_SCHEMA) && #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) &&
-          (#authorize(#principal, #table, OWNER) || #authorizeAll(#principal, #table, SELECT, MODIFY))
-          """;
-
     String authorizeExpression =
             generateTemporaryTableCredential.getOperation() ==  TableOperation.READ ?
-                    readExpression : writeExpression;
+                    READ_EXPRESSION : WRITE_EXPRESSION;
 
     Map<SecurableType, Object> resourceKeys = keyMapper.mapResourceKeys(
             Map.of(METASTORE, "metastore",
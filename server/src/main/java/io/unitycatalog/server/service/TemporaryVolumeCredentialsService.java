@@ -31,6 +31,19 @@ import static io.unitycatalog.server.service.credential.CredentialContext.Privil
 
 @ExceptionHandler(GlobalExceptionHandler.class)
 public class TemporaryVolumeCredentialsService {
+  // TODO: This is a short term solution to conditional expression evaluation based on additional request parameters.
+  // This should be replaced with more direct annotations and syntax in the future.
+  static final String READ_EXPRESSION = """
+        #authorizeAny(#principal, #schema, OWNER, USE_SCHEMA) && #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) && #authorizeAny(#principal, #volume, OWNER, READ_VOLUME)
+        """;
+
+  // TODO: add WRITE_VOLUME to the expression
+  static final String WRITE_EXPRESSION = """
+        #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) &&
+        #authorizeAny(#principal, #schema, OWNER, USE_SCHEMA) &&
+        #authorize(#principal, #volume, OWNER)
+        """;
+
   private final VolumeRepository volumeRepository;
   private final UserRepository userRepository;
 
@@ -71,24 +84,9 @@ public class TemporaryVolumeCredentialsService {
   }
 
   private void authorizeForOperation(GenerateTemporaryVolumeCredential generateTemporaryVolumeCredential) {
-
-    // TODO: This is a short term solution to conditional expression evaluation based on additional request parameters.
-    // This should be replaced with more direct annotations and syntax in the future.
-
-    String readExpression = """
-          #authorizeAny(#principal, #schema, OWNER, USE_SCHEMA) && #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) && #authorizeAny(#principal, #volume, OWNER, READ_VOLUME)
-          """;
-
-    // TODO: add WRITE_VOLUME to the expression
-    String writeExpression = """
-          #authorizeAny(#principal, #catalog, OWNER, USE_CATALOG) &&
-          #authorizeAny(#principal, #schema, OWNER, USE_SCHEMA) &&
-          #authorize(#principal, #volume, OWNER)
-          """;
-
     String authorizeExpression =
             generateTemporaryVolumeCredential.getOperation() == VolumeOperation.READ_VOLUME ?
-                    readExpression : writeExpression;
+                    READ_EXPRESSION : WRITE_EXPRESSION;
 
     Map<SecurableType, Object> resourceKeys = keyMapper.mapResourceKeys(
             Map.of(METASTORE, "metastore",
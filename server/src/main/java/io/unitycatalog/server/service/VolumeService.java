@@ -2,6 +2,7 @@ package io.unitycatalog.server.service;
 
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.server.annotation.Delete;
 import com.linecorp.armeria.server.annotation.ExceptionHandler;
 import com.linecorp.armeria.server.annotation.Get;
@@ -22,6 +23,7 @@ import io.unitycatalog.server.model.UpdateVolumeRequestContent;
 import io.unitycatalog.server.model.VolumeInfo;
 import io.unitycatalog.server.persist.*;
 import io.unitycatalog.server.persist.model.Privileges;
+import io.unitycatalog.server.utils.EntityTags;
 import lombok.SneakyThrows;
 
 import java.util.List;
@@ -104,8 +106,25 @@ public class VolumeService {
   @AuthorizeKey(METASTORE)
   public HttpResponse getVolume(
       @Param("full_name") @AuthorizeKey(VOLUME) String fullName,
-      @Param("include_browse") Optional<Boolean> includeBrowse) {
-    return HttpResponse.ofJson(volumeRepository.getVolume(fullName));
+      @Param("include_browse") Optional<Boolean> includeBrowse,
+      RequestHeaders headers) {
+    if (EntityTags.isConditional(headers)) {
+      String entityTag = volumeRepository.getVolumeEntityTag(fullName);
+      if (entityTag != null && EntityTags.matches(headers, entityTag)) {
+        return EntityTags.notModified(entityTag);
+      }
+    }
+    VolumeInfo volumeInfo = volumeRepository.getVolume(fullName);
+    if (volumeInfo == null) {
+      return HttpResponse.ofJson(volumeInfo);
+    }
+    return EntityTags.withEntityTag(
+        HttpResponse.ofJson(volumeInfo),
+        EntityTags.of(
+            fullName,
+            volumeInfo.getVolumeId(),
+            volumeInfo.getCreatedAt(),
+            volumeInfo.getUpdatedAt()));
   }
 
   @Patch("/{full_name}")
@@ -68,6 +68,10 @@ public class CredentialOperations {
           .accessKeyId(awsSessionCredentials.accessKeyId())
           .secretAccessKey(awsSessionCredentials.secretAccessKey())
           .sessionToken(awsSessionCredentials.sessionToken()));
+        // Static session credentials have no expiration
+        if (awsSessionCredentials.expiration() != null) {
+          temporaryCredentials.expirationTime(awsSessionCredentials.expiration().toEpochMilli());
+        }
       }
     }
 
@@ -0,0 +1,88 @@
+package io.unitycatalog.server.utils;
+
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+
+/**
+ * Strong entity tags for securable metadata, used to answer conditional GET requests.
+ *
+ * <p>A tag is a hash of the name the entity was requested by, its id and its creation and update
+ * times. Repositories advance {@code updated_at} on every change, so the tag changes whenever the
+ * entity or its properties do, and it can be computed from the entity row alone. Columns,
+ * properties and other dependent rows only need to be loaded when the client's copy is stale.
+ *
+ * <p>Responses whose encoding is negotiated, e.g. JSON or Smile, differ byte for byte between
+ * encodings, so each encoding gets a tag of its own through {@link #forEncoding}.
+ */
+public class EntityTags {
+
+  private EntityTags() {}
+
+  /** Computes the quoted entity tag of the given components, e.g. name, id and timestamps. */
+  public static String of(Object... components) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    for (Object component : components) {
+      Object value = component instanceof Date date ? date.getTime() : component;
+      digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+    }
+    return '"' + HexFormat.of().formatHex(digest.digest(), 0, 16) + '"';
+  }
+
+  /**
+   * Returns the tag of the representation in the encoding negotiated for the request. JSON keeps
+   * the entity's tag, other encodings get a tag derived from it and their media type.
+   */
+  public static String forEncoding(String entityTag, RequestHeaders headers) {
+    return SmileFormat.isPreferred(headers) ? of(entityTag, SmileFormat.MEDIA_TYPE) : entityTag;
+  }
+
+  /** Returns whether the request carries an {@code If-None-Match} header. */
+  public static boolean isConditional(RequestHeaders headers) {
+    return headers.contains(HttpHeaderNames.IF_NONE_MATCH);
+  }
+
+  /**
+   * Returns whether the client's copy is current, i.e. one of the tags in its {@code If-None-Match}
+   * header matches. As required for {@code If-None-Match}, weak tags are compared by their value.
+   */
+  public static boolean matches(RequestHeaders headers, String entityTag) {
+    for (String value : headers.getAll(HttpHeaderNames.IF_NONE_MATCH)) {
+      for (String candidate : value.split(",")) {
+        String tag = candidate.trim();
+        if (tag.startsWith("W/")) {
+          tag = tag.substring(2);
+        }
+        if (tag.equals("*") || tag.equals(entityTag)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /** Builds the bodiless response telling the client to reuse its copy. */
+  public static HttpResponse notModified(String entityTag) {
+    return HttpResponse.of(
+        ResponseHeaders.of(HttpStatus.NOT_MODIFIED, HttpHeaderNames.ETAG, entityTag));
+  }
+
+  /** Adds the entity tag to a full response. */
+  public static HttpResponse withEntityTag(HttpResponse response, String entityTag) {
+    return response.mapHeaders(
+        headers -> headers.toBuilder().set(HttpHeaderNames.ETAG, entityTag).build());
+  }
+}
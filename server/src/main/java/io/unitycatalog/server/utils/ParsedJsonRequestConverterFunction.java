@@ -0,0 +1,77 @@
+package io.unitycatalog.server.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.linecorp.armeria.common.AggregatedHttpRequest;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.annotation.JacksonRequestConverterFunction;
+import com.linecorp.armeria.server.annotation.RequestConverterFunction;
+import io.netty.util.AttributeKey;
+import java.lang.reflect.ParameterizedType;
+
+/**
+ * Request converter that reuses a JSON payload which has already been parsed for the current
+ * request, e.g. by the access control decorator while looking up authorization keys.
+ *
+ * <p>When a parsed tree is attached to the request context under {@link #PARSED_JSON}, the request
+ * object is bound straight from that tree instead of parsing the raw bytes a second time. Requests
+ * without a parsed tree are handed to a regular {@link JacksonRequestConverterFunction} using the
+ * same mapper, except for {@link SmileFormat} bodies which are bound with the same mapper as well.
+ */
+public class ParsedJsonRequestConverterFunction implements RequestConverterFunction {
+
+  public static final AttributeKey<JsonNode> PARSED_JSON =
+      AttributeKey.valueOf(ParsedJsonRequestConverterFunction.class, "PARSED_JSON");
+
+  private final ObjectMapper mapper;
+  private final JacksonRequestConverterFunction delegate;
+
+  /** Creates the converter of the REST APIs, which ignores unknown properties. */
+  public ParsedJsonRequestConverterFunction() {
+    this(JsonMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build());
+  }
+
+  public ParsedJsonRequestConverterFunction(ObjectMapper mapper) {
+    this.mapper = mapper;
+    this.delegate = new JacksonRequestConverterFunction(mapper);
+  }
+
+  @Override
+  public Object convertRequest(
+      ServiceRequestContext ctx,
+      AggregatedHttpRequest request,
+      Class<?> expectedResultType,
+      ParameterizedType expectedParameterizedResultType)
+      throws Exception {
+    if (expectedResultType == String.class || expectedResultType == byte[].class) {
+      return delegate.convertRequest(
+          ctx, request, expectedResultType, expectedParameterizedResultType);
+    }
+    JsonNode payload = ctx.attr(PARSED_JSON);
+    boolean smile = SmileFormat.is(request.contentType()) && !request.content().isEmpty();
+    if ((payload == null || payload.isMissingNode()) && !smile) {
+      return delegate.convertRequest(
+          ctx, request, expectedResultType, expectedParameterizedResultType);
+    }
+
+    JavaType resultType =
+        expectedParameterizedResultType != null
+            ? mapper.constructType(expectedParameterizedResultType)
+            : mapper.constructType(expectedResultType);
+    try {
+      if (payload == null || payload.isMissingNode()) {
+        return mapper
+            .readerFor(resultType)
+            .readValue(SmileFormat.createParser(mapper, request.content().array()));
+      }
+      return mapper.readerFor(resultType).readValue(payload);
+    } catch (JsonProcessingException e) {
+      // Same handling as JacksonRequestConverterFunction, reported as a 400 Bad Request
+      throw new IllegalArgumentException("failed to parse a JSON document: " + e, e);
+    }
+  }
+}
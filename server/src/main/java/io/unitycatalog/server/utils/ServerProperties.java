@@ -19,7 +19,18 @@ public class ServerProperties {
   private final Properties properties;
 
   public enum Property {
-    MODEL_STORAGE_ROOT("storage-root.models");
+    MODEL_STORAGE_ROOT("storage-root.models"),
+    METADATA_CACHE_ENABLED("server.metadata-cache.enabled"),
+    METADATA_CACHE_MAX_ENTRIES("server.metadata-cache.max-entries"),
+    AUTHORIZATION_POLICY_LOADING("server.authorization.policy-loading"),
+    AUTHORIZATION_POLICY_MAX_PRINCIPALS("server.authorization.policy-max-principals"),
+    CLUSTER_ENABLED("server.cluster.enabled"),
+    CLUSTER_POLL_INTERVAL_MS("server.cluster.poll-interval-ms"),
+    CLUSTER_POLICY_RELOAD_INTERVAL_MS("server.cluster.policy-reload-interval-ms"),
+    READ_REPLICA_URL("server.read-replica.url"),
+    READ_REPLICA_USER("server.read-replica.user"),
+    READ_REPLICA_PASSWORD("server.read-replica.password"),
+    READ_REPLICA_READ_YOUR_WRITES_WINDOW_MS("server.read-replica.read-your-writes-window-ms");
 
     private final String key;
 
@@ -59,6 +70,17 @@ public class ServerProperties {
     return propertiesFromFile;
   }
 
+  /** Returns the properties whose key starts with the given prefix, keyed by the full key. */
+  public Map<String, String> getPropertiesWithPrefix(String prefix) {
+    Map<String, String> result = new HashMap<>();
+    for (String key : properties.stringPropertyNames()) {
+      if (key.startsWith(prefix)) {
+        result.put(key, getProperty(key));
+      }
+    }
+    return result;
+  }
+
   public Map<String, S3StorageConfig> getS3Configurations() {
     Map<String, S3StorageConfig> s3BucketConfigMap = new HashMap<>();
     int i = 0;
@@ -175,4 +197,19 @@ public class ServerProperties {
     String authorization = getProperty("server.authorization", "disable");
     return authorization.equalsIgnoreCase("enable");
   }
+
+  public boolean isMetadataCacheEnabled() {
+    String enabled = getProperty(Property.METADATA_CACHE_ENABLED.getKey(), "false");
+    return enabled.equalsIgnoreCase("true");
+  }
+
+  public boolean isClusterEnabled() {
+    String enabled = getProperty(Property.CLUSTER_ENABLED.getKey(), "false");
+    return enabled.equalsIgnoreCase("true");
+  }
+
+  public boolean isReadReplicaEnabled() {
+    String url = get(Property.READ_REPLICA_URL);
+    return url != null && !url.isEmpty();
+  }
 }
@@ -0,0 +1,83 @@
+package io.unitycatalog.server.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Binary encoding of the API payloads using Jackson's Smile format.
+ *
+ * <p>Smile keeps the JSON data model, so the same mappers and model classes are used for both
+ * encodings. Property names that repeat within a document, like the keys of every {@code
+ * ColumnInfo} of a wide table, are written once and referenced afterwards.
+ *
+ * <p>Clients opt in by listing {@link #MEDIA_TYPE} in the {@code Accept} header. Request bodies may
+ * be sent as Smile by setting it as the {@code Content-Type}.
+ */
+public class SmileFormat {
+
+  public static final MediaType MEDIA_TYPE = MediaType.create("application", "x-jackson-smile");
+
+  private static final SmileFactory FACTORY = new SmileFactory();
+
+  private SmileFormat() {}
+
+  /** Returns whether the given content type is Smile. */
+  public static boolean is(MediaType contentType) {
+    return contentType != null && contentType.belongsTo(MEDIA_TYPE);
+  }
+
+  /**
+   * Returns whether the client asked for Smile in the {@code Accept} header with at least the same
+   * quality as JSON. Smile is only chosen when it is listed explicitly, never through wildcards.
+   */
+  public static boolean isPreferred(RequestHeaders headers) {
+    float smileQuality = 0;
+    float jsonQuality = 0;
+    for (String value : headers.getAll(HttpHeaderNames.ACCEPT)) {
+      for (String range : value.split(",")) {
+        MediaType mediaType;
+        try {
+          mediaType = MediaType.parse(range.trim());
+        } catch (IllegalArgumentException e) {
+          continue;
+        }
+        float quality = mediaType.qualityFactor();
+        MediaType withoutParameters = mediaType.withoutParameters();
+        if (withoutParameters.equals(MEDIA_TYPE)) {
+          smileQuality = Math.max(smileQuality, quality);
+        } else if (MediaType.JSON.is(withoutParameters)) {
+          jsonQuality = Math.max(jsonQuality, quality);
+        }
+      }
+    }
+    return smileQuality > 0 && smileQuality >= jsonQuality;
+  }
+
+  /** Creates a Smile generator that serializes objects with the given mapper. */
+  public static JsonGenerator createGenerator(ObjectMapper mapper, OutputStream out)
+      throws IOException {
+    return FACTORY.createGenerator(out).setCodec(mapper);
+  }
+
+  /** Creates a Smile parser that binds objects with the given mapper. */
+  public static JsonParser createParser(ObjectMapper mapper, byte[] content) throws IOException {
+    JsonParser parser = FACTORY.createParser(content);
+    parser.setCodec(mapper);
+    return parser;
+  }
+
+  /** Creates a Smile parser that reads a stream and binds objects with the given mapper. */
+  public static JsonParser createParser(ObjectMapper mapper, InputStream in) throws IOException {
+    JsonParser parser = FACTORY.createParser(in);
+    parser.setCodec(mapper);
+    return parser;
+  }
+}
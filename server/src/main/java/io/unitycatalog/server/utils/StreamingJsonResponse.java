@@ -0,0 +1,156 @@
+package io.unitycatalog.server.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.CommonPools;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseWriter;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Builds JSON responses that are serialized directly into the Armeria response stream.
+ *
+ * <p>{@code HttpResponse.ofJson} serializes the whole payload into a single buffer before anything
+ * is sent, so the memory needed per request grows with the size of the response. Responses built
+ * here are written by a {@link JsonGenerator} on the blocking task executor and sent in chunks of
+ * the generator's buffer size. At most two chunks are in flight at a time, so a slow client slows
+ * down serialization instead of buffering the rest of the response. Writers that read from the
+ * database should release their session before writing, as they may block on the client here.
+ * Streaming an already built object only avoids the serialized copy, the object itself is still
+ * held in memory.
+ *
+ * <p>The response headers are sent before serialization starts, so callers must resolve anything
+ * that can fail with a client error before building the response. Failures while writing abort the
+ * response stream.
+ *
+ * <p>When the current request prefers {@link SmileFormat#MEDIA_TYPE} in its {@code Accept} header,
+ * the same document, or sequence of documents, is written in the Smile encoding instead of JSON.
+ */
+public class StreamingJsonResponse {
+
+  /** Writes a JSON document, e.g. while iterating over repository results. */
+  @FunctionalInterface
+  public interface JsonWriter {
+    void write(JsonGenerator generator) throws IOException;
+  }
+
+  /** Media type of newline-delimited JSON. */
+  public static final MediaType NDJSON = MediaType.create("application", "x-ndjson");
+
+  private static final ResponseHeaders JSON_HEADERS =
+      ResponseHeaders.of(
+          HttpStatus.OK,
+          HttpHeaderNames.CONTENT_TYPE,
+          MediaType.JSON,
+          HttpHeaderNames.VARY,
+          HttpHeaderNames.ACCEPT.toString());
+  private static final ResponseHeaders SMILE_HEADERS =
+      JSON_HEADERS.toBuilder().contentType(SmileFormat.MEDIA_TYPE).build();
+  private static final ResponseHeaders NDJSON_HEADERS =
+      JSON_HEADERS.toBuilder().contentType(NDJSON).build();
+  private static final SerializedString NEWLINE = new SerializedString("\n");
+
+  private StreamingJsonResponse() {}
+
+  /** Streams the serialized form of an already built response object. */
+  public static HttpResponse of(Object value) {
+    return of(JsonUtils.getInstance(), value);
+  }
+
+  /** Streams the serialized form of an already built response object. */
+  public static HttpResponse of(ObjectMapper mapper, Object value) {
+    return of(mapper, generator -> generator.writeObject(value));
+  }
+
+  /** Streams the JSON document produced by the given writer. */
+  public static HttpResponse of(ObjectMapper mapper, JsonWriter writer) {
+    return stream(mapper, writer, false);
+  }
+
+  /**
+   * Streams the sequence of documents produced by the given writer as newline-delimited JSON, e.g.
+   * one document per exported object, so that readers can process it one document at a time.
+   */
+  public static HttpResponse ofSequence(ObjectMapper mapper, JsonWriter writer) {
+    return stream(mapper, writer, true);
+  }
+
+  private static HttpResponse stream(ObjectMapper mapper, JsonWriter writer, boolean sequence) {
+    ServiceRequestContext ctx = ServiceRequestContext.currentOrNull();
+    boolean smile = ctx != null && SmileFormat.isPreferred(ctx.request().headers());
+    HttpResponseWriter response = HttpResponse.streaming();
+    response.write(smile ? SMILE_HEADERS : sequence ? NDJSON_HEADERS : JSON_HEADERS);
+
+    Executor executor =
+        ctx != null ? ctx.blockingTaskExecutor() : CommonPools.blockingTaskExecutor();
+    executor.execute(
+        () -> {
+          OutputStream out = new ResponseOutputStream(response);
+          try (JsonGenerator generator =
+              smile ? SmileFormat.createGenerator(mapper, out) : mapper.createGenerator(out)) {
+            // Smile documents delimit themselves
+            boolean newlines = sequence && !smile;
+            if (newlines) {
+              generator.setRootValueSeparator(NEWLINE);
+            }
+            writer.write(generator);
+            if (newlines) {
+              generator.writeRaw('\n');
+            }
+          } catch (Throwable t) {
+            response.close(t);
+            return;
+          }
+          response.close();
+        });
+    return response;
+  }
+
+  /** Forwards the generator's buffer to the response, one {@link HttpData} per flush. */
+  private static class ResponseOutputStream extends OutputStream {
+
+    private final HttpResponseWriter response;
+    private CompletableFuture<Void> previousChunkConsumed = CompletableFuture.completedFuture(null);
+
+    private ResponseOutputStream(HttpResponseWriter response) {
+      this.response = response;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return;
+      }
+      if (!response.tryWrite(HttpData.copyOf(b, off, len))) {
+        throw new IOException("Response stream closed");
+      }
+      try {
+        previousChunkConsumed.join();
+      } catch (CompletionException e) {
+        throw new IOException("Response stream aborted", e.getCause());
+      }
+      previousChunkConsumed = response.whenConsumed();
+    }
+
+    @Override
+    public void close() {
+      // The response is completed by the caller, which knows whether writing succeeded
+    }
+  }
+}
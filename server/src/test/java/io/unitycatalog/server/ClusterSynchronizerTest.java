@@ -0,0 +1,206 @@
+package io.unitycatalog.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.CatalogsApi;
+import io.unitycatalog.client.api.ChangesApi;
+import io.unitycatalog.client.api.SchemasApi;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.model.ChangeEvent;
+import io.unitycatalog.client.model.ColumnInfo;
+import io.unitycatalog.client.model.ColumnTypeName;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.CreateSchema;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.ListChangesResponse;
+import io.unitycatalog.client.model.TableType;
+import io.unitycatalog.client.model.UpdateCatalog;
+import io.unitycatalog.client.model.UpdateSchema;
+import io.unitycatalog.server.base.ServerConfig;
+import io.unitycatalog.server.utils.ServerProperties;
+import io.unitycatalog.server.utils.TestUtils;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.ThrowingConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClusterSynchronizerTest {
+  private static final long POLL_INTERVAL_MS = 100;
+  private static final long TIMEOUT_MS = 10_000;
+
+  @TempDir Path databaseDir;
+  private final List<UnityCatalogServer> servers = new ArrayList<>();
+  private ApiClient node1;
+  private ApiClient node2;
+
+  private ApiClient startServer(int port) {
+    return startServer(port, POLL_INTERVAL_MS);
+  }
+
+  private ApiClient startServer(int port, long pollIntervalMs) {
+    Properties properties = new Properties();
+    properties.setProperty("server.env", "test");
+    properties.setProperty(
+        "hibernate.connection.url", "jdbc:h2:file:" + databaseDir.resolve("uc").toAbsolutePath());
+    properties.setProperty("hibernate.hbm2ddl.auto", "update");
+    properties.setProperty(ServerProperties.Property.METADATA_CACHE_ENABLED.getKey(), "true");
+    properties.setProperty(ServerProperties.Property.CLUSTER_ENABLED.getKey(), "true");
+    properties.setProperty(
+        ServerProperties.Property.CLUSTER_POLL_INTERVAL_MS.getKey(),
+        String.valueOf(pollIntervalMs));
+    UnityCatalogServer server =
+        UnityCatalogServer.builder()
+            .port(port)
+            .serverProperties(new ServerProperties(properties))
+            .build();
+    server.start();
+    servers.add(server);
+    return TestUtils.createApiClient(new ServerConfig("http://localhost:" + port, ""));
+  }
+
+  @BeforeEach
+  public void setUp() {
+    int port = TestUtils.getRandomPort();
+    node1 = startServer(port);
+    node2 = startServer(port + 1);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    servers.forEach(UnityCatalogServer::stop);
+  }
+
+  /** Retries the assertion until it passes, failing once the timeout has elapsed. */
+  private static <T> void eventually(T value, ThrowingConsumer<T> assertion)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+    while (true) {
+      try {
+        assertion.accept(value);
+        return;
+      } catch (AssertionError | RuntimeException e) {
+        if (System.currentTimeMillis() > deadline) {
+          throw e;
+        }
+        Thread.sleep(POLL_INTERVAL_MS / 2);
+      }
+    }
+  }
+
+  @Test
+  public void testMetadataChangesAreVisibleOnOtherNodes() throws Exception {
+    CatalogsApi catalogs1 = new CatalogsApi(node1);
+    CatalogsApi catalogs2 = new CatalogsApi(node2);
+    SchemasApi schemas1 = new SchemasApi(node1);
+    SchemasApi schemas2 = new SchemasApi(node2);
+    catalogs1.createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    schemas1.createSchema(
+        new CreateSchema().name(TestUtils.SCHEMA_NAME).catalogName(TestUtils.CATALOG_NAME));
+
+    // Cache the catalog and schema on the second node, then change them on the first
+    assertThat(catalogs2.getCatalog(TestUtils.CATALOG_NAME).getComment()).isNull();
+    assertThat(schemas2.getSchema(TestUtils.SCHEMA_FULL_NAME).getComment()).isNull();
+    catalogs1.updateCatalog(TestUtils.CATALOG_NAME, new UpdateCatalog().comment("updated"));
+    schemas1.updateSchema(TestUtils.SCHEMA_FULL_NAME, new UpdateSchema().comment("updated"));
+    eventually(
+        catalogs2,
+        api ->
+            assertThat(api.getCatalog(TestUtils.CATALOG_NAME).getComment()).isEqualTo("updated"));
+    eventually(
+        schemas2,
+        api ->
+            assertThat(api.getSchema(TestUtils.SCHEMA_FULL_NAME).getComment())
+                .isEqualTo("updated"));
+
+    // Renames and deletes invalidate the cached name lookups
+    String newName = TestUtils.CATALOG_NAME + "_renamed";
+    catalogs1.updateCatalog(TestUtils.CATALOG_NAME, new UpdateCatalog().newName(newName));
+    eventually(
+        catalogs2,
+        api ->
+            assertThatThrownBy(() -> api.getCatalog(TestUtils.CATALOG_NAME))
+                .isInstanceOf(ApiException.class));
+    assertThat(catalogs2.getCatalog(newName).getComment()).isEqualTo("updated");
+    catalogs2.deleteCatalog(newName, true);
+    eventually(
+        catalogs1,
+        api -> assertThatThrownBy(() -> api.getCatalog(newName)).isInstanceOf(ApiException.class));
+  }
+
+  @Test
+  public void testChangeFeedWaitersAreNotifiedOfOtherNodes() throws Exception {
+    ChangesApi changes2 = new ChangesApi(node2);
+    long since = changes2.listChanges(0L, null, 0).getNextSequenceNumber();
+    CompletableFuture<ListChangesResponse> longPoll =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return changes2.listChanges(since, null, (int) TIMEOUT_MS);
+              } catch (ApiException e) {
+                throw new CompletionException(e);
+              }
+            });
+    // Let the long poll start waiting before the change is made on the other node
+    Thread.sleep(POLL_INTERVAL_MS * 5);
+    long start = System.currentTimeMillis();
+    new CatalogsApi(node1).createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+
+    ListChangesResponse response = longPoll.get(TIMEOUT_MS * 2, TimeUnit.MILLISECONDS);
+    assertThat(response.getChanges())
+        .extracting(ChangeEvent::getFullName)
+        .containsExactly(TestUtils.CATALOG_NAME);
+    // Woken by the synchronization rather than by the end of the long poll
+    assertThat(System.currentTimeMillis() - start).isLessThan(TIMEOUT_MS / 2);
+  }
+
+  @Test
+  public void testOverlappingLocationsAreRejectedBeforeSynchronization() throws Exception {
+    // Servers that do not synchronize during the test
+    ApiClient node3 = startServer(TestUtils.getRandomPort(), 3_600_000);
+    ApiClient node4 = startServer(TestUtils.getRandomPort(), 3_600_000);
+    new CatalogsApi(node3).createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    new SchemasApi(node3)
+        .createSchema(
+            new CreateSchema().name(TestUtils.SCHEMA_NAME).catalogName(TestUtils.CATALOG_NAME));
+    String location = "file:///tmp/" + UUID.randomUUID();
+    new TablesApi(node3).createTable(createTable("table_1", location));
+
+    assertThatThrownBy(
+            () -> new TablesApi(node4).createTable(createTable("table_2", location + "/nested")))
+        .isInstanceOf(ApiException.class)
+        .hasMessageContaining("overlaps");
+    new TablesApi(node4).createTable(createTable("table_2", location + "_other"));
+  }
+
+  private static CreateTable createTable(String name, String location) {
+    return new CreateTable()
+        .name(name)
+        .catalogName(TestUtils.CATALOG_NAME)
+        .schemaName(TestUtils.SCHEMA_NAME)
+        .columns(
+            List.of(
+                new ColumnInfo()
+                    .name("id")
+                    .typeText("INTEGER")
+                    .typeJson("{\"type\": \"integer\"}")
+                    .typeName(ColumnTypeName.INT)
+                    .position(0)
+                    .nullable(true)))
+        .storageLocation(location)
+        .tableType(TableType.EXTERNAL)
+        .dataSourceFormat(DataSourceFormat.DELTA);
+  }
+}
@@ -0,0 +1,104 @@
+package io.unitycatalog.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.CatalogsApi;
+import io.unitycatalog.client.model.CatalogInfo;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.UpdateCatalog;
+import io.unitycatalog.server.base.BaseServerTest;
+import io.unitycatalog.server.persist.dao.CatalogInfoDAO;
+import io.unitycatalog.server.persist.utils.HibernateConfigurator;
+import io.unitycatalog.server.utils.ServerProperties;
+import io.unitycatalog.server.utils.TestUtils;
+import java.util.Date;
+import java.util.Properties;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReadReplicaRoutingTest extends BaseServerTest {
+  private static final long READ_YOUR_WRITES_WINDOW_MS = 500;
+
+  private final String replicaUrl =
+      "jdbc:h2:mem:replica_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+  private SessionFactory replica;
+  private CatalogsApi catalogsApi;
+
+  @Override
+  protected void setUpProperties() {
+    super.setUpProperties();
+    serverProperties.setProperty(ServerProperties.Property.READ_REPLICA_URL.getKey(), replicaUrl);
+    serverProperties.setProperty(
+        ServerProperties.Property.READ_REPLICA_READ_YOUR_WRITES_WINDOW_MS.getKey(),
+        String.valueOf(READ_YOUR_WRITES_WINDOW_MS));
+  }
+
+  @BeforeEach
+  public void setUp() {
+    // The replica is a separate database which the test "replicates" to by hand
+    Properties properties = new Properties();
+    properties.setProperty("server.env", "test");
+    properties.setProperty("hibernate.connection.url", replicaUrl);
+    properties.setProperty("hibernate.hbm2ddl.auto", "create");
+    replica = new HibernateConfigurator(new ServerProperties(properties)).getSessionFactory();
+    super.setUp();
+    catalogsApi = new CatalogsApi(TestUtils.createApiClient(serverConfig));
+  }
+
+  @AfterEach
+  public void closeReplica() {
+    replica.close();
+  }
+
+  private void replicate(CatalogInfo catalogInfo, String comment) {
+    try (Session session = replica.openSession()) {
+      Transaction tx = session.beginTransaction();
+      session.persist(
+          CatalogInfoDAO.builder()
+              .id(UUID.fromString(catalogInfo.getId()))
+              .name(catalogInfo.getName())
+              .comment(comment)
+              .createdAt(new Date(catalogInfo.getCreatedAt()))
+              .build());
+      tx.commit();
+    }
+  }
+
+  @Test
+  public void testReadsAreRoutedToReplica() throws Exception {
+    CatalogInfo catalogInfo =
+        catalogsApi.createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    // Own changes are read from the primary right after making them
+    assertThat(catalogsApi.getCatalog(TestUtils.CATALOG_NAME).getId())
+        .isEqualTo(catalogInfo.getId());
+
+    // Afterwards reads go to the replica, which has not caught up yet
+    Thread.sleep(READ_YOUR_WRITES_WINDOW_MS + 100);
+    assertThatThrownBy(() -> catalogsApi.getCatalog(TestUtils.CATALOG_NAME))
+        .isInstanceOf(ApiException.class)
+        .satisfies(e -> assertThat(((ApiException) e).getCode()).isEqualTo(404));
+    assertThat(catalogsApi.listCatalogs(null, null).getCatalogs()).isEmpty();
+
+    replicate(catalogInfo, "replicated");
+    assertThat(catalogsApi.getCatalog(TestUtils.CATALOG_NAME).getComment()).isEqualTo("replicated");
+    assertThat(catalogsApi.listCatalogs(null, null).getCatalogs())
+        .extracting(CatalogInfo::getComment)
+        .containsExactly("replicated");
+
+    // A failed change does not send reads back to the primary
+    assertThatThrownBy(
+            () -> catalogsApi.createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME)))
+        .isInstanceOf(ApiException.class);
+    assertThat(catalogsApi.getCatalog(TestUtils.CATALOG_NAME).getComment()).isEqualTo("replicated");
+
+    catalogsApi.updateCatalog(TestUtils.CATALOG_NAME, new UpdateCatalog().comment("updated"));
+    assertThat(catalogsApi.getCatalog(TestUtils.CATALOG_NAME).getComment()).isEqualTo("updated");
+  }
+}
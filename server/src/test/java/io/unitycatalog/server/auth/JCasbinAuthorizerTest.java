@@ -2,12 +2,17 @@ package io.unitycatalog.server.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.unitycatalog.server.persist.PolicyChangeRepository;
+import io.unitycatalog.server.persist.Repositories;
 import io.unitycatalog.server.persist.model.Privileges;
 import io.unitycatalog.server.persist.utils.HibernateConfigurator;
 import io.unitycatalog.server.utils.ServerProperties;
+import java.nio.file.Path;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class JCasbinAuthorizerTest {
   private UnityCatalogAuthorizer authenticator;
@@ -170,4 +175,132 @@ public class JCasbinAuthorizerTest {
     Map<UUID, List<Privileges>> expected = Map.of(principal, actions, principal2, actions2);
     assertThat(authenticator.listAuthorizations(resource)).isEqualTo(expected);
   }
+
+  private static ServerProperties sharedDatabaseProperties(Path databaseDir) {
+    Properties properties = new Properties();
+    properties.setProperty("server.env", "test");
+    properties.setProperty(
+        "hibernate.connection.url", "jdbc:h2:file:" + databaseDir.resolve("uc").toAbsolutePath());
+    properties.setProperty("hibernate.hbm2ddl.auto", "update");
+    return new ServerProperties(properties);
+  }
+
+  private static JCasbinAuthorizer createSyncedAuthorizer(Path databaseDir) throws Exception {
+    ServerProperties serverProperties = sharedDatabaseProperties(databaseDir);
+    HibernateConfigurator hibernateConfigurator = new HibernateConfigurator(serverProperties);
+    PolicyChangeRepository policyChangeRepository =
+        new Repositories(hibernateConfigurator.getSessionFactory(), serverProperties)
+            .getPolicyChangeRepository();
+    JCasbinAuthorizer authorizer = new JCasbinAuthorizer(hibernateConfigurator);
+    authorizer.enablePolicySync(policyChangeRepository);
+    return authorizer;
+  }
+
+  @Test
+  void testPolicySync(@TempDir Path databaseDir) throws Exception {
+    JCasbinAuthorizer node1 = createSyncedAuthorizer(databaseDir);
+    JCasbinAuthorizer node2 = createSyncedAuthorizer(databaseDir);
+    UUID principal = UUID.randomUUID();
+    UUID catalog = UUID.randomUUID();
+    UUID schema = UUID.randomUUID();
+
+    node1.grantAuthorization(principal, catalog, Privileges.USE_CATALOG);
+    node1.addHierarchyChild(catalog, schema);
+    assertThat(node2.authorize(principal, schema, Privileges.USE_CATALOG)).isFalse();
+    node2.syncPolicy();
+    assertThat(node2.authorize(principal, schema, Privileges.USE_CATALOG)).isTrue();
+    assertThat(node2.getHierarchyParent(schema)).isEqualTo(catalog);
+
+    // Changes flow both ways, and replaying a node's own changes has no effect
+    node2.grantAuthorization(principal, schema, Privileges.SELECT);
+    node1.syncPolicy();
+    node2.syncPolicy();
+    assertThat(node1.authorize(principal, schema, Privileges.SELECT)).isTrue();
+    assertThat(node2.listAuthorizations(principal, schema)).containsExactly(Privileges.SELECT);
+
+    node1.removeHierarchyChildren(catalog);
+    node1.clearAuthorizationsForResource(schema);
+    node2.syncPolicy();
+    assertThat(node2.getHierarchyParent(schema)).isNull();
+    assertThat(node2.authorize(principal, schema, Privileges.USE_CATALOG)).isFalse();
+    assertThat(node2.authorize(principal, schema, Privileges.SELECT)).isFalse();
+    assertThat(node2.authorize(principal, catalog, Privileges.USE_CATALOG)).isTrue();
+  }
+
+  @Test
+  void testLazyPolicyLoading(@TempDir Path databaseDir) throws Exception {
+    ServerProperties serverProperties = sharedDatabaseProperties(databaseDir);
+    JCasbinAuthorizer eager = new JCasbinAuthorizer(new HibernateConfigurator(serverProperties));
+    UUID catalog = UUID.randomUUID();
+    UUID schema = UUID.randomUUID();
+    List<UUID> principals = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    eager.addHierarchyChild(catalog, schema);
+    principals.forEach(
+        principal -> eager.grantAuthorization(principal, catalog, Privileges.USE_CATALOG));
+
+    serverProperties.set(ServerProperties.Property.AUTHORIZATION_POLICY_LOADING, "lazy");
+    serverProperties.set(ServerProperties.Property.AUTHORIZATION_POLICY_MAX_PRINCIPALS, "2");
+    JCasbinAuthorizer lazy =
+        new JCasbinAuthorizer(new HibernateConfigurator(serverProperties), serverProperties);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    lazy.bindTo(registry);
+
+    // Only the hierarchy is loaded up front
+    assertThat(registry.get("uc.authorization.policy.rules").gauge().value()).isEqualTo(1);
+    assertThat(registry.get("uc.authorization.policy.principals").gauge().value()).isZero();
+    assertThat(registry.get("uc.authorization.policy.size").gauge().value()).isPositive();
+    assertThat(registry.get("uc.authorization.policy.load.time").timeGauge().value()).isPositive();
+
+    // Grants are loaded on first access, keeping at most two principals resident
+    for (UUID principal : principals) {
+      assertThat(lazy.authorize(principal, schema, Privileges.USE_CATALOG)).isTrue();
+      assertThat(registry.get("uc.authorization.policy.principals").gauge().value())
+          .isLessThanOrEqualTo(2);
+    }
+    assertThat(lazy.authorize(UUID.randomUUID(), schema, Privileges.USE_CATALOG)).isFalse();
+    assertThat(registry.get("uc.authorization.policy.principal.loads").functionCounter().count())
+        .isEqualTo(4);
+    assertThat(lazy.listAuthorizations(catalog)).containsOnlyKeys(principals);
+
+    // Evicted principals are loaded again before their grants change
+    UUID principal = principals.get(0);
+    lazy.grantAuthorization(principal, schema, Privileges.SELECT);
+    lazy.revokeAuthorization(principal, catalog, Privileges.USE_CATALOG);
+    assertThat(lazy.authorize(principal, schema, Privileges.USE_CATALOG)).isFalse();
+    assertThat(lazy.listAuthorizations(principal, schema)).containsExactly(Privileges.SELECT);
+
+    JCasbinAuthorizer restarted =
+        new JCasbinAuthorizer(new HibernateConfigurator(serverProperties), serverProperties);
+    restarted.warmUpPolicy();
+    SimpleMeterRegistry restartedRegistry = new SimpleMeterRegistry();
+    restarted.bindTo(restartedRegistry);
+    assertThat(restartedRegistry.get("uc.authorization.policy.principals").gauge().value())
+        .isEqualTo(2);
+    assertThat(restarted.listAuthorizations(principal, schema)).containsExactly(Privileges.SELECT);
+    assertThat(restarted.listAuthorizations(principal, catalog)).isEmpty();
+  }
+
+  @Test
+  void testLazyRemovalIsSynced(@TempDir Path databaseDir) throws Exception {
+    JCasbinAuthorizer eager = createSyncedAuthorizer(databaseDir);
+    ServerProperties serverProperties = sharedDatabaseProperties(databaseDir);
+    serverProperties.set(ServerProperties.Property.AUTHORIZATION_POLICY_LOADING, "lazy");
+    HibernateConfigurator hibernateConfigurator = new HibernateConfigurator(serverProperties);
+    JCasbinAuthorizer lazy = new JCasbinAuthorizer(hibernateConfigurator, serverProperties);
+    lazy.enablePolicySync(
+        new Repositories(hibernateConfigurator.getSessionFactory(), serverProperties)
+            .getPolicyChangeRepository());
+    UUID principal = UUID.randomUUID();
+    UUID catalog = UUID.randomUUID();
+    eager.grantAuthorization(principal, catalog, Privileges.USE_CATALOG);
+
+    // None of the grants are resident on the lazy node, but the removal is still recorded
+    assertThat(lazy.loadsGrantsPerPrincipal()).isTrue();
+    assertThat(eager.loadsGrantsPerPrincipal()).isFalse();
+    assertThat(lazy.clearAuthorizationsForResource(catalog)).isTrue();
+    assertThat(lazy.clearAuthorizationsForResource(catalog)).isFalse();
+    eager.syncPolicy();
+    assertThat(eager.authorize(principal, catalog, Privileges.USE_CATALOG)).isFalse();
+    assertThat(lazy.authorize(principal, catalog, Privileges.USE_CATALOG)).isFalse();
+  }
 }
@@ -12,10 +12,17 @@ import io.unitycatalog.server.base.schema.SchemaOperations;
 import io.unitycatalog.server.persist.utils.UriUtils;
 import io.unitycatalog.server.utils.ServerProperties.Property;
 import io.unitycatalog.server.utils.TestUtils;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -366,4 +373,58 @@ public abstract class BaseModelCRUDTest extends BaseCRUDTest {
     assertThatThrownBy(() -> modelOperations.getRegisteredModel(MODEL_FULL_NAME))
         .isInstanceOf(Exception.class);
   }
+
+  @Test
+  public void testConcurrentModelVersionCreation() throws Exception {
+    createCommonResources();
+    modelOperations.createRegisteredModel(
+        new CreateRegisteredModel()
+            .name(MODEL_NAME)
+            .catalogName(CATALOG_NAME)
+            .schemaName(SCHEMA_NAME));
+    CreateModelVersion createMv =
+        new CreateModelVersion()
+            .modelName(MODEL_NAME)
+            .catalogName(CATALOG_NAME)
+            .schemaName(SCHEMA_NAME)
+            .source(MV_SOURCE)
+            .runId(MV_RUNID);
+
+    System.out.println("Testing concurrent model version creation...");
+    int creators = 64;
+    ExecutorService executor = Executors.newFixedThreadPool(creators);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<ModelVersionInfo>> futures = new ArrayList<>();
+      for (int i = 0; i < creators; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return modelOperations.createModelVersion(createMv);
+                }));
+      }
+      long startNanos = System.nanoTime();
+      start.countDown();
+      List<Long> versions = new ArrayList<>();
+      for (Future<ModelVersionInfo> future : futures) {
+        versions.add(future.get(60, TimeUnit.SECONDS).getVersion());
+      }
+      long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+      System.out.printf(
+          "Created %d model versions concurrently in %d ms (%.1f versions/s)%n",
+          creators, elapsedMillis, creators * 1000.0 / elapsedMillis);
+
+      // Every creator gets a distinct version and the versions have no gaps
+      assertThat(versions)
+          .containsExactlyInAnyOrderElementsOf(
+              LongStream.rangeClosed(1, creators).boxed().collect(Collectors.toList()));
+      assertThat(modelOperations.listModelVersions(MODEL_FULL_NAME, Optional.empty()))
+          .hasSize(creators);
+      ModelVersionInfo next = modelOperations.createModelVersion(createMv);
+      assertThat(next.getVersion()).isEqualTo(creators + 1L);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
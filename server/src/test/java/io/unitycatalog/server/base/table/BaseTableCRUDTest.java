@@ -294,7 +294,8 @@ public abstract class BaseTableCRUDTest extends BaseCRUDTest {
     List<TableInfo> createdTables = new ArrayList<>();
     for (int i = numberOfTables; i > 0; i--) {
       String tableName = TestUtils.TABLE_NAME + "_" + i;
-      String storageLocation = TestUtils.STORAGE_LOCATION + "/" + tableName;
+      // Locations of tables may not overlap
+      String storageLocation = TestUtils.STORAGE_LOCATION + "_" + tableName;
       createdTables.add(createTestingTable(tableName, storageLocation, tableOperations));
     }
     return createdTables;
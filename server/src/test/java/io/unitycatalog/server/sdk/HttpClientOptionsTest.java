@@ -0,0 +1,168 @@
+package io.unitycatalog.server.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseWriter;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.Server;
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.HttpClientOptions;
+import io.unitycatalog.client.api.CatalogsApi;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class HttpClientOptionsTest {
+  private static final String CATALOGS_PATH = "/api/2.1/unity-catalog/catalogs";
+
+  private Server server;
+
+  @AfterEach
+  public void tearDown() {
+    if (server != null) {
+      server.stop().join();
+    }
+  }
+
+  private void startServer(HttpService service) {
+    server = Server.builder().http(0).service(CATALOGS_PATH, service).build();
+    server.start().join();
+  }
+
+  private CatalogsApi catalogsApi(HttpClientOptions options) {
+    ApiClient apiClient =
+        new ApiClient().setHost("localhost").setPort(server.activeLocalPort()).setScheme("http");
+    return new CatalogsApi(options.apply(apiClient));
+  }
+
+  private static HttpResponse catalogs() {
+    return HttpResponse.of(HttpStatus.OK, MediaType.JSON, "{\"catalogs\": []}");
+  }
+
+  private static HttpResponse unavailable() {
+    return HttpResponse.of(
+        ResponseHeaders.builder(HttpStatus.SERVICE_UNAVAILABLE)
+            .add(HttpHeaderNames.RETRY_AFTER, "0")
+            .build());
+  }
+
+  @Test
+  public void testRetries() throws ApiException {
+    AtomicInteger requests = new AtomicInteger();
+    startServer((ctx, req) -> requests.incrementAndGet() <= 2 ? unavailable() : catalogs());
+    assertThat(catalogsApi(new HttpClientOptions()).listCatalogs(null, null).getCatalogs())
+        .isEmpty();
+    assertThat(requests.get()).isEqualTo(3);
+
+    // Requests fail once they ran out of retries
+    requests.set(0);
+    CatalogsApi oneRetry = catalogsApi(new HttpClientOptions().maxRetries(1));
+    assertThatThrownBy(() -> oneRetry.listCatalogs(null, null))
+        .isInstanceOf(ApiException.class)
+        .extracting(e -> ((ApiException) e).getCode())
+        .isEqualTo(503);
+    assertThat(requests.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testRequestTimeout() {
+    startServer((ctx, req) -> HttpResponse.delayed(catalogs(), Duration.ofSeconds(5)));
+    CatalogsApi catalogsApi =
+        catalogsApi(new HttpClientOptions().requestTimeout(Duration.ofMillis(200)));
+    long start = System.nanoTime();
+    assertThatThrownBy(() -> catalogsApi.listCatalogs(null, null)).isInstanceOf(ApiException.class);
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5000);
+  }
+
+  @Test
+  public void testMaxConnections() {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    startServer(
+        (ctx, req) ->
+            HttpResponse.of(
+                CompletableFuture.supplyAsync(
+                    () -> {
+                      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                      try {
+                        Thread.sleep(100);
+                      } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                      } finally {
+                        inFlight.decrementAndGet();
+                      }
+                      return catalogs();
+                    },
+                    ctx.blockingTaskExecutor())));
+    CatalogsApi catalogsApi = catalogsApi(new HttpClientOptions().maxConnections(2));
+    List<CompletableFuture<Void>> calls = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      calls.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  catalogsApi.listCatalogs(null, null);
+                } catch (ApiException e) {
+                  throw new RuntimeException(e);
+                }
+              }));
+    }
+    calls.forEach(CompletableFuture::join);
+    assertThat(maxInFlight.get()).isBetween(1, 2);
+  }
+
+  @Test
+  public void testMaxConnectionsUntilBodyIsRead() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    startServer(
+        (ctx, req) -> {
+          requests.incrementAndGet();
+          // The body is never completed, only the client closing it ends the request
+          HttpResponseWriter response = HttpResponse.streaming();
+          response.write(ResponseHeaders.of(HttpStatus.OK));
+          response.write(HttpData.ofUtf8("{"));
+          return response;
+        });
+    ApiClient apiClient =
+        new HttpClientOptions()
+            .maxConnections(1)
+            .apply(
+                new ApiClient()
+                    .setHost("localhost")
+                    .setPort(server.activeLocalPort())
+                    .setScheme("http"));
+    HttpClient httpClient = apiClient.getHttpClient();
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(apiClient.getBaseUri() + "/catalogs")).build();
+
+    InputStream body =
+        httpClient.send(request, java.net.http.HttpResponse.BodyHandlers.ofInputStream()).body();
+    CompletableFuture<java.net.http.HttpResponse<InputStream>> second =
+        httpClient.sendAsync(request, java.net.http.HttpResponse.BodyHandlers.ofInputStream());
+    Thread.sleep(300);
+    // The body of the first response holds the connection
+    assertThat(second).isNotDone();
+    assertThat(requests.get()).isEqualTo(1);
+
+    body.close();
+    second.get(5, TimeUnit.SECONDS).body().close();
+    assertThat(requests.get()).isEqualTo(2);
+  }
+}
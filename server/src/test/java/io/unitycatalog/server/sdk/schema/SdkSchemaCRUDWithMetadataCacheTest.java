@@ -0,0 +1,15 @@
+package io.unitycatalog.server.sdk.schema;
+
+/**
+ * Runs the schema CRUD suite with the metadata second-level cache enabled, so every rename, update
+ * and delete of catalogs and schemas has to be visible through the cached name lookups.
+ */
+public class SdkSchemaCRUDWithMetadataCacheTest extends SdkSchemaCRUDTest {
+
+  @Override
+  protected void setUpProperties() {
+    super.setUpProperties();
+    serverProperties.setProperty("server.metadata-cache.enabled", "true");
+    serverProperties.setProperty("server.metadata-cache.max-entries", "100");
+  }
+}
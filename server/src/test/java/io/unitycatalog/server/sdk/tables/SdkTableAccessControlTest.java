@@ -0,0 +1,197 @@
+package io.unitycatalog.server.sdk.tables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.auth0.jwt.JWT;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.model.ColumnInfo;
+import io.unitycatalog.client.model.ColumnTypeName;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.CreateSchema;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.CreateTables;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.TableInfo;
+import io.unitycatalog.client.model.TableType;
+import io.unitycatalog.control.model.User;
+import io.unitycatalog.server.base.ServerConfig;
+import io.unitycatalog.server.base.access.BaseAccessControlCRUDTest;
+import io.unitycatalog.server.base.catalog.CatalogOperations;
+import io.unitycatalog.server.base.schema.SchemaOperations;
+import io.unitycatalog.server.base.table.TableOperations;
+import io.unitycatalog.server.persist.dao.UserDAO;
+import io.unitycatalog.server.sdk.catalog.SdkCatalogOperations;
+import io.unitycatalog.server.sdk.schema.SdkSchemaOperations;
+import io.unitycatalog.server.security.JwtClaim;
+import io.unitycatalog.server.security.JwtTokenType;
+import io.unitycatalog.server.utils.TestUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Table creation with authorization enabled, where the access decorator has to read the catalog and
+ * schema names from the request payload before the service method runs.
+ */
+public class SdkTableAccessControlTest extends BaseAccessControlCRUDTest {
+
+  private static final int WIDE_TABLE_COLUMNS = 5000;
+  private static final int ITERATIONS = 5;
+
+  private SchemaOperations schemaOperations;
+  private TableOperations tableOperations;
+
+  @Override
+  protected CatalogOperations createCatalogOperations(ServerConfig config) {
+    return new SdkCatalogOperations(TestUtils.createApiClient(config));
+  }
+
+  @BeforeEach
+  @Override
+  public void setUp() {
+    super.setUp();
+    try {
+      serverConfig.setAuthToken(Files.readString(Path.of("etc", "conf", "token.txt")));
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    catalogOperations = createCatalogOperations(serverConfig);
+    schemaOperations = new SdkSchemaOperations(TestUtils.createApiClient(serverConfig));
+    tableOperations = new SdkTableOperations(TestUtils.createApiClient(serverConfig));
+  }
+
+  @AfterEach
+  public void resetAuthToken() {
+    serverConfig.setAuthToken("");
+  }
+
+  private void createCommonResources() throws ApiException {
+    catalogOperations.createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    schemaOperations.createSchema(
+        new CreateSchema().name(TestUtils.SCHEMA_NAME).catalogName(TestUtils.CATALOG_NAME));
+  }
+
+  private static CreateTable createWideTable(String tableName, String schemaName) {
+    List<ColumnInfo> columns = new ArrayList<>(WIDE_TABLE_COLUMNS);
+    for (int i = 0; i < WIDE_TABLE_COLUMNS; i++) {
+      columns.add(
+          new ColumnInfo()
+              .name("column_" + i)
+              .typeText("STRING")
+              .typeJson("{\"name\":\"column_" + i + "\",\"type\":\"string\",\"nullable\":true}")
+              .typeName(ColumnTypeName.STRING)
+              .position(i)
+              .comment("Column " + i)
+              .nullable(true));
+    }
+    return new CreateTable()
+        .name(tableName)
+        .catalogName(TestUtils.CATALOG_NAME)
+        .schemaName(schemaName)
+        .columns(columns)
+        .storageLocation(TestUtils.STORAGE_LOCATION + "/" + tableName)
+        .tableType(TableType.EXTERNAL)
+        .dataSourceFormat(DataSourceFormat.DELTA);
+  }
+
+  @Test
+  public void testCreateWideTable() throws Exception {
+    createCommonResources();
+
+    TableInfo created =
+        tableOperations.createTable(createWideTable("wide_table", TestUtils.SCHEMA_NAME));
+    assertThat(created.getColumns()).hasSize(WIDE_TABLE_COLUMNS);
+
+    TableInfo tableInfo =
+        tableOperations.getTable(
+            TestUtils.CATALOG_NAME + "." + TestUtils.SCHEMA_NAME + ".wide_table");
+    assertThat(tableInfo.getColumns()).hasSize(WIDE_TABLE_COLUMNS);
+  }
+
+  /**
+   * Measures creating wide tables through the access decorator. Not part of the regular test run;
+   * run it with {@code UC_BENCHMARKS=true build/sbt "server/testOnly
+   * io.unitycatalog.server.sdk.tables.SdkTableAccessControlTest"}.
+   */
+  @Test
+  @EnabledIfEnvironmentVariable(named = "UC_BENCHMARKS", matches = "true")
+  public void benchmarkCreateWideTable() throws Exception {
+    createCommonResources();
+
+    // Warm up the request path before measuring
+    tableOperations.createTable(createWideTable("wide_table_warmup", TestUtils.SCHEMA_NAME));
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      TableInfo tableInfo =
+          tableOperations.createTable(createWideTable("wide_table_" + i, TestUtils.SCHEMA_NAME));
+      assertThat(tableInfo.getColumns()).hasSize(WIDE_TABLE_COLUMNS);
+    }
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    System.out.println(
+        String.format(
+            "Created %d tables with %d columns in %d ms (%.1f ms per table)",
+            ITERATIONS, WIDE_TABLE_COLUMNS, elapsedMillis, (double) elapsedMillis / ITERATIONS));
+  }
+
+  @Test
+  public void testCreateTableWithoutPrivilegesIsDenied() throws Exception {
+    createCommonResources();
+
+    String email = "principal-1@localhost";
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      session.persist(
+          UserDAO.from(
+              new User()
+                  .id(UUID.randomUUID().toString())
+                  .name(email)
+                  .email(email)
+                  .state(User.StateEnum.ENABLED)
+                  .createdAt(System.currentTimeMillis())));
+      tx.commit();
+    }
+    serverConfig.setAuthToken(
+        JWT.create()
+            .withSubject(securityContext.getServiceName())
+            .withIssuer(securityContext.getLocalIssuer())
+            .withIssuedAt(new Date())
+            .withKeyId(securityConfiguration.getKeyId())
+            .withJWTId(UUID.randomUUID().toString())
+            .withClaim(JwtClaim.TOKEN_TYPE.key(), JwtTokenType.ACCESS.name())
+            .withClaim(JwtClaim.SUBJECT.key(), email)
+            .sign(securityConfiguration.algorithmRSA()));
+    TableOperations principalTableOperations =
+        new SdkTableOperations(TestUtils.createApiClient(serverConfig));
+
+    // The catalog and schema are only known from the payload, so the decorator has to deny the
+    // request after reading the body and before the service method is invoked.
+    assertThatThrownBy(
+            () ->
+                principalTableOperations.createTable(
+                    createWideTable("denied_table", TestUtils.SCHEMA_NAME)))
+        .isInstanceOf(ApiException.class)
+        .satisfies(e -> assertThat(((ApiException) e).getCode()).isEqualTo(403));
+    // Tables created in a batch are authorized per schema by the service
+    assertThatThrownBy(
+            () ->
+                new TablesApi(TestUtils.createApiClient(serverConfig))
+                    .createTables(
+                        new CreateTables()
+                            .tables(
+                                List.of(createWideTable("denied_table", TestUtils.SCHEMA_NAME)))))
+        .isInstanceOf(ApiException.class)
+        .satisfies(e -> assertThat(((ApiException) e).getCode()).isEqualTo(403));
+  }
+}
@@ -0,0 +1,165 @@
+package io.unitycatalog.server.sdk.tables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.CatalogsApi;
+import io.unitycatalog.client.api.SchemasApi;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.model.ColumnInfo;
+import io.unitycatalog.client.model.ColumnTypeName;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.CreateSchema;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.CreateTables;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.TableType;
+import io.unitycatalog.server.UnityCatalogServer;
+import io.unitycatalog.server.base.ServerConfig;
+import io.unitycatalog.server.utils.ServerProperties;
+import io.unitycatalog.server.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Measures table creation with and without JDBC batching, and creating many tables one by one
+ * against creating them in one batch. Each server has a database of its own.
+ *
+ * <p>Not part of the regular test run; run it with {@code UC_BENCHMARKS=true build/sbt
+ * "server/testOnly io.unitycatalog.server.sdk.tables.SdkTableBatchCreateBenchmark"}.
+ */
+@EnabledIfEnvironmentVariable(named = "UC_BENCHMARKS", matches = "true")
+public class SdkTableBatchCreateBenchmark {
+  private static final int[] COLUMN_COUNTS = {10, 100, 1000, 3000};
+  private static final int ITERATIONS = 3;
+  private static final int BULK_TABLES = 200;
+  private static final int BULK_COLUMNS = 20;
+
+  private final List<UnityCatalogServer> servers = new ArrayList<>();
+  private TablesApi batchedTablesApi;
+  private TablesApi unbatchedTablesApi;
+
+  private TablesApi startServer(int port, Map<String, String> hibernateProperties)
+      throws ApiException {
+    Properties properties = new Properties();
+    properties.setProperty("server.env", "test");
+    properties.setProperty(
+        "hibernate.connection.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    properties.setProperty("hibernate.hbm2ddl.auto", "create");
+    properties.putAll(hibernateProperties);
+    UnityCatalogServer server =
+        UnityCatalogServer.builder()
+            .port(port)
+            .serverProperties(new ServerProperties(properties))
+            .build();
+    server.start();
+    servers.add(server);
+    ApiClient apiClient =
+        TestUtils.createApiClient(new ServerConfig("http://localhost:" + port, ""));
+    new CatalogsApi(apiClient).createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    new SchemasApi(apiClient)
+        .createSchema(
+            new CreateSchema().name(TestUtils.SCHEMA_NAME).catalogName(TestUtils.CATALOG_NAME));
+    return new TablesApi(apiClient);
+  }
+
+  @BeforeEach
+  public void setUp() throws ApiException {
+    int port = TestUtils.getRandomPort();
+    batchedTablesApi = startServer(port, Map.of());
+    unbatchedTablesApi = startServer(port + 1, Map.of("hibernate.jdbc.batch_size", "1"));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    servers.forEach(UnityCatalogServer::stop);
+  }
+
+  private static CreateTable createTable(String name, int columnCount) {
+    List<ColumnInfo> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          new ColumnInfo()
+              .name("column_" + i)
+              .typeText("STRING")
+              .typeJson("{\"name\":\"column_" + i + "\",\"type\":\"string\",\"nullable\":true}")
+              .typeName(ColumnTypeName.STRING)
+              .position(i)
+              .nullable(true));
+    }
+    return new CreateTable()
+        .name(name)
+        .catalogName(TestUtils.CATALOG_NAME)
+        .schemaName(TestUtils.SCHEMA_NAME)
+        .columns(columns)
+        .storageLocation(TestUtils.STORAGE_LOCATION + "/" + name)
+        .tableType(TableType.EXTERNAL)
+        .dataSourceFormat(DataSourceFormat.DELTA)
+        .properties(Map.of("key", "value"));
+  }
+
+  private interface Operation {
+    void run(String name) throws Exception;
+  }
+
+  /** Returns the average time of the operation in milliseconds, after a warm-up run. */
+  private static double measure(String prefix, Operation operation) throws Exception {
+    operation.run(prefix + "_warmup");
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      operation.run(prefix + "_" + i);
+    }
+    return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+  }
+
+  @Test
+  public void benchmarkCreateTable() throws Exception {
+    for (int columnCount : COLUMN_COUNTS) {
+      double unbatched =
+          measure(
+              "unbatched_" + columnCount,
+              name -> unbatchedTablesApi.createTable(createTable(name, columnCount)));
+      double batched =
+          measure(
+              "batched_" + columnCount,
+              name -> batchedTablesApi.createTable(createTable(name, columnCount)));
+      System.out.println(
+          String.format(
+              "Create a table with %d columns: %.1f ms unbatched, %.1f ms batched",
+              columnCount, unbatched, batched));
+    }
+
+    double oneByOne =
+        measure(
+            "one_by_one",
+            prefix -> {
+              for (int i = 0; i < BULK_TABLES; i++) {
+                batchedTablesApi.createTable(createTable(prefix + "_" + i, BULK_COLUMNS));
+              }
+            });
+    double bulk =
+        measure(
+            "bulk",
+            prefix -> {
+              List<CreateTable> tables = new ArrayList<>(BULK_TABLES);
+              for (int i = 0; i < BULK_TABLES; i++) {
+                tables.add(createTable(prefix + "_" + i, BULK_COLUMNS));
+              }
+              assertThat(
+                      batchedTablesApi.createTables(new CreateTables().tables(tables)).getTables())
+                  .hasSize(BULK_TABLES);
+            });
+    System.out.println(
+        String.format(
+            "Create %d tables with %d columns: %.1f ms one by one, %.1f ms in one batch",
+            BULK_TABLES, BULK_COLUMNS, oneByOne, bulk));
+  }
+}
@@ -0,0 +1,134 @@
+package io.unitycatalog.server.sdk.tables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.CatalogsApi;
+import io.unitycatalog.client.api.SchemasApi;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.model.ColumnInfo;
+import io.unitycatalog.client.model.ColumnTypeName;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.CreateSchema;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.CreateTables;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.TableInfo;
+import io.unitycatalog.client.model.TableType;
+import io.unitycatalog.server.UnityCatalogServer;
+import io.unitycatalog.server.base.ServerConfig;
+import io.unitycatalog.server.utils.ServerProperties;
+import io.unitycatalog.server.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Creating tables in batches. See {@link SdkTableBatchCreateBenchmark} for how batching compares to
+ * creating the tables one by one.
+ */
+public class SdkTableBatchCreateTest {
+  private UnityCatalogServer server;
+  private TablesApi tablesApi;
+
+  @BeforeEach
+  public void setUp() throws ApiException {
+    int port = TestUtils.getRandomPort();
+    Properties properties = new Properties();
+    properties.setProperty("server.env", "test");
+    properties.setProperty(
+        "hibernate.connection.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    properties.setProperty("hibernate.hbm2ddl.auto", "create");
+    server =
+        UnityCatalogServer.builder()
+            .port(port)
+            .serverProperties(new ServerProperties(properties))
+            .build();
+    server.start();
+    ApiClient apiClient =
+        TestUtils.createApiClient(new ServerConfig("http://localhost:" + port, ""));
+    new CatalogsApi(apiClient).createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    new SchemasApi(apiClient)
+        .createSchema(
+            new CreateSchema().name(TestUtils.SCHEMA_NAME).catalogName(TestUtils.CATALOG_NAME));
+    tablesApi = new TablesApi(apiClient);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    if (server != null) {
+      server.stop();
+    }
+  }
+
+  private static CreateTable createTable(String name, int columnCount) {
+    List<ColumnInfo> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          new ColumnInfo()
+              .name("column_" + i)
+              .typeText("STRING")
+              .typeJson("{\"name\":\"column_" + i + "\",\"type\":\"string\",\"nullable\":true}")
+              .typeName(ColumnTypeName.STRING)
+              .position(i)
+              .nullable(true));
+    }
+    return new CreateTable()
+        .name(name)
+        .catalogName(TestUtils.CATALOG_NAME)
+        .schemaName(TestUtils.SCHEMA_NAME)
+        .columns(columns)
+        .storageLocation(TestUtils.STORAGE_LOCATION + "/" + name)
+        .tableType(TableType.EXTERNAL)
+        .dataSourceFormat(DataSourceFormat.DELTA)
+        .properties(Map.of("key", "value"));
+  }
+
+  @Test
+  public void testCreateTables() throws ApiException {
+    List<TableInfo> tableInfos =
+        tablesApi
+            .createTables(
+                new CreateTables().tables(List.of(createTable("t1", 2), createTable("t2", 3))))
+            .getTables();
+    assertThat(tableInfos).extracting(TableInfo::getName).containsExactly("t1", "t2");
+    TableInfo tableInfo =
+        tablesApi.getTable(
+            TestUtils.CATALOG_NAME + "." + TestUtils.SCHEMA_NAME + ".t2", null, null, null, null);
+    assertThat(tableInfo.getTableId()).isEqualTo(tableInfos.get(1).getTableId());
+    assertThat(tableInfo.getColumns()).hasSize(3);
+    assertThat(tableInfo.getProperties()).containsEntry("key", "value");
+
+    // Either all tables are created, or none is
+    assertThatThrownBy(
+            () ->
+                tablesApi.createTables(
+                    new CreateTables().tables(List.of(createTable("t3", 1), createTable("t1", 1)))))
+        .isInstanceOf(ApiException.class)
+        .satisfies(e -> assertThat(((ApiException) e).getCode()).isEqualTo(409));
+    assertThatThrownBy(
+            () ->
+                tablesApi.createTables(
+                    new CreateTables().tables(List.of(createTable("t3", 1), createTable("t3", 1)))))
+        .isInstanceOf(ApiException.class);
+    assertThat(
+            tablesApi
+                .listTables(TestUtils.CATALOG_NAME, TestUtils.SCHEMA_NAME, 100, null, null, null)
+                .getTables())
+        .extracting(TableInfo::getName)
+        .containsExactly("t1", "t2");
+    // The location of the failed table is free again
+    tablesApi.createTable(createTable("t3", 1));
+
+    assertThatThrownBy(() -> tablesApi.createTables(new CreateTables().tables(List.of())))
+        .isInstanceOf(ApiException.class)
+        .satisfies(e -> assertThat(((ApiException) e).getCode()).isEqualTo(400));
+  }
+}
@@ -1,8 +1,14 @@
 package io.unitycatalog.server.sdk.tables;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.HttpClientOptions;
 import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.api.TablesAsyncApi;
+import io.unitycatalog.client.model.ColumnInfo;
 import io.unitycatalog.client.model.ListTablesResponse;
 import io.unitycatalog.client.model.TableInfo;
 import io.unitycatalog.server.base.ServerConfig;
@@ -13,25 +19,31 @@ import io.unitycatalog.server.base.table.TableOperations;
 import io.unitycatalog.server.sdk.catalog.SdkCatalogOperations;
 import io.unitycatalog.server.sdk.schema.SdkSchemaOperations;
 import io.unitycatalog.server.utils.TestUtils;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 
 public class SdkTableCRUDTest extends BaseTableCRUDTest {
 
+  protected ApiClient createApiClient(ServerConfig config) {
+    return TestUtils.createApiClient(config);
+  }
+
   @Override
   protected CatalogOperations createCatalogOperations(ServerConfig config) {
-    return new SdkCatalogOperations(TestUtils.createApiClient(config));
+    return new SdkCatalogOperations(createApiClient(config));
   }
 
   @Override
   protected SchemaOperations createSchemaOperations(ServerConfig config) {
-    return new SdkSchemaOperations(TestUtils.createApiClient(config));
+    return new SdkSchemaOperations(createApiClient(config));
   }
 
   @Override
   protected TableOperations createTableOperations(ServerConfig config) {
-    localTablesApi = new TablesApi(TestUtils.createApiClient(config));
-    return new SdkTableOperations(TestUtils.createApiClient(config));
+    localTablesApi = new TablesApi(createApiClient(config));
+    return new SdkTableOperations(createApiClient(config));
   }
 
   /**
@@ -49,7 +61,7 @@ public class SdkTableCRUDTest extends BaseTableCRUDTest {
         createTestingTable(TestUtils.TABLE_NAME, TestUtils.STORAGE_LOCATION, tableOperations);
     ListTablesResponse resp =
         localTablesApi.listTables(
-            testingTable.getCatalogName(), testingTable.getSchemaName(), 100, null);
+            testingTable.getCatalogName(), testingTable.getSchemaName(), 100, null, null, null);
     assertThat(resp.getNextPageToken()).isNull();
     assertThat(resp.getTables())
         .hasSize(1)
@@ -65,7 +77,12 @@ public class SdkTableCRUDTest extends BaseTableCRUDTest {
     List<TableInfo> testingTables = createMultipleTestingTables(11);
     ListTablesResponse resp =
         localTablesApi.listTables(
-            testingTables.get(0).getCatalogName(), testingTables.get(0).getSchemaName(), 10, null);
+            testingTables.get(0).getCatalogName(),
+            testingTables.get(0).getSchemaName(),
+            10,
+            null,
+            null,
+            null);
     assertThat(resp.getNextPageToken()).isNotNull();
     assertThat(resp.getTables()).hasSize(10);
     // Check the next page has the last table
@@ -74,8 +91,108 @@ public class SdkTableCRUDTest extends BaseTableCRUDTest {
             testingTables.get(0).getCatalogName(),
             testingTables.get(0).getSchemaName(),
             10,
-            resp.getNextPageToken());
+            resp.getNextPageToken(),
+            null,
+            null);
     assertThat(nextPageResp.getNextPageToken()).isNull();
     assertThat(nextPageResp.getTables()).hasSize(1);
   }
+
+  @Test
+  public void testListTablesWithoutColumnsAndProperties() throws Exception {
+    createCommonResources();
+    createTestingTable(TestUtils.TABLE_NAME, TestUtils.STORAGE_LOCATION, tableOperations);
+    TableInfo full =
+        localTablesApi
+            .listTables(TestUtils.CATALOG_NAME, TestUtils.SCHEMA_NAME, 100, null, null, null)
+            .getTables()
+            .get(0);
+    assertThat(full.getColumns()).hasSize(2);
+    assertThat(full.getProperties()).isNotEmpty();
+
+    TableInfo omitted =
+        localTablesApi
+            .listTables(TestUtils.CATALOG_NAME, TestUtils.SCHEMA_NAME, 100, null, true, true)
+            .getTables()
+            .get(0);
+    assertThat(omitted.getName()).isEqualTo(TestUtils.TABLE_NAME);
+    assertThat(omitted.getColumns()).isEmpty();
+    assertThat(omitted.getProperties()).isNullOrEmpty();
+  }
+
+  @Test
+  public void testAsyncApi() throws Exception {
+    createCommonResources();
+    List<TableInfo> testingTables = createMultipleTestingTables(11);
+    // The requests are sent concurrently over the connections of one HTTP client
+    TablesAsyncApi tablesAsyncApi =
+        new TablesAsyncApi(
+            new HttpClientOptions().maxConnections(4).apply(createApiClient(serverConfig)));
+    List<CompletableFuture<TableInfo>> tables = new ArrayList<>();
+    for (TableInfo testingTable : testingTables) {
+      String fullName =
+          String.join(
+              ".",
+              testingTable.getCatalogName(),
+              testingTable.getSchemaName(),
+              testingTable.getName());
+      tables.add(tablesAsyncApi.getTable(fullName));
+    }
+    CompletableFuture.allOf(tables.toArray(new CompletableFuture<?>[0])).join();
+    for (int i = 0; i < testingTables.size(); i++) {
+      assertThat(tables.get(i).join().getTableId()).isEqualTo(testingTables.get(i).getTableId());
+    }
+
+    // Failed calls complete the future exceptionally
+    CompletableFuture<TableInfo> missing =
+        tablesAsyncApi.getTable(
+            TestUtils.CATALOG_NAME + "." + TestUtils.SCHEMA_NAME + ".missing",
+            null,
+            null,
+            null,
+            null);
+    assertThatThrownBy(missing::join)
+        .hasCauseInstanceOf(ApiException.class)
+        .extracting(e -> ((ApiException) e.getCause()).getCode())
+        .isEqualTo(404);
+  }
+
+  @Test
+  public void testGetTableWithSelectedColumns() throws Exception {
+    createCommonResources();
+    createTestingTable(TestUtils.TABLE_NAME, TestUtils.STORAGE_LOCATION, tableOperations);
+
+    TableInfo omitted = localTablesApi.getTable(TestUtils.TABLE_FULL_NAME, true, null, null, null);
+    assertThat(omitted.getColumns()).isEmpty();
+    assertThat(omitted.getColumnCount()).isEqualTo(2);
+
+    TableInfo selected =
+        localTablesApi.getTable(
+            TestUtils.TABLE_FULL_NAME, null, List.of("as_string", "missing"), null, null);
+    assertThat(selected.getColumns()).extracting(ColumnInfo::getName).containsExactly("as_string");
+    assertThat(selected.getNextColumnPageToken()).isNull();
+
+    // Columns are paged in order of their position
+    TableInfo firstPage = localTablesApi.getTable(TestUtils.TABLE_FULL_NAME, null, null, 1, null);
+    assertThat(firstPage.getColumns()).extracting(ColumnInfo::getName).containsExactly("as_int");
+    assertThat(firstPage.getNextColumnPageToken()).isNotNull();
+    TableInfo secondPage =
+        localTablesApi.getTable(
+            TestUtils.TABLE_FULL_NAME, null, null, 1, firstPage.getNextColumnPageToken());
+    assertThat(secondPage.getColumns())
+        .extracting(ColumnInfo::getName)
+        .containsExactly("as_string");
+    TableInfo lastPage =
+        localTablesApi.getTable(
+            TestUtils.TABLE_FULL_NAME, null, null, 1, secondPage.getNextColumnPageToken());
+    assertThat(lastPage.getColumns()).isEmpty();
+    assertThat(lastPage.getNextColumnPageToken()).isNull();
+
+    assertThatThrownBy(
+            () -> localTablesApi.getTable(TestUtils.TABLE_FULL_NAME, true, null, 1, null))
+        .isInstanceOf(ApiException.class);
+    assertThatThrownBy(
+            () -> localTablesApi.getTable(TestUtils.TABLE_FULL_NAME, null, null, -1, null))
+        .isInstanceOf(ApiException.class);
+  }
 }
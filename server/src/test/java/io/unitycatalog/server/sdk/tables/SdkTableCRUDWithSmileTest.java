@@ -0,0 +1,49 @@
+package io.unitycatalog.server.sdk.tables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.SmileSupport;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.model.TableInfo;
+import io.unitycatalog.server.base.ServerConfig;
+import io.unitycatalog.server.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the table CRUD suite with clients that send Smile request bodies and ask for Smile
+ * responses. Operations that are only answered in JSON have to keep working through the same
+ * clients.
+ */
+public class SdkTableCRUDWithSmileTest extends SdkTableCRUDTest {
+
+  @Override
+  protected ApiClient createApiClient(ServerConfig config) {
+    return SmileSupport.enable(TestUtils.createApiClient(config));
+  }
+
+  @Test
+  public void testTablesAreReturnedAsSmile() throws Exception {
+    createCommonResources();
+    List<String> contentTypes = new ArrayList<>();
+    ApiClient apiClient =
+        createApiClient(serverConfig)
+            .setResponseInterceptor(
+                response ->
+                    contentTypes.add(response.headers().firstValue("Content-Type").orElse(null)));
+    TablesApi tablesApi = new TablesApi(apiClient);
+
+    TableInfo tableInfo =
+        createTestingTable(TestUtils.TABLE_NAME, TestUtils.STORAGE_LOCATION, tableOperations);
+    assertThat(tablesApi.getTable(TestUtils.TABLE_FULL_NAME).getTableId())
+        .isEqualTo(tableInfo.getTableId());
+    assertThat(
+            tablesApi
+                .listTables(TestUtils.CATALOG_NAME, TestUtils.SCHEMA_NAME, 100, null, null, null)
+                .getTables())
+        .hasSize(1);
+    assertThat(contentTypes).containsOnly(SmileSupport.MEDIA_TYPE);
+  }
+}
@@ -25,7 +25,9 @@ public class SdkTableOperations implements TableOperations {
   public List<TableInfo> listTables(
       String catalogName, String schemaName, Optional<String> pageToken) throws ApiException {
     return Objects.requireNonNull(
-        tablesApi.listTables(catalogName, schemaName, 100, pageToken.orElse(null)).getTables());
+        tablesApi
+            .listTables(catalogName, schemaName, 100, pageToken.orElse(null), null, null)
+            .getTables());
   }
 
   @Override
@@ -0,0 +1,125 @@
+package io.unitycatalog.server.sdk.tempcredential;
+
+import static io.unitycatalog.server.security.SecurityContext.Issuers.INTERNAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.auth0.jwt.JWT;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.TemporaryCredentialsApi;
+import io.unitycatalog.client.model.GenerateTemporaryPathCredential;
+import io.unitycatalog.client.model.PathOperation;
+import io.unitycatalog.control.model.User;
+import io.unitycatalog.server.persist.dao.UserDAO;
+import io.unitycatalog.server.security.JwtClaim;
+import io.unitycatalog.server.security.JwtTokenType;
+import io.unitycatalog.server.security.SecurityConfiguration;
+import io.unitycatalog.server.security.SecurityContext;
+import io.unitycatalog.server.utils.TestUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Path credentials with authorization enabled. The tests of the parent class run as the metastore
+ * owner.
+ */
+public class SdkTemporaryPathCredentialAccessControlTest extends SdkTemporaryPathCredentialTest {
+  private static final String PATH = "s3://test-bucket0/test";
+
+  private SecurityConfiguration securityConfiguration;
+  private SecurityContext securityContext;
+
+  @Override
+  protected void setUpProperties() {
+    super.setUpProperties();
+    serverProperties.setProperty("server.authorization", "enable");
+  }
+
+  @BeforeEach
+  @Override
+  public void setUp() {
+    super.setUp();
+    Path configurationFolder = Path.of("etc", "conf");
+    securityConfiguration = new SecurityConfiguration(configurationFolder);
+    securityContext =
+        new SecurityContext(configurationFolder, securityConfiguration, "server", INTERNAL);
+    try {
+      serverConfig.setAuthToken(Files.readString(configurationFolder.resolve("token.txt")));
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    temporaryCredentialsApi = new TemporaryCredentialsApi(TestUtils.createApiClient(serverConfig));
+  }
+
+  @AfterEach
+  public void cleanUp() {
+    serverConfig.setAuthToken("");
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      session.createNativeMutationQuery("delete from casbin_rule").executeUpdate();
+      tx.commit();
+    }
+  }
+
+  private TemporaryCredentialsApi createPrincipalApi() throws Exception {
+    String email = "principal-" + UUID.randomUUID() + "@localhost";
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      session.persist(
+          UserDAO.from(
+              new User()
+                  .id(UUID.randomUUID().toString())
+                  .name(email)
+                  .email(email)
+                  .state(User.StateEnum.ENABLED)
+                  .createdAt(System.currentTimeMillis())));
+      tx.commit();
+    }
+    serverConfig.setAuthToken(
+        JWT.create()
+            .withSubject(securityContext.getServiceName())
+            .withIssuer(securityContext.getLocalIssuer())
+            .withIssuedAt(new Date())
+            .withKeyId(securityConfiguration.getKeyId())
+            .withJWTId(UUID.randomUUID().toString())
+            .withClaim(JwtClaim.TOKEN_TYPE.key(), JwtTokenType.ACCESS.name())
+            .withClaim(JwtClaim.SUBJECT.key(), email)
+            .sign(securityConfiguration.algorithmRSA()));
+    return new TemporaryCredentialsApi(TestUtils.createApiClient(serverConfig));
+  }
+
+  @Test
+  public void testNonOwnerIsDenied() throws Exception {
+    TemporaryCredentialsApi principalApi = createPrincipalApi();
+    for (PathOperation operation :
+        new PathOperation[] {
+          PathOperation.PATH_READ, PathOperation.PATH_READ_WRITE, PathOperation.PATH_CREATE_TABLE
+        }) {
+      assertThatThrownBy(
+              () ->
+                  principalApi.generateTemporaryPathCredentials(
+                      new GenerateTemporaryPathCredential().url(PATH).operation(operation)))
+          .isInstanceOf(ApiException.class)
+          .satisfies(e -> assertThat(((ApiException) e).getCode()).isEqualTo(403));
+    }
+  }
+
+  @Test
+  public void testParentSegmentsAreRejected() {
+    assertThatThrownBy(
+            () ->
+                temporaryCredentialsApi.generateTemporaryPathCredentials(
+                    new GenerateTemporaryPathCredential()
+                        .url(PATH + "/../../test-bucket1")
+                        .operation(PathOperation.PATH_READ)))
+        .isInstanceOf(ApiException.class)
+        .satisfies(e -> assertThat(((ApiException) e).getCode()).isEqualTo(400));
+  }
+}
@@ -17,7 +17,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 public class SdkTemporaryPathCredentialTest extends BaseCRUDTestWithMockCredentials {
-  private TemporaryCredentialsApi temporaryCredentialsApi;
+  protected TemporaryCredentialsApi temporaryCredentialsApi;
 
   @Override
   protected CatalogOperations createCatalogOperations(ServerConfig serverConfig) {
@@ -0,0 +1,134 @@
+package io.unitycatalog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.auth0.jwt.JWT;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.ChangesApi;
+import io.unitycatalog.client.api.GrantsApi;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.PermissionsChange;
+import io.unitycatalog.client.model.Privilege;
+import io.unitycatalog.client.model.SecurableType;
+import io.unitycatalog.client.model.UpdatePermissions;
+import io.unitycatalog.control.model.User;
+import io.unitycatalog.server.base.ServerConfig;
+import io.unitycatalog.server.base.access.BaseAccessControlCRUDTest;
+import io.unitycatalog.server.base.catalog.CatalogOperations;
+import io.unitycatalog.server.persist.dao.UserDAO;
+import io.unitycatalog.server.sdk.catalog.SdkCatalogOperations;
+import io.unitycatalog.server.security.JwtClaim;
+import io.unitycatalog.server.security.JwtTokenType;
+import io.unitycatalog.server.utils.TestUtils;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** The change log with authorization enabled, where it names securables of the whole metastore. */
+public class ChangeServiceAccessControlTest extends BaseAccessControlCRUDTest {
+
+  private static final String PRINCIPAL = "principal-1@localhost";
+
+  private String adminToken;
+
+  @Override
+  protected CatalogOperations createCatalogOperations(ServerConfig config) {
+    return new SdkCatalogOperations(TestUtils.createApiClient(config));
+  }
+
+  @BeforeEach
+  @Override
+  public void setUp() {
+    super.setUp();
+    try {
+      adminToken = Files.readString(Path.of("etc", "conf", "token.txt"));
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    serverConfig.setAuthToken(adminToken);
+    catalogOperations = createCatalogOperations(serverConfig);
+  }
+
+  @AfterEach
+  public void resetAuthToken() {
+    serverConfig.setAuthToken("");
+  }
+
+  private String createPrincipalToken() throws Exception {
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      session.persist(
+          UserDAO.from(
+              new User()
+                  .id(UUID.randomUUID().toString())
+                  .name(PRINCIPAL)
+                  .email(PRINCIPAL)
+                  .state(User.StateEnum.ENABLED)
+                  .createdAt(System.currentTimeMillis())));
+      tx.commit();
+    }
+    return JWT.create()
+        .withSubject(securityContext.getServiceName())
+        .withIssuer(securityContext.getLocalIssuer())
+        .withIssuedAt(new Date())
+        .withKeyId(securityConfiguration.getKeyId())
+        .withJWTId(UUID.randomUUID().toString())
+        .withClaim(JwtClaim.TOKEN_TYPE.key(), JwtTokenType.ACCESS.name())
+        .withClaim(JwtClaim.SUBJECT.key(), PRINCIPAL)
+        .sign(securityConfiguration.algorithmRSA());
+  }
+
+  private int streamStatus(String token) throws Exception {
+    HttpRequest request =
+        HttpRequest.newBuilder(
+                URI.create(serverConfig.getServerUrl() + "/api/2.1/unity-catalog/changes/stream"))
+            .header("Authorization", "Bearer " + token)
+            .build();
+    HttpResponse<Void> response =
+        HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+    return response.statusCode();
+  }
+
+  @Test
+  public void testChangesRequireMetastorePrivilege() throws Exception {
+    catalogOperations.createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    assertThat(
+            new ChangesApi(TestUtils.createApiClient(serverConfig))
+                .listChanges(0L, 0, 0)
+                .getChanges())
+        .isNotEmpty();
+
+    String principalToken = createPrincipalToken();
+    serverConfig.setAuthToken(principalToken);
+    ChangesApi principalChangesApi = new ChangesApi(TestUtils.createApiClient(serverConfig));
+    assertThatThrownBy(() -> principalChangesApi.listChanges(0L, 0, 0))
+        .isInstanceOf(ApiException.class)
+        .satisfies(e -> assertThat(((ApiException) e).getCode()).isEqualTo(403));
+    assertThat(streamStatus(principalToken)).isEqualTo(403);
+
+    serverConfig.setAuthToken(adminToken);
+    new GrantsApi(TestUtils.createApiClient(serverConfig))
+        .update(
+            SecurableType.METASTORE,
+            "metastore",
+            new UpdatePermissions()
+                .changes(
+                    List.of(
+                        new PermissionsChange()
+                            .principal(PRINCIPAL)
+                            .add(List.of(Privilege.USE_CATALOG)))));
+    assertThat(principalChangesApi.listChanges(0L, 0, 0).getChanges()).isNotEmpty();
+  }
+}
@@ -0,0 +1,226 @@
+package io.unitycatalog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.CatalogsApi;
+import io.unitycatalog.client.api.ChangesApi;
+import io.unitycatalog.client.api.SchemasApi;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.model.ChangeEvent;
+import io.unitycatalog.client.model.ChangeOperation;
+import io.unitycatalog.client.model.ColumnInfo;
+import io.unitycatalog.client.model.ColumnTypeName;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.CreateSchema;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.ListChangesResponse;
+import io.unitycatalog.client.model.SecurableType;
+import io.unitycatalog.client.model.TableType;
+import io.unitycatalog.client.model.UpdateCatalog;
+import io.unitycatalog.server.base.BaseServerTest;
+import io.unitycatalog.server.utils.TestUtils;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class ChangeServiceTest extends BaseServerTest {
+
+  private static final String RENAMED_CATALOG = "uc_renamed_catalog";
+
+  private ApiClient apiClient;
+  private ChangesApi changesApi;
+  private CatalogsApi catalogsApi;
+
+  @BeforeEach
+  public void setUp() {
+    super.setUp();
+    apiClient = TestUtils.createApiClient(serverConfig);
+    changesApi = new ChangesApi(apiClient);
+    catalogsApi = new CatalogsApi(apiClient);
+  }
+
+  /** Returns the sequence number of the latest change, skipping changes made by other tests. */
+  private long latestSequenceNumber() throws ApiException {
+    long since = 0;
+    ListChangesResponse response;
+    do {
+      response = changesApi.listChanges(since, 0, 0);
+      since = response.getNextSequenceNumber();
+    } while (!response.getChanges().isEmpty());
+    return since;
+  }
+
+  private List<ChangeEvent> listAllChanges(long since) throws ApiException {
+    List<ChangeEvent> changes = new ArrayList<>();
+    ListChangesResponse response;
+    do {
+      response = changesApi.listChanges(since, 2, 0);
+      changes.addAll(response.getChanges());
+      since = response.getNextSequenceNumber();
+    } while (!response.getChanges().isEmpty());
+    return changes;
+  }
+
+  private void createTable() throws ApiException {
+    new SchemasApi(apiClient)
+        .createSchema(
+            new CreateSchema().name(TestUtils.SCHEMA_NAME).catalogName(TestUtils.CATALOG_NAME));
+    new TablesApi(apiClient)
+        .createTable(
+            new CreateTable()
+                .name(TestUtils.TABLE_NAME)
+                .catalogName(TestUtils.CATALOG_NAME)
+                .schemaName(TestUtils.SCHEMA_NAME)
+                .columns(
+                    List.of(
+                        new ColumnInfo()
+                            .name("id")
+                            .typeText("INTEGER")
+                            .typeJson("{\"type\": \"integer\"}")
+                            .typeName(ColumnTypeName.INT)
+                            .position(0)))
+                .storageLocation(TestUtils.STORAGE_LOCATION)
+                .tableType(TableType.EXTERNAL)
+                .dataSourceFormat(DataSourceFormat.DELTA));
+  }
+
+  @Test
+  public void testChangesAreRecorded() throws ApiException {
+    long since = latestSequenceNumber();
+    catalogsApi.createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    createTable();
+    catalogsApi.updateCatalog(TestUtils.CATALOG_NAME, new UpdateCatalog().newName(RENAMED_CATALOG));
+    // Failed mutations are not recorded
+    assertThatThrownBy(() -> catalogsApi.createCatalog(new CreateCatalog().name(RENAMED_CATALOG)))
+        .isInstanceOf(ApiException.class);
+    catalogsApi.deleteCatalog(RENAMED_CATALOG, true);
+
+    List<ChangeEvent> changes = listAllChanges(since);
+    assertThat(changes)
+        .extracting(
+            ChangeEvent::getSecurableType,
+            ChangeEvent::getOperation,
+            ChangeEvent::getFullName,
+            ChangeEvent::getNewFullName)
+        .containsExactly(
+            tuple(SecurableType.CATALOG, ChangeOperation.CREATE, TestUtils.CATALOG_NAME, null),
+            tuple(SecurableType.SCHEMA, ChangeOperation.CREATE, TestUtils.SCHEMA_FULL_NAME, null),
+            tuple(SecurableType.TABLE, ChangeOperation.CREATE, TestUtils.TABLE_FULL_NAME, null),
+            tuple(
+                SecurableType.CATALOG,
+                ChangeOperation.UPDATE,
+                TestUtils.CATALOG_NAME,
+                RENAMED_CATALOG),
+            tuple(
+                SecurableType.TABLE,
+                ChangeOperation.DELETE,
+                RENAMED_CATALOG + "." + TestUtils.SCHEMA_NAME + "." + TestUtils.TABLE_NAME,
+                null),
+            tuple(
+                SecurableType.SCHEMA,
+                ChangeOperation.DELETE,
+                RENAMED_CATALOG + "." + TestUtils.SCHEMA_NAME,
+                null),
+            tuple(SecurableType.CATALOG, ChangeOperation.DELETE, RENAMED_CATALOG, null));
+    assertThat(changes).extracting(ChangeEvent::getSecurableId).doesNotContainNull();
+    assertThat(changes.get(0).getSecurableId()).isEqualTo(changes.get(6).getSecurableId());
+    assertThat(changes).extracting(ChangeEvent::getSequenceNumber).isSorted();
+
+    // Resuming after the last change returns nothing
+    long last = changes.get(changes.size() - 1).getSequenceNumber();
+    ListChangesResponse response = changesApi.listChanges(last, 0, 0);
+    assertThat(response.getChanges()).isEmpty();
+    assertThat(response.getNextSequenceNumber()).isEqualTo(last);
+
+    assertThatThrownBy(() -> changesApi.listChanges(since, -1, 0)).isInstanceOf(ApiException.class);
+  }
+
+  @Test
+  public void testLongPoll() throws Exception {
+    long since = latestSequenceNumber();
+    ListChangesResponse timedOut = changesApi.listChanges(since, 0, 200);
+    assertThat(timedOut.getChanges()).isEmpty();
+    assertThat(timedOut.getNextSequenceNumber()).isEqualTo(since);
+
+    long start = System.nanoTime();
+    CompletableFuture<ListChangesResponse> poll =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return changesApi.listChanges(since, 0, 30_000);
+              } catch (ApiException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    Thread.sleep(500);
+    assertThat(poll).isNotDone();
+    catalogsApi.createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    ListChangesResponse response = poll.get(10, TimeUnit.SECONDS);
+    assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(10);
+    assertThat(response.getChanges())
+        .extracting(ChangeEvent::getFullName)
+        .containsExactly(TestUtils.CATALOG_NAME);
+    catalogsApi.deleteCatalog(TestUtils.CATALOG_NAME, true);
+  }
+
+  @Test
+  @Timeout(30)
+  public void testStream() throws Exception {
+    long since = latestSequenceNumber();
+    catalogsApi.createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+
+    HttpRequest request =
+        HttpRequest.newBuilder(
+                URI.create(
+                    serverConfig.getServerUrl()
+                        + "/api/2.1/unity-catalog/changes/stream?since="
+                        + since))
+            .build();
+    HttpResponse<Stream<String>> response =
+        HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofLines());
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.headers().firstValue("Content-Type")).hasValue("text/event-stream");
+    Iterator<String> lines = response.body().iterator();
+
+    // Changes committed before connecting are replayed, later ones are pushed
+    List<String> event = nextEvent(lines);
+    assertThat(event).contains("id:" + (since + 1), "event:change");
+    assertThat(event.get(2)).contains("\"full_name\":\"" + TestUtils.CATALOG_NAME + "\"");
+    catalogsApi.updateCatalog(TestUtils.CATALOG_NAME, new UpdateCatalog().comment("updated"));
+    event = nextEvent(lines);
+    assertThat(event).contains("id:" + (since + 2), "event:change");
+    assertThat(event.get(2)).contains("\"operation\":\"UPDATE\"");
+    response.body().close();
+    catalogsApi.deleteCatalog(TestUtils.CATALOG_NAME, true);
+  }
+
+  private static List<String> nextEvent(Iterator<String> lines) {
+    List<String> event = new ArrayList<>();
+    while (lines.hasNext()) {
+      String line = lines.next();
+      if (line.isEmpty()) {
+        if (!event.isEmpty()) {
+          return event;
+        }
+      } else if (!line.startsWith(":")) {
+        event.add(line);
+      }
+    }
+    return event;
+  }
+}
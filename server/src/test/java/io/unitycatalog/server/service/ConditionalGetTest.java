@@ -0,0 +1,262 @@
+package io.unitycatalog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ConditionalRequests;
+import io.unitycatalog.client.api.CatalogsApi;
+import io.unitycatalog.client.api.FunctionsApi;
+import io.unitycatalog.client.api.RegisteredModelsApi;
+import io.unitycatalog.client.api.SchemasApi;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.api.VolumesApi;
+import io.unitycatalog.client.model.ColumnInfo;
+import io.unitycatalog.client.model.ColumnTypeName;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.CreateFunction;
+import io.unitycatalog.client.model.CreateFunctionRequest;
+import io.unitycatalog.client.model.CreateRegisteredModel;
+import io.unitycatalog.client.model.CreateSchema;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.CreateVolumeRequestContent;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.FunctionParameterInfo;
+import io.unitycatalog.client.model.FunctionParameterInfos;
+import io.unitycatalog.client.model.TableInfo;
+import io.unitycatalog.client.model.TableType;
+import io.unitycatalog.client.model.UpdateCatalog;
+import io.unitycatalog.client.model.UpdateSchema;
+import io.unitycatalog.client.model.VolumeType;
+import io.unitycatalog.server.base.BaseServerTest;
+import io.unitycatalog.server.utils.SmileFormat;
+import io.unitycatalog.server.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConditionalGetTest extends BaseServerTest {
+
+  private ApiClient apiClient;
+  private WebClient client;
+
+  @BeforeEach
+  public void setUp() {
+    super.setUp();
+    apiClient = TestUtils.createApiClient(serverConfig);
+    client = WebClient.of(serverConfig.getServerUrl() + "/api/2.1/unity-catalog");
+  }
+
+  @AfterEach
+  public void cleanUp() {
+    try {
+      new CatalogsApi(apiClient).deleteCatalog(TestUtils.CATALOG_NAME, true);
+    } catch (Exception e) {
+      // Ignore
+    }
+  }
+
+  private void createResources() throws Exception {
+    new CatalogsApi(apiClient).createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    new SchemasApi(apiClient)
+        .createSchema(
+            new CreateSchema()
+                .name(TestUtils.SCHEMA_NAME)
+                .catalogName(TestUtils.CATALOG_NAME)
+                .properties(TestUtils.PROPERTIES));
+    new TablesApi(apiClient)
+        .createTable(
+            new CreateTable()
+                .name(TestUtils.TABLE_NAME)
+                .catalogName(TestUtils.CATALOG_NAME)
+                .schemaName(TestUtils.SCHEMA_NAME)
+                .columns(
+                    List.of(
+                        new ColumnInfo()
+                            .name("id")
+                            .typeText("INTEGER")
+                            .typeJson("{\"type\": \"integer\"}")
+                            .typeName(ColumnTypeName.INT)
+                            .position(0)
+                            .nullable(true)))
+                .storageLocation(TestUtils.STORAGE_LOCATION)
+                .tableType(TableType.EXTERNAL)
+                .dataSourceFormat(DataSourceFormat.DELTA));
+    new VolumesApi(apiClient)
+        .createVolume(
+            new CreateVolumeRequestContent()
+                .name(TestUtils.VOLUME_NAME)
+                .catalogName(TestUtils.CATALOG_NAME)
+                .schemaName(TestUtils.SCHEMA_NAME)
+                .volumeType(VolumeType.EXTERNAL)
+                .storageLocation("/tmp/conditional_get_volume"));
+    new FunctionsApi(apiClient)
+        .createFunction(
+            new CreateFunctionRequest()
+                .functionInfo(
+                    new CreateFunction()
+                        .name(TestUtils.FUNCTION_NAME)
+                        .catalogName(TestUtils.CATALOG_NAME)
+                        .schemaName(TestUtils.SCHEMA_NAME)
+                        .parameterStyle(CreateFunction.ParameterStyleEnum.S)
+                        .isDeterministic(true)
+                        .externalLanguage("python")
+                        .dataType(ColumnTypeName.INT)
+                        .fullDataType("Integer")
+                        .isNullCall(false)
+                        .routineBody(CreateFunction.RoutineBodyEnum.EXTERNAL)
+                        .routineDefinition("def test():\n  return 1")
+                        .securityType(CreateFunction.SecurityTypeEnum.DEFINER)
+                        .specificName("test")
+                        .sqlDataAccess(CreateFunction.SqlDataAccessEnum.NO_SQL)
+                        .inputParams(
+                            new FunctionParameterInfos()
+                                .parameters(
+                                    List.of(
+                                        new FunctionParameterInfo()
+                                            .name("param1")
+                                            .typeName(ColumnTypeName.INT)
+                                            .typeText("int")
+                                            .typeJson("{\"type\": \"int\"}")
+                                            .position(0))))));
+    new RegisteredModelsApi(apiClient)
+        .createRegisteredModel(
+            new CreateRegisteredModel()
+                .name(TestUtils.MODEL_NAME)
+                .catalogName(TestUtils.CATALOG_NAME)
+                .schemaName(TestUtils.SCHEMA_NAME));
+  }
+
+  private AggregatedHttpResponse get(String path, String... ifNoneMatch) {
+    RequestHeaders headers = RequestHeaders.of(HttpMethod.GET, path);
+    for (String value : ifNoneMatch) {
+      headers = headers.toBuilder().add(HttpHeaderNames.IF_NONE_MATCH, value).build();
+    }
+    return client.execute(headers).aggregate().join();
+  }
+
+  /** Checks the conditional GET behaviour of a resource and returns its current entity tag. */
+  private String assertRevalidates(String path) {
+    AggregatedHttpResponse response = get(path);
+    assertThat(response.status()).isEqualTo(HttpStatus.OK);
+    String entityTag = response.headers().get(HttpHeaderNames.ETAG);
+    assertThat(entityTag).isNotNull().startsWith("\"").endsWith("\"");
+
+    AggregatedHttpResponse notModified = get(path, entityTag);
+    assertThat(notModified.status()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(notModified.headers().get(HttpHeaderNames.ETAG)).isEqualTo(entityTag);
+    assertThat(notModified.content().isEmpty()).isTrue();
+    assertThat(get(path, "\"other\", " + entityTag).status()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(get(path, "W/" + entityTag).status()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+    AggregatedHttpResponse modified = get(path, "\"other\"");
+    assertThat(modified.status()).isEqualTo(HttpStatus.OK);
+    assertThat(modified.headers().get(HttpHeaderNames.ETAG)).isEqualTo(entityTag);
+    assertThat(modified.contentUtf8()).isEqualTo(response.contentUtf8());
+    return entityTag;
+  }
+
+  @Test
+  public void testConditionalGet() throws Exception {
+    createResources();
+    String catalogTag = assertRevalidates("/catalogs/" + TestUtils.CATALOG_NAME);
+    String schemaTag = assertRevalidates("/schemas/" + TestUtils.SCHEMA_FULL_NAME);
+    assertRevalidates("/tables/" + TestUtils.TABLE_FULL_NAME);
+    assertRevalidates("/volumes/" + TestUtils.VOLUME_FULL_NAME);
+    assertRevalidates("/functions/" + TestUtils.FUNCTION_FULL_NAME);
+    assertRevalidates("/models/" + TestUtils.MODEL_FULL_NAME);
+    assertThat(catalogTag).isNotEqualTo(schemaTag);
+
+    // Missing entities are still reported as such
+    assertThat(get("/tables/" + TestUtils.CATALOG_NAME + ".missing.table", "*").status())
+        .isEqualTo(HttpStatus.NOT_FOUND);
+
+    // Every update changes the tag, even when it happens within the same millisecond
+    CatalogsApi catalogsApi = new CatalogsApi(apiClient);
+    List<String> catalogTags = new ArrayList<>(List.of(catalogTag));
+    for (int i = 0; i < 3; i++) {
+      catalogsApi.updateCatalog(TestUtils.CATALOG_NAME, new UpdateCatalog().comment("c" + i));
+      catalogTags.add(assertRevalidates("/catalogs/" + TestUtils.CATALOG_NAME));
+    }
+    assertThat(catalogTags).doesNotHaveDuplicates();
+    assertThat(get("/catalogs/" + TestUtils.CATALOG_NAME, catalogTag).status())
+        .isEqualTo(HttpStatus.OK);
+
+    // Changing only the properties also changes the tag
+    new SchemasApi(apiClient)
+        .updateSchema(
+            TestUtils.SCHEMA_FULL_NAME, new UpdateSchema().properties(Map.of("key", "value")));
+    assertThat(assertRevalidates("/schemas/" + TestUtils.SCHEMA_FULL_NAME)).isNotEqualTo(schemaTag);
+  }
+
+  @Test
+  public void testEncodingsHaveTagsOfTheirOwn() throws Exception {
+    createResources();
+    String path = "/tables/" + TestUtils.TABLE_FULL_NAME;
+    String jsonTag = assertRevalidates(path);
+
+    RequestHeaders smileHeaders =
+        RequestHeaders.builder(HttpMethod.GET, path)
+            .add(HttpHeaderNames.ACCEPT, SmileFormat.MEDIA_TYPE.toString())
+            .build();
+    AggregatedHttpResponse smile = client.execute(smileHeaders).aggregate().join();
+    assertThat(smile.status()).isEqualTo(HttpStatus.OK);
+    assertThat(smile.contentType()).isEqualTo(SmileFormat.MEDIA_TYPE);
+    String smileTag = smile.headers().get(HttpHeaderNames.ETAG);
+    assertThat(smileTag).isNotNull().isNotEqualTo(jsonTag);
+
+    // A copy in one encoding is never revalidated for the other
+    AggregatedHttpResponse smileForJsonTag =
+        client
+            .execute(smileHeaders.toBuilder().add(HttpHeaderNames.IF_NONE_MATCH, jsonTag).build())
+            .aggregate()
+            .join();
+    assertThat(smileForJsonTag.status()).isEqualTo(HttpStatus.OK);
+    assertThat(smileForJsonTag.content().array()).isEqualTo(smile.content().array());
+    assertThat(get(path, smileTag).status()).isEqualTo(HttpStatus.OK);
+    assertThat(
+            client
+                .execute(
+                    smileHeaders.toBuilder().add(HttpHeaderNames.IF_NONE_MATCH, smileTag).build())
+                .aggregate()
+                .join()
+                .status())
+        .isEqualTo(HttpStatus.NOT_MODIFIED);
+  }
+
+  @Test
+  public void testClientRevalidation() throws Exception {
+    createResources();
+    List<String> ifNoneMatch = new ArrayList<>();
+    ApiClient revalidatingClient =
+        ConditionalRequests.enable(TestUtils.createApiClient(serverConfig))
+            .setResponseInterceptor(
+                response ->
+                    ifNoneMatch.add(
+                        response.request().headers().firstValue("If-None-Match").orElse(null)));
+    TablesApi tablesApi = new TablesApi(revalidatingClient);
+    CatalogsApi catalogsApi = new CatalogsApi(revalidatingClient);
+
+    TableInfo tableInfo = tablesApi.getTable(TestUtils.TABLE_FULL_NAME);
+    assertThat(tablesApi.getTable(TestUtils.TABLE_FULL_NAME)).isEqualTo(tableInfo);
+    assertThat(tablesApi.getTable(TestUtils.TABLE_FULL_NAME)).isEqualTo(tableInfo);
+    assertThat(ifNoneMatch).hasSize(3);
+    assertThat(ifNoneMatch.get(0)).isNull();
+    assertThat(ifNoneMatch.get(1)).isNotNull().isEqualTo(ifNoneMatch.get(2));
+
+    // Changes made through another client are picked up on the next request
+    assertThat(catalogsApi.getCatalog(TestUtils.CATALOG_NAME).getComment()).isNull();
+    new CatalogsApi(apiClient)
+        .updateCatalog(TestUtils.CATALOG_NAME, new UpdateCatalog().comment("updated"));
+    assertThat(catalogsApi.getCatalog(TestUtils.CATALOG_NAME).getComment()).isEqualTo("updated");
+    assertThat(catalogsApi.getCatalog(TestUtils.CATALOG_NAME).getComment()).isEqualTo("updated");
+  }
+}
@@ -4,6 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.linecorp.armeria.client.WebClient;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.common.auth.AuthToken;
 import io.unitycatalog.client.ApiException;
 import io.unitycatalog.client.model.CatalogInfo;
@@ -25,6 +29,7 @@ import io.unitycatalog.server.sdk.catalog.SdkCatalogOperations;
 import io.unitycatalog.server.sdk.schema.SdkSchemaOperations;
 import io.unitycatalog.server.sdk.tables.SdkTableOperations;
 import io.unitycatalog.server.utils.RESTObjectMapper;
+import io.unitycatalog.server.utils.SmileFormat;
 import io.unitycatalog.server.utils.TestUtils;
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -280,6 +285,51 @@ public class IcebergRestCatalogTest extends BaseServerTest {
               Objects.requireNonNull(this.getClass().getResource("/iceberg.metadata.json"))
                   .getPath());
 
+      // revalidating with the returned entity tag skips reading the metadata again
+      String tablePath =
+          TEST_BASE_PREFIX
+              + "/namespaces/"
+              + TestUtils.SCHEMA_NAME
+              + "/tables/"
+              + TestUtils.TABLE_NAME;
+      String entityTag = resp.headers().get(HttpHeaderNames.ETAG);
+      assertThat(entityTag).startsWith("\"");
+      resp =
+          client
+              .execute(
+                  RequestHeaders.of(
+                      HttpMethod.GET, tablePath, HttpHeaderNames.IF_NONE_MATCH, entityTag))
+              .aggregate()
+              .join();
+      assertThat(resp.status()).isEqualTo(HttpStatus.NOT_MODIFIED);
+      assertThat(resp.headers().get(HttpHeaderNames.ETAG)).isEqualTo(entityTag);
+      assertThat(resp.content().isEmpty()).isTrue();
+      resp =
+          client
+              .execute(
+                  RequestHeaders.of(
+                      HttpMethod.GET, tablePath, HttpHeaderNames.IF_NONE_MATCH, "\"stale\""))
+              .aggregate()
+              .join();
+      assertThat(resp.status()).isEqualTo(HttpStatus.OK);
+      assertThat(resp.headers().get(HttpHeaderNames.ETAG)).isEqualTo(entityTag);
+
+      // a Smile copy has a tag of its own, so it is never revalidated by the JSON tag
+      resp =
+          client
+              .execute(
+                  RequestHeaders.builder(HttpMethod.GET, tablePath)
+                      .add(
+                          HttpHeaderNames.ACCEPT,
+                          SmileFormat.MEDIA_TYPE + ", application/json;q=0.9")
+                      .add(HttpHeaderNames.IF_NONE_MATCH, entityTag)
+                      .build())
+              .aggregate()
+              .join();
+      assertThat(resp.status()).isEqualTo(HttpStatus.OK);
+      assertThat(resp.contentType()).isEqualTo(SmileFormat.MEDIA_TYPE);
+      assertThat(resp.headers().get(HttpHeaderNames.ETAG)).isNotEqualTo(entityTag);
+
       // non-prefixed URL should result in 404
       resp =
           client
@@ -316,4 +366,68 @@ public class IcebergRestCatalogTest extends BaseServerTest {
       assertThat(resp.status().code()).isEqualTo(404);
     }
   }
+
+  @Test
+  public void testListBeyondPageSize() throws ApiException, IOException, URISyntaxException {
+    // Iceberg listings are not paginated, so they must not be cut off at the listing page size
+    int count = 150;
+    catalogOperations.createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    for (int i = 0; i < count; i++) {
+      schemaOperations.createSchema(
+          new CreateSchema().catalogName(TestUtils.CATALOG_NAME).name(String.format("s_%03d", i)));
+    }
+    for (int i = 0; i < count; i++) {
+      tableOperations.createTable(
+          new CreateTable()
+              .name(String.format("t_%03d", i))
+              .catalogName(TestUtils.CATALOG_NAME)
+              .schemaName("s_000")
+              .columns(List.of())
+              .storageLocation("/tmp/stagingLocation/t_" + i)
+              .tableType(TableType.EXTERNAL)
+              .dataSourceFormat(DataSourceFormat.DELTA));
+    }
+    String metadataLocation =
+        Objects.requireNonNull(this.getClass().getResource("/iceberg.metadata.json"))
+            .toURI()
+            .toString();
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      // Every table except the first one is a uniform table
+      session
+          .createMutationQuery(
+              "UPDATE TableInfoDAO SET uniformIcebergMetadataLocation = :location"
+                  + " WHERE name <> 't_000'")
+          .setParameter("location", metadataLocation)
+          .executeUpdate();
+      tx.commit();
+    }
+
+    AggregatedHttpResponse resp = client.get(TEST_BASE_PREFIX + "/namespaces").aggregate().join();
+    assertThat(resp.status().code()).isEqualTo(200);
+    List<Namespace> namespaces =
+        RESTObjectMapper.mapper()
+            .readValue(resp.contentUtf8(), ListNamespacesResponse.class)
+            .namespaces();
+    assertThat(namespaces).hasSize(count);
+    assertThat(namespaces.get(count - 1))
+        .isEqualTo(Namespace.of(String.format("s_%03d", count - 1)));
+
+    resp = client.get(TEST_BASE_PREFIX + "/namespaces/s_000/tables").aggregate().join();
+    assertThat(resp.status().code()).isEqualTo(200);
+    List<TableIdentifier> identifiers =
+        RESTObjectMapper.mapper()
+            .readValue(resp.contentUtf8(), ListTablesResponse.class)
+            .identifiers();
+    assertThat(identifiers).hasSize(count - 1);
+    assertThat(identifiers.get(0)).isEqualTo(TableIdentifier.of("s_000", "t_001"));
+    assertThat(identifiers.get(count - 2))
+        .isEqualTo(TableIdentifier.of("s_000", String.format("t_%03d", count - 1)));
+
+    // Unknown parents are still reported before anything is streamed
+    resp = client.get(TEST_BASE_PREFIX + "/namespaces/unknown/tables").aggregate().join();
+    assertThat(resp.status().code()).isEqualTo(404);
+    resp = client.get("/v1/catalogs/unknown/namespaces").aggregate().join();
+    assertThat(resp.status().code()).isEqualTo(404);
+  }
 }
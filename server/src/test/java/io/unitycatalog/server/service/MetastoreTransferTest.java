@@ -0,0 +1,273 @@
+package io.unitycatalog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.CatalogsApi;
+import io.unitycatalog.client.api.FunctionsApi;
+import io.unitycatalog.client.api.ModelVersionsApi;
+import io.unitycatalog.client.api.RegisteredModelsApi;
+import io.unitycatalog.client.api.SchemasApi;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.api.VolumesApi;
+import io.unitycatalog.client.model.ColumnInfo;
+import io.unitycatalog.client.model.ColumnTypeName;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.CreateFunction;
+import io.unitycatalog.client.model.CreateFunctionRequest;
+import io.unitycatalog.client.model.CreateModelVersion;
+import io.unitycatalog.client.model.CreateRegisteredModel;
+import io.unitycatalog.client.model.CreateSchema;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.CreateVolumeRequestContent;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.FunctionInfo;
+import io.unitycatalog.client.model.FunctionParameterInfo;
+import io.unitycatalog.client.model.FunctionParameterInfos;
+import io.unitycatalog.client.model.TableInfo;
+import io.unitycatalog.client.model.TableType;
+import io.unitycatalog.client.model.VolumeType;
+import io.unitycatalog.server.base.BaseServerTest;
+import io.unitycatalog.server.utils.SmileFormat;
+import io.unitycatalog.server.utils.StreamingJsonResponse;
+import io.unitycatalog.server.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MetastoreTransferTest extends BaseServerTest {
+  // The metastore, a catalog, schema, table, volume, function, model and two model versions
+  private static final int RECORDS = 9;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private ApiClient apiClient;
+  private WebClient client;
+
+  @BeforeEach
+  public void setUp() {
+    super.setUp();
+    apiClient = TestUtils.createApiClient(serverConfig);
+    client = WebClient.of(serverConfig.getServerUrl() + "/api/2.1/unity-catalog");
+  }
+
+  @AfterEach
+  public void cleanUp() {
+    try {
+      new CatalogsApi(apiClient).deleteCatalog(TestUtils.CATALOG_NAME, true);
+    } catch (Exception e) {
+      // Ignore
+    }
+  }
+
+  private void createResources() throws Exception {
+    new CatalogsApi(apiClient).createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+    new SchemasApi(apiClient)
+        .createSchema(
+            new CreateSchema()
+                .name(TestUtils.SCHEMA_NAME)
+                .catalogName(TestUtils.CATALOG_NAME)
+                .properties(TestUtils.PROPERTIES));
+    List<ColumnInfo> columns = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      columns.add(
+          new ColumnInfo()
+              .name("column_" + i)
+              .typeText("INTEGER")
+              .typeJson("{\"type\": \"integer\"}")
+              .typeName(ColumnTypeName.INT)
+              .position(i)
+              .nullable(true));
+    }
+    new TablesApi(apiClient)
+        .createTable(
+            new CreateTable()
+                .name(TestUtils.TABLE_NAME)
+                .catalogName(TestUtils.CATALOG_NAME)
+                .schemaName(TestUtils.SCHEMA_NAME)
+                .columns(columns)
+                .storageLocation(TestUtils.STORAGE_LOCATION)
+                .tableType(TableType.EXTERNAL)
+                .dataSourceFormat(DataSourceFormat.DELTA));
+    new VolumesApi(apiClient)
+        .createVolume(
+            new CreateVolumeRequestContent()
+                .name(TestUtils.VOLUME_NAME)
+                .catalogName(TestUtils.CATALOG_NAME)
+                .schemaName(TestUtils.SCHEMA_NAME)
+                .volumeType(VolumeType.EXTERNAL)
+                .storageLocation("/tmp/metastore_transfer_volume"));
+    new FunctionsApi(apiClient)
+        .createFunction(
+            new CreateFunctionRequest()
+                .functionInfo(
+                    new CreateFunction()
+                        .name(TestUtils.FUNCTION_NAME)
+                        .catalogName(TestUtils.CATALOG_NAME)
+                        .schemaName(TestUtils.SCHEMA_NAME)
+                        .parameterStyle(CreateFunction.ParameterStyleEnum.S)
+                        .isDeterministic(true)
+                        .externalLanguage("python")
+                        .dataType(ColumnTypeName.INT)
+                        .fullDataType("Integer")
+                        .isNullCall(false)
+                        .routineBody(CreateFunction.RoutineBodyEnum.EXTERNAL)
+                        .routineDefinition("def test():\n  return 1")
+                        .securityType(CreateFunction.SecurityTypeEnum.DEFINER)
+                        .specificName("test")
+                        .sqlDataAccess(CreateFunction.SqlDataAccessEnum.NO_SQL)
+                        .inputParams(
+                            new FunctionParameterInfos()
+                                .parameters(
+                                    List.of(
+                                        new FunctionParameterInfo()
+                                            .name("param1")
+                                            .typeName(ColumnTypeName.INT)
+                                            .typeText("int")
+                                            .typeJson("{\"type\": \"int\"}")
+                                            .position(0))))));
+    new RegisteredModelsApi(apiClient)
+        .createRegisteredModel(
+            new CreateRegisteredModel()
+                .name(TestUtils.MODEL_NAME)
+                .catalogName(TestUtils.CATALOG_NAME)
+                .schemaName(TestUtils.SCHEMA_NAME));
+    for (int i = 0; i < 2; i++) {
+      createModelVersion();
+    }
+  }
+
+  private long createModelVersion() throws Exception {
+    return new ModelVersionsApi(apiClient)
+        .createModelVersion(
+            new CreateModelVersion()
+                .catalogName(TestUtils.CATALOG_NAME)
+                .schemaName(TestUtils.SCHEMA_NAME)
+                .modelName(TestUtils.MODEL_NAME)
+                .source("s3://bucket/model"))
+        .getVersion();
+  }
+
+  private AggregatedHttpResponse export(MediaType accept) {
+    return client
+        .execute(
+            RequestHeaders.builder(HttpMethod.GET, "/metastore/export")
+                .add(HttpHeaderNames.ACCEPT, accept.toString())
+                .build())
+        .aggregate()
+        .join();
+  }
+
+  private AggregatedHttpResponse importMetastore(MediaType contentType, HttpData content) {
+    return client
+        .execute(
+            RequestHeaders.builder(HttpMethod.POST, "/metastore/import")
+                .contentType(contentType)
+                .build(),
+            content)
+        .aggregate()
+        .join();
+  }
+
+  @Test
+  public void testExportAndImport() throws Exception {
+    createResources();
+    String tableId = new TablesApi(apiClient).getTable(TestUtils.TABLE_FULL_NAME).getTableId();
+
+    AggregatedHttpResponse exported = export(MediaType.JSON);
+    assertThat(exported.status()).isEqualTo(HttpStatus.OK);
+    assertThat(exported.contentType()).isEqualTo(StreamingJsonResponse.NDJSON);
+    String[] lines = exported.contentUtf8().split("\n");
+    assertThat(lines).hasSize(RECORDS);
+    // Parents come first
+    assertThat(mapper.readTree(lines[0]).has("metastore")).isTrue();
+    assertThat(mapper.readTree(lines[1]).has("catalog")).isTrue();
+    JsonNode schema = mapper.readTree(lines[2]).get("schema");
+    assertThat(schema.get("properties").get("prop1").asText()).isEqualTo("value1");
+    JsonNode table = mapper.readTree(lines[3]).get("table");
+    assertThat(table.get("table_id").asText()).isEqualTo(tableId);
+    assertThat(table.get("columns")).hasSize(3);
+    assertThat(table.get("columns").get(2).get("type_name").asText()).isEqualTo("INT");
+
+    new CatalogsApi(apiClient).deleteCatalog(TestUtils.CATALOG_NAME, true);
+    AggregatedHttpResponse imported =
+        importMetastore(StreamingJsonResponse.NDJSON, exported.content());
+    assertThat(imported.status()).isEqualTo(HttpStatus.OK);
+    assertThat(mapper.readTree(imported.contentUtf8()).get("imported_objects").asLong())
+        .isEqualTo(RECORDS - 1);
+
+    // Objects keep their ids and children
+    TableInfo tableInfo = new TablesApi(apiClient).getTable(TestUtils.TABLE_FULL_NAME);
+    assertThat(tableInfo.getTableId()).isEqualTo(tableId);
+    assertThat(tableInfo.getColumns())
+        .extracting(ColumnInfo::getName)
+        .containsExactly("column_0", "column_1", "column_2");
+    FunctionInfo functionInfo =
+        new FunctionsApi(apiClient).getFunction(TestUtils.FUNCTION_FULL_NAME);
+    assertThat(functionInfo.getInputParams().getParameters()).hasSize(1);
+    assertThat(new VolumesApi(apiClient).getVolume(TestUtils.VOLUME_FULL_NAME)).isNotNull();
+    assertThat(
+            new ModelVersionsApi(apiClient)
+                .getModelVersion(TestUtils.MODEL_FULL_NAME, 2L)
+                .getSource())
+        .isEqualTo("s3://bucket/model");
+    // Versions continue after the imported ones
+    assertThat(createModelVersion()).isEqualTo(3L);
+
+    // Existing objects are not replaced
+    assertThat(importMetastore(StreamingJsonResponse.NDJSON, exported.content()).status())
+        .isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @Test
+  public void testSmile() throws Exception {
+    createResources();
+    AggregatedHttpResponse exported = export(SmileFormat.MEDIA_TYPE);
+    assertThat(exported.status()).isEqualTo(HttpStatus.OK);
+    assertThat(exported.contentType()).isEqualTo(SmileFormat.MEDIA_TYPE);
+
+    new CatalogsApi(apiClient).deleteCatalog(TestUtils.CATALOG_NAME, true);
+    AggregatedHttpResponse imported = importMetastore(SmileFormat.MEDIA_TYPE, exported.content());
+    assertThat(imported.status()).isEqualTo(HttpStatus.OK);
+    assertThat(mapper.readTree(imported.contentUtf8()).get("imported_objects").asLong())
+        .isEqualTo(RECORDS - 1);
+    assertThat(new TablesApi(apiClient).getTable(TestUtils.TABLE_FULL_NAME).getColumns())
+        .hasSize(3);
+  }
+
+  @Test
+  public void testInvalidRecord() {
+    AggregatedHttpResponse imported =
+        importMetastore(StreamingJsonResponse.NDJSON, HttpData.ofUtf8("{\"catalog\": 1}\n"));
+    assertThat(imported.status()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @Test
+  public void testUnknownPrivilege() {
+    String record =
+        "{\"catalog\": {\"name\": \"imported\", \"id\": \""
+            + UUID.randomUUID()
+            + "\"}, \"grants\": [{\"principal\": \"principal-1@localhost\", "
+            + "\"privileges\": [\"NOT A PRIVILEGE\"]}]}\n";
+    AggregatedHttpResponse imported =
+        importMetastore(StreamingJsonResponse.NDJSON, HttpData.ofUtf8(record));
+    assertThat(imported.status()).isEqualTo(HttpStatus.BAD_REQUEST);
+    // The batch is rolled back rather than committed without its grants
+    assertThatThrownBy(() -> new CatalogsApi(apiClient).getCatalog("imported"))
+        .isInstanceOf(ApiException.class);
+  }
+}
@@ -0,0 +1,207 @@
+package io.unitycatalog.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.CatalogsApi;
+import io.unitycatalog.client.api.SchemasApi;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.model.ColumnInfo;
+import io.unitycatalog.client.model.ColumnTypeName;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.CreateSchema;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.TableInfo;
+import io.unitycatalog.client.model.TableType;
+import io.unitycatalog.server.base.BaseServerTest;
+import io.unitycatalog.server.persist.dao.ColumnInfoDAO;
+import io.unitycatalog.server.persist.utils.ColumnTypeDictionary;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ColumnTypeDictionaryTest extends BaseServerTest {
+  private static final String STRUCT_TYPE_TEXT =
+      "struct<id:bigint,tags:array<string>,attributes:map<string,string>>";
+  private static final String STRUCT_TYPE_JSON =
+      "{\"name\":\"payload\",\"type\":{\"type\":\"struct\",\"fields\":["
+          + "{\"name\":\"id\",\"type\":\"long\",\"nullable\":true,\"metadata\":{}},"
+          + "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"elementType\":\"string\","
+          + "\"containsNull\":true},\"nullable\":true,\"metadata\":{}},"
+          + "{\"name\":\"attributes\",\"type\":{\"type\":\"map\",\"keyType\":\"string\","
+          + "\"valueType\":\"string\",\"valueContainsNull\":true},\"nullable\":true,"
+          + "\"metadata\":{}}]},\"nullable\":true,\"metadata\":{}}";
+
+  private TablesApi tablesApi;
+
+  @BeforeEach
+  public void setUp() {
+    super.setUp();
+    ApiClient apiClient = TestUtils.createApiClient(serverConfig);
+    tablesApi = new TablesApi(apiClient);
+    try {
+      new CatalogsApi(apiClient).createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+      new SchemasApi(apiClient)
+          .createSchema(
+              new CreateSchema().name(TestUtils.SCHEMA_NAME).catalogName(TestUtils.CATALOG_NAME));
+    } catch (ApiException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private TableInfo createTable(String name) throws ApiException {
+    return tablesApi.createTable(
+        new CreateTable()
+            .name(name)
+            .catalogName(TestUtils.CATALOG_NAME)
+            .schemaName(TestUtils.SCHEMA_NAME)
+            .columns(
+                List.of(
+                    new ColumnInfo()
+                        .name("payload")
+                        .typeText(STRUCT_TYPE_TEXT)
+                        .typeJson(STRUCT_TYPE_JSON)
+                        .typeName(ColumnTypeName.STRUCT)
+                        .position(0)))
+            .storageLocation(TestUtils.STORAGE_LOCATION + "_" + name)
+            .tableType(TableType.EXTERNAL)
+            .dataSourceFormat(DataSourceFormat.DELTA));
+  }
+
+  private ColumnInfo getColumn(String name) throws ApiException {
+    return tablesApi
+        .getTable(
+            TestUtils.CATALOG_NAME + "." + TestUtils.SCHEMA_NAME + "." + name,
+            null,
+            null,
+            null,
+            null)
+        .getColumns()
+        .get(0);
+  }
+
+  private List<ColumnInfoDAO> findColumns(Session session, TableInfo tableInfo) {
+    return session
+        .createQuery("FROM ColumnInfoDAO WHERE table.id = :tableId", ColumnInfoDAO.class)
+        .setParameter("tableId", UUID.fromString(tableInfo.getTableId()))
+        .getResultList();
+  }
+
+  @Test
+  public void testTypesAreShared() throws ApiException {
+    TableInfo table1 = createTable("t1");
+    TableInfo table2 = createTable("t2");
+
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      ColumnInfoDAO column1 = findColumns(session, table1).get(0);
+      ColumnInfoDAO column2 = findColumns(session, table2).get(0);
+      assertThat(column1.getTypeHash()).isNotNull().isEqualTo(column2.getTypeHash());
+      assertThat(column1.getTypeText()).isEmpty();
+      assertThat(column1.getTypeJson()).isEmpty();
+      byte[] storedTypeJson =
+          session
+              .createQuery(
+                  "SELECT typeJson FROM ColumnTypeDAO WHERE typeHash = :typeHash", byte[].class)
+              .setParameter("typeHash", column1.getTypeHash())
+              .getSingleResult();
+      assertThat(storedTypeJson.length).isLessThan(STRUCT_TYPE_JSON.length());
+    }
+
+    ColumnInfo column = getColumn("t2");
+    assertThat(column.getTypeText()).isEqualTo(STRUCT_TYPE_TEXT);
+    assertThat(column.getTypeJson()).isEqualTo(STRUCT_TYPE_JSON);
+  }
+
+  @Test
+  public void testInlineTypesAreMigrated() throws ApiException {
+    TableInfo tableInfo = createTable("t1");
+    // Put the type back inline, as it was stored before the dictionary existed
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      session
+          .createMutationQuery(
+              "UPDATE ColumnInfoDAO SET typeText = :typeText, typeJson = :typeJson,"
+                  + " typeHash = NULL WHERE table.id = :tableId")
+          .setParameter("typeText", STRUCT_TYPE_TEXT)
+          .setParameter("typeJson", STRUCT_TYPE_JSON)
+          .setParameter("tableId", UUID.fromString(tableInfo.getTableId()))
+          .executeUpdate();
+      tx.commit();
+    }
+    assertThat(getColumn("t1").getTypeJson()).isEqualTo(STRUCT_TYPE_JSON);
+
+    new ColumnTypeDictionary(hibernateConfigurator.getSessionFactory()).migrate();
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      ColumnInfoDAO column = findColumns(session, tableInfo).get(0);
+      assertThat(column.getTypeHash()).isNotNull();
+      assertThat(column.getTypeText()).isEmpty();
+    }
+    ColumnInfo column = getColumn("t1");
+    assertThat(column.getTypeText()).isEqualTo(STRUCT_TYPE_TEXT);
+    assertThat(column.getTypeJson()).isEqualTo(STRUCT_TYPE_JSON);
+  }
+
+  private static ColumnInfoDAO newColumn(String typeText) {
+    return ColumnInfoDAO.builder().typeText(typeText).typeJson(STRUCT_TYPE_JSON).build();
+  }
+
+  private long countTypes(Session session, String typeHash) {
+    return session
+        .createQuery("SELECT count(*) FROM ColumnTypeDAO WHERE typeHash = :typeHash", Long.class)
+        .setParameter("typeHash", typeHash)
+        .getSingleResult();
+  }
+
+  @Test
+  public void testEntriesRollBackWithTheirColumns() {
+    ColumnTypeDictionary dictionary =
+        new ColumnTypeDictionary(hibernateConfigurator.getSessionFactory());
+    ColumnInfoDAO column = newColumn("struct<rolled_back:int>");
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      dictionary.intern(session, List.of(column));
+      assertThat(countTypes(session, column.getTypeHash())).isEqualTo(1);
+      tx.rollback();
+    }
+    // The entry was not cached, so it is added again
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      dictionary.intern(session, List.of(newColumn("struct<rolled_back:int>")));
+      tx.commit();
+      assertThat(countTypes(session, column.getTypeHash())).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void testConcurrentTransactionsAddTheSameEntry() throws Exception {
+    ColumnTypeDictionary dictionary =
+        new ColumnTypeDictionary(hibernateConfigurator.getSessionFactory());
+    ColumnInfoDAO column = newColumn("struct<concurrent:int>");
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      dictionary.intern(session, List.of(column));
+      // The other transaction waits for this one, then finds the entry stored
+      CompletableFuture<Void> other =
+          CompletableFuture.runAsync(
+              () -> {
+                try (Session otherSession =
+                    hibernateConfigurator.getSessionFactory().openSession()) {
+                  Transaction otherTx = otherSession.beginTransaction();
+                  dictionary.intern(otherSession, List.of(newColumn("struct<concurrent:int>")));
+                  otherTx.commit();
+                }
+              });
+      Thread.sleep(500);
+      tx.commit();
+      other.get(30, TimeUnit.SECONDS);
+      assertThat(countTypes(session, column.getTypeHash())).isEqualTo(1);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package io.unitycatalog.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import java.util.Date;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class EntityTagsTest {
+
+  private static RequestHeaders ifNoneMatch(String value) {
+    return RequestHeaders.of(HttpMethod.GET, "/", HttpHeaderNames.IF_NONE_MATCH, value);
+  }
+
+  @Test
+  public void testEntityTag() {
+    UUID id = UUID.randomUUID();
+    long createdAt = System.currentTimeMillis();
+    String entityTag = EntityTags.of("catalog", id, new Date(createdAt), null);
+    assertThat(entityTag).matches("\"[0-9a-f]{32}\"");
+    // Entities and their API models produce the same tag
+    assertThat(EntityTags.of("catalog", id.toString(), createdAt, null)).isEqualTo(entityTag);
+    assertThat(EntityTags.of("catalog", id, createdAt, createdAt)).isNotEqualTo(entityTag);
+    assertThat(EntityTags.of("renamed", id, createdAt, null)).isNotEqualTo(entityTag);
+    assertThat(EntityTags.of("ab", "c")).isNotEqualTo(EntityTags.of("a", "bc"));
+  }
+
+  @Test
+  public void testMatches() {
+    String entityTag = EntityTags.of("catalog");
+    assertThat(EntityTags.isConditional(RequestHeaders.of(HttpMethod.GET, "/"))).isFalse();
+    assertThat(EntityTags.isConditional(ifNoneMatch(entityTag))).isTrue();
+    assertThat(EntityTags.matches(ifNoneMatch(entityTag), entityTag)).isTrue();
+    assertThat(EntityTags.matches(ifNoneMatch("W/" + entityTag), entityTag)).isTrue();
+    assertThat(EntityTags.matches(ifNoneMatch("\"a\", " + entityTag), entityTag)).isTrue();
+    assertThat(EntityTags.matches(ifNoneMatch("*"), entityTag)).isTrue();
+    assertThat(EntityTags.matches(ifNoneMatch("\"a\""), entityTag)).isFalse();
+    assertThat(EntityTags.matches(RequestHeaders.of(HttpMethod.GET, "/"), entityTag)).isFalse();
+  }
+
+  @Test
+  public void testResponses() {
+    String entityTag = EntityTags.of("catalog");
+    AggregatedHttpResponse notModified = EntityTags.notModified(entityTag).aggregate().join();
+    assertThat(notModified.status()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(notModified.headers().get(HttpHeaderNames.ETAG)).isEqualTo(entityTag);
+
+    AggregatedHttpResponse response =
+        EntityTags.withEntityTag(HttpResponse.ofJson(new int[] {1}), entityTag).aggregate().join();
+    assertThat(response.status()).isEqualTo(HttpStatus.OK);
+    assertThat(response.headers().get(HttpHeaderNames.ETAG)).isEqualTo(entityTag);
+    assertThat(response.contentUtf8()).isEqualTo("[1]");
+  }
+}
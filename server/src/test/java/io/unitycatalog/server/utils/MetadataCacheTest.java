@@ -0,0 +1,92 @@
+package io.unitycatalog.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.unitycatalog.server.persist.dao.CatalogInfoDAO;
+import io.unitycatalog.server.persist.utils.HibernateConfigurator;
+import java.util.Date;
+import java.util.Properties;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+public class MetadataCacheTest {
+
+  private static SessionFactory createSessionFactory(boolean cacheEnabled) {
+    Properties properties = new Properties();
+    properties.setProperty("server.env", "test");
+    properties.setProperty("server.metadata-cache.enabled", String.valueOf(cacheEnabled));
+    return new HibernateConfigurator(new ServerProperties(properties)).getSessionFactory();
+  }
+
+  private static CatalogInfoDAO findCatalog(SessionFactory sessionFactory, String name) {
+    try (Session session = sessionFactory.openSession()) {
+      session.setDefaultReadOnly(true);
+      return session
+          .createQuery("FROM CatalogInfoDAO WHERE name = :value", CatalogInfoDAO.class)
+          .setParameter("value", name)
+          .setCacheable(true)
+          .uniqueResult();
+    }
+  }
+
+  @Test
+  public void testCacheDisabledByDefault() {
+    try (SessionFactory sessionFactory = createSessionFactory(false)) {
+      assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isFalse();
+      assertThat(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()).isFalse();
+    }
+  }
+
+  @Test
+  public void testCatalogLookupsServedFromCache() {
+    try (SessionFactory sessionFactory = createSessionFactory(true)) {
+      Statistics statistics = sessionFactory.getStatistics();
+      assertThat(statistics.isStatisticsEnabled()).isTrue();
+
+      CatalogInfoDAO catalog =
+          CatalogInfoDAO.builder()
+              .id(UUID.randomUUID())
+              .name("cached_catalog")
+              .comment("before")
+              .createdAt(new Date())
+              .build();
+      try (Session session = sessionFactory.openSession()) {
+        Transaction tx = session.beginTransaction();
+        session.persist(catalog);
+        tx.commit();
+      }
+
+      assertThat(findCatalog(sessionFactory, "cached_catalog").getComment()).isEqualTo("before");
+      statistics.clear();
+      assertThat(findCatalog(sessionFactory, "cached_catalog").getComment()).isEqualTo("before");
+      assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+      try (Session session = sessionFactory.openSession()) {
+        assertThat(session.get(CatalogInfoDAO.class, catalog.getId()).getComment())
+            .isEqualTo("before");
+      }
+      assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+
+      // Writes through a session invalidate both the entity and the name lookup
+      try (Session session = sessionFactory.openSession()) {
+        Transaction tx = session.beginTransaction();
+        CatalogInfoDAO toUpdate = session.get(CatalogInfoDAO.class, catalog.getId());
+        toUpdate.setName("renamed_catalog");
+        toUpdate.setComment("after");
+        tx.commit();
+      }
+      assertThat(findCatalog(sessionFactory, "cached_catalog")).isNull();
+      assertThat(findCatalog(sessionFactory, "renamed_catalog").getComment()).isEqualTo("after");
+
+      try (Session session = sessionFactory.openSession()) {
+        Transaction tx = session.beginTransaction();
+        session.remove(session.get(CatalogInfoDAO.class, catalog.getId()));
+        tx.commit();
+      }
+      assertThat(findCatalog(sessionFactory, "renamed_catalog")).isNull();
+    }
+  }
+}
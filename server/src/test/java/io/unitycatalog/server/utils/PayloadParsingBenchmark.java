@@ -0,0 +1,136 @@
+package io.unitycatalog.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.AggregatedHttpRequest;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import io.unitycatalog.server.model.ColumnInfo;
+import io.unitycatalog.server.model.ColumnTypeName;
+import io.unitycatalog.server.model.CreateTable;
+import io.unitycatalog.server.model.DataSourceFormat;
+import io.unitycatalog.server.model.TableType;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Measures how long the request converter of the REST APIs takes to bind a wide CreateTable
+ * payload, with and without the tree the access decorator parsed for authorization.
+ *
+ * <p>Not part of the regular test run; run it with {@code UC_BENCHMARKS=true build/sbt
+ * "server/testOnly io.unitycatalog.server.utils.PayloadParsingBenchmark"}.
+ */
+@EnabledIfEnvironmentVariable(named = "UC_BENCHMARKS", matches = "true")
+public class PayloadParsingBenchmark {
+  private static final int COLUMNS = 5000;
+  private static final int ROUNDS = 50;
+  private static final String PATH = "/api/2.1/unity-catalog/tables";
+
+  // The mapper the access decorator parses payloads with
+  private static final ObjectMapper DECORATOR_MAPPER = new ObjectMapper();
+
+  private final ParsedJsonRequestConverterFunction converter =
+      new ParsedJsonRequestConverterFunction();
+
+  private static CreateTable createWideTable() {
+    List<ColumnInfo> columns = new ArrayList<>(COLUMNS);
+    for (int i = 0; i < COLUMNS; i++) {
+      columns.add(
+          new ColumnInfo()
+              .name("column_" + i)
+              .typeText("STRING")
+              .typeJson("{\"name\":\"column_" + i + "\",\"type\":\"string\",\"nullable\":true}")
+              .typeName(ColumnTypeName.STRING)
+              .position(i)
+              .comment("Column " + i)
+              .nullable(true));
+    }
+    return new CreateTable()
+        .name("wide_table")
+        .catalogName("catalog")
+        .schemaName("schema")
+        .columns(columns)
+        .storageLocation("/tmp/wide_table")
+        .tableType(TableType.EXTERNAL)
+        .dataSourceFormat(DataSourceFormat.DELTA);
+  }
+
+  private CreateTable convert(AggregatedHttpRequest request, JsonNode parsed) throws Exception {
+    ServiceRequestContext ctx = ServiceRequestContext.of(request.toHttpRequest());
+    if (parsed != null) {
+      ctx.setAttr(ParsedJsonRequestConverterFunction.PARSED_JSON, parsed);
+    }
+    return (CreateTable) converter.convertRequest(ctx, request, CreateTable.class, null);
+  }
+
+  @Test
+  public void benchmarkPayloadParsing() throws Exception {
+    byte[] json = DECORATOR_MAPPER.writeValueAsBytes(createWideTable());
+    ByteArrayOutputStream smile = new ByteArrayOutputStream();
+    try (JsonGenerator generator = SmileFormat.createGenerator(DECORATOR_MAPPER, smile)) {
+      DECORATOR_MAPPER.writeTree(generator, DECORATOR_MAPPER.readTree(json));
+    }
+    AggregatedHttpRequest jsonRequest =
+        AggregatedHttpRequest.of(HttpMethod.POST, PATH, MediaType.JSON_UTF_8, json);
+    AggregatedHttpRequest smileRequest =
+        AggregatedHttpRequest.of(
+            HttpMethod.POST, PATH, SmileFormat.MEDIA_TYPE, smile.toByteArray());
+
+    // Previous behaviour: the decorator parses the payload into a Map for authorization, and the
+    // converter parses the bytes again into the request model.
+    long twoParses =
+        measure(
+            () -> {
+              Map<String, Object> keys = DECORATOR_MAPPER.readValue(json, new TypeReference<>() {});
+              assertThat(keys.get("schema_name"))
+                  .isEqualTo(convert(jsonRequest, null).getSchemaName());
+            });
+    // Current behaviour: the decorator parses the payload once into a tree, which the converter
+    // binds to the request model.
+    long singleParse =
+        measure(
+            () -> {
+              JsonNode tree = DECORATOR_MAPPER.readTree(json);
+              assertThat(tree.path("schema_name").asText())
+                  .isEqualTo(convert(jsonRequest, tree).getSchemaName());
+            });
+    long smileParse =
+        measure(
+            () -> {
+              JsonNode tree =
+                  DECORATOR_MAPPER.readTree(
+                      SmileFormat.createParser(DECORATOR_MAPPER, smileRequest.content().array()));
+              assertThat(tree.path("schema_name").asText())
+                  .isEqualTo(convert(smileRequest, tree).getSchemaName());
+            });
+    System.out.println(
+        String.format(
+            "Binding a %d column CreateTable payload (%d bytes JSON, %d bytes Smile): "
+                + "JSON parsed twice %d us, JSON parsed once %d us, Smile parsed once %d us",
+            COLUMNS, json.length, smile.size(), twoParses, singleParse, smileParse));
+  }
+
+  private interface Parse {
+    void run() throws Exception;
+  }
+
+  private static long measure(Parse parse) throws Exception {
+    for (int i = 0; i < ROUNDS; i++) {
+      parse.run();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ROUNDS; i++) {
+      parse.run();
+    }
+    return (System.nanoTime() - start) / ROUNDS / 1_000;
+  }
+}
@@ -0,0 +1,60 @@
+package io.unitycatalog.server.utils;
+
+import static io.unitycatalog.server.utils.SmileFormatTest.MAPPER;
+import static io.unitycatalog.server.utils.SmileFormatTest.WIDE_TABLE_COLUMNS;
+import static io.unitycatalog.server.utils.SmileFormatTest.createWideTable;
+import static io.unitycatalog.server.utils.SmileFormatTest.readSmile;
+import static io.unitycatalog.server.utils.SmileFormatTest.writeSmile;
+
+import io.unitycatalog.server.model.TableInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Measures writing and reading a wide TableInfo as JSON and as Smile.
+ *
+ * <p>Not part of the regular test run; run it with {@code UC_BENCHMARKS=true build/sbt
+ * "server/testOnly io.unitycatalog.server.utils.SmileFormatBenchmark"}.
+ */
+@EnabledIfEnvironmentVariable(named = "UC_BENCHMARKS", matches = "true")
+public class SmileFormatBenchmark {
+  private static final int ROUNDS = 50;
+
+  private interface Operation {
+    void run() throws Exception;
+  }
+
+  private static long measure(Operation operation) throws Exception {
+    for (int i = 0; i < ROUNDS; i++) {
+      operation.run();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ROUNDS; i++) {
+      operation.run();
+    }
+    return (System.nanoTime() - start) / ROUNDS / 1_000;
+  }
+
+  @Test
+  public void benchmarkWideTable() throws Exception {
+    TableInfo tableInfo = createWideTable();
+    byte[] json = MAPPER.writeValueAsBytes(tableInfo);
+    byte[] smile = writeSmile(tableInfo);
+
+    long jsonWrite = measure(() -> MAPPER.writeValueAsBytes(tableInfo));
+    long smileWrite = measure(() -> writeSmile(tableInfo));
+    long jsonRead = measure(() -> MAPPER.readValue(json, TableInfo.class));
+    long smileRead = measure(() -> readSmile(smile));
+    System.out.println(
+        String.format(
+            "TableInfo with %d columns: JSON %d bytes, write %d us, read %d us; "
+                + "Smile %d bytes, write %d us, read %d us",
+            WIDE_TABLE_COLUMNS,
+            json.length,
+            jsonWrite,
+            jsonRead,
+            smile.length,
+            smileWrite,
+            smileRead));
+  }
+}
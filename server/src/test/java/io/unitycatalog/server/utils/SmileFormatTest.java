@@ -0,0 +1,93 @@
+package io.unitycatalog.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import io.unitycatalog.server.model.ColumnInfo;
+import io.unitycatalog.server.model.ColumnTypeName;
+import io.unitycatalog.server.model.TableInfo;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class SmileFormatTest {
+
+  static final ObjectMapper MAPPER = JsonUtils.getInstance();
+  static final int WIDE_TABLE_COLUMNS = 5000;
+
+  private static RequestHeaders accept(String... values) {
+    RequestHeaders headers = RequestHeaders.of(HttpMethod.GET, "/");
+    for (String value : values) {
+      headers = headers.toBuilder().add(HttpHeaderNames.ACCEPT, value).build();
+    }
+    return headers;
+  }
+
+  @Test
+  public void testAcceptNegotiation() {
+    assertThat(SmileFormat.isPreferred(accept())).isFalse();
+    assertThat(SmileFormat.isPreferred(accept("application/json"))).isFalse();
+    assertThat(SmileFormat.isPreferred(accept("*/*"))).isFalse();
+    assertThat(SmileFormat.isPreferred(accept("application/x-jackson-smile"))).isTrue();
+    assertThat(
+            SmileFormat.isPreferred(accept("application/x-jackson-smile, application/json;q=0.9")))
+        .isTrue();
+    assertThat(SmileFormat.isPreferred(accept("application/json", "application/x-jackson-smile")))
+        .isTrue();
+    assertThat(SmileFormat.isPreferred(accept("application/x-jackson-smile;q=0.5, */*"))).isFalse();
+    assertThat(SmileFormat.isPreferred(accept("application/x-jackson-smile;q=0"))).isFalse();
+    assertThat(SmileFormat.isPreferred(accept("not a media type, application/x-jackson-smile")))
+        .isTrue();
+
+    assertThat(SmileFormat.is(SmileFormat.MEDIA_TYPE)).isTrue();
+    assertThat(SmileFormat.is(MediaType.parse("application/x-jackson-smile; charset=utf-8")))
+        .isTrue();
+    assertThat(SmileFormat.is(MediaType.JSON)).isFalse();
+    assertThat(SmileFormat.is(null)).isFalse();
+  }
+
+  static TableInfo createWideTable() {
+    List<ColumnInfo> columns = new ArrayList<>(WIDE_TABLE_COLUMNS);
+    for (int i = 0; i < WIDE_TABLE_COLUMNS; i++) {
+      columns.add(
+          new ColumnInfo()
+              .name("column_" + i)
+              .typeText("STRING")
+              .typeJson("{\"name\":\"column_" + i + "\",\"type\":\"string\",\"nullable\":true}")
+              .typeName(ColumnTypeName.STRING)
+              .position(i)
+              .comment("Column " + i)
+              .nullable(true));
+    }
+    return new TableInfo()
+        .name("wide_table")
+        .catalogName("catalog")
+        .schemaName("schema")
+        .columns(columns);
+  }
+
+  static byte[] writeSmile(TableInfo tableInfo) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MAPPER.writeValue(SmileFormat.createGenerator(MAPPER, out), tableInfo);
+    return out.toByteArray();
+  }
+
+  static TableInfo readSmile(byte[] content) throws IOException {
+    return MAPPER.readValue(SmileFormat.createParser(MAPPER, content), TableInfo.class);
+  }
+
+  @Test
+  public void testWideTableRoundTrip() throws Exception {
+    TableInfo tableInfo = createWideTable();
+    byte[] json = MAPPER.writeValueAsBytes(tableInfo);
+    byte[] smile = writeSmile(tableInfo);
+    assertThat(readSmile(smile)).isEqualTo(tableInfo);
+    assertThat(smile.length).isLessThan(json.length);
+  }
+}
@@ -0,0 +1,147 @@
+package io.unitycatalog.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.api.CatalogsApi;
+import io.unitycatalog.client.api.SchemasApi;
+import io.unitycatalog.client.api.TablesApi;
+import io.unitycatalog.client.api.VolumesApi;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.CreateSchema;
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.CreateVolumeRequestContent;
+import io.unitycatalog.client.model.DataSourceFormat;
+import io.unitycatalog.client.model.TableInfo;
+import io.unitycatalog.client.model.TableType;
+import io.unitycatalog.client.model.VolumeInfo;
+import io.unitycatalog.client.model.VolumeType;
+import io.unitycatalog.server.base.BaseServerTest;
+import io.unitycatalog.server.exception.BaseException;
+import io.unitycatalog.server.model.SecurableType;
+import io.unitycatalog.server.persist.utils.StorageLocationIndex;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StorageLocationIndexTest extends BaseServerTest {
+  private static final String ROOT = "/tmp/uc_location_index";
+
+  private TablesApi tablesApi;
+  private VolumesApi volumesApi;
+
+  @BeforeEach
+  public void setUp() {
+    super.setUp();
+    ApiClient apiClient = TestUtils.createApiClient(serverConfig);
+    tablesApi = new TablesApi(apiClient);
+    volumesApi = new VolumesApi(apiClient);
+    try {
+      new CatalogsApi(apiClient).createCatalog(new CreateCatalog().name(TestUtils.CATALOG_NAME));
+      new SchemasApi(apiClient)
+          .createSchema(
+              new CreateSchema().name(TestUtils.SCHEMA_NAME).catalogName(TestUtils.CATALOG_NAME));
+    } catch (ApiException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private TableInfo createTable(String name, String location) throws ApiException {
+    return tablesApi.createTable(
+        new CreateTable()
+            .name(name)
+            .catalogName(TestUtils.CATALOG_NAME)
+            .schemaName(TestUtils.SCHEMA_NAME)
+            .columns(List.of())
+            .storageLocation(location)
+            .tableType(TableType.EXTERNAL)
+            .dataSourceFormat(DataSourceFormat.DELTA));
+  }
+
+  private VolumeInfo createVolume(String name, String location) throws ApiException {
+    return volumesApi.createVolume(
+        new CreateVolumeRequestContent()
+            .name(name)
+            .catalogName(TestUtils.CATALOG_NAME)
+            .schemaName(TestUtils.SCHEMA_NAME)
+            .volumeType(VolumeType.EXTERNAL)
+            .storageLocation(location));
+  }
+
+  @Test
+  public void testOverlappingLocationsAreRejected() throws ApiException {
+    createTable("t1", ROOT + "/t1");
+    createVolume("v1", "file://" + ROOT + "/v1");
+
+    // Inside, equal to or containing an existing location, however it is spelled
+    assertThatThrownBy(() -> createTable("t2", ROOT + "/t1/nested"))
+        .isInstanceOf(ApiException.class)
+        .hasMessageContaining("overlaps with the location of table");
+    assertThatThrownBy(() -> createVolume("v2", "file:" + ROOT + "/./v1/"))
+        .isInstanceOf(ApiException.class)
+        .hasMessageContaining("overlaps with the location of volume");
+    assertThatThrownBy(() -> createTable("t2", ROOT)).isInstanceOf(ApiException.class);
+    // A rejected table does not keep its location
+    createTable("t2", ROOT + "/t2");
+
+    // Sharing a prefix of the name is not an overlap
+    createTable("t3", ROOT + "/t1_other");
+
+    // A deleted table frees its location
+    tablesApi.deleteTable(TestUtils.CATALOG_NAME + "." + TestUtils.SCHEMA_NAME + ".t1");
+    createVolume("v3", ROOT + "/t1/nested");
+  }
+
+  @Test
+  public void testFindOwner() throws ApiException {
+    TableInfo table = createTable("t1", ROOT + "/t1");
+    VolumeInfo volume = createVolume("v1", ROOT + "/v1");
+
+    StorageLocationIndex index =
+        new StorageLocationIndex(hibernateConfigurator.getSessionFactory());
+    assertThat(index.findOwner("file://" + ROOT + "/t1/_delta_log/0.json"))
+        .hasValue(
+            new StorageLocationIndex.Owner(
+                SecurableType.TABLE, UUID.fromString(table.getTableId())));
+    assertThat(index.findOwner(ROOT + "/v1"))
+        .hasValue(
+            new StorageLocationIndex.Owner(
+                SecurableType.VOLUME, UUID.fromString(volume.getVolumeId())));
+    assertThat(index.findOwner(ROOT)).isEmpty();
+    assertThat(index.findOwner(ROOT + "/t10")).isEmpty();
+    assertThat(index.findOwner("s3://bucket" + ROOT + "/t1")).isEmpty();
+    assertThat(index.findOwner(ROOT + "/v1/../t1/part-0.parquet"))
+        .hasValue(index.findOwner(ROOT + "/t1").get());
+    assertThatThrownBy(() -> index.findOwner("not a location")).isInstanceOf(BaseException.class);
+
+    // Registered locations are released if the transaction does not commit
+    UUID id = UUID.randomUUID();
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      index.register(session, "s3://bucket/path", SecurableType.TABLE, id);
+      assertThat(index.findOwner("s3://bucket/path/file")).isPresent();
+      tx.rollback();
+    }
+    assertThat(index.findOwner("s3://bucket/path/file")).isEmpty();
+
+    // Removals take effect on commit
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      index.register(session, "s3://bucket/path", SecurableType.TABLE, id);
+      tx.commit();
+    }
+    try (Session session = hibernateConfigurator.getSessionFactory().openSession()) {
+      Transaction tx = session.beginTransaction();
+      index.unregister(session, id);
+      assertThat(index.findOwner("s3://bucket/path")).isPresent();
+      tx.commit();
+    }
+    assertThat(index.findOwner("s3://bucket/path")).isEqualTo(Optional.empty());
+  }
+}
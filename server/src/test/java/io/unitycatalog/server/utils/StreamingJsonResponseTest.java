@@ -0,0 +1,121 @@
+package io.unitycatalog.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.util.SafeCloseable;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import io.unitycatalog.server.model.ColumnInfo;
+import io.unitycatalog.server.model.ColumnTypeName;
+import io.unitycatalog.server.model.TableInfo;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+
+public class StreamingJsonResponseTest {
+
+  private static final ObjectMapper MAPPER = JsonUtils.getInstance();
+
+  private static TableInfo createWideTable(int columnCount) {
+    List<ColumnInfo> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          new ColumnInfo()
+              .name("column_" + i)
+              .typeText("STRING")
+              .typeJson("{\"type\":\"string\"}")
+              .typeName(ColumnTypeName.STRING)
+              .position(i)
+              .nullable(true));
+    }
+    return new TableInfo().name("wide_table").catalogName("catalog").columns(columns);
+  }
+
+  @Test
+  public void testStreamsObjectInChunks() throws Exception {
+    TableInfo tableInfo = createWideTable(5000);
+    byte[] expected = MAPPER.writeValueAsBytes(tableInfo);
+
+    List<HttpObject> objects = StreamingJsonResponse.of(tableInfo).collect().join();
+    List<HttpData> chunks =
+        objects.stream().filter(HttpData.class::isInstance).map(HttpData.class::cast).toList();
+    assertThat(chunks).hasSizeGreaterThan(1);
+    assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length()).isLessThan(expected.length));
+
+    AggregatedHttpResponse response = StreamingJsonResponse.of(tableInfo).aggregate().join();
+    assertThat(response.status()).isEqualTo(HttpStatus.OK);
+    assertThat(response.contentType()).isEqualTo(MediaType.JSON);
+    assertThat(response.content().array()).isEqualTo(expected);
+    assertThat(MAPPER.readValue(response.contentUtf8(), TableInfo.class)).isEqualTo(tableInfo);
+  }
+
+  @Test
+  public void testStreamsSmileWhenPreferred() throws Exception {
+    TableInfo tableInfo = createWideTable(100);
+    ServiceRequestContext ctx =
+        ServiceRequestContext.of(
+            HttpRequest.of(
+                RequestHeaders.of(
+                    HttpMethod.GET,
+                    "/",
+                    HttpHeaderNames.ACCEPT,
+                    "application/x-jackson-smile, application/json;q=0.9")));
+    HttpResponse response;
+    try (SafeCloseable ignored = ctx.push()) {
+      response = StreamingJsonResponse.of(tableInfo);
+    }
+
+    AggregatedHttpResponse aggregated = response.aggregate().join();
+    assertThat(aggregated.contentType()).isEqualTo(SmileFormat.MEDIA_TYPE);
+    assertThat(aggregated.headers().get(HttpHeaderNames.VARY)).isEqualTo("accept");
+    assertThat(
+            MAPPER.readValue(
+                SmileFormat.createParser(MAPPER, aggregated.content().array()), TableInfo.class))
+        .isEqualTo(tableInfo);
+  }
+
+  @Test
+  public void testStreamsWriterOutput() {
+    HttpResponse response =
+        StreamingJsonResponse.of(
+            MAPPER,
+            generator -> {
+              generator.writeStartObject();
+              generator.writeArrayFieldStart("names");
+              for (int i = 0; i < 3; i++) {
+                generator.writeString("name_" + i);
+              }
+              generator.writeEndArray();
+              generator.writeEndObject();
+            });
+    assertThat(response.aggregate().join().contentUtf8())
+        .isEqualTo("{\"names\":[\"name_0\",\"name_1\",\"name_2\"]}");
+  }
+
+  @Test
+  public void testWriterFailureAbortsResponse() {
+    HttpResponse response =
+        StreamingJsonResponse.of(
+            MAPPER,
+            generator -> {
+              generator.writeStartArray();
+              throw new IOException("Failed to read rows");
+            });
+    assertThatThrownBy(() -> response.aggregate().join())
+        .isInstanceOf(CompletionException.class)
+        .hasRootCauseMessage("Failed to read rows");
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Unity Control API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.control.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * SCIM email for a user.
+ */
+@JsonPropertyOrder({
+  Email.JSON_PROPERTY_VALUE,
+  Email.JSON_PROPERTY_PRIMARY
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class Email {
+  public static final String JSON_PROPERTY_VALUE = "value";
+  private String value;
+
+  public static final String JSON_PROPERTY_PRIMARY = "primary";
+  private Boolean primary;
+
+  public Email() {
+  }
+
+  public Email value(String value) {
+    
+    this.value = value;
+    return this;
+  }
+
+  /**
+   * The email of the user.
+   * @return value
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_VALUE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getValue() {
+    return value;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_VALUE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setValue(String value) {
+    this.value = value;
+  }
+
+  public Email primary(Boolean primary) {
+    
+    this.primary = primary;
+    return this;
+  }
+
+  /**
+   * If the email is primary.
+   * @return primary
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PRIMARY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Boolean getPrimary() {
+    return primary;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PRIMARY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setPrimary(Boolean primary) {
+    this.primary = primary;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Email email = (Email) o;
+    return Objects.equals(this.value, email.value) &&
+        Objects.equals(this.primary, email.primary);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, primary);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Email {\n");
+    sb.append("    value: ").append(toIndentedString(value)).append("\n");
+    sb.append("    primary: ").append(toIndentedString(primary)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
@@ -0,0 +1,311 @@
+/*
+ * Unity Control API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.control.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.control.model.Email;
+import io.unitycatalog.control.model.UserResourceMeta;
+import io.unitycatalog.control.model.UserResourcePhotosInner;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * SCIM provides a resource type for \&quot;User\&quot; resources.
+ */
+@JsonPropertyOrder({
+  UserResource.JSON_PROPERTY_ID,
+  UserResource.JSON_PROPERTY_DISPLAY_NAME,
+  UserResource.JSON_PROPERTY_EXTERNAL_ID,
+  UserResource.JSON_PROPERTY_EMAILS,
+  UserResource.JSON_PROPERTY_ACTIVE,
+  UserResource.JSON_PROPERTY_META,
+  UserResource.JSON_PROPERTY_PHOTOS
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class UserResource {
+  public static final String JSON_PROPERTY_ID = "id";
+  private String id;
+
+  public static final String JSON_PROPERTY_DISPLAY_NAME = "displayName";
+  private String displayName;
+
+  public static final String JSON_PROPERTY_EXTERNAL_ID = "externalId";
+  private String externalId;
+
+  public static final String JSON_PROPERTY_EMAILS = "emails";
+  private List<Email> emails = new ArrayList<>();
+
+  public static final String JSON_PROPERTY_ACTIVE = "active";
+  private Boolean active;
+
+  public static final String JSON_PROPERTY_META = "meta";
+  private UserResourceMeta meta;
+
+  public static final String JSON_PROPERTY_PHOTOS = "photos";
+  private List<UserResourcePhotosInner> photos = new ArrayList<>();
+
+  public UserResource() {
+  }
+
+  public UserResource id(String id) {
+    
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * The id of the user.
+   * @return id
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getId() {
+    return id;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public UserResource displayName(String displayName) {
+    
+    this.displayName = displayName;
+    return this;
+  }
+
+  /**
+   * The name of the user.
+   * @return displayName
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_DISPLAY_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_DISPLAY_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setDisplayName(String displayName) {
+    this.displayName = displayName;
+  }
+
+  public UserResource externalId(String externalId) {
+    
+    this.externalId = externalId;
+    return this;
+  }
+
+  /**
+   * The SCIM external id.
+   * @return externalId
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_EXTERNAL_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getExternalId() {
+    return externalId;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_EXTERNAL_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setExternalId(String externalId) {
+    this.externalId = externalId;
+  }
+
+  public UserResource emails(List<Email> emails) {
+    
+    this.emails = emails;
+    return this;
+  }
+
+  public UserResource addEmailsItem(Email emailsItem) {
+    if (this.emails == null) {
+      this.emails = new ArrayList<>();
+    }
+    this.emails.add(emailsItem);
+    return this;
+  }
+
+  /**
+   * E-mail addresses for the user.
+   * @return emails
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_EMAILS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<Email> getEmails() {
+    return emails;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_EMAILS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setEmails(List<Email> emails) {
+    this.emails = emails;
+  }
+
+  public UserResource active(Boolean active) {
+    
+    this.active = active;
+    return this;
+  }
+
+  /**
+   * The active status of the user.
+   * @return active
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ACTIVE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Boolean getActive() {
+    return active;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ACTIVE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setActive(Boolean active) {
+    this.active = active;
+  }
+
+  public UserResource meta(UserResourceMeta meta) {
+    
+    this.meta = meta;
+    return this;
+  }
+
+  /**
+   * Get meta
+   * @return meta
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_META)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public UserResourceMeta getMeta() {
+    return meta;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_META)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setMeta(UserResourceMeta meta) {
+    this.meta = meta;
+  }
+
+  public UserResource photos(List<UserResourcePhotosInner> photos) {
+    
+    this.photos = photos;
+    return this;
+  }
+
+  public UserResource addPhotosItem(UserResourcePhotosInner photosItem) {
+    if (this.photos == null) {
+      this.photos = new ArrayList<>();
+    }
+    this.photos.add(photosItem);
+    return this;
+  }
+
+  /**
+   * The photos of the user.
+   * @return photos
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PHOTOS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<UserResourcePhotosInner> getPhotos() {
+    return photos;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PHOTOS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setPhotos(List<UserResourcePhotosInner> photos) {
+    this.photos = photos;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    UserResource userResource = (UserResource) o;
+    return Objects.equals(this.id, userResource.id) &&
+        Objects.equals(this.displayName, userResource.displayName) &&
+        Objects.equals(this.externalId, userResource.externalId) &&
+        Objects.equals(this.emails, userResource.emails) &&
+        Objects.equals(this.active, userResource.active) &&
+        Objects.equals(this.meta, userResource.meta) &&
+        Objects.equals(this.photos, userResource.photos);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, displayName, externalId, emails, active, meta, photos);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class UserResource {\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    displayName: ").append(toIndentedString(displayName)).append("\n");
+    sb.append("    externalId: ").append(toIndentedString(externalId)).append("\n");
+    sb.append("    emails: ").append(toIndentedString(emails)).append("\n");
+    sb.append("    active: ").append(toIndentedString(active)).append("\n");
+    sb.append("    meta: ").append(toIndentedString(meta)).append("\n");
+    sb.append("    photos: ").append(toIndentedString(photos)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
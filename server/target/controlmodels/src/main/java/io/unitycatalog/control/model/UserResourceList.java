@@ -0,0 +1,302 @@
+/*
+ * Unity Control API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.control.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.control.model.UserResource;
+import io.unitycatalog.control.model.UserResourceListMeta;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * List of SCIM User resources.
+ */
+@JsonPropertyOrder({
+  UserResourceList.JSON_PROPERTY_TOTAL_RESULTS,
+  UserResourceList.JSON_PROPERTY_ITEMS_PER_PAGE,
+  UserResourceList.JSON_PROPERTY_START_INDEX,
+  UserResourceList.JSON_PROPERTY_RESOURCES,
+  UserResourceList.JSON_PROPERTY_ID,
+  UserResourceList.JSON_PROPERTY_EXTERNAL_ID,
+  UserResourceList.JSON_PROPERTY_META
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class UserResourceList {
+  public static final String JSON_PROPERTY_TOTAL_RESULTS = "totalResults";
+  private Integer totalResults;
+
+  public static final String JSON_PROPERTY_ITEMS_PER_PAGE = "itemsPerPage";
+  private Integer itemsPerPage;
+
+  public static final String JSON_PROPERTY_START_INDEX = "startIndex";
+  private Integer startIndex;
+
+  public static final String JSON_PROPERTY_RESOURCES = "Resources";
+  private List<UserResource> resources = new ArrayList<>();
+
+  public static final String JSON_PROPERTY_ID = "id";
+  private String id;
+
+  public static final String JSON_PROPERTY_EXTERNAL_ID = "externalId";
+  private String externalId;
+
+  public static final String JSON_PROPERTY_META = "meta";
+  private UserResourceListMeta meta;
+
+  public UserResourceList() {
+  }
+
+  public UserResourceList totalResults(Integer totalResults) {
+    
+    this.totalResults = totalResults;
+    return this;
+  }
+
+  /**
+   * The total number of results.
+   * @return totalResults
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_TOTAL_RESULTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Integer getTotalResults() {
+    return totalResults;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_TOTAL_RESULTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setTotalResults(Integer totalResults) {
+    this.totalResults = totalResults;
+  }
+
+  public UserResourceList itemsPerPage(Integer itemsPerPage) {
+    
+    this.itemsPerPage = itemsPerPage;
+    return this;
+  }
+
+  /**
+   * The number of items per page.
+   * @return itemsPerPage
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ITEMS_PER_PAGE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Integer getItemsPerPage() {
+    return itemsPerPage;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ITEMS_PER_PAGE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setItemsPerPage(Integer itemsPerPage) {
+    this.itemsPerPage = itemsPerPage;
+  }
+
+  public UserResourceList startIndex(Integer startIndex) {
+    
+    this.startIndex = startIndex;
+    return this;
+  }
+
+  /**
+   * The index of the first result.
+   * @return startIndex
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_START_INDEX)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Integer getStartIndex() {
+    return startIndex;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_START_INDEX)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setStartIndex(Integer startIndex) {
+    this.startIndex = startIndex;
+  }
+
+  public UserResourceList resources(List<UserResource> resources) {
+    
+    this.resources = resources;
+    return this;
+  }
+
+  public UserResourceList addResourcesItem(UserResource resourcesItem) {
+    if (this.resources == null) {
+      this.resources = new ArrayList<>();
+    }
+    this.resources.add(resourcesItem);
+    return this;
+  }
+
+  /**
+   * The list of User resources.
+   * @return resources
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_RESOURCES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<UserResource> getResources() {
+    return resources;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_RESOURCES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setResources(List<UserResource> resources) {
+    this.resources = resources;
+  }
+
+  public UserResourceList id(String id) {
+    
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * User list id metadata.
+   * @return id
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getId() {
+    return id;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public UserResourceList externalId(String externalId) {
+    
+    this.externalId = externalId;
+    return this;
+  }
+
+  /**
+   * User list external id metadata.
+   * @return externalId
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_EXTERNAL_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getExternalId() {
+    return externalId;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_EXTERNAL_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setExternalId(String externalId) {
+    this.externalId = externalId;
+  }
+
+  public UserResourceList meta(UserResourceListMeta meta) {
+    
+    this.meta = meta;
+    return this;
+  }
+
+  /**
+   * Get meta
+   * @return meta
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_META)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public UserResourceListMeta getMeta() {
+    return meta;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_META)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setMeta(UserResourceListMeta meta) {
+    this.meta = meta;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    UserResourceList userResourceList = (UserResourceList) o;
+    return Objects.equals(this.totalResults, userResourceList.totalResults) &&
+        Objects.equals(this.itemsPerPage, userResourceList.itemsPerPage) &&
+        Objects.equals(this.startIndex, userResourceList.startIndex) &&
+        Objects.equals(this.resources, userResourceList.resources) &&
+        Objects.equals(this.id, userResourceList.id) &&
+        Objects.equals(this.externalId, userResourceList.externalId) &&
+        Objects.equals(this.meta, userResourceList.meta);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(totalResults, itemsPerPage, startIndex, resources, id, externalId, meta);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class UserResourceList {\n");
+    sb.append("    totalResults: ").append(toIndentedString(totalResults)).append("\n");
+    sb.append("    itemsPerPage: ").append(toIndentedString(itemsPerPage)).append("\n");
+    sb.append("    startIndex: ").append(toIndentedString(startIndex)).append("\n");
+    sb.append("    resources: ").append(toIndentedString(resources)).append("\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    externalId: ").append(toIndentedString(externalId)).append("\n");
+    sb.append("    meta: ").append(toIndentedString(meta)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
@@ -0,0 +1,166 @@
+/*
+ * Unity Control API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.control.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * The metadata of the user.
+ */
+@JsonPropertyOrder({
+  UserResourceListMeta.JSON_PROPERTY_RESOURCE_TYPE,
+  UserResourceListMeta.JSON_PROPERTY_CREATED,
+  UserResourceListMeta.JSON_PROPERTY_LAST_MODIFIED
+})
+@JsonTypeName("UserResourceList_meta")
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class UserResourceListMeta {
+  public static final String JSON_PROPERTY_RESOURCE_TYPE = "resourceType";
+  private String resourceType;
+
+  public static final String JSON_PROPERTY_CREATED = "created";
+  private String created;
+
+  public static final String JSON_PROPERTY_LAST_MODIFIED = "lastModified";
+  private String lastModified;
+
+  public UserResourceListMeta() {
+  }
+
+  public UserResourceListMeta resourceType(String resourceType) {
+    
+    this.resourceType = resourceType;
+    return this;
+  }
+
+  /**
+   * Get resourceType
+   * @return resourceType
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_RESOURCE_TYPE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getResourceType() {
+    return resourceType;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_RESOURCE_TYPE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setResourceType(String resourceType) {
+    this.resourceType = resourceType;
+  }
+
+  public UserResourceListMeta created(String created) {
+    
+    this.created = created;
+    return this;
+  }
+
+  /**
+   * Get created
+   * @return created
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CREATED)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getCreated() {
+    return created;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CREATED)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setCreated(String created) {
+    this.created = created;
+  }
+
+  public UserResourceListMeta lastModified(String lastModified) {
+    
+    this.lastModified = lastModified;
+    return this;
+  }
+
+  /**
+   * Get lastModified
+   * @return lastModified
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_LAST_MODIFIED)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getLastModified() {
+    return lastModified;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_LAST_MODIFIED)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setLastModified(String lastModified) {
+    this.lastModified = lastModified;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    UserResourceListMeta userResourceListMeta = (UserResourceListMeta) o;
+    return Objects.equals(this.resourceType, userResourceListMeta.resourceType) &&
+        Objects.equals(this.created, userResourceListMeta.created) &&
+        Objects.equals(this.lastModified, userResourceListMeta.lastModified);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(resourceType, created, lastModified);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class UserResourceListMeta {\n");
+    sb.append("    resourceType: ").append(toIndentedString(resourceType)).append("\n");
+    sb.append("    created: ").append(toIndentedString(created)).append("\n");
+    sb.append("    lastModified: ").append(toIndentedString(lastModified)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
@@ -0,0 +1,165 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * AwsCredentials
+ */
+@JsonPropertyOrder({
+  AwsCredentials.JSON_PROPERTY_ACCESS_KEY_ID,
+  AwsCredentials.JSON_PROPERTY_SECRET_ACCESS_KEY,
+  AwsCredentials.JSON_PROPERTY_SESSION_TOKEN
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class AwsCredentials {
+  public static final String JSON_PROPERTY_ACCESS_KEY_ID = "access_key_id";
+  private String accessKeyId;
+
+  public static final String JSON_PROPERTY_SECRET_ACCESS_KEY = "secret_access_key";
+  private String secretAccessKey;
+
+  public static final String JSON_PROPERTY_SESSION_TOKEN = "session_token";
+  private String sessionToken;
+
+  public AwsCredentials() {
+  }
+
+  public AwsCredentials accessKeyId(String accessKeyId) {
+    
+    this.accessKeyId = accessKeyId;
+    return this;
+  }
+
+  /**
+   * The access key ID that identifies the temporary credentials.
+   * @return accessKeyId
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ACCESS_KEY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getAccessKeyId() {
+    return accessKeyId;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ACCESS_KEY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setAccessKeyId(String accessKeyId) {
+    this.accessKeyId = accessKeyId;
+  }
+
+  public AwsCredentials secretAccessKey(String secretAccessKey) {
+    
+    this.secretAccessKey = secretAccessKey;
+    return this;
+  }
+
+  /**
+   * The secret access key that can be used to sign AWS API requests.
+   * @return secretAccessKey
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SECRET_ACCESS_KEY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getSecretAccessKey() {
+    return secretAccessKey;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SECRET_ACCESS_KEY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSecretAccessKey(String secretAccessKey) {
+    this.secretAccessKey = secretAccessKey;
+  }
+
+  public AwsCredentials sessionToken(String sessionToken) {
+    
+    this.sessionToken = sessionToken;
+    return this;
+  }
+
+  /**
+   * The token that users must pass to AWS API to use the temporary credentials.
+   * @return sessionToken
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SESSION_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getSessionToken() {
+    return sessionToken;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SESSION_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSessionToken(String sessionToken) {
+    this.sessionToken = sessionToken;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AwsCredentials awsCredentials = (AwsCredentials) o;
+    return Objects.equals(this.accessKeyId, awsCredentials.accessKeyId) &&
+        Objects.equals(this.secretAccessKey, awsCredentials.secretAccessKey) &&
+        Objects.equals(this.sessionToken, awsCredentials.sessionToken);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(accessKeyId, secretAccessKey, sessionToken);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AwsCredentials {\n");
+    sb.append("    accessKeyId: ").append(toIndentedString(accessKeyId)).append("\n");
+    sb.append("    secretAccessKey: ").append(toIndentedString(secretAccessKey)).append("\n");
+    sb.append("    sessionToken: ").append(toIndentedString(sessionToken)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
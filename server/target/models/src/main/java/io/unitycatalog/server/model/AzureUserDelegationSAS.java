@@ -0,0 +1,103 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * AzureUserDelegationSAS
+ */
+@JsonPropertyOrder({
+  AzureUserDelegationSAS.JSON_PROPERTY_SAS_TOKEN
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class AzureUserDelegationSAS {
+  public static final String JSON_PROPERTY_SAS_TOKEN = "sas_token";
+  private String sasToken;
+
+  public AzureUserDelegationSAS() {
+  }
+
+  public AzureUserDelegationSAS sasToken(String sasToken) {
+    
+    this.sasToken = sasToken;
+    return this;
+  }
+
+  /**
+   * Azure SAS Token
+   * @return sasToken
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SAS_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getSasToken() {
+    return sasToken;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SAS_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSasToken(String sasToken) {
+    this.sasToken = sasToken;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AzureUserDelegationSAS azureUserDelegationSAS = (AzureUserDelegationSAS) o;
+    return Objects.equals(this.sasToken, azureUserDelegationSAS.sasToken);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(sasToken);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AzureUserDelegationSAS {\n");
+    sb.append("    sasToken: ").append(toIndentedString(sasToken)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
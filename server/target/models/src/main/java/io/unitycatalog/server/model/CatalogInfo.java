@@ -0,0 +1,361 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * CatalogInfo
+ */
+@JsonPropertyOrder({
+  CatalogInfo.JSON_PROPERTY_NAME,
+  CatalogInfo.JSON_PROPERTY_COMMENT,
+  CatalogInfo.JSON_PROPERTY_PROPERTIES,
+  CatalogInfo.JSON_PROPERTY_OWNER,
+  CatalogInfo.JSON_PROPERTY_CREATED_AT,
+  CatalogInfo.JSON_PROPERTY_CREATED_BY,
+  CatalogInfo.JSON_PROPERTY_UPDATED_AT,
+  CatalogInfo.JSON_PROPERTY_UPDATED_BY,
+  CatalogInfo.JSON_PROPERTY_ID
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class CatalogInfo {
+  public static final String JSON_PROPERTY_NAME = "name";
+  private String name;
+
+  public static final String JSON_PROPERTY_COMMENT = "comment";
+  private String comment;
+
+  public static final String JSON_PROPERTY_PROPERTIES = "properties";
+  private Map<String, String> properties = new HashMap<>();
+
+  public static final String JSON_PROPERTY_OWNER = "owner";
+  private String owner;
+
+  public static final String JSON_PROPERTY_CREATED_AT = "created_at";
+  private Long createdAt;
+
+  public static final String JSON_PROPERTY_CREATED_BY = "created_by";
+  private String createdBy;
+
+  public static final String JSON_PROPERTY_UPDATED_AT = "updated_at";
+  private Long updatedAt;
+
+  public static final String JSON_PROPERTY_UPDATED_BY = "updated_by";
+  private String updatedBy;
+
+  public static final String JSON_PROPERTY_ID = "id";
+  private String id;
+
+  public CatalogInfo() {
+  }
+
+  public CatalogInfo name(String name) {
+    
+    this.name = name;
+    return this;
+  }
+
+  /**
+   * Name of catalog.
+   * @return name
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getName() {
+    return name;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public CatalogInfo comment(String comment) {
+    
+    this.comment = comment;
+    return this;
+  }
+
+  /**
+   * User-provided free-form text description.
+   * @return comment
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_COMMENT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getComment() {
+    return comment;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_COMMENT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setComment(String comment) {
+    this.comment = comment;
+  }
+
+  public CatalogInfo properties(Map<String, String> properties) {
+    
+    this.properties = properties;
+    return this;
+  }
+
+  public CatalogInfo putPropertiesItem(String key, String propertiesItem) {
+    if (this.properties == null) {
+      this.properties = new HashMap<>();
+    }
+    this.properties.put(key, propertiesItem);
+    return this;
+  }
+
+  /**
+   * A map of key-value properties attached to the securable.
+   * @return properties
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PROPERTIES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Map<String, String> getProperties() {
+    return properties;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PROPERTIES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setProperties(Map<String, String> properties) {
+    this.properties = properties;
+  }
+
+  public CatalogInfo owner(String owner) {
+    
+    this.owner = owner;
+    return this;
+  }
+
+  /**
+   * Username of current owner of catalog.
+   * @return owner
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_OWNER)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getOwner() {
+    return owner;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_OWNER)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setOwner(String owner) {
+    this.owner = owner;
+  }
+
+  public CatalogInfo createdAt(Long createdAt) {
+    
+    this.createdAt = createdAt;
+    return this;
+  }
+
+  /**
+   * Time at which this catalog was created, in epoch milliseconds.
+   * @return createdAt
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CREATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getCreatedAt() {
+    return createdAt;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CREATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setCreatedAt(Long createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public CatalogInfo createdBy(String createdBy) {
+    
+    this.createdBy = createdBy;
+    return this;
+  }
+
+  /**
+   * Username of catalog creator.
+   * @return createdBy
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CREATED_BY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getCreatedBy() {
+    return createdBy;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CREATED_BY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setCreatedBy(String createdBy) {
+    this.createdBy = createdBy;
+  }
+
+  public CatalogInfo updatedAt(Long updatedAt) {
+    
+    this.updatedAt = updatedAt;
+    return this;
+  }
+
+  /**
+   * Time at which this catalog was last modified, in epoch milliseconds.
+   * @return updatedAt
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_UPDATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getUpdatedAt() {
+    return updatedAt;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_UPDATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setUpdatedAt(Long updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+
+  public CatalogInfo updatedBy(String updatedBy) {
+    
+    this.updatedBy = updatedBy;
+    return this;
+  }
+
+  /**
+   * Username of user who last modified catalog.
+   * @return updatedBy
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_UPDATED_BY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getUpdatedBy() {
+    return updatedBy;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_UPDATED_BY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setUpdatedBy(String updatedBy) {
+    this.updatedBy = updatedBy;
+  }
+
+  public CatalogInfo id(String id) {
+    
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Unique identifier for the catalog.
+   * @return id
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getId() {
+    return id;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CatalogInfo catalogInfo = (CatalogInfo) o;
+    return Objects.equals(this.name, catalogInfo.name) &&
+        Objects.equals(this.comment, catalogInfo.comment) &&
+        Objects.equals(this.properties, catalogInfo.properties) &&
+        Objects.equals(this.owner, catalogInfo.owner) &&
+        Objects.equals(this.createdAt, catalogInfo.createdAt) &&
+        Objects.equals(this.createdBy, catalogInfo.createdBy) &&
+        Objects.equals(this.updatedAt, catalogInfo.updatedAt) &&
+        Objects.equals(this.updatedBy, catalogInfo.updatedBy) &&
+        Objects.equals(this.id, catalogInfo.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, comment, properties, owner, createdAt, createdBy, updatedAt, updatedBy, id);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class CatalogInfo {\n");
+    sb.append("    name: ").append(toIndentedString(name)).append("\n");
+    sb.append("    comment: ").append(toIndentedString(comment)).append("\n");
+    sb.append("    properties: ").append(toIndentedString(properties)).append("\n");
+    sb.append("    owner: ").append(toIndentedString(owner)).append("\n");
+    sb.append("    createdAt: ").append(toIndentedString(createdAt)).append("\n");
+    sb.append("    createdBy: ").append(toIndentedString(createdBy)).append("\n");
+    sb.append("    updatedAt: ").append(toIndentedString(updatedAt)).append("\n");
+    sb.append("    updatedBy: ").append(toIndentedString(updatedBy)).append("\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
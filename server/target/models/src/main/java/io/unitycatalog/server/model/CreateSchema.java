@@ -0,0 +1,206 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * CreateSchema
+ */
+@JsonPropertyOrder({
+  CreateSchema.JSON_PROPERTY_NAME,
+  CreateSchema.JSON_PROPERTY_CATALOG_NAME,
+  CreateSchema.JSON_PROPERTY_COMMENT,
+  CreateSchema.JSON_PROPERTY_PROPERTIES
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class CreateSchema {
+  public static final String JSON_PROPERTY_NAME = "name";
+  private String name;
+
+  public static final String JSON_PROPERTY_CATALOG_NAME = "catalog_name";
+  private String catalogName;
+
+  public static final String JSON_PROPERTY_COMMENT = "comment";
+  private String comment;
+
+  public static final String JSON_PROPERTY_PROPERTIES = "properties";
+  private Map<String, String> properties = new HashMap<>();
+
+  public CreateSchema() {
+  }
+
+  public CreateSchema name(String name) {
+    
+    this.name = name;
+    return this;
+  }
+
+  /**
+   * Name of schema, relative to parent catalog.
+   * @return name
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getName() {
+    return name;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public CreateSchema catalogName(String catalogName) {
+    
+    this.catalogName = catalogName;
+    return this;
+  }
+
+  /**
+   * Name of parent catalog.
+   * @return catalogName
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_CATALOG_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getCatalogName() {
+    return catalogName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CATALOG_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setCatalogName(String catalogName) {
+    this.catalogName = catalogName;
+  }
+
+  public CreateSchema comment(String comment) {
+    
+    this.comment = comment;
+    return this;
+  }
+
+  /**
+   * User-provided free-form text description.
+   * @return comment
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_COMMENT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getComment() {
+    return comment;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_COMMENT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setComment(String comment) {
+    this.comment = comment;
+  }
+
+  public CreateSchema properties(Map<String, String> properties) {
+    
+    this.properties = properties;
+    return this;
+  }
+
+  public CreateSchema putPropertiesItem(String key, String propertiesItem) {
+    if (this.properties == null) {
+      this.properties = new HashMap<>();
+    }
+    this.properties.put(key, propertiesItem);
+    return this;
+  }
+
+  /**
+   * A map of key-value properties attached to the securable.
+   * @return properties
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PROPERTIES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Map<String, String> getProperties() {
+    return properties;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PROPERTIES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setProperties(Map<String, String> properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CreateSchema createSchema = (CreateSchema) o;
+    return Objects.equals(this.name, createSchema.name) &&
+        Objects.equals(this.catalogName, createSchema.catalogName) &&
+        Objects.equals(this.comment, createSchema.comment) &&
+        Objects.equals(this.properties, createSchema.properties);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, catalogName, comment, properties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class CreateSchema {\n");
+    sb.append("    name: ").append(toIndentedString(name)).append("\n");
+    sb.append("    catalogName: ").append(toIndentedString(catalogName)).append("\n");
+    sb.append("    comment: ").append(toIndentedString(comment)).append("\n");
+    sb.append("    properties: ").append(toIndentedString(properties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
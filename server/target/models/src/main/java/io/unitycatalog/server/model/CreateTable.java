@@ -0,0 +1,375 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.ColumnInfo;
+import io.unitycatalog.server.model.DataSourceFormat;
+import io.unitycatalog.server.model.TableType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * CreateTable
+ */
+@JsonPropertyOrder({
+  CreateTable.JSON_PROPERTY_NAME,
+  CreateTable.JSON_PROPERTY_CATALOG_NAME,
+  CreateTable.JSON_PROPERTY_SCHEMA_NAME,
+  CreateTable.JSON_PROPERTY_TABLE_TYPE,
+  CreateTable.JSON_PROPERTY_DATA_SOURCE_FORMAT,
+  CreateTable.JSON_PROPERTY_COLUMNS,
+  CreateTable.JSON_PROPERTY_STORAGE_LOCATION,
+  CreateTable.JSON_PROPERTY_COMMENT,
+  CreateTable.JSON_PROPERTY_PROPERTIES
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class CreateTable {
+  public static final String JSON_PROPERTY_NAME = "name";
+  private String name;
+
+  public static final String JSON_PROPERTY_CATALOG_NAME = "catalog_name";
+  private String catalogName;
+
+  public static final String JSON_PROPERTY_SCHEMA_NAME = "schema_name";
+  private String schemaName;
+
+  public static final String JSON_PROPERTY_TABLE_TYPE = "table_type";
+  private TableType tableType;
+
+  public static final String JSON_PROPERTY_DATA_SOURCE_FORMAT = "data_source_format";
+  private DataSourceFormat dataSourceFormat;
+
+  public static final String JSON_PROPERTY_COLUMNS = "columns";
+  private List<ColumnInfo> columns = new ArrayList<>();
+
+  public static final String JSON_PROPERTY_STORAGE_LOCATION = "storage_location";
+  private String storageLocation;
+
+  public static final String JSON_PROPERTY_COMMENT = "comment";
+  private String comment;
+
+  public static final String JSON_PROPERTY_PROPERTIES = "properties";
+  private Map<String, String> properties = new HashMap<>();
+
+  public CreateTable() {
+  }
+
+  public CreateTable name(String name) {
+    
+    this.name = name;
+    return this;
+  }
+
+  /**
+   * Name of table, relative to parent schema.
+   * @return name
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getName() {
+    return name;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public CreateTable catalogName(String catalogName) {
+    
+    this.catalogName = catalogName;
+    return this;
+  }
+
+  /**
+   * Name of parent catalog.
+   * @return catalogName
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_CATALOG_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getCatalogName() {
+    return catalogName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CATALOG_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setCatalogName(String catalogName) {
+    this.catalogName = catalogName;
+  }
+
+  public CreateTable schemaName(String schemaName) {
+    
+    this.schemaName = schemaName;
+    return this;
+  }
+
+  /**
+   * Name of parent schema relative to its parent catalog.
+   * @return schemaName
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_SCHEMA_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getSchemaName() {
+    return schemaName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SCHEMA_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setSchemaName(String schemaName) {
+    this.schemaName = schemaName;
+  }
+
+  public CreateTable tableType(TableType tableType) {
+    
+    this.tableType = tableType;
+    return this;
+  }
+
+  /**
+   * Get tableType
+   * @return tableType
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_TABLE_TYPE)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public TableType getTableType() {
+    return tableType;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_TABLE_TYPE)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setTableType(TableType tableType) {
+    this.tableType = tableType;
+  }
+
+  public CreateTable dataSourceFormat(DataSourceFormat dataSourceFormat) {
+    
+    this.dataSourceFormat = dataSourceFormat;
+    return this;
+  }
+
+  /**
+   * Get dataSourceFormat
+   * @return dataSourceFormat
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_DATA_SOURCE_FORMAT)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public DataSourceFormat getDataSourceFormat() {
+    return dataSourceFormat;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_DATA_SOURCE_FORMAT)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setDataSourceFormat(DataSourceFormat dataSourceFormat) {
+    this.dataSourceFormat = dataSourceFormat;
+  }
+
+  public CreateTable columns(List<ColumnInfo> columns) {
+    
+    this.columns = columns;
+    return this;
+  }
+
+  public CreateTable addColumnsItem(ColumnInfo columnsItem) {
+    if (this.columns == null) {
+      this.columns = new ArrayList<>();
+    }
+    this.columns.add(columnsItem);
+    return this;
+  }
+
+  /**
+   * The array of __ColumnInfo__ definitions of the table&#39;s columns.
+   * @return columns
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_COLUMNS)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public List<ColumnInfo> getColumns() {
+    return columns;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_COLUMNS)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setColumns(List<ColumnInfo> columns) {
+    this.columns = columns;
+  }
+
+  public CreateTable storageLocation(String storageLocation) {
+    
+    this.storageLocation = storageLocation;
+    return this;
+  }
+
+  /**
+   * Storage root URL for external table
+   * @return storageLocation
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_STORAGE_LOCATION)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getStorageLocation() {
+    return storageLocation;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_STORAGE_LOCATION)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setStorageLocation(String storageLocation) {
+    this.storageLocation = storageLocation;
+  }
+
+  public CreateTable comment(String comment) {
+    
+    this.comment = comment;
+    return this;
+  }
+
+  /**
+   * User-provided free-form text description.
+   * @return comment
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_COMMENT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getComment() {
+    return comment;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_COMMENT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setComment(String comment) {
+    this.comment = comment;
+  }
+
+  public CreateTable properties(Map<String, String> properties) {
+    
+    this.properties = properties;
+    return this;
+  }
+
+  public CreateTable putPropertiesItem(String key, String propertiesItem) {
+    if (this.properties == null) {
+      this.properties = new HashMap<>();
+    }
+    this.properties.put(key, propertiesItem);
+    return this;
+  }
+
+  /**
+   * A map of key-value properties attached to the securable.
+   * @return properties
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PROPERTIES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Map<String, String> getProperties() {
+    return properties;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PROPERTIES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setProperties(Map<String, String> properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CreateTable createTable = (CreateTable) o;
+    return Objects.equals(this.name, createTable.name) &&
+        Objects.equals(this.catalogName, createTable.catalogName) &&
+        Objects.equals(this.schemaName, createTable.schemaName) &&
+        Objects.equals(this.tableType, createTable.tableType) &&
+        Objects.equals(this.dataSourceFormat, createTable.dataSourceFormat) &&
+        Objects.equals(this.columns, createTable.columns) &&
+        Objects.equals(this.storageLocation, createTable.storageLocation) &&
+        Objects.equals(this.comment, createTable.comment) &&
+        Objects.equals(this.properties, createTable.properties);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, catalogName, schemaName, tableType, dataSourceFormat, columns, storageLocation, comment, properties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class CreateTable {\n");
+    sb.append("    name: ").append(toIndentedString(name)).append("\n");
+    sb.append("    catalogName: ").append(toIndentedString(catalogName)).append("\n");
+    sb.append("    schemaName: ").append(toIndentedString(schemaName)).append("\n");
+    sb.append("    tableType: ").append(toIndentedString(tableType)).append("\n");
+    sb.append("    dataSourceFormat: ").append(toIndentedString(dataSourceFormat)).append("\n");
+    sb.append("    columns: ").append(toIndentedString(columns)).append("\n");
+    sb.append("    storageLocation: ").append(toIndentedString(storageLocation)).append("\n");
+    sb.append("    comment: ").append(toIndentedString(comment)).append("\n");
+    sb.append("    properties: ").append(toIndentedString(properties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
@@ -0,0 +1,115 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.CreateTable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * CreateTables
+ */
+@JsonPropertyOrder({
+  CreateTables.JSON_PROPERTY_TABLES
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class CreateTables {
+  public static final String JSON_PROPERTY_TABLES = "tables";
+  private List<CreateTable> tables = new ArrayList<>();
+
+  public CreateTables() {
+  }
+
+  public CreateTables tables(List<CreateTable> tables) {
+    
+    this.tables = tables;
+    return this;
+  }
+
+  public CreateTables addTablesItem(CreateTable tablesItem) {
+    if (this.tables == null) {
+      this.tables = new ArrayList<>();
+    }
+    this.tables.add(tablesItem);
+    return this;
+  }
+
+  /**
+   * The tables to create, at most 1000.
+   * @return tables
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_TABLES)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public List<CreateTable> getTables() {
+    return tables;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_TABLES)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setTables(List<CreateTable> tables) {
+    this.tables = tables;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CreateTables createTables = (CreateTables) o;
+    return Objects.equals(this.tables, createTables.tables);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(tables);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class CreateTables {\n");
+    sb.append("    tables: ").append(toIndentedString(tables)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
@@ -0,0 +1,115 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.TableInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * CreateTablesResponse
+ */
+@JsonPropertyOrder({
+  CreateTablesResponse.JSON_PROPERTY_TABLES
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class CreateTablesResponse {
+  public static final String JSON_PROPERTY_TABLES = "tables";
+  private List<TableInfo> tables = new ArrayList<>();
+
+  public CreateTablesResponse() {
+  }
+
+  public CreateTablesResponse tables(List<TableInfo> tables) {
+    
+    this.tables = tables;
+    return this;
+  }
+
+  public CreateTablesResponse addTablesItem(TableInfo tablesItem) {
+    if (this.tables == null) {
+      this.tables = new ArrayList<>();
+    }
+    this.tables.add(tablesItem);
+    return this;
+  }
+
+  /**
+   * The created tables, in the order of the request.
+   * @return tables
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_TABLES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<TableInfo> getTables() {
+    return tables;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_TABLES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setTables(List<TableInfo> tables) {
+    this.tables = tables;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CreateTablesResponse createTablesResponse = (CreateTablesResponse) o;
+    return Objects.equals(this.tables, createTablesResponse.tables);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(tables);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class CreateTablesResponse {\n");
+    sb.append("    tables: ").append(toIndentedString(tables)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
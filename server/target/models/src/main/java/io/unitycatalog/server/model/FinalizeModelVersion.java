@@ -0,0 +1,134 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * FinalizeModelVersion
+ */
+@JsonPropertyOrder({
+  FinalizeModelVersion.JSON_PROPERTY_FULL_NAME,
+  FinalizeModelVersion.JSON_PROPERTY_VERSION
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class FinalizeModelVersion {
+  public static final String JSON_PROPERTY_FULL_NAME = "full_name";
+  private String fullName;
+
+  public static final String JSON_PROPERTY_VERSION = "version";
+  private Long version;
+
+  public FinalizeModelVersion() {
+  }
+
+  public FinalizeModelVersion fullName(String fullName) {
+    
+    this.fullName = fullName;
+    return this;
+  }
+
+  /**
+   * The full name of the registered model to finalize.
+   * @return fullName
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_FULL_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getFullName() {
+    return fullName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_FULL_NAME)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setFullName(String fullName) {
+    this.fullName = fullName;
+  }
+
+  public FinalizeModelVersion version(Long version) {
+    
+    this.version = version;
+    return this;
+  }
+
+  /**
+   * Version number of the version to finalize.
+   * @return version
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_VERSION)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public Long getVersion() {
+    return version;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_VERSION)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    FinalizeModelVersion finalizeModelVersion = (FinalizeModelVersion) o;
+    return Objects.equals(this.fullName, finalizeModelVersion.fullName) &&
+        Objects.equals(this.version, finalizeModelVersion.version);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(fullName, version);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class FinalizeModelVersion {\n");
+    sb.append("    fullName: ").append(toIndentedString(fullName)).append("\n");
+    sb.append("    version: ").append(toIndentedString(version)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
@@ -0,0 +1,115 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.FunctionParameterInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * FunctionParameterInfos
+ */
+@JsonPropertyOrder({
+  FunctionParameterInfos.JSON_PROPERTY_PARAMETERS
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class FunctionParameterInfos {
+  public static final String JSON_PROPERTY_PARAMETERS = "parameters";
+  private List<FunctionParameterInfo> parameters = new ArrayList<>();
+
+  public FunctionParameterInfos() {
+  }
+
+  public FunctionParameterInfos parameters(List<FunctionParameterInfo> parameters) {
+    
+    this.parameters = parameters;
+    return this;
+  }
+
+  public FunctionParameterInfos addParametersItem(FunctionParameterInfo parametersItem) {
+    if (this.parameters == null) {
+      this.parameters = new ArrayList<>();
+    }
+    this.parameters.add(parametersItem);
+    return this;
+  }
+
+  /**
+   * The array of __FunctionParameterInfo__ definitions of the function&#39;s parameters.
+   * @return parameters
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PARAMETERS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<FunctionParameterInfo> getParameters() {
+    return parameters;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PARAMETERS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setParameters(List<FunctionParameterInfo> parameters) {
+    this.parameters = parameters;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    FunctionParameterInfos functionParameterInfos = (FunctionParameterInfos) o;
+    return Objects.equals(this.parameters, functionParameterInfos.parameters);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(parameters);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class FunctionParameterInfos {\n");
+    sb.append("    parameters: ").append(toIndentedString(parameters)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
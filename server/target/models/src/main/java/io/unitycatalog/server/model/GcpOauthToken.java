@@ -0,0 +1,103 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * GcpOauthToken
+ */
+@JsonPropertyOrder({
+  GcpOauthToken.JSON_PROPERTY_OAUTH_TOKEN
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class GcpOauthToken {
+  public static final String JSON_PROPERTY_OAUTH_TOKEN = "oauth_token";
+  private String oauthToken;
+
+  public GcpOauthToken() {
+  }
+
+  public GcpOauthToken oauthToken(String oauthToken) {
+    
+    this.oauthToken = oauthToken;
+    return this;
+  }
+
+  /**
+   * Gcp Token
+   * @return oauthToken
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_OAUTH_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getOauthToken() {
+    return oauthToken;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_OAUTH_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setOauthToken(String oauthToken) {
+    this.oauthToken = oauthToken;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GcpOauthToken gcpOauthToken = (GcpOauthToken) o;
+    return Objects.equals(this.oauthToken, gcpOauthToken.oauthToken);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(oauthToken);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class GcpOauthToken {\n");
+    sb.append("    oauthToken: ").append(toIndentedString(oauthToken)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
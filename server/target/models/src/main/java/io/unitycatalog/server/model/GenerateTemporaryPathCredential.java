@@ -0,0 +1,135 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.PathOperation;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * GenerateTemporaryPathCredential
+ */
+@JsonPropertyOrder({
+  GenerateTemporaryPathCredential.JSON_PROPERTY_URL,
+  GenerateTemporaryPathCredential.JSON_PROPERTY_OPERATION
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class GenerateTemporaryPathCredential {
+  public static final String JSON_PROPERTY_URL = "url";
+  private String url;
+
+  public static final String JSON_PROPERTY_OPERATION = "operation";
+  private PathOperation operation;
+
+  public GenerateTemporaryPathCredential() {
+  }
+
+  public GenerateTemporaryPathCredential url(String url) {
+    
+    this.url = url;
+    return this;
+  }
+
+  /**
+   * The URL of the storage path for which temporary credentials need to be generated.
+   * @return url
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_URL)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getUrl() {
+    return url;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_URL)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setUrl(String url) {
+    this.url = url;
+  }
+
+  public GenerateTemporaryPathCredential operation(PathOperation operation) {
+    
+    this.operation = operation;
+    return this;
+  }
+
+  /**
+   * Get operation
+   * @return operation
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_OPERATION)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public PathOperation getOperation() {
+    return operation;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_OPERATION)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setOperation(PathOperation operation) {
+    this.operation = operation;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GenerateTemporaryPathCredential generateTemporaryPathCredential = (GenerateTemporaryPathCredential) o;
+    return Objects.equals(this.url, generateTemporaryPathCredential.url) &&
+        Objects.equals(this.operation, generateTemporaryPathCredential.operation);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(url, operation);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class GenerateTemporaryPathCredential {\n");
+    sb.append("    url: ").append(toIndentedString(url)).append("\n");
+    sb.append("    operation: ").append(toIndentedString(operation)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
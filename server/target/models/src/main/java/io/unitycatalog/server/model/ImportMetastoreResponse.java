@@ -0,0 +1,165 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * ImportMetastoreResponse
+ */
+@JsonPropertyOrder({
+  ImportMetastoreResponse.JSON_PROPERTY_IMPORTED_OBJECTS,
+  ImportMetastoreResponse.JSON_PROPERTY_IMPORTED_GRANTS,
+  ImportMetastoreResponse.JSON_PROPERTY_SKIPPED_GRANTS
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class ImportMetastoreResponse {
+  public static final String JSON_PROPERTY_IMPORTED_OBJECTS = "imported_objects";
+  private Long importedObjects;
+
+  public static final String JSON_PROPERTY_IMPORTED_GRANTS = "imported_grants";
+  private Long importedGrants;
+
+  public static final String JSON_PROPERTY_SKIPPED_GRANTS = "skipped_grants";
+  private Long skippedGrants;
+
+  public ImportMetastoreResponse() {
+  }
+
+  public ImportMetastoreResponse importedObjects(Long importedObjects) {
+    
+    this.importedObjects = importedObjects;
+    return this;
+  }
+
+  /**
+   * Number of objects created.
+   * @return importedObjects
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_IMPORTED_OBJECTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getImportedObjects() {
+    return importedObjects;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_IMPORTED_OBJECTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setImportedObjects(Long importedObjects) {
+    this.importedObjects = importedObjects;
+  }
+
+  public ImportMetastoreResponse importedGrants(Long importedGrants) {
+    
+    this.importedGrants = importedGrants;
+    return this;
+  }
+
+  /**
+   * Number of privileges granted.
+   * @return importedGrants
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_IMPORTED_GRANTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getImportedGrants() {
+    return importedGrants;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_IMPORTED_GRANTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setImportedGrants(Long importedGrants) {
+    this.importedGrants = importedGrants;
+  }
+
+  public ImportMetastoreResponse skippedGrants(Long skippedGrants) {
+    
+    this.skippedGrants = skippedGrants;
+    return this;
+  }
+
+  /**
+   * Number of privileges not granted, because their principal does not exist.
+   * @return skippedGrants
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SKIPPED_GRANTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getSkippedGrants() {
+    return skippedGrants;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SKIPPED_GRANTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSkippedGrants(Long skippedGrants) {
+    this.skippedGrants = skippedGrants;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ImportMetastoreResponse importMetastoreResponse = (ImportMetastoreResponse) o;
+    return Objects.equals(this.importedObjects, importMetastoreResponse.importedObjects) &&
+        Objects.equals(this.importedGrants, importMetastoreResponse.importedGrants) &&
+        Objects.equals(this.skippedGrants, importMetastoreResponse.skippedGrants);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(importedObjects, importedGrants, skippedGrants);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ImportMetastoreResponse {\n");
+    sb.append("    importedObjects: ").append(toIndentedString(importedObjects)).append("\n");
+    sb.append("    importedGrants: ").append(toIndentedString(importedGrants)).append("\n");
+    sb.append("    skippedGrants: ").append(toIndentedString(skippedGrants)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
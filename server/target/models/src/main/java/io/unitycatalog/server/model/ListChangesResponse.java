@@ -0,0 +1,146 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.ChangeEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * ListChangesResponse
+ */
+@JsonPropertyOrder({
+  ListChangesResponse.JSON_PROPERTY_CHANGES,
+  ListChangesResponse.JSON_PROPERTY_NEXT_SEQUENCE_NUMBER
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class ListChangesResponse {
+  public static final String JSON_PROPERTY_CHANGES = "changes";
+  private List<ChangeEvent> changes = new ArrayList<>();
+
+  public static final String JSON_PROPERTY_NEXT_SEQUENCE_NUMBER = "next_sequence_number";
+  private Long nextSequenceNumber;
+
+  public ListChangesResponse() {
+  }
+
+  public ListChangesResponse changes(List<ChangeEvent> changes) {
+    
+    this.changes = changes;
+    return this;
+  }
+
+  public ListChangesResponse addChangesItem(ChangeEvent changesItem) {
+    if (this.changes == null) {
+      this.changes = new ArrayList<>();
+    }
+    this.changes.add(changesItem);
+    return this;
+  }
+
+  /**
+   * The changes in the order they were committed.
+   * @return changes
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CHANGES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<ChangeEvent> getChanges() {
+    return changes;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CHANGES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setChanges(List<ChangeEvent> changes) {
+    this.changes = changes;
+  }
+
+  public ListChangesResponse nextSequenceNumber(Long nextSequenceNumber) {
+    
+    this.nextSequenceNumber = nextSequenceNumber;
+    return this;
+  }
+
+  /**
+   * Sequence number of the last change returned, or the __since__ value of the request if there were none. __since__ should be set to this value for the next request. 
+   * @return nextSequenceNumber
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_NEXT_SEQUENCE_NUMBER)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getNextSequenceNumber() {
+    return nextSequenceNumber;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_NEXT_SEQUENCE_NUMBER)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setNextSequenceNumber(Long nextSequenceNumber) {
+    this.nextSequenceNumber = nextSequenceNumber;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ListChangesResponse listChangesResponse = (ListChangesResponse) o;
+    return Objects.equals(this.changes, listChangesResponse.changes) &&
+        Objects.equals(this.nextSequenceNumber, listChangesResponse.nextSequenceNumber);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(changes, nextSequenceNumber);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ListChangesResponse {\n");
+    sb.append("    changes: ").append(toIndentedString(changes)).append("\n");
+    sb.append("    nextSequenceNumber: ").append(toIndentedString(nextSequenceNumber)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
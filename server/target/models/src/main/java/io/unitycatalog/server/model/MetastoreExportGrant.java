@@ -0,0 +1,145 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * MetastoreExportGrant
+ */
+@JsonPropertyOrder({
+  MetastoreExportGrant.JSON_PROPERTY_PRINCIPAL,
+  MetastoreExportGrant.JSON_PROPERTY_PRIVILEGES
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class MetastoreExportGrant {
+  public static final String JSON_PROPERTY_PRINCIPAL = "principal";
+  private String principal;
+
+  public static final String JSON_PROPERTY_PRIVILEGES = "privileges";
+  private List<String> privileges = new ArrayList<>();
+
+  public MetastoreExportGrant() {
+  }
+
+  public MetastoreExportGrant principal(String principal) {
+    
+    this.principal = principal;
+    return this;
+  }
+
+  /**
+   * Email address of the principal.
+   * @return principal
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PRINCIPAL)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getPrincipal() {
+    return principal;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PRINCIPAL)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setPrincipal(String principal) {
+    this.principal = principal;
+  }
+
+  public MetastoreExportGrant privileges(List<String> privileges) {
+    
+    this.privileges = privileges;
+    return this;
+  }
+
+  public MetastoreExportGrant addPrivilegesItem(String privilegesItem) {
+    if (this.privileges == null) {
+      this.privileges = new ArrayList<>();
+    }
+    this.privileges.add(privilegesItem);
+    return this;
+  }
+
+  /**
+   * The privileges of the principal, including __OWNER__ for its owner.
+   * @return privileges
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PRIVILEGES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<String> getPrivileges() {
+    return privileges;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PRIVILEGES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setPrivileges(List<String> privileges) {
+    this.privileges = privileges;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    MetastoreExportGrant metastoreExportGrant = (MetastoreExportGrant) o;
+    return Objects.equals(this.principal, metastoreExportGrant.principal) &&
+        Objects.equals(this.privileges, metastoreExportGrant.privileges);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(principal, privileges);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class MetastoreExportGrant {\n");
+    sb.append("    principal: ").append(toIndentedString(principal)).append("\n");
+    sb.append("    privileges: ").append(toIndentedString(privileges)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
@@ -0,0 +1,371 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.CatalogInfo;
+import io.unitycatalog.server.model.FunctionInfo;
+import io.unitycatalog.server.model.GetMetastoreSummaryResponse;
+import io.unitycatalog.server.model.MetastoreExportGrant;
+import io.unitycatalog.server.model.ModelVersionInfo;
+import io.unitycatalog.server.model.RegisteredModelInfo;
+import io.unitycatalog.server.model.SchemaInfo;
+import io.unitycatalog.server.model.TableInfo;
+import io.unitycatalog.server.model.VolumeInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * One object of a metastore export. Exactly one of the object properties is set. 
+ */
+@JsonPropertyOrder({
+  MetastoreExportRecord.JSON_PROPERTY_METASTORE,
+  MetastoreExportRecord.JSON_PROPERTY_CATALOG,
+  MetastoreExportRecord.JSON_PROPERTY_SCHEMA,
+  MetastoreExportRecord.JSON_PROPERTY_TABLE,
+  MetastoreExportRecord.JSON_PROPERTY_VOLUME,
+  MetastoreExportRecord.JSON_PROPERTY_FUNCTION,
+  MetastoreExportRecord.JSON_PROPERTY_REGISTERED_MODEL,
+  MetastoreExportRecord.JSON_PROPERTY_MODEL_VERSION,
+  MetastoreExportRecord.JSON_PROPERTY_GRANTS
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class MetastoreExportRecord {
+  public static final String JSON_PROPERTY_METASTORE = "metastore";
+  private GetMetastoreSummaryResponse metastore;
+
+  public static final String JSON_PROPERTY_CATALOG = "catalog";
+  private CatalogInfo catalog;
+
+  public static final String JSON_PROPERTY_SCHEMA = "schema";
+  private SchemaInfo schema;
+
+  public static final String JSON_PROPERTY_TABLE = "table";
+  private TableInfo table;
+
+  public static final String JSON_PROPERTY_VOLUME = "volume";
+  private VolumeInfo volume;
+
+  public static final String JSON_PROPERTY_FUNCTION = "function";
+  private FunctionInfo function;
+
+  public static final String JSON_PROPERTY_REGISTERED_MODEL = "registered_model";
+  private RegisteredModelInfo registeredModel;
+
+  public static final String JSON_PROPERTY_MODEL_VERSION = "model_version";
+  private ModelVersionInfo modelVersion;
+
+  public static final String JSON_PROPERTY_GRANTS = "grants";
+  private List<MetastoreExportGrant> grants = new ArrayList<>();
+
+  public MetastoreExportRecord() {
+  }
+
+  public MetastoreExportRecord metastore(GetMetastoreSummaryResponse metastore) {
+    
+    this.metastore = metastore;
+    return this;
+  }
+
+  /**
+   * Get metastore
+   * @return metastore
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_METASTORE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public GetMetastoreSummaryResponse getMetastore() {
+    return metastore;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_METASTORE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setMetastore(GetMetastoreSummaryResponse metastore) {
+    this.metastore = metastore;
+  }
+
+  public MetastoreExportRecord catalog(CatalogInfo catalog) {
+    
+    this.catalog = catalog;
+    return this;
+  }
+
+  /**
+   * Get catalog
+   * @return catalog
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CATALOG)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public CatalogInfo getCatalog() {
+    return catalog;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CATALOG)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setCatalog(CatalogInfo catalog) {
+    this.catalog = catalog;
+  }
+
+  public MetastoreExportRecord schema(SchemaInfo schema) {
+    
+    this.schema = schema;
+    return this;
+  }
+
+  /**
+   * Get schema
+   * @return schema
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SCHEMA)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public SchemaInfo getSchema() {
+    return schema;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SCHEMA)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSchema(SchemaInfo schema) {
+    this.schema = schema;
+  }
+
+  public MetastoreExportRecord table(TableInfo table) {
+    
+    this.table = table;
+    return this;
+  }
+
+  /**
+   * Get table
+   * @return table
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_TABLE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public TableInfo getTable() {
+    return table;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_TABLE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setTable(TableInfo table) {
+    this.table = table;
+  }
+
+  public MetastoreExportRecord volume(VolumeInfo volume) {
+    
+    this.volume = volume;
+    return this;
+  }
+
+  /**
+   * Get volume
+   * @return volume
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_VOLUME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public VolumeInfo getVolume() {
+    return volume;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_VOLUME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setVolume(VolumeInfo volume) {
+    this.volume = volume;
+  }
+
+  public MetastoreExportRecord function(FunctionInfo function) {
+    
+    this.function = function;
+    return this;
+  }
+
+  /**
+   * Get function
+   * @return function
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_FUNCTION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public FunctionInfo getFunction() {
+    return function;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_FUNCTION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setFunction(FunctionInfo function) {
+    this.function = function;
+  }
+
+  public MetastoreExportRecord registeredModel(RegisteredModelInfo registeredModel) {
+    
+    this.registeredModel = registeredModel;
+    return this;
+  }
+
+  /**
+   * Get registeredModel
+   * @return registeredModel
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_REGISTERED_MODEL)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public RegisteredModelInfo getRegisteredModel() {
+    return registeredModel;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_REGISTERED_MODEL)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setRegisteredModel(RegisteredModelInfo registeredModel) {
+    this.registeredModel = registeredModel;
+  }
+
+  public MetastoreExportRecord modelVersion(ModelVersionInfo modelVersion) {
+    
+    this.modelVersion = modelVersion;
+    return this;
+  }
+
+  /**
+   * Get modelVersion
+   * @return modelVersion
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_MODEL_VERSION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public ModelVersionInfo getModelVersion() {
+    return modelVersion;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_MODEL_VERSION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setModelVersion(ModelVersionInfo modelVersion) {
+    this.modelVersion = modelVersion;
+  }
+
+  public MetastoreExportRecord grants(List<MetastoreExportGrant> grants) {
+    
+    this.grants = grants;
+    return this;
+  }
+
+  public MetastoreExportRecord addGrantsItem(MetastoreExportGrant grantsItem) {
+    if (this.grants == null) {
+      this.grants = new ArrayList<>();
+    }
+    this.grants.add(grantsItem);
+    return this;
+  }
+
+  /**
+   * The grants on the object.
+   * @return grants
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_GRANTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public List<MetastoreExportGrant> getGrants() {
+    return grants;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_GRANTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setGrants(List<MetastoreExportGrant> grants) {
+    this.grants = grants;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    MetastoreExportRecord metastoreExportRecord = (MetastoreExportRecord) o;
+    return Objects.equals(this.metastore, metastoreExportRecord.metastore) &&
+        Objects.equals(this.catalog, metastoreExportRecord.catalog) &&
+        Objects.equals(this.schema, metastoreExportRecord.schema) &&
+        Objects.equals(this.table, metastoreExportRecord.table) &&
+        Objects.equals(this.volume, metastoreExportRecord.volume) &&
+        Objects.equals(this.function, metastoreExportRecord.function) &&
+        Objects.equals(this.registeredModel, metastoreExportRecord.registeredModel) &&
+        Objects.equals(this.modelVersion, metastoreExportRecord.modelVersion) &&
+        Objects.equals(this.grants, metastoreExportRecord.grants);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(metastore, catalog, schema, table, volume, function, registeredModel, modelVersion, grants);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class MetastoreExportRecord {\n");
+    sb.append("    metastore: ").append(toIndentedString(metastore)).append("\n");
+    sb.append("    catalog: ").append(toIndentedString(catalog)).append("\n");
+    sb.append("    schema: ").append(toIndentedString(schema)).append("\n");
+    sb.append("    table: ").append(toIndentedString(table)).append("\n");
+    sb.append("    volume: ").append(toIndentedString(volume)).append("\n");
+    sb.append("    function: ").append(toIndentedString(function)).append("\n");
+    sb.append("    registeredModel: ").append(toIndentedString(registeredModel)).append("\n");
+    sb.append("    modelVersion: ").append(toIndentedString(modelVersion)).append("\n");
+    sb.append("    grants: ").append(toIndentedString(grants)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
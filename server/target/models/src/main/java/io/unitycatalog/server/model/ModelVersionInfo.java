@@ -0,0 +1,507 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.ModelVersionStatus;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * ModelVersionInfo
+ */
+@JsonPropertyOrder({
+  ModelVersionInfo.JSON_PROPERTY_MODEL_NAME,
+  ModelVersionInfo.JSON_PROPERTY_CATALOG_NAME,
+  ModelVersionInfo.JSON_PROPERTY_SCHEMA_NAME,
+  ModelVersionInfo.JSON_PROPERTY_VERSION,
+  ModelVersionInfo.JSON_PROPERTY_SOURCE,
+  ModelVersionInfo.JSON_PROPERTY_RUN_ID,
+  ModelVersionInfo.JSON_PROPERTY_STATUS,
+  ModelVersionInfo.JSON_PROPERTY_STORAGE_LOCATION,
+  ModelVersionInfo.JSON_PROPERTY_COMMENT,
+  ModelVersionInfo.JSON_PROPERTY_CREATED_AT,
+  ModelVersionInfo.JSON_PROPERTY_CREATED_BY,
+  ModelVersionInfo.JSON_PROPERTY_UPDATED_AT,
+  ModelVersionInfo.JSON_PROPERTY_UPDATED_BY,
+  ModelVersionInfo.JSON_PROPERTY_ID
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class ModelVersionInfo {
+  public static final String JSON_PROPERTY_MODEL_NAME = "model_name";
+  private String modelName;
+
+  public static final String JSON_PROPERTY_CATALOG_NAME = "catalog_name";
+  private String catalogName;
+
+  public static final String JSON_PROPERTY_SCHEMA_NAME = "schema_name";
+  private String schemaName;
+
+  public static final String JSON_PROPERTY_VERSION = "version";
+  private Long version;
+
+  public static final String JSON_PROPERTY_SOURCE = "source";
+  private String source;
+
+  public static final String JSON_PROPERTY_RUN_ID = "run_id";
+  private String runId;
+
+  public static final String JSON_PROPERTY_STATUS = "status";
+  private ModelVersionStatus status;
+
+  public static final String JSON_PROPERTY_STORAGE_LOCATION = "storage_location";
+  private String storageLocation;
+
+  public static final String JSON_PROPERTY_COMMENT = "comment";
+  private String comment;
+
+  public static final String JSON_PROPERTY_CREATED_AT = "created_at";
+  private Long createdAt;
+
+  public static final String JSON_PROPERTY_CREATED_BY = "created_by";
+  private String createdBy;
+
+  public static final String JSON_PROPERTY_UPDATED_AT = "updated_at";
+  private Long updatedAt;
+
+  public static final String JSON_PROPERTY_UPDATED_BY = "updated_by";
+  private String updatedBy;
+
+  public static final String JSON_PROPERTY_ID = "id";
+  private String id;
+
+  public ModelVersionInfo() {
+  }
+
+  public ModelVersionInfo modelName(String modelName) {
+    
+    this.modelName = modelName;
+    return this;
+  }
+
+  /**
+   * The name of the parent registered model of the model version, relative to parent schema
+   * @return modelName
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_MODEL_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getModelName() {
+    return modelName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_MODEL_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setModelName(String modelName) {
+    this.modelName = modelName;
+  }
+
+  public ModelVersionInfo catalogName(String catalogName) {
+    
+    this.catalogName = catalogName;
+    return this;
+  }
+
+  /**
+   * The name of the catalog containing the model version
+   * @return catalogName
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CATALOG_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getCatalogName() {
+    return catalogName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CATALOG_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setCatalogName(String catalogName) {
+    this.catalogName = catalogName;
+  }
+
+  public ModelVersionInfo schemaName(String schemaName) {
+    
+    this.schemaName = schemaName;
+    return this;
+  }
+
+  /**
+   * The name of the schema containing the model version, relative to parent catalog
+   * @return schemaName
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SCHEMA_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getSchemaName() {
+    return schemaName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SCHEMA_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSchemaName(String schemaName) {
+    this.schemaName = schemaName;
+  }
+
+  public ModelVersionInfo version(Long version) {
+    
+    this.version = version;
+    return this;
+  }
+
+  /**
+   * Integer model version number, used to reference the model version in API requests.
+   * @return version
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_VERSION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getVersion() {
+    return version;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_VERSION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
+  public ModelVersionInfo source(String source) {
+    
+    this.source = source;
+    return this;
+  }
+
+  /**
+   * URI indicating the location of the source artifacts (files) for the model version
+   * @return source
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SOURCE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getSource() {
+    return source;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SOURCE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSource(String source) {
+    this.source = source;
+  }
+
+  public ModelVersionInfo runId(String runId) {
+    
+    this.runId = runId;
+    return this;
+  }
+
+  /**
+   * The run id used by the ML package that generated the model.
+   * @return runId
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_RUN_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getRunId() {
+    return runId;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_RUN_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setRunId(String runId) {
+    this.runId = runId;
+  }
+
+  public ModelVersionInfo status(ModelVersionStatus status) {
+    
+    this.status = status;
+    return this;
+  }
+
+  /**
+   * Get status
+   * @return status
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_STATUS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public ModelVersionStatus getStatus() {
+    return status;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_STATUS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setStatus(ModelVersionStatus status) {
+    this.status = status;
+  }
+
+  public ModelVersionInfo storageLocation(String storageLocation) {
+    
+    this.storageLocation = storageLocation;
+    return this;
+  }
+
+  /**
+   * The storage location on the cloud under which model version data files are stored
+   * @return storageLocation
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_STORAGE_LOCATION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getStorageLocation() {
+    return storageLocation;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_STORAGE_LOCATION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setStorageLocation(String storageLocation) {
+    this.storageLocation = storageLocation;
+  }
+
+  public ModelVersionInfo comment(String comment) {
+    
+    this.comment = comment;
+    return this;
+  }
+
+  /**
+   * The comment attached to the model version
+   * @return comment
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_COMMENT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getComment() {
+    return comment;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_COMMENT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setComment(String comment) {
+    this.comment = comment;
+  }
+
+  public ModelVersionInfo createdAt(Long createdAt) {
+    
+    this.createdAt = createdAt;
+    return this;
+  }
+
+  /**
+   * Time at which this model version was created, in epoch milliseconds.
+   * @return createdAt
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CREATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getCreatedAt() {
+    return createdAt;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CREATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setCreatedAt(Long createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public ModelVersionInfo createdBy(String createdBy) {
+    
+    this.createdBy = createdBy;
+    return this;
+  }
+
+  /**
+   * The identifier of the user who created the model version
+   * @return createdBy
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CREATED_BY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getCreatedBy() {
+    return createdBy;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CREATED_BY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setCreatedBy(String createdBy) {
+    this.createdBy = createdBy;
+  }
+
+  public ModelVersionInfo updatedAt(Long updatedAt) {
+    
+    this.updatedAt = updatedAt;
+    return this;
+  }
+
+  /**
+   * Time at which this model version was last modified, in epoch milliseconds.
+   * @return updatedAt
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_UPDATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getUpdatedAt() {
+    return updatedAt;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_UPDATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setUpdatedAt(Long updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+
+  public ModelVersionInfo updatedBy(String updatedBy) {
+    
+    this.updatedBy = updatedBy;
+    return this;
+  }
+
+  /**
+   * The identifier of the user who updated the model version last time
+   * @return updatedBy
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_UPDATED_BY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getUpdatedBy() {
+    return updatedBy;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_UPDATED_BY)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setUpdatedBy(String updatedBy) {
+    this.updatedBy = updatedBy;
+  }
+
+  public ModelVersionInfo id(String id) {
+    
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Unique identifier for the model version.
+   * @return id
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public String getId() {
+    return id;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ModelVersionInfo modelVersionInfo = (ModelVersionInfo) o;
+    return Objects.equals(this.modelName, modelVersionInfo.modelName) &&
+        Objects.equals(this.catalogName, modelVersionInfo.catalogName) &&
+        Objects.equals(this.schemaName, modelVersionInfo.schemaName) &&
+        Objects.equals(this.version, modelVersionInfo.version) &&
+        Objects.equals(this.source, modelVersionInfo.source) &&
+        Objects.equals(this.runId, modelVersionInfo.runId) &&
+        Objects.equals(this.status, modelVersionInfo.status) &&
+        Objects.equals(this.storageLocation, modelVersionInfo.storageLocation) &&
+        Objects.equals(this.comment, modelVersionInfo.comment) &&
+        Objects.equals(this.createdAt, modelVersionInfo.createdAt) &&
+        Objects.equals(this.createdBy, modelVersionInfo.createdBy) &&
+        Objects.equals(this.updatedAt, modelVersionInfo.updatedAt) &&
+        Objects.equals(this.updatedBy, modelVersionInfo.updatedBy) &&
+        Objects.equals(this.id, modelVersionInfo.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(modelName, catalogName, schemaName, version, source, runId, status, storageLocation, comment, createdAt, createdBy, updatedAt, updatedBy, id);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ModelVersionInfo {\n");
+    sb.append("    modelName: ").append(toIndentedString(modelName)).append("\n");
+    sb.append("    catalogName: ").append(toIndentedString(catalogName)).append("\n");
+    sb.append("    schemaName: ").append(toIndentedString(schemaName)).append("\n");
+    sb.append("    version: ").append(toIndentedString(version)).append("\n");
+    sb.append("    source: ").append(toIndentedString(source)).append("\n");
+    sb.append("    runId: ").append(toIndentedString(runId)).append("\n");
+    sb.append("    status: ").append(toIndentedString(status)).append("\n");
+    sb.append("    storageLocation: ").append(toIndentedString(storageLocation)).append("\n");
+    sb.append("    comment: ").append(toIndentedString(comment)).append("\n");
+    sb.append("    createdAt: ").append(toIndentedString(createdAt)).append("\n");
+    sb.append("    createdBy: ").append(toIndentedString(createdBy)).append("\n");
+    sb.append("    updatedAt: ").append(toIndentedString(updatedAt)).append("\n");
+    sb.append("    updatedBy: ").append(toIndentedString(updatedBy)).append("\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
@@ -0,0 +1,61 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Gets or Sets ModelVersionOperation
+ */
+public enum ModelVersionOperation {
+  
+  UNKNOWN_MODEL_VERSION_OPERATION("UNKNOWN_MODEL_VERSION_OPERATION"),
+  
+  READ_MODEL_VERSION("READ_MODEL_VERSION"),
+  
+  READ_WRITE_MODEL_VERSION("READ_WRITE_MODEL_VERSION");
+
+  private String value;
+
+  ModelVersionOperation(String value) {
+    this.value = value;
+  }
+
+  @JsonValue
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  @JsonCreator
+  public static ModelVersionOperation fromValue(String value) {
+    for (ModelVersionOperation b : ModelVersionOperation.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+}
+
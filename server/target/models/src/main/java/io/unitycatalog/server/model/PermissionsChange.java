@@ -0,0 +1,185 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.Privilege;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * PermissionsChange
+ */
+@JsonPropertyOrder({
+  PermissionsChange.JSON_PROPERTY_PRINCIPAL,
+  PermissionsChange.JSON_PROPERTY_ADD,
+  PermissionsChange.JSON_PROPERTY_REMOVE
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class PermissionsChange {
+  public static final String JSON_PROPERTY_PRINCIPAL = "principal";
+  private String principal;
+
+  public static final String JSON_PROPERTY_ADD = "add";
+  private List<Privilege> add = new ArrayList<>();
+
+  public static final String JSON_PROPERTY_REMOVE = "remove";
+  private List<Privilege> remove = new ArrayList<>();
+
+  public PermissionsChange() {
+  }
+
+  public PermissionsChange principal(String principal) {
+    
+    this.principal = principal;
+    return this;
+  }
+
+  /**
+   * The principal whose privileges we are changing.
+   * @return principal
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_PRINCIPAL)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public String getPrincipal() {
+    return principal;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PRINCIPAL)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setPrincipal(String principal) {
+    this.principal = principal;
+  }
+
+  public PermissionsChange add(List<Privilege> add) {
+    
+    this.add = add;
+    return this;
+  }
+
+  public PermissionsChange addAddItem(Privilege addItem) {
+    if (this.add == null) {
+      this.add = new ArrayList<>();
+    }
+    this.add.add(addItem);
+    return this;
+  }
+
+  /**
+   * The set of privileges to add.
+   * @return add
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_ADD)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public List<Privilege> getAdd() {
+    return add;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ADD)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setAdd(List<Privilege> add) {
+    this.add = add;
+  }
+
+  public PermissionsChange remove(List<Privilege> remove) {
+    
+    this.remove = remove;
+    return this;
+  }
+
+  public PermissionsChange addRemoveItem(Privilege removeItem) {
+    if (this.remove == null) {
+      this.remove = new ArrayList<>();
+    }
+    this.remove.add(removeItem);
+    return this;
+  }
+
+  /**
+   * The set of privileges to remove.
+   * @return remove
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_REMOVE)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public List<Privilege> getRemove() {
+    return remove;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_REMOVE)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setRemove(List<Privilege> remove) {
+    this.remove = remove;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PermissionsChange permissionsChange = (PermissionsChange) o;
+    return Objects.equals(this.principal, permissionsChange.principal) &&
+        Objects.equals(this.add, permissionsChange.add) &&
+        Objects.equals(this.remove, permissionsChange.remove);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(principal, add, remove);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PermissionsChange {\n");
+    sb.append("    principal: ").append(toIndentedString(principal)).append("\n");
+    sb.append("    add: ").append(toIndentedString(add)).append("\n");
+    sb.append("    remove: ").append(toIndentedString(remove)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
@@ -0,0 +1,115 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.PrivilegeAssignment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * PermissionsList
+ */
+@JsonPropertyOrder({
+  PermissionsList.JSON_PROPERTY_PRIVILEGE_ASSIGNMENTS
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class PermissionsList {
+  public static final String JSON_PROPERTY_PRIVILEGE_ASSIGNMENTS = "privilege_assignments";
+  private List<PrivilegeAssignment> privilegeAssignments = new ArrayList<>();
+
+  public PermissionsList() {
+  }
+
+  public PermissionsList privilegeAssignments(List<PrivilegeAssignment> privilegeAssignments) {
+    
+    this.privilegeAssignments = privilegeAssignments;
+    return this;
+  }
+
+  public PermissionsList addPrivilegeAssignmentsItem(PrivilegeAssignment privilegeAssignmentsItem) {
+    if (this.privilegeAssignments == null) {
+      this.privilegeAssignments = new ArrayList<>();
+    }
+    this.privilegeAssignments.add(privilegeAssignmentsItem);
+    return this;
+  }
+
+  /**
+   * The privileges assigned to each principal.
+   * @return privilegeAssignments
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_PRIVILEGE_ASSIGNMENTS)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+
+  public List<PrivilegeAssignment> getPrivilegeAssignments() {
+    return privilegeAssignments;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PRIVILEGE_ASSIGNMENTS)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setPrivilegeAssignments(List<PrivilegeAssignment> privilegeAssignments) {
+    this.privilegeAssignments = privilegeAssignments;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PermissionsList permissionsList = (PermissionsList) o;
+    return Objects.equals(this.privilegeAssignments, permissionsList.privilegeAssignments);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(privilegeAssignments);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PermissionsList {\n");
+    sb.append("    privilegeAssignments: ").append(toIndentedString(privilegeAssignments)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
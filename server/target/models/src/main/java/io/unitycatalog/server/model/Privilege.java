@@ -0,0 +1,79 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * The privilege to grant.
+ */
+public enum Privilege {
+  
+  CREATE_CATALOG("CREATE CATALOG"),
+  
+  USE_CATALOG("USE CATALOG"),
+  
+  CREATE_SCHEMA("CREATE SCHEMA"),
+  
+  USE_SCHEMA("USE SCHEMA"),
+  
+  CREATE_TABLE("CREATE TABLE"),
+  
+  SELECT("SELECT"),
+  
+  MODIFY("MODIFY"),
+  
+  CREATE_FUNCTION("CREATE FUNCTION"),
+  
+  EXECUTE("EXECUTE"),
+  
+  CREATE_VOLUME("CREATE VOLUME"),
+  
+  READ_VOLUME("READ VOLUME"),
+  
+  CREATE_MODEL("CREATE MODEL");
+
+  private String value;
+
+  Privilege(String value) {
+    this.value = value;
+  }
+
+  @JsonValue
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  @JsonCreator
+  public static Privilege fromValue(String value) {
+    for (Privilege b : Privilege.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+}
+
@@ -0,0 +1,199 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.server.model;
+
+import java.util.Objects;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.server.model.AwsCredentials;
+import io.unitycatalog.server.model.AzureUserDelegationSAS;
+import io.unitycatalog.server.model.GcpOauthToken;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * TemporaryCredentials
+ */
+@JsonPropertyOrder({
+  TemporaryCredentials.JSON_PROPERTY_AWS_TEMP_CREDENTIALS,
+  TemporaryCredentials.JSON_PROPERTY_AZURE_USER_DELEGATION_SAS,
+  TemporaryCredentials.JSON_PROPERTY_GCP_OAUTH_TOKEN,
+  TemporaryCredentials.JSON_PROPERTY_EXPIRATION_TIME
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class TemporaryCredentials {
+  public static final String JSON_PROPERTY_AWS_TEMP_CREDENTIALS = "aws_temp_credentials";
+  private AwsCredentials awsTempCredentials;
+
+  public static final String JSON_PROPERTY_AZURE_USER_DELEGATION_SAS = "azure_user_delegation_sas";
+  private AzureUserDelegationSAS azureUserDelegationSas;
+
+  public static final String JSON_PROPERTY_GCP_OAUTH_TOKEN = "gcp_oauth_token";
+  private GcpOauthToken gcpOauthToken;
+
+  public static final String JSON_PROPERTY_EXPIRATION_TIME = "expiration_time";
+  private Long expirationTime;
+
+  public TemporaryCredentials() {
+  }
+
+  public TemporaryCredentials awsTempCredentials(AwsCredentials awsTempCredentials) {
+    
+    this.awsTempCredentials = awsTempCredentials;
+    return this;
+  }
+
+  /**
+   * Get awsTempCredentials
+   * @return awsTempCredentials
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_AWS_TEMP_CREDENTIALS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public AwsCredentials getAwsTempCredentials() {
+    return awsTempCredentials;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_AWS_TEMP_CREDENTIALS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setAwsTempCredentials(AwsCredentials awsTempCredentials) {
+    this.awsTempCredentials = awsTempCredentials;
+  }
+
+  public TemporaryCredentials azureUserDelegationSas(AzureUserDelegationSAS azureUserDelegationSas) {
+    
+    this.azureUserDelegationSas = azureUserDelegationSas;
+    return this;
+  }
+
+  /**
+   * Get azureUserDelegationSas
+   * @return azureUserDelegationSas
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_AZURE_USER_DELEGATION_SAS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public AzureUserDelegationSAS getAzureUserDelegationSas() {
+    return azureUserDelegationSas;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_AZURE_USER_DELEGATION_SAS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setAzureUserDelegationSas(AzureUserDelegationSAS azureUserDelegationSas) {
+    this.azureUserDelegationSas = azureUserDelegationSas;
+  }
+
+  public TemporaryCredentials gcpOauthToken(GcpOauthToken gcpOauthToken) {
+    
+    this.gcpOauthToken = gcpOauthToken;
+    return this;
+  }
+
+  /**
+   * Get gcpOauthToken
+   * @return gcpOauthToken
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_GCP_OAUTH_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public GcpOauthToken getGcpOauthToken() {
+    return gcpOauthToken;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_GCP_OAUTH_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setGcpOauthToken(GcpOauthToken gcpOauthToken) {
+    this.gcpOauthToken = gcpOauthToken;
+  }
+
+  public TemporaryCredentials expirationTime(Long expirationTime) {
+    
+    this.expirationTime = expirationTime;
+    return this;
+  }
+
+  /**
+   * Server time when the credential will expire, in epoch milliseconds. The API client is advised to cache the credential given this expiration time. 
+   * @return expirationTime
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_EXPIRATION_TIME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+
+  public Long getExpirationTime() {
+    return expirationTime;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_EXPIRATION_TIME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setExpirationTime(Long expirationTime) {
+    this.expirationTime = expirationTime;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    TemporaryCredentials temporaryCredentials = (TemporaryCredentials) o;
+    return Objects.equals(this.awsTempCredentials, temporaryCredentials.awsTempCredentials) &&
+        Objects.equals(this.azureUserDelegationSas, temporaryCredentials.azureUserDelegationSas) &&
+        Objects.equals(this.gcpOauthToken, temporaryCredentials.gcpOauthToken) &&
+        Objects.equals(this.expirationTime, temporaryCredentials.expirationTime);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(awsTempCredentials, azureUserDelegationSas, gcpOauthToken, expirationTime);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class TemporaryCredentials {\n");
+    sb.append("    awsTempCredentials: ").append(toIndentedString(awsTempCredentials)).append("\n");
+    sb.append("    azureUserDelegationSas: ").append(toIndentedString(azureUserDelegationSas)).append("\n");
+    sb.append("    gcpOauthToken: ").append(toIndentedString(gcpOauthToken)).append("\n");
+    sb.append("    expirationTime: ").append(toIndentedString(expirationTime)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+}
+
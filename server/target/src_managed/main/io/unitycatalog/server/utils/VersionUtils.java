@@ -0,0 +1,5 @@
+package io.unitycatalog.server.utils;
+
+public class VersionUtils {
+  public static String VERSION = "0.3.0-SNAPSHOT";
+}
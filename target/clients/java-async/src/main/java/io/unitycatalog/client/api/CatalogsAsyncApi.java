@@ -0,0 +1,583 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package io.unitycatalog.client.api;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.ApiResponse;
+import io.unitycatalog.client.Pair;
+
+import io.unitycatalog.client.model.CatalogInfo;
+import io.unitycatalog.client.model.CreateCatalog;
+import io.unitycatalog.client.model.ListCatalogsResponse;
+import io.unitycatalog.client.model.UpdateCatalog;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import java.util.concurrent.CompletableFuture;
+
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class CatalogsAsyncApi {
+  private final HttpClient memberVarHttpClient;
+  private final ObjectMapper memberVarObjectMapper;
+  private final String memberVarBaseUri;
+  private final Consumer<HttpRequest.Builder> memberVarInterceptor;
+  private final Duration memberVarReadTimeout;
+  private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+
+  public CatalogsAsyncApi() {
+    this(new ApiClient());
+  }
+
+  public CatalogsAsyncApi(ApiClient apiClient) {
+    memberVarHttpClient = apiClient.getHttpClient();
+    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarBaseUri = apiClient.getBaseUri();
+    memberVarInterceptor = apiClient.getRequestInterceptor();
+    memberVarReadTimeout = apiClient.getReadTimeout();
+    memberVarResponseInterceptor = apiClient.getResponseInterceptor();
+  }
+
+  private ApiException getApiException(String operationId, HttpResponse<byte[]> response) {
+    String body = response.body() == null ? null : new String(response.body(), StandardCharsets.UTF_8);
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  private String formatExceptionMessage(String operationId, int statusCode, String body) {
+    if (body == null || body.isEmpty()) {
+      body = "[no body]";
+    }
+    return operationId + " call failed with: " + statusCode + " - " + body;
+  }
+
+  /**
+   * Create a catalog
+   * Creates a new catalog instance. 
+   * @param createCatalog  (optional)
+   * @return CompletableFuture&lt;CatalogInfo&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<CatalogInfo> createCatalog(CreateCatalog createCatalog) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = createCatalogRequestBuilder(createCatalog);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("createCatalog", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<CatalogInfo>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Create a catalog
+   * Creates a new catalog instance. 
+   * @param createCatalog  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;CatalogInfo&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<CatalogInfo>> createCatalogWithHttpInfo(CreateCatalog createCatalog) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = createCatalogRequestBuilder(createCatalog);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("createCatalog", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<CatalogInfo>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<CatalogInfo>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder createCatalogRequestBuilder(CreateCatalog createCatalog) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/catalogs";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(createCatalog);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Delete a catalog
+   * Deletes the catalog that matches the supplied name. 
+   * @param name The name of the catalog. (required)
+   * @param force Force deletion even if the catalog is not empty. (optional)
+   * @return CompletableFuture&lt;Object&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<Object> deleteCatalog(String name, Boolean force) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = deleteCatalogRequestBuilder(name, force);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("deleteCatalog", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Object>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Delete a catalog
+   * Deletes the catalog that matches the supplied name. 
+   * @param name The name of the catalog. (required)
+   * @param force Force deletion even if the catalog is not empty. (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;Object&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Object>> deleteCatalogWithHttpInfo(String name, Boolean force) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = deleteCatalogRequestBuilder(name, force);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("deleteCatalog", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Object>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Object>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder deleteCatalogRequestBuilder(String name, Boolean force) throws ApiException {
+    // verify the required parameter 'name' is set
+    if (name == null) {
+      throw new ApiException(400, "Missing the required parameter 'name' when calling deleteCatalog");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/catalogs/{name}"
+        .replace("{name}", ApiClient.urlEncode(name.toString()));
+
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    StringJoiner localVarQueryStringJoiner = new StringJoiner("&");
+    String localVarQueryParameterBaseName;
+    localVarQueryParameterBaseName = "force";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("force", force));
+
+    if (!localVarQueryParams.isEmpty() || localVarQueryStringJoiner.length() != 0) {
+      StringJoiner queryJoiner = new StringJoiner("&");
+      localVarQueryParams.forEach(p -> queryJoiner.add(p.getName() + '=' + p.getValue()));
+      if (localVarQueryStringJoiner.length() != 0) {
+        queryJoiner.add(localVarQueryStringJoiner.toString());
+      }
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath + '?' + queryJoiner.toString()));
+    } else {
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+    }
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("DELETE", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Get a catalog
+   * Gets the specified catalog. 
+   * @param name The name of the catalog. (required)
+   * @return CompletableFuture&lt;CatalogInfo&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<CatalogInfo> getCatalog(String name) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = getCatalogRequestBuilder(name);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("getCatalog", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<CatalogInfo>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Get a catalog
+   * Gets the specified catalog. 
+   * @param name The name of the catalog. (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;CatalogInfo&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<CatalogInfo>> getCatalogWithHttpInfo(String name) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = getCatalogRequestBuilder(name);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("getCatalog", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<CatalogInfo>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<CatalogInfo>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder getCatalogRequestBuilder(String name) throws ApiException {
+    // verify the required parameter 'name' is set
+    if (name == null) {
+      throw new ApiException(400, "Missing the required parameter 'name' when calling getCatalog");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/catalogs/{name}"
+        .replace("{name}", ApiClient.urlEncode(name.toString()));
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * List catalogs
+   * Lists the available catalogs. There is no guarantee of a specific ordering of the elements in the list. 
+   * @param pageToken Opaque pagination token to go to next page based on previous query.  (optional)
+   * @param maxResults Maximum number of catalogs to return. - when set to a value greater than 0, the page length is the minimum of this value and a server configured value; - when set to 0, the page length is set to a server configured value; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @return CompletableFuture&lt;ListCatalogsResponse&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ListCatalogsResponse> listCatalogs(String pageToken, Integer maxResults) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = listCatalogsRequestBuilder(pageToken, maxResults);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("listCatalogs", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ListCatalogsResponse>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * List catalogs
+   * Lists the available catalogs. There is no guarantee of a specific ordering of the elements in the list. 
+   * @param pageToken Opaque pagination token to go to next page based on previous query.  (optional)
+   * @param maxResults Maximum number of catalogs to return. - when set to a value greater than 0, the page length is the minimum of this value and a server configured value; - when set to 0, the page length is set to a server configured value; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;ListCatalogsResponse&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<ListCatalogsResponse>> listCatalogsWithHttpInfo(String pageToken, Integer maxResults) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = listCatalogsRequestBuilder(pageToken, maxResults);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("listCatalogs", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<ListCatalogsResponse>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ListCatalogsResponse>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder listCatalogsRequestBuilder(String pageToken, Integer maxResults) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/catalogs";
+
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    StringJoiner localVarQueryStringJoiner = new StringJoiner("&");
+    String localVarQueryParameterBaseName;
+    localVarQueryParameterBaseName = "page_token";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("page_token", pageToken));
+    localVarQueryParameterBaseName = "max_results";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("max_results", maxResults));
+
+    if (!localVarQueryParams.isEmpty() || localVarQueryStringJoiner.length() != 0) {
+      StringJoiner queryJoiner = new StringJoiner("&");
+      localVarQueryParams.forEach(p -> queryJoiner.add(p.getName() + '=' + p.getValue()));
+      if (localVarQueryStringJoiner.length() != 0) {
+        queryJoiner.add(localVarQueryStringJoiner.toString());
+      }
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath + '?' + queryJoiner.toString()));
+    } else {
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+    }
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Update a catalog
+   * Updates the catalog that matches the supplied name. 
+   * @param name The name of the catalog. (required)
+   * @param updateCatalog  (optional)
+   * @return CompletableFuture&lt;CatalogInfo&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<CatalogInfo> updateCatalog(String name, UpdateCatalog updateCatalog) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = updateCatalogRequestBuilder(name, updateCatalog);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("updateCatalog", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<CatalogInfo>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Update a catalog
+   * Updates the catalog that matches the supplied name. 
+   * @param name The name of the catalog. (required)
+   * @param updateCatalog  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;CatalogInfo&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<CatalogInfo>> updateCatalogWithHttpInfo(String name, UpdateCatalog updateCatalog) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = updateCatalogRequestBuilder(name, updateCatalog);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("updateCatalog", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<CatalogInfo>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<CatalogInfo>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder updateCatalogRequestBuilder(String name, UpdateCatalog updateCatalog) throws ApiException {
+    // verify the required parameter 'name' is set
+    if (name == null) {
+      throw new ApiException(400, "Missing the required parameter 'name' when calling updateCatalog");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/catalogs/{name}"
+        .replace("{name}", ApiClient.urlEncode(name.toString()));
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(updateCatalog);
+      localVarRequestBuilder.method("PATCH", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package io.unitycatalog.client.api;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.ApiResponse;
+import io.unitycatalog.client.Pair;
+
+import io.unitycatalog.client.model.ListChangesResponse;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import java.util.concurrent.CompletableFuture;
+
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class ChangesAsyncApi {
+  private final HttpClient memberVarHttpClient;
+  private final ObjectMapper memberVarObjectMapper;
+  private final String memberVarBaseUri;
+  private final Consumer<HttpRequest.Builder> memberVarInterceptor;
+  private final Duration memberVarReadTimeout;
+  private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+
+  public ChangesAsyncApi() {
+    this(new ApiClient());
+  }
+
+  public ChangesAsyncApi(ApiClient apiClient) {
+    memberVarHttpClient = apiClient.getHttpClient();
+    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarBaseUri = apiClient.getBaseUri();
+    memberVarInterceptor = apiClient.getRequestInterceptor();
+    memberVarReadTimeout = apiClient.getReadTimeout();
+    memberVarResponseInterceptor = apiClient.getResponseInterceptor();
+  }
+
+  private ApiException getApiException(String operationId, HttpResponse<byte[]> response) {
+    String body = response.body() == null ? null : new String(response.body(), StandardCharsets.UTF_8);
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  private String formatExceptionMessage(String operationId, int statusCode, String body) {
+    if (body == null || body.isEmpty()) {
+      body = "[no body]";
+    }
+    return operationId + " call failed with: " + statusCode + " - " + body;
+  }
+
+  /**
+   * List changes
+   * Lists the metadata changes committed after a given sequence number, in commit order. Every create, update and delete of a catalog, schema, table, volume, function or registered model, and every permission update, is recorded. A change to a catalog or schema also affects the full names of the securables under it.  The same changes are available as a stream of server-sent events at __/changes/stream__, which resumes after the __since__ query parameter or the __Last-Event-ID__ header.  Reading changes requires ownership of, or __USE CATALOG__ on, the metastore. The log is best effort: a change whose transaction takes more than a few seconds to commit may be skipped by clients that have already read past it, so cached metadata should still expire eventually. 
+   * @param since Only changes with a sequence number greater than this value are returned. Pass the __next_sequence_number__ of the previous response to continue from where it left off. Defaults to 0, i.e. the start of the change log.  (optional)
+   * @param maxResults Maximum number of changes to return. - when set to a value greater than 0, the page length is the minimum of this value and a server configured value; - when set to 0, the page length is set to a server configured value; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @param timeoutMs When there are no changes yet, wait up to this many milliseconds for one to be committed before returning an empty list (long polling). The wait is capped by the server. Defaults to 0, i.e. return immediately.  (optional)
+   * @return CompletableFuture&lt;ListChangesResponse&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ListChangesResponse> listChanges(Long since, Integer maxResults, Integer timeoutMs) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = listChangesRequestBuilder(since, maxResults, timeoutMs);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("listChanges", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ListChangesResponse>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * List changes
+   * Lists the metadata changes committed after a given sequence number, in commit order. Every create, update and delete of a catalog, schema, table, volume, function or registered model, and every permission update, is recorded. A change to a catalog or schema also affects the full names of the securables under it.  The same changes are available as a stream of server-sent events at __/changes/stream__, which resumes after the __since__ query parameter or the __Last-Event-ID__ header.  Reading changes requires ownership of, or __USE CATALOG__ on, the metastore. The log is best effort: a change whose transaction takes more than a few seconds to commit may be skipped by clients that have already read past it, so cached metadata should still expire eventually. 
+   * @param since Only changes with a sequence number greater than this value are returned. Pass the __next_sequence_number__ of the previous response to continue from where it left off. Defaults to 0, i.e. the start of the change log.  (optional)
+   * @param maxResults Maximum number of changes to return. - when set to a value greater than 0, the page length is the minimum of this value and a server configured value; - when set to 0, the page length is set to a server configured value; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @param timeoutMs When there are no changes yet, wait up to this many milliseconds for one to be committed before returning an empty list (long polling). The wait is capped by the server. Defaults to 0, i.e. return immediately.  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;ListChangesResponse&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<ListChangesResponse>> listChangesWithHttpInfo(Long since, Integer maxResults, Integer timeoutMs) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = listChangesRequestBuilder(since, maxResults, timeoutMs);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("listChanges", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<ListChangesResponse>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ListChangesResponse>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder listChangesRequestBuilder(Long since, Integer maxResults, Integer timeoutMs) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/changes";
+
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    StringJoiner localVarQueryStringJoiner = new StringJoiner("&");
+    String localVarQueryParameterBaseName;
+    localVarQueryParameterBaseName = "since";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("since", since));
+    localVarQueryParameterBaseName = "max_results";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("max_results", maxResults));
+    localVarQueryParameterBaseName = "timeout_ms";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("timeout_ms", timeoutMs));
+
+    if (!localVarQueryParams.isEmpty() || localVarQueryStringJoiner.length() != 0) {
+      StringJoiner queryJoiner = new StringJoiner("&");
+      localVarQueryParams.forEach(p -> queryJoiner.add(p.getName() + '=' + p.getValue()));
+      if (localVarQueryStringJoiner.length() != 0) {
+        queryJoiner.add(localVarQueryStringJoiner.toString());
+      }
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath + '?' + queryJoiner.toString()));
+    } else {
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+    }
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+}
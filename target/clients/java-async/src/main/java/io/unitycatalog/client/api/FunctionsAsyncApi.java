@@ -0,0 +1,482 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package io.unitycatalog.client.api;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.ApiResponse;
+import io.unitycatalog.client.Pair;
+
+import io.unitycatalog.client.model.CreateFunctionRequest;
+import io.unitycatalog.client.model.FunctionInfo;
+import io.unitycatalog.client.model.ListFunctionsResponse;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import java.util.concurrent.CompletableFuture;
+
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class FunctionsAsyncApi {
+  private final HttpClient memberVarHttpClient;
+  private final ObjectMapper memberVarObjectMapper;
+  private final String memberVarBaseUri;
+  private final Consumer<HttpRequest.Builder> memberVarInterceptor;
+  private final Duration memberVarReadTimeout;
+  private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+
+  public FunctionsAsyncApi() {
+    this(new ApiClient());
+  }
+
+  public FunctionsAsyncApi(ApiClient apiClient) {
+    memberVarHttpClient = apiClient.getHttpClient();
+    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarBaseUri = apiClient.getBaseUri();
+    memberVarInterceptor = apiClient.getRequestInterceptor();
+    memberVarReadTimeout = apiClient.getReadTimeout();
+    memberVarResponseInterceptor = apiClient.getResponseInterceptor();
+  }
+
+  private ApiException getApiException(String operationId, HttpResponse<byte[]> response) {
+    String body = response.body() == null ? null : new String(response.body(), StandardCharsets.UTF_8);
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  private String formatExceptionMessage(String operationId, int statusCode, String body) {
+    if (body == null || body.isEmpty()) {
+      body = "[no body]";
+    }
+    return operationId + " call failed with: " + statusCode + " - " + body;
+  }
+
+  /**
+   * Create a function. WARNING: This API is experimental and will change in future versions. 
+   * Creates a new function instance. WARNING: This API is experimental and will change in future versions. 
+   * @param createFunctionRequest  (optional)
+   * @return CompletableFuture&lt;FunctionInfo&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<FunctionInfo> createFunction(CreateFunctionRequest createFunctionRequest) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = createFunctionRequestBuilder(createFunctionRequest);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("createFunction", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<FunctionInfo>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Create a function. WARNING: This API is experimental and will change in future versions. 
+   * Creates a new function instance. WARNING: This API is experimental and will change in future versions. 
+   * @param createFunctionRequest  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;FunctionInfo&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<FunctionInfo>> createFunctionWithHttpInfo(CreateFunctionRequest createFunctionRequest) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = createFunctionRequestBuilder(createFunctionRequest);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("createFunction", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<FunctionInfo>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<FunctionInfo>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder createFunctionRequestBuilder(CreateFunctionRequest createFunctionRequest) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/functions";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(createFunctionRequest);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Delete a function
+   * Deletes the function that matches the supplied name.
+   * @param name The fully-qualified name of the function (of the form __catalog_name__.__schema_name__.__function__name__). (required)
+   * @return CompletableFuture&lt;Object&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<Object> deleteFunction(String name) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = deleteFunctionRequestBuilder(name);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("deleteFunction", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Object>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Delete a function
+   * Deletes the function that matches the supplied name.
+   * @param name The fully-qualified name of the function (of the form __catalog_name__.__schema_name__.__function__name__). (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Object&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Object>> deleteFunctionWithHttpInfo(String name) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = deleteFunctionRequestBuilder(name);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("deleteFunction", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Object>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Object>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder deleteFunctionRequestBuilder(String name) throws ApiException {
+    // verify the required parameter 'name' is set
+    if (name == null) {
+      throw new ApiException(400, "Missing the required parameter 'name' when calling deleteFunction");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/functions/{name}"
+        .replace("{name}", ApiClient.urlEncode(name.toString()));
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("DELETE", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Get a function
+   * Gets a function from within a parent catalog and schema.
+   * @param name The fully-qualified name of the function (of the form __catalog_name__.__schema_name__.__function__name__). (required)
+   * @return CompletableFuture&lt;FunctionInfo&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<FunctionInfo> getFunction(String name) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = getFunctionRequestBuilder(name);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("getFunction", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<FunctionInfo>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Get a function
+   * Gets a function from within a parent catalog and schema.
+   * @param name The fully-qualified name of the function (of the form __catalog_name__.__schema_name__.__function__name__). (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;FunctionInfo&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<FunctionInfo>> getFunctionWithHttpInfo(String name) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = getFunctionRequestBuilder(name);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("getFunction", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<FunctionInfo>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<FunctionInfo>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder getFunctionRequestBuilder(String name) throws ApiException {
+    // verify the required parameter 'name' is set
+    if (name == null) {
+      throw new ApiException(400, "Missing the required parameter 'name' when calling getFunction");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/functions/{name}"
+        .replace("{name}", ApiClient.urlEncode(name.toString()));
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * List functions
+   * List functions within the specified parent catalog and schema. There is no guarantee of a specific ordering of the elements in the array. 
+   * @param catalogName Name of parent catalog for functions of interest. (required)
+   * @param schemaName Parent schema of functions. (required)
+   * @param maxResults Maximum number of functions to return. - when set to a value greater than 0, the page length is the minimum of this value and a server configured value; - when set to 0, the page length is set to a server configured value; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @param pageToken Opaque pagination token to go to next page based on previous query. (optional)
+   * @return CompletableFuture&lt;ListFunctionsResponse&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ListFunctionsResponse> listFunctions(String catalogName, String schemaName, Integer maxResults, String pageToken) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = listFunctionsRequestBuilder(catalogName, schemaName, maxResults, pageToken);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("listFunctions", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ListFunctionsResponse>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * List functions
+   * List functions within the specified parent catalog and schema. There is no guarantee of a specific ordering of the elements in the array. 
+   * @param catalogName Name of parent catalog for functions of interest. (required)
+   * @param schemaName Parent schema of functions. (required)
+   * @param maxResults Maximum number of functions to return. - when set to a value greater than 0, the page length is the minimum of this value and a server configured value; - when set to 0, the page length is set to a server configured value; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @param pageToken Opaque pagination token to go to next page based on previous query. (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;ListFunctionsResponse&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<ListFunctionsResponse>> listFunctionsWithHttpInfo(String catalogName, String schemaName, Integer maxResults, String pageToken) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = listFunctionsRequestBuilder(catalogName, schemaName, maxResults, pageToken);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("listFunctions", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<ListFunctionsResponse>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ListFunctionsResponse>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder listFunctionsRequestBuilder(String catalogName, String schemaName, Integer maxResults, String pageToken) throws ApiException {
+    // verify the required parameter 'catalogName' is set
+    if (catalogName == null) {
+      throw new ApiException(400, "Missing the required parameter 'catalogName' when calling listFunctions");
+    }
+    // verify the required parameter 'schemaName' is set
+    if (schemaName == null) {
+      throw new ApiException(400, "Missing the required parameter 'schemaName' when calling listFunctions");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/functions";
+
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    StringJoiner localVarQueryStringJoiner = new StringJoiner("&");
+    String localVarQueryParameterBaseName;
+    localVarQueryParameterBaseName = "catalog_name";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("catalog_name", catalogName));
+    localVarQueryParameterBaseName = "schema_name";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("schema_name", schemaName));
+    localVarQueryParameterBaseName = "max_results";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("max_results", maxResults));
+    localVarQueryParameterBaseName = "page_token";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("page_token", pageToken));
+
+    if (!localVarQueryParams.isEmpty() || localVarQueryStringJoiner.length() != 0) {
+      StringJoiner queryJoiner = new StringJoiner("&");
+      localVarQueryParams.forEach(p -> queryJoiner.add(p.getName() + '=' + p.getValue()));
+      if (localVarQueryStringJoiner.length() != 0) {
+        queryJoiner.add(localVarQueryStringJoiner.toString());
+      }
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath + '?' + queryJoiner.toString()));
+    } else {
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+    }
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+}
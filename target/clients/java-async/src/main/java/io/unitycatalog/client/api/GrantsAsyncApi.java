@@ -0,0 +1,308 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package io.unitycatalog.client.api;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.ApiResponse;
+import io.unitycatalog.client.Pair;
+
+import io.unitycatalog.client.model.PermissionsList;
+import io.unitycatalog.client.model.SecurableType;
+import io.unitycatalog.client.model.UpdatePermissions;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import java.util.concurrent.CompletableFuture;
+
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class GrantsAsyncApi {
+  private final HttpClient memberVarHttpClient;
+  private final ObjectMapper memberVarObjectMapper;
+  private final String memberVarBaseUri;
+  private final Consumer<HttpRequest.Builder> memberVarInterceptor;
+  private final Duration memberVarReadTimeout;
+  private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+
+  public GrantsAsyncApi() {
+    this(new ApiClient());
+  }
+
+  public GrantsAsyncApi(ApiClient apiClient) {
+    memberVarHttpClient = apiClient.getHttpClient();
+    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarBaseUri = apiClient.getBaseUri();
+    memberVarInterceptor = apiClient.getRequestInterceptor();
+    memberVarReadTimeout = apiClient.getReadTimeout();
+    memberVarResponseInterceptor = apiClient.getResponseInterceptor();
+  }
+
+  private ApiException getApiException(String operationId, HttpResponse<byte[]> response) {
+    String body = response.body() == null ? null : new String(response.body(), StandardCharsets.UTF_8);
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  private String formatExceptionMessage(String operationId, int statusCode, String body) {
+    if (body == null || body.isEmpty()) {
+      body = "[no body]";
+    }
+    return operationId + " call failed with: " + statusCode + " - " + body;
+  }
+
+  /**
+   * Get permissions
+   * Gets the permissions for a securable. 
+   * @param securableType Type of securable. (required)
+   * @param fullName Full name of securable. (required)
+   * @param principal If provided, only the permissions for the specified principal (user or group) are returned.  (optional)
+   * @return CompletableFuture&lt;PermissionsList&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<PermissionsList> get(SecurableType securableType, String fullName, String principal) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = getRequestBuilder(securableType, fullName, principal);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("get", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<PermissionsList>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Get permissions
+   * Gets the permissions for a securable. 
+   * @param securableType Type of securable. (required)
+   * @param fullName Full name of securable. (required)
+   * @param principal If provided, only the permissions for the specified principal (user or group) are returned.  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;PermissionsList&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<PermissionsList>> getWithHttpInfo(SecurableType securableType, String fullName, String principal) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = getRequestBuilder(securableType, fullName, principal);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("get", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<PermissionsList>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<PermissionsList>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder getRequestBuilder(SecurableType securableType, String fullName, String principal) throws ApiException {
+    // verify the required parameter 'securableType' is set
+    if (securableType == null) {
+      throw new ApiException(400, "Missing the required parameter 'securableType' when calling get");
+    }
+    // verify the required parameter 'fullName' is set
+    if (fullName == null) {
+      throw new ApiException(400, "Missing the required parameter 'fullName' when calling get");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/permissions/{securable_type}/{full_name}"
+        .replace("{securable_type}", ApiClient.urlEncode(securableType.toString()))
+        .replace("{full_name}", ApiClient.urlEncode(fullName.toString()));
+
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    StringJoiner localVarQueryStringJoiner = new StringJoiner("&");
+    String localVarQueryParameterBaseName;
+    localVarQueryParameterBaseName = "principal";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("principal", principal));
+
+    if (!localVarQueryParams.isEmpty() || localVarQueryStringJoiner.length() != 0) {
+      StringJoiner queryJoiner = new StringJoiner("&");
+      localVarQueryParams.forEach(p -> queryJoiner.add(p.getName() + '=' + p.getValue()));
+      if (localVarQueryStringJoiner.length() != 0) {
+        queryJoiner.add(localVarQueryStringJoiner.toString());
+      }
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath + '?' + queryJoiner.toString()));
+    } else {
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+    }
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Update a permission
+   * Updates the permissions for a securable. 
+   * @param securableType Type of securable. (required)
+   * @param fullName Full name of securable. (required)
+   * @param updatePermissions  (optional)
+   * @return CompletableFuture&lt;PermissionsList&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<PermissionsList> update(SecurableType securableType, String fullName, UpdatePermissions updatePermissions) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = updateRequestBuilder(securableType, fullName, updatePermissions);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("update", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<PermissionsList>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Update a permission
+   * Updates the permissions for a securable. 
+   * @param securableType Type of securable. (required)
+   * @param fullName Full name of securable. (required)
+   * @param updatePermissions  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;PermissionsList&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<PermissionsList>> updateWithHttpInfo(SecurableType securableType, String fullName, UpdatePermissions updatePermissions) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = updateRequestBuilder(securableType, fullName, updatePermissions);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("update", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<PermissionsList>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<PermissionsList>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder updateRequestBuilder(SecurableType securableType, String fullName, UpdatePermissions updatePermissions) throws ApiException {
+    // verify the required parameter 'securableType' is set
+    if (securableType == null) {
+      throw new ApiException(400, "Missing the required parameter 'securableType' when calling update");
+    }
+    // verify the required parameter 'fullName' is set
+    if (fullName == null) {
+      throw new ApiException(400, "Missing the required parameter 'fullName' when calling update");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/permissions/{securable_type}/{full_name}"
+        .replace("{securable_type}", ApiClient.urlEncode(securableType.toString()))
+        .replace("{full_name}", ApiClient.urlEncode(fullName.toString()));
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(updatePermissions);
+      localVarRequestBuilder.method("PATCH", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+}
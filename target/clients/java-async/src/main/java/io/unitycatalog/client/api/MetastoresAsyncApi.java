@@ -0,0 +1,347 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package io.unitycatalog.client.api;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.ApiResponse;
+import io.unitycatalog.client.Pair;
+
+import java.io.File;
+import io.unitycatalog.client.model.GetMetastoreSummaryResponse;
+import io.unitycatalog.client.model.ImportMetastoreResponse;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import java.util.concurrent.CompletableFuture;
+
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class MetastoresAsyncApi {
+  private final HttpClient memberVarHttpClient;
+  private final ObjectMapper memberVarObjectMapper;
+  private final String memberVarBaseUri;
+  private final Consumer<HttpRequest.Builder> memberVarInterceptor;
+  private final Duration memberVarReadTimeout;
+  private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+
+  public MetastoresAsyncApi() {
+    this(new ApiClient());
+  }
+
+  public MetastoresAsyncApi(ApiClient apiClient) {
+    memberVarHttpClient = apiClient.getHttpClient();
+    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarBaseUri = apiClient.getBaseUri();
+    memberVarInterceptor = apiClient.getRequestInterceptor();
+    memberVarReadTimeout = apiClient.getReadTimeout();
+    memberVarResponseInterceptor = apiClient.getResponseInterceptor();
+  }
+
+  private ApiException getApiException(String operationId, HttpResponse<byte[]> response) {
+    String body = response.body() == null ? null : new String(response.body(), StandardCharsets.UTF_8);
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  private String formatExceptionMessage(String operationId, int statusCode, String body) {
+    if (body == null || body.isEmpty()) {
+      body = "[no body]";
+    }
+    return operationId + " call failed with: " + statusCode + " - " + body;
+  }
+
+  /**
+   * Export the metastore
+   * Streams every object of the metastore, i.e. its catalogs, schemas, tables with their columns, volumes, functions, registered models and model versions, together with the grants on them. Each object is a __MetastoreExportRecord__, and parents are listed before their children.  The records are sent as newline-delimited JSON, or as a sequence of Smile documents when __application/x-jackson-smile__ is preferred in the __Accept__ header. Only the owner of the metastore can export it. 
+   * @return CompletableFuture&lt;File&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<File> exportMetastore() throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = exportMetastoreRequestBuilder();
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("exportMetastore", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<File>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Export the metastore
+   * Streams every object of the metastore, i.e. its catalogs, schemas, tables with their columns, volumes, functions, registered models and model versions, together with the grants on them. Each object is a __MetastoreExportRecord__, and parents are listed before their children.  The records are sent as newline-delimited JSON, or as a sequence of Smile documents when __application/x-jackson-smile__ is preferred in the __Accept__ header. Only the owner of the metastore can export it. 
+   * @return CompletableFuture&lt;ApiResponse&lt;File&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<File>> exportMetastoreWithHttpInfo() throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = exportMetastoreRequestBuilder();
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("exportMetastore", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<File>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<File>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder exportMetastoreRequestBuilder() throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/metastore/export";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Accept", "application/x-ndjson");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Import objects into the metastore
+   * Creates the objects of an export, in the format and order produced by __/metastore/export__, keeping their ids. Grants are applied to the principals with the same email address, and are skipped for principals that do not exist.  The objects are committed in batches, so an import that fails part way keeps the objects of the batches committed before the failure. Only the owner of the metastore can import objects. 
+   * @param body  (optional)
+   * @return CompletableFuture&lt;ImportMetastoreResponse&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ImportMetastoreResponse> importMetastore(File body) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = importMetastoreRequestBuilder(body);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("importMetastore", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ImportMetastoreResponse>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Import objects into the metastore
+   * Creates the objects of an export, in the format and order produced by __/metastore/export__, keeping their ids. Grants are applied to the principals with the same email address, and are skipped for principals that do not exist.  The objects are committed in batches, so an import that fails part way keeps the objects of the batches committed before the failure. Only the owner of the metastore can import objects. 
+   * @param body  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;ImportMetastoreResponse&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<ImportMetastoreResponse>> importMetastoreWithHttpInfo(File body) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = importMetastoreRequestBuilder(body);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("importMetastore", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<ImportMetastoreResponse>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ImportMetastoreResponse>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder importMetastoreRequestBuilder(File body) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/metastore/import";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/x-ndjson");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(body);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Get metastore summary
+   * Gets information about the metastore hosted by this Unity Catalog service (currently the service hosts only one metastore) 
+   * @return CompletableFuture&lt;GetMetastoreSummaryResponse&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<GetMetastoreSummaryResponse> summary() throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = summaryRequestBuilder();
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("summary", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<GetMetastoreSummaryResponse>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Get metastore summary
+   * Gets information about the metastore hosted by this Unity Catalog service (currently the service hosts only one metastore) 
+   * @return CompletableFuture&lt;ApiResponse&lt;GetMetastoreSummaryResponse&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<GetMetastoreSummaryResponse>> summaryWithHttpInfo() throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = summaryRequestBuilder();
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("summary", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<GetMetastoreSummaryResponse>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<GetMetastoreSummaryResponse>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder summaryRequestBuilder() throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/metastore_summary";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+}
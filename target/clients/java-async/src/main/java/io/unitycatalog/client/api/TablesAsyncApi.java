@@ -0,0 +1,624 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package io.unitycatalog.client.api;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.ApiResponse;
+import io.unitycatalog.client.Pair;
+
+import io.unitycatalog.client.model.CreateTable;
+import io.unitycatalog.client.model.CreateTables;
+import io.unitycatalog.client.model.CreateTablesResponse;
+import io.unitycatalog.client.model.ListTablesResponse;
+import io.unitycatalog.client.model.TableInfo;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import java.util.concurrent.CompletableFuture;
+
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class TablesAsyncApi {
+  private final HttpClient memberVarHttpClient;
+  private final ObjectMapper memberVarObjectMapper;
+  private final String memberVarBaseUri;
+  private final Consumer<HttpRequest.Builder> memberVarInterceptor;
+  private final Duration memberVarReadTimeout;
+  private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+
+  public TablesAsyncApi() {
+    this(new ApiClient());
+  }
+
+  public TablesAsyncApi(ApiClient apiClient) {
+    memberVarHttpClient = apiClient.getHttpClient();
+    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarBaseUri = apiClient.getBaseUri();
+    memberVarInterceptor = apiClient.getRequestInterceptor();
+    memberVarReadTimeout = apiClient.getReadTimeout();
+    memberVarResponseInterceptor = apiClient.getResponseInterceptor();
+  }
+
+  private ApiException getApiException(String operationId, HttpResponse<byte[]> response) {
+    String body = response.body() == null ? null : new String(response.body(), StandardCharsets.UTF_8);
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  private String formatExceptionMessage(String operationId, int statusCode, String body) {
+    if (body == null || body.isEmpty()) {
+      body = "[no body]";
+    }
+    return operationId + " call failed with: " + statusCode + " - " + body;
+  }
+
+  /**
+   * Create a table. Only external table creation is supported. WARNING: This API is experimental and will change in future versions. 
+   * Creates a new external table instance. WARNING: This API is experimental and will change in future versions. 
+   * @param createTable  (optional)
+   * @return CompletableFuture&lt;TableInfo&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<TableInfo> createTable(CreateTable createTable) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = createTableRequestBuilder(createTable);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("createTable", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<TableInfo>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Create a table. Only external table creation is supported. WARNING: This API is experimental and will change in future versions. 
+   * Creates a new external table instance. WARNING: This API is experimental and will change in future versions. 
+   * @param createTable  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;TableInfo&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<TableInfo>> createTableWithHttpInfo(CreateTable createTable) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = createTableRequestBuilder(createTable);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("createTable", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<TableInfo>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<TableInfo>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder createTableRequestBuilder(CreateTable createTable) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/tables";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(createTable);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Create many tables
+   * Creates many tables at once, e.g. to register existing tables during a migration. The tables are created in a single transaction: either all of them are created, or none is. 
+   * @param createTables  (optional)
+   * @return CompletableFuture&lt;CreateTablesResponse&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<CreateTablesResponse> createTables(CreateTables createTables) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = createTablesRequestBuilder(createTables);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("createTables", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<CreateTablesResponse>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Create many tables
+   * Creates many tables at once, e.g. to register existing tables during a migration. The tables are created in a single transaction: either all of them are created, or none is. 
+   * @param createTables  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;CreateTablesResponse&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<CreateTablesResponse>> createTablesWithHttpInfo(CreateTables createTables) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = createTablesRequestBuilder(createTables);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("createTables", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<CreateTablesResponse>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<CreateTablesResponse>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder createTablesRequestBuilder(CreateTables createTables) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/tables/batch";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(createTables);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Delete a table
+   * Deletes a table from the specified parent catalog and schema. 
+   * @param fullName Full name of the table. (required)
+   * @return CompletableFuture&lt;Object&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<Object> deleteTable(String fullName) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = deleteTableRequestBuilder(fullName);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("deleteTable", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Object>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Delete a table
+   * Deletes a table from the specified parent catalog and schema. 
+   * @param fullName Full name of the table. (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Object&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Object>> deleteTableWithHttpInfo(String fullName) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = deleteTableRequestBuilder(fullName);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("deleteTable", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Object>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Object>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder deleteTableRequestBuilder(String fullName) throws ApiException {
+    // verify the required parameter 'fullName' is set
+    if (fullName == null) {
+      throw new ApiException(400, "Missing the required parameter 'fullName' when calling deleteTable");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/tables/{full_name}"
+        .replace("{full_name}", ApiClient.urlEncode(fullName.toString()));
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("DELETE", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Get a table
+   * Gets a table for a specific catalog and schema. For tables with many columns, the columns can be omitted, narrowed down to the given names, or returned one page at a time in ascending order of their position. 
+   * @param fullName Full name of the table. (required)
+   * @param omitColumns Whether to omit the columns of the table from the response. (optional)
+   * @param columnNames Names of the columns to return. Columns with other names are left out. (optional)
+   * @param maxColumns Maximum number of columns to return. - when set to a value greater than 0, the columns are returned in pages of this length; - when not set or set to 0, all columns are returned; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @param columnPageToken Opaque token to send for the next page of columns (pagination). (optional)
+   * @return CompletableFuture&lt;TableInfo&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<TableInfo> getTable(String fullName, Boolean omitColumns, List<String> columnNames, Integer maxColumns, String columnPageToken) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = getTableRequestBuilder(fullName, omitColumns, columnNames, maxColumns, columnPageToken);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("getTable", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<TableInfo>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Get a table
+   * Gets a table for a specific catalog and schema. For tables with many columns, the columns can be omitted, narrowed down to the given names, or returned one page at a time in ascending order of their position. 
+   * @param fullName Full name of the table. (required)
+   * @return CompletableFuture&lt;TableInfo&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<TableInfo> getTable(String fullName) throws ApiException {
+    return getTable(fullName, null, null, null, null);
+  }
+
+  /**
+   * Get a table
+   * Gets a table for a specific catalog and schema. For tables with many columns, the columns can be omitted, narrowed down to the given names, or returned one page at a time in ascending order of their position. 
+   * @param fullName Full name of the table. (required)
+   * @param omitColumns Whether to omit the columns of the table from the response. (optional)
+   * @param columnNames Names of the columns to return. Columns with other names are left out. (optional)
+   * @param maxColumns Maximum number of columns to return. - when set to a value greater than 0, the columns are returned in pages of this length; - when not set or set to 0, all columns are returned; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @param columnPageToken Opaque token to send for the next page of columns (pagination). (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;TableInfo&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<TableInfo>> getTableWithHttpInfo(String fullName, Boolean omitColumns, List<String> columnNames, Integer maxColumns, String columnPageToken) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = getTableRequestBuilder(fullName, omitColumns, columnNames, maxColumns, columnPageToken);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("getTable", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<TableInfo>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<TableInfo>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder getTableRequestBuilder(String fullName, Boolean omitColumns, List<String> columnNames, Integer maxColumns, String columnPageToken) throws ApiException {
+    // verify the required parameter 'fullName' is set
+    if (fullName == null) {
+      throw new ApiException(400, "Missing the required parameter 'fullName' when calling getTable");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/tables/{full_name}"
+        .replace("{full_name}", ApiClient.urlEncode(fullName.toString()));
+
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    StringJoiner localVarQueryStringJoiner = new StringJoiner("&");
+    String localVarQueryParameterBaseName;
+    localVarQueryParameterBaseName = "omit_columns";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("omit_columns", omitColumns));
+    localVarQueryParameterBaseName = "column_names";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("multi", "column_names", columnNames));
+    localVarQueryParameterBaseName = "max_columns";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("max_columns", maxColumns));
+    localVarQueryParameterBaseName = "column_page_token";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("column_page_token", columnPageToken));
+
+    if (!localVarQueryParams.isEmpty() || localVarQueryStringJoiner.length() != 0) {
+      StringJoiner queryJoiner = new StringJoiner("&");
+      localVarQueryParams.forEach(p -> queryJoiner.add(p.getName() + '=' + p.getValue()));
+      if (localVarQueryStringJoiner.length() != 0) {
+        queryJoiner.add(localVarQueryStringJoiner.toString());
+      }
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath + '?' + queryJoiner.toString()));
+    } else {
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+    }
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * List tables
+   * Gets the list of all available tables under the parent catalog and schema. There is no guarantee of a specific ordering of the elements in the array. 
+   * @param catalogName Name of parent catalog for tables of interest. (required)
+   * @param schemaName Parent schema of tables. (required)
+   * @param maxResults Maximum number of tables to return. - when set to a value greater than 0, the page length is the minimum of this value and a server configured value; - when set to 0, the page length is set to a server configured value; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @param pageToken Opaque token to send for the next page of results (pagination). (optional)
+   * @param omitProperties Whether to omit the properties of the tables from the response. (optional)
+   * @param omitColumns Whether to omit the columns of the tables from the response. (optional)
+   * @return CompletableFuture&lt;ListTablesResponse&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ListTablesResponse> listTables(String catalogName, String schemaName, Integer maxResults, String pageToken, Boolean omitProperties, Boolean omitColumns) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = listTablesRequestBuilder(catalogName, schemaName, maxResults, pageToken, omitProperties, omitColumns);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("listTables", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ListTablesResponse>() {})
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+      });
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * List tables
+   * Gets the list of all available tables under the parent catalog and schema. There is no guarantee of a specific ordering of the elements in the array. 
+   * @param catalogName Name of parent catalog for tables of interest. (required)
+   * @param schemaName Parent schema of tables. (required)
+   * @param maxResults Maximum number of tables to return. - when set to a value greater than 0, the page length is the minimum of this value and a server configured value; - when set to 0, the page length is set to a server configured value; - when set to a value less than 0, an invalid parameter error is returned;  (optional)
+   * @param pageToken Opaque token to send for the next page of results (pagination). (optional)
+   * @param omitProperties Whether to omit the properties of the tables from the response. (optional)
+   * @param omitColumns Whether to omit the columns of the tables from the response. (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;ListTablesResponse&gt;&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<ListTablesResponse>> listTablesWithHttpInfo(String catalogName, String schemaName, Integer maxResults, String pageToken, Boolean omitProperties, Boolean omitColumns) throws ApiException {
+    try {
+      HttpRequest.Builder localVarRequestBuilder = listTablesRequestBuilder(catalogName, schemaName, maxResults, pageToken, omitProperties, omitColumns);
+      return memberVarHttpClient.sendAsync(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofByteArray()).thenCompose(localVarResponse -> {
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getApiException("listTables", localVarResponse));
+            }
+            try {
+              byte[] responseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<ListTablesResponse>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      responseBody == null || responseBody.length == 0 ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ListTablesResponse>() {}))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+        }
+      );
+    }
+    catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder listTablesRequestBuilder(String catalogName, String schemaName, Integer maxResults, String pageToken, Boolean omitProperties, Boolean omitColumns) throws ApiException {
+    // verify the required parameter 'catalogName' is set
+    if (catalogName == null) {
+      throw new ApiException(400, "Missing the required parameter 'catalogName' when calling listTables");
+    }
+    // verify the required parameter 'schemaName' is set
+    if (schemaName == null) {
+      throw new ApiException(400, "Missing the required parameter 'schemaName' when calling listTables");
+    }
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/tables";
+
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    StringJoiner localVarQueryStringJoiner = new StringJoiner("&");
+    String localVarQueryParameterBaseName;
+    localVarQueryParameterBaseName = "catalog_name";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("catalog_name", catalogName));
+    localVarQueryParameterBaseName = "schema_name";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("schema_name", schemaName));
+    localVarQueryParameterBaseName = "max_results";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("max_results", maxResults));
+    localVarQueryParameterBaseName = "page_token";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("page_token", pageToken));
+    localVarQueryParameterBaseName = "omit_properties";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("omit_properties", omitProperties));
+    localVarQueryParameterBaseName = "omit_columns";
+    localVarQueryParams.addAll(ApiClient.parameterToPairs("omit_columns", omitColumns));
+
+    if (!localVarQueryParams.isEmpty() || localVarQueryStringJoiner.length() != 0) {
+      StringJoiner queryJoiner = new StringJoiner("&");
+      localVarQueryParams.forEach(p -> queryJoiner.add(p.getName() + '=' + p.getValue()));
+      if (localVarQueryStringJoiner.length() != 0) {
+        queryJoiner.add(localVarQueryStringJoiner.toString());
+      }
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath + '?' + queryJoiner.toString()));
+    } else {
+      localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+    }
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+}
@@ -0,0 +1,292 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package io.unitycatalog.client.api;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.ApiResponse;
+import io.unitycatalog.client.Pair;
+
+import java.io.File;
+import io.unitycatalog.client.model.GetMetastoreSummaryResponse;
+import io.unitycatalog.client.model.ImportMetastoreResponse;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class MetastoresApi {
+  private final HttpClient memberVarHttpClient;
+  private final ObjectMapper memberVarObjectMapper;
+  private final String memberVarBaseUri;
+  private final Consumer<HttpRequest.Builder> memberVarInterceptor;
+  private final Duration memberVarReadTimeout;
+  private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+  private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
+
+  public MetastoresApi() {
+    this(new ApiClient());
+  }
+
+  public MetastoresApi(ApiClient apiClient) {
+    memberVarHttpClient = apiClient.getHttpClient();
+    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarBaseUri = apiClient.getBaseUri();
+    memberVarInterceptor = apiClient.getRequestInterceptor();
+    memberVarReadTimeout = apiClient.getReadTimeout();
+    memberVarResponseInterceptor = apiClient.getResponseInterceptor();
+    memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+  }
+
+  protected ApiException getApiException(String operationId, HttpResponse<InputStream> response) throws IOException {
+    String body = response.body() == null ? null : new String(response.body().readAllBytes());
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  private String formatExceptionMessage(String operationId, int statusCode, String body) {
+    if (body == null || body.isEmpty()) {
+      body = "[no body]";
+    }
+    return operationId + " call failed with: " + statusCode + " - " + body;
+  }
+
+  /**
+   * Export the metastore
+   * Streams every object of the metastore, i.e. its catalogs, schemas, tables with their columns, volumes, functions, registered models and model versions, together with the grants on them. Each object is a __MetastoreExportRecord__, and parents are listed before their children.  The records are sent as newline-delimited JSON, or as a sequence of Smile documents when __application/x-jackson-smile__ is preferred in the __Accept__ header. Only the owner of the metastore can export it. 
+   * @return File
+   * @throws ApiException if fails to make API call
+   */
+  public File exportMetastore() throws ApiException {
+    ApiResponse<File> localVarResponse = exportMetastoreWithHttpInfo();
+    return localVarResponse.getData();
+  }
+
+  /**
+   * Export the metastore
+   * Streams every object of the metastore, i.e. its catalogs, schemas, tables with their columns, volumes, functions, registered models and model versions, together with the grants on them. Each object is a __MetastoreExportRecord__, and parents are listed before their children.  The records are sent as newline-delimited JSON, or as a sequence of Smile documents when __application/x-jackson-smile__ is preferred in the __Accept__ header. Only the owner of the metastore can export it. 
+   * @return ApiResponse&lt;File&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public ApiResponse<File> exportMetastoreWithHttpInfo() throws ApiException {
+    HttpRequest.Builder localVarRequestBuilder = exportMetastoreRequestBuilder();
+    try {
+      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofInputStream());
+      if (memberVarResponseInterceptor != null) {
+        memberVarResponseInterceptor.accept(localVarResponse);
+      }
+      try {
+        if (localVarResponse.statusCode()/ 100 != 2) {
+          throw getApiException("exportMetastore", localVarResponse);
+        }
+        return new ApiResponse<File>(
+          localVarResponse.statusCode(),
+          localVarResponse.headers().map(),
+          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<File>() {}) // closes the InputStream
+        );
+      } finally {
+      }
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  private HttpRequest.Builder exportMetastoreRequestBuilder() throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/metastore/export";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Accept", "application/x-ndjson");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Import objects into the metastore
+   * Creates the objects of an export, in the format and order produced by __/metastore/export__, keeping their ids. Grants are applied to the principals with the same email address, and are skipped for principals that do not exist.  The objects are committed in batches, so an import that fails part way keeps the objects of the batches committed before the failure. Only the owner of the metastore can import objects. 
+   * @param body  (optional)
+   * @return ImportMetastoreResponse
+   * @throws ApiException if fails to make API call
+   */
+  public ImportMetastoreResponse importMetastore(File body) throws ApiException {
+    ApiResponse<ImportMetastoreResponse> localVarResponse = importMetastoreWithHttpInfo(body);
+    return localVarResponse.getData();
+  }
+
+  /**
+   * Import objects into the metastore
+   * Creates the objects of an export, in the format and order produced by __/metastore/export__, keeping their ids. Grants are applied to the principals with the same email address, and are skipped for principals that do not exist.  The objects are committed in batches, so an import that fails part way keeps the objects of the batches committed before the failure. Only the owner of the metastore can import objects. 
+   * @param body  (optional)
+   * @return ApiResponse&lt;ImportMetastoreResponse&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public ApiResponse<ImportMetastoreResponse> importMetastoreWithHttpInfo(File body) throws ApiException {
+    HttpRequest.Builder localVarRequestBuilder = importMetastoreRequestBuilder(body);
+    try {
+      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofInputStream());
+      if (memberVarResponseInterceptor != null) {
+        memberVarResponseInterceptor.accept(localVarResponse);
+      }
+      try {
+        if (localVarResponse.statusCode()/ 100 != 2) {
+          throw getApiException("importMetastore", localVarResponse);
+        }
+        return new ApiResponse<ImportMetastoreResponse>(
+          localVarResponse.statusCode(),
+          localVarResponse.headers().map(),
+          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<ImportMetastoreResponse>() {}) // closes the InputStream
+        );
+      } finally {
+      }
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  private HttpRequest.Builder importMetastoreRequestBuilder(File body) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/metastore/import";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/x-ndjson");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(body);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Get metastore summary
+   * Gets information about the metastore hosted by this Unity Catalog service (currently the service hosts only one metastore) 
+   * @return GetMetastoreSummaryResponse
+   * @throws ApiException if fails to make API call
+   */
+  public GetMetastoreSummaryResponse summary() throws ApiException {
+    ApiResponse<GetMetastoreSummaryResponse> localVarResponse = summaryWithHttpInfo();
+    return localVarResponse.getData();
+  }
+
+  /**
+   * Get metastore summary
+   * Gets information about the metastore hosted by this Unity Catalog service (currently the service hosts only one metastore) 
+   * @return ApiResponse&lt;GetMetastoreSummaryResponse&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public ApiResponse<GetMetastoreSummaryResponse> summaryWithHttpInfo() throws ApiException {
+    HttpRequest.Builder localVarRequestBuilder = summaryRequestBuilder();
+    try {
+      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofInputStream());
+      if (memberVarResponseInterceptor != null) {
+        memberVarResponseInterceptor.accept(localVarResponse);
+      }
+      try {
+        if (localVarResponse.statusCode()/ 100 != 2) {
+          throw getApiException("summary", localVarResponse);
+        }
+        return new ApiResponse<GetMetastoreSummaryResponse>(
+          localVarResponse.statusCode(),
+          localVarResponse.headers().map(),
+          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<GetMetastoreSummaryResponse>() {}) // closes the InputStream
+        );
+      } finally {
+      }
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  private HttpRequest.Builder summaryRequestBuilder() throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/metastore_summary";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+}
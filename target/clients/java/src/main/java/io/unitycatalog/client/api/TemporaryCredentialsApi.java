@@ -0,0 +1,384 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package io.unitycatalog.client.api;
+
+import io.unitycatalog.client.ApiClient;
+import io.unitycatalog.client.ApiException;
+import io.unitycatalog.client.ApiResponse;
+import io.unitycatalog.client.Pair;
+
+import io.unitycatalog.client.model.GenerateTemporaryModelVersionCredential;
+import io.unitycatalog.client.model.GenerateTemporaryPathCredential;
+import io.unitycatalog.client.model.GenerateTemporaryTableCredential;
+import io.unitycatalog.client.model.GenerateTemporaryVolumeCredential;
+import io.unitycatalog.client.model.TemporaryCredentials;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class TemporaryCredentialsApi {
+  private final HttpClient memberVarHttpClient;
+  private final ObjectMapper memberVarObjectMapper;
+  private final String memberVarBaseUri;
+  private final Consumer<HttpRequest.Builder> memberVarInterceptor;
+  private final Duration memberVarReadTimeout;
+  private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+  private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
+
+  public TemporaryCredentialsApi() {
+    this(new ApiClient());
+  }
+
+  public TemporaryCredentialsApi(ApiClient apiClient) {
+    memberVarHttpClient = apiClient.getHttpClient();
+    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarBaseUri = apiClient.getBaseUri();
+    memberVarInterceptor = apiClient.getRequestInterceptor();
+    memberVarReadTimeout = apiClient.getReadTimeout();
+    memberVarResponseInterceptor = apiClient.getResponseInterceptor();
+    memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+  }
+
+  protected ApiException getApiException(String operationId, HttpResponse<InputStream> response) throws IOException {
+    String body = response.body() == null ? null : new String(response.body().readAllBytes());
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  private String formatExceptionMessage(String operationId, int statusCode, String body) {
+    if (body == null || body.isEmpty()) {
+      body = "[no body]";
+    }
+    return operationId + " call failed with: " + statusCode + " - " + body;
+  }
+
+  /**
+   * Generate temporary model version credentials. These credentials are used by clients to write and retrieve model artifacts from the model versions external storage location.
+   * 
+   * @param generateTemporaryModelVersionCredential  (optional)
+   * @return TemporaryCredentials
+   * @throws ApiException if fails to make API call
+   */
+  public TemporaryCredentials generateTemporaryModelVersionCredentials(GenerateTemporaryModelVersionCredential generateTemporaryModelVersionCredential) throws ApiException {
+    ApiResponse<TemporaryCredentials> localVarResponse = generateTemporaryModelVersionCredentialsWithHttpInfo(generateTemporaryModelVersionCredential);
+    return localVarResponse.getData();
+  }
+
+  /**
+   * Generate temporary model version credentials. These credentials are used by clients to write and retrieve model artifacts from the model versions external storage location.
+   * 
+   * @param generateTemporaryModelVersionCredential  (optional)
+   * @return ApiResponse&lt;TemporaryCredentials&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public ApiResponse<TemporaryCredentials> generateTemporaryModelVersionCredentialsWithHttpInfo(GenerateTemporaryModelVersionCredential generateTemporaryModelVersionCredential) throws ApiException {
+    HttpRequest.Builder localVarRequestBuilder = generateTemporaryModelVersionCredentialsRequestBuilder(generateTemporaryModelVersionCredential);
+    try {
+      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofInputStream());
+      if (memberVarResponseInterceptor != null) {
+        memberVarResponseInterceptor.accept(localVarResponse);
+      }
+      try {
+        if (localVarResponse.statusCode()/ 100 != 2) {
+          throw getApiException("generateTemporaryModelVersionCredentials", localVarResponse);
+        }
+        return new ApiResponse<TemporaryCredentials>(
+          localVarResponse.statusCode(),
+          localVarResponse.headers().map(),
+          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<TemporaryCredentials>() {}) // closes the InputStream
+        );
+      } finally {
+      }
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  private HttpRequest.Builder generateTemporaryModelVersionCredentialsRequestBuilder(GenerateTemporaryModelVersionCredential generateTemporaryModelVersionCredential) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/temporary-model-version-credentials";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(generateTemporaryModelVersionCredential);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Generate temporary path credentials.
+   * 
+   * @param generateTemporaryPathCredential  (optional)
+   * @return TemporaryCredentials
+   * @throws ApiException if fails to make API call
+   */
+  public TemporaryCredentials generateTemporaryPathCredentials(GenerateTemporaryPathCredential generateTemporaryPathCredential) throws ApiException {
+    ApiResponse<TemporaryCredentials> localVarResponse = generateTemporaryPathCredentialsWithHttpInfo(generateTemporaryPathCredential);
+    return localVarResponse.getData();
+  }
+
+  /**
+   * Generate temporary path credentials.
+   * 
+   * @param generateTemporaryPathCredential  (optional)
+   * @return ApiResponse&lt;TemporaryCredentials&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public ApiResponse<TemporaryCredentials> generateTemporaryPathCredentialsWithHttpInfo(GenerateTemporaryPathCredential generateTemporaryPathCredential) throws ApiException {
+    HttpRequest.Builder localVarRequestBuilder = generateTemporaryPathCredentialsRequestBuilder(generateTemporaryPathCredential);
+    try {
+      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofInputStream());
+      if (memberVarResponseInterceptor != null) {
+        memberVarResponseInterceptor.accept(localVarResponse);
+      }
+      try {
+        if (localVarResponse.statusCode()/ 100 != 2) {
+          throw getApiException("generateTemporaryPathCredentials", localVarResponse);
+        }
+        return new ApiResponse<TemporaryCredentials>(
+          localVarResponse.statusCode(),
+          localVarResponse.headers().map(),
+          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<TemporaryCredentials>() {}) // closes the InputStream
+        );
+      } finally {
+      }
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  private HttpRequest.Builder generateTemporaryPathCredentialsRequestBuilder(GenerateTemporaryPathCredential generateTemporaryPathCredential) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/temporary-path-credentials";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(generateTemporaryPathCredential);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Generate temporary table credentials.
+   * 
+   * @param generateTemporaryTableCredential  (optional)
+   * @return TemporaryCredentials
+   * @throws ApiException if fails to make API call
+   */
+  public TemporaryCredentials generateTemporaryTableCredentials(GenerateTemporaryTableCredential generateTemporaryTableCredential) throws ApiException {
+    ApiResponse<TemporaryCredentials> localVarResponse = generateTemporaryTableCredentialsWithHttpInfo(generateTemporaryTableCredential);
+    return localVarResponse.getData();
+  }
+
+  /**
+   * Generate temporary table credentials.
+   * 
+   * @param generateTemporaryTableCredential  (optional)
+   * @return ApiResponse&lt;TemporaryCredentials&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public ApiResponse<TemporaryCredentials> generateTemporaryTableCredentialsWithHttpInfo(GenerateTemporaryTableCredential generateTemporaryTableCredential) throws ApiException {
+    HttpRequest.Builder localVarRequestBuilder = generateTemporaryTableCredentialsRequestBuilder(generateTemporaryTableCredential);
+    try {
+      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofInputStream());
+      if (memberVarResponseInterceptor != null) {
+        memberVarResponseInterceptor.accept(localVarResponse);
+      }
+      try {
+        if (localVarResponse.statusCode()/ 100 != 2) {
+          throw getApiException("generateTemporaryTableCredentials", localVarResponse);
+        }
+        return new ApiResponse<TemporaryCredentials>(
+          localVarResponse.statusCode(),
+          localVarResponse.headers().map(),
+          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<TemporaryCredentials>() {}) // closes the InputStream
+        );
+      } finally {
+      }
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  private HttpRequest.Builder generateTemporaryTableCredentialsRequestBuilder(GenerateTemporaryTableCredential generateTemporaryTableCredential) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/temporary-table-credentials";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(generateTemporaryTableCredential);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+  /**
+   * Generate temporary volume credentials.
+   * 
+   * @param generateTemporaryVolumeCredential  (optional)
+   * @return TemporaryCredentials
+   * @throws ApiException if fails to make API call
+   */
+  public TemporaryCredentials generateTemporaryVolumeCredentials(GenerateTemporaryVolumeCredential generateTemporaryVolumeCredential) throws ApiException {
+    ApiResponse<TemporaryCredentials> localVarResponse = generateTemporaryVolumeCredentialsWithHttpInfo(generateTemporaryVolumeCredential);
+    return localVarResponse.getData();
+  }
+
+  /**
+   * Generate temporary volume credentials.
+   * 
+   * @param generateTemporaryVolumeCredential  (optional)
+   * @return ApiResponse&lt;TemporaryCredentials&gt;
+   * @throws ApiException if fails to make API call
+   */
+  public ApiResponse<TemporaryCredentials> generateTemporaryVolumeCredentialsWithHttpInfo(GenerateTemporaryVolumeCredential generateTemporaryVolumeCredential) throws ApiException {
+    HttpRequest.Builder localVarRequestBuilder = generateTemporaryVolumeCredentialsRequestBuilder(generateTemporaryVolumeCredential);
+    try {
+      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
+          localVarRequestBuilder.build(),
+          HttpResponse.BodyHandlers.ofInputStream());
+      if (memberVarResponseInterceptor != null) {
+        memberVarResponseInterceptor.accept(localVarResponse);
+      }
+      try {
+        if (localVarResponse.statusCode()/ 100 != 2) {
+          throw getApiException("generateTemporaryVolumeCredentials", localVarResponse);
+        }
+        return new ApiResponse<TemporaryCredentials>(
+          localVarResponse.statusCode(),
+          localVarResponse.headers().map(),
+          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<TemporaryCredentials>() {}) // closes the InputStream
+        );
+      } finally {
+      }
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  private HttpRequest.Builder generateTemporaryVolumeCredentialsRequestBuilder(GenerateTemporaryVolumeCredential generateTemporaryVolumeCredential) throws ApiException {
+
+    HttpRequest.Builder localVarRequestBuilder = HttpRequest.newBuilder();
+
+    String localVarPath = "/temporary-volume-credentials";
+
+    localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
+
+    localVarRequestBuilder.header("Content-Type", "application/json");
+    localVarRequestBuilder.header("Accept", "application/json");
+
+    try {
+      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(generateTemporaryVolumeCredential);
+      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    if (memberVarReadTimeout != null) {
+      localVarRequestBuilder.timeout(memberVarReadTimeout);
+    }
+    if (memberVarInterceptor != null) {
+      memberVarInterceptor.accept(localVarRequestBuilder);
+    }
+    return localVarRequestBuilder;
+  }
+
+}
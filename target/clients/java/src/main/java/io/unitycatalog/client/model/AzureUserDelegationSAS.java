@@ -0,0 +1,150 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import io.unitycatalog.client.ApiClient;
+/**
+ * AzureUserDelegationSAS
+ */
+@JsonPropertyOrder({
+  AzureUserDelegationSAS.JSON_PROPERTY_SAS_TOKEN
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class AzureUserDelegationSAS {
+  public static final String JSON_PROPERTY_SAS_TOKEN = "sas_token";
+  private String sasToken;
+
+  public AzureUserDelegationSAS() { 
+  }
+
+  public AzureUserDelegationSAS sasToken(String sasToken) {
+    this.sasToken = sasToken;
+    return this;
+  }
+
+  /**
+   * Azure SAS Token
+   * @return sasToken
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SAS_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getSasToken() {
+    return sasToken;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SAS_TOKEN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSasToken(String sasToken) {
+    this.sasToken = sasToken;
+  }
+
+
+  /**
+   * Return true if this AzureUserDelegationSAS object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AzureUserDelegationSAS azureUserDelegationSAS = (AzureUserDelegationSAS) o;
+    return Objects.equals(this.sasToken, azureUserDelegationSAS.sasToken);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(sasToken);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AzureUserDelegationSAS {\n");
+    sb.append("    sasToken: ").append(toIndentedString(sasToken)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `sas_token` to the URL query string
+    if (getSasToken() != null) {
+      joiner.add(String.format("%ssas_token%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getSasToken()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    return joiner.toString();
+  }
+}
+
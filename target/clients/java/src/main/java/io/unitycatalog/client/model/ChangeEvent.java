@@ -0,0 +1,362 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.client.model.ChangeOperation;
+import io.unitycatalog.client.model.SecurableType;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import io.unitycatalog.client.ApiClient;
+/**
+ * ChangeEvent
+ */
+@JsonPropertyOrder({
+  ChangeEvent.JSON_PROPERTY_SEQUENCE_NUMBER,
+  ChangeEvent.JSON_PROPERTY_SECURABLE_TYPE,
+  ChangeEvent.JSON_PROPERTY_FULL_NAME,
+  ChangeEvent.JSON_PROPERTY_NEW_FULL_NAME,
+  ChangeEvent.JSON_PROPERTY_SECURABLE_ID,
+  ChangeEvent.JSON_PROPERTY_OPERATION,
+  ChangeEvent.JSON_PROPERTY_CREATED_AT
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class ChangeEvent {
+  public static final String JSON_PROPERTY_SEQUENCE_NUMBER = "sequence_number";
+  private Long sequenceNumber;
+
+  public static final String JSON_PROPERTY_SECURABLE_TYPE = "securable_type";
+  private SecurableType securableType;
+
+  public static final String JSON_PROPERTY_FULL_NAME = "full_name";
+  private String fullName;
+
+  public static final String JSON_PROPERTY_NEW_FULL_NAME = "new_full_name";
+  private String newFullName;
+
+  public static final String JSON_PROPERTY_SECURABLE_ID = "securable_id";
+  private String securableId;
+
+  public static final String JSON_PROPERTY_OPERATION = "operation";
+  private ChangeOperation operation;
+
+  public static final String JSON_PROPERTY_CREATED_AT = "created_at";
+  private Long createdAt;
+
+  public ChangeEvent() { 
+  }
+
+  public ChangeEvent sequenceNumber(Long sequenceNumber) {
+    this.sequenceNumber = sequenceNumber;
+    return this;
+  }
+
+  /**
+   * Position of the change in the change log. Increases with every change.
+   * @return sequenceNumber
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SEQUENCE_NUMBER)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public Long getSequenceNumber() {
+    return sequenceNumber;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SEQUENCE_NUMBER)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSequenceNumber(Long sequenceNumber) {
+    this.sequenceNumber = sequenceNumber;
+  }
+
+
+  public ChangeEvent securableType(SecurableType securableType) {
+    this.securableType = securableType;
+    return this;
+  }
+
+  /**
+   * Get securableType
+   * @return securableType
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SECURABLE_TYPE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public SecurableType getSecurableType() {
+    return securableType;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SECURABLE_TYPE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSecurableType(SecurableType securableType) {
+    this.securableType = securableType;
+  }
+
+
+  public ChangeEvent fullName(String fullName) {
+    this.fullName = fullName;
+    return this;
+  }
+
+  /**
+   * Full name of the securable before the change.
+   * @return fullName
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_FULL_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getFullName() {
+    return fullName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_FULL_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setFullName(String fullName) {
+    this.fullName = fullName;
+  }
+
+
+  public ChangeEvent newFullName(String newFullName) {
+    this.newFullName = newFullName;
+    return this;
+  }
+
+  /**
+   * Full name of the securable after the change, if it was renamed.
+   * @return newFullName
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_NEW_FULL_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getNewFullName() {
+    return newFullName;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_NEW_FULL_NAME)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setNewFullName(String newFullName) {
+    this.newFullName = newFullName;
+  }
+
+
+  public ChangeEvent securableId(String securableId) {
+    this.securableId = securableId;
+    return this;
+  }
+
+  /**
+   * Unique identifier of the securable.
+   * @return securableId
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_SECURABLE_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getSecurableId() {
+    return securableId;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_SECURABLE_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setSecurableId(String securableId) {
+    this.securableId = securableId;
+  }
+
+
+  public ChangeEvent operation(ChangeOperation operation) {
+    this.operation = operation;
+    return this;
+  }
+
+  /**
+   * Get operation
+   * @return operation
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_OPERATION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public ChangeOperation getOperation() {
+    return operation;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_OPERATION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setOperation(ChangeOperation operation) {
+    this.operation = operation;
+  }
+
+
+  public ChangeEvent createdAt(Long createdAt) {
+    this.createdAt = createdAt;
+    return this;
+  }
+
+  /**
+   * Time at which the change was recorded, in epoch milliseconds.
+   * @return createdAt
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CREATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public Long getCreatedAt() {
+    return createdAt;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CREATED_AT)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setCreatedAt(Long createdAt) {
+    this.createdAt = createdAt;
+  }
+
+
+  /**
+   * Return true if this ChangeEvent object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ChangeEvent changeEvent = (ChangeEvent) o;
+    return Objects.equals(this.sequenceNumber, changeEvent.sequenceNumber) &&
+        Objects.equals(this.securableType, changeEvent.securableType) &&
+        Objects.equals(this.fullName, changeEvent.fullName) &&
+        Objects.equals(this.newFullName, changeEvent.newFullName) &&
+        Objects.equals(this.securableId, changeEvent.securableId) &&
+        Objects.equals(this.operation, changeEvent.operation) &&
+        Objects.equals(this.createdAt, changeEvent.createdAt);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(sequenceNumber, securableType, fullName, newFullName, securableId, operation, createdAt);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ChangeEvent {\n");
+    sb.append("    sequenceNumber: ").append(toIndentedString(sequenceNumber)).append("\n");
+    sb.append("    securableType: ").append(toIndentedString(securableType)).append("\n");
+    sb.append("    fullName: ").append(toIndentedString(fullName)).append("\n");
+    sb.append("    newFullName: ").append(toIndentedString(newFullName)).append("\n");
+    sb.append("    securableId: ").append(toIndentedString(securableId)).append("\n");
+    sb.append("    operation: ").append(toIndentedString(operation)).append("\n");
+    sb.append("    createdAt: ").append(toIndentedString(createdAt)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `sequence_number` to the URL query string
+    if (getSequenceNumber() != null) {
+      joiner.add(String.format("%ssequence_number%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getSequenceNumber()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `securable_type` to the URL query string
+    if (getSecurableType() != null) {
+      joiner.add(String.format("%ssecurable_type%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getSecurableType()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `full_name` to the URL query string
+    if (getFullName() != null) {
+      joiner.add(String.format("%sfull_name%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getFullName()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `new_full_name` to the URL query string
+    if (getNewFullName() != null) {
+      joiner.add(String.format("%snew_full_name%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getNewFullName()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `securable_id` to the URL query string
+    if (getSecurableId() != null) {
+      joiner.add(String.format("%ssecurable_id%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getSecurableId()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `operation` to the URL query string
+    if (getOperation() != null) {
+      joiner.add(String.format("%soperation%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getOperation()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `created_at` to the URL query string
+    if (getCreatedAt() != null) {
+      joiner.add(String.format("%screated_at%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getCreatedAt()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    return joiner.toString();
+  }
+}
+
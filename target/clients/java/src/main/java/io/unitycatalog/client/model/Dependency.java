@@ -0,0 +1,187 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.client.model.FunctionDependency;
+import io.unitycatalog.client.model.TableDependency;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import io.unitycatalog.client.ApiClient;
+/**
+ * A dependency of a SQL object. Either the __table__ field or the __function__ field must be defined.
+ */
+@JsonPropertyOrder({
+  Dependency.JSON_PROPERTY_TABLE,
+  Dependency.JSON_PROPERTY_FUNCTION
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class Dependency {
+  public static final String JSON_PROPERTY_TABLE = "table";
+  private TableDependency table;
+
+  public static final String JSON_PROPERTY_FUNCTION = "function";
+  private FunctionDependency function;
+
+  public Dependency() { 
+  }
+
+  public Dependency table(TableDependency table) {
+    this.table = table;
+    return this;
+  }
+
+  /**
+   * Get table
+   * @return table
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_TABLE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public TableDependency getTable() {
+    return table;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_TABLE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setTable(TableDependency table) {
+    this.table = table;
+  }
+
+
+  public Dependency function(FunctionDependency function) {
+    this.function = function;
+    return this;
+  }
+
+  /**
+   * Get function
+   * @return function
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_FUNCTION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public FunctionDependency getFunction() {
+    return function;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_FUNCTION)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setFunction(FunctionDependency function) {
+    this.function = function;
+  }
+
+
+  /**
+   * Return true if this Dependency object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Dependency dependency = (Dependency) o;
+    return Objects.equals(this.table, dependency.table) &&
+        Objects.equals(this.function, dependency.function);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(table, function);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Dependency {\n");
+    sb.append("    table: ").append(toIndentedString(table)).append("\n");
+    sb.append("    function: ").append(toIndentedString(function)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `table` to the URL query string
+    if (getTable() != null) {
+      joiner.add(getTable().toUrlQueryString(prefix + "table" + suffix));
+    }
+
+    // add `function` to the URL query string
+    if (getFunction() != null) {
+      joiner.add(getFunction().toUrlQueryString(prefix + "function" + suffix));
+    }
+
+    return joiner.toString();
+  }
+}
+
@@ -0,0 +1,186 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.client.model.TableOperation;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import io.unitycatalog.client.ApiClient;
+/**
+ * GenerateTemporaryTableCredential
+ */
+@JsonPropertyOrder({
+  GenerateTemporaryTableCredential.JSON_PROPERTY_TABLE_ID,
+  GenerateTemporaryTableCredential.JSON_PROPERTY_OPERATION
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class GenerateTemporaryTableCredential {
+  public static final String JSON_PROPERTY_TABLE_ID = "table_id";
+  private String tableId;
+
+  public static final String JSON_PROPERTY_OPERATION = "operation";
+  private TableOperation operation;
+
+  public GenerateTemporaryTableCredential() { 
+  }
+
+  public GenerateTemporaryTableCredential tableId(String tableId) {
+    this.tableId = tableId;
+    return this;
+  }
+
+  /**
+   * Table id for which temporary credentials are generated.  Can be obtained from tables/{full_name} (get table info) API. 
+   * @return tableId
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_TABLE_ID)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public String getTableId() {
+    return tableId;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_TABLE_ID)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setTableId(String tableId) {
+    this.tableId = tableId;
+  }
+
+
+  public GenerateTemporaryTableCredential operation(TableOperation operation) {
+    this.operation = operation;
+    return this;
+  }
+
+  /**
+   * Get operation
+   * @return operation
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_OPERATION)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public TableOperation getOperation() {
+    return operation;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_OPERATION)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setOperation(TableOperation operation) {
+    this.operation = operation;
+  }
+
+
+  /**
+   * Return true if this GenerateTemporaryTableCredential object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GenerateTemporaryTableCredential generateTemporaryTableCredential = (GenerateTemporaryTableCredential) o;
+    return Objects.equals(this.tableId, generateTemporaryTableCredential.tableId) &&
+        Objects.equals(this.operation, generateTemporaryTableCredential.operation);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(tableId, operation);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class GenerateTemporaryTableCredential {\n");
+    sb.append("    tableId: ").append(toIndentedString(tableId)).append("\n");
+    sb.append("    operation: ").append(toIndentedString(operation)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `table_id` to the URL query string
+    if (getTableId() != null) {
+      joiner.add(String.format("%stable_id%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getTableId()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `operation` to the URL query string
+    if (getOperation() != null) {
+      joiner.add(String.format("%soperation%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getOperation()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    return joiner.toString();
+  }
+}
+
@@ -0,0 +1,150 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import io.unitycatalog.client.ApiClient;
+/**
+ * GetMetastoreSummaryResponse
+ */
+@JsonPropertyOrder({
+  GetMetastoreSummaryResponse.JSON_PROPERTY_METASTORE_ID
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class GetMetastoreSummaryResponse {
+  public static final String JSON_PROPERTY_METASTORE_ID = "metastore_id";
+  private String metastoreId;
+
+  public GetMetastoreSummaryResponse() { 
+  }
+
+  public GetMetastoreSummaryResponse metastoreId(String metastoreId) {
+    this.metastoreId = metastoreId;
+    return this;
+  }
+
+  /**
+   * Unique identifier of the metastore.
+   * @return metastoreId
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_METASTORE_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getMetastoreId() {
+    return metastoreId;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_METASTORE_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setMetastoreId(String metastoreId) {
+    this.metastoreId = metastoreId;
+  }
+
+
+  /**
+   * Return true if this GetMetastoreSummaryResponse object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GetMetastoreSummaryResponse getMetastoreSummaryResponse = (GetMetastoreSummaryResponse) o;
+    return Objects.equals(this.metastoreId, getMetastoreSummaryResponse.metastoreId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(metastoreId);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class GetMetastoreSummaryResponse {\n");
+    sb.append("    metastoreId: ").append(toIndentedString(metastoreId)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `metastore_id` to the URL query string
+    if (getMetastoreId() != null) {
+      joiner.add(String.format("%smetastore_id%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getMetastoreId()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    return joiner.toString();
+  }
+}
+
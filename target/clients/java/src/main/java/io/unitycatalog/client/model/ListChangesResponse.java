@@ -0,0 +1,201 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.client.model.ChangeEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import io.unitycatalog.client.ApiClient;
+/**
+ * ListChangesResponse
+ */
+@JsonPropertyOrder({
+  ListChangesResponse.JSON_PROPERTY_CHANGES,
+  ListChangesResponse.JSON_PROPERTY_NEXT_SEQUENCE_NUMBER
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class ListChangesResponse {
+  public static final String JSON_PROPERTY_CHANGES = "changes";
+  private List<ChangeEvent> changes = new ArrayList<>();
+
+  public static final String JSON_PROPERTY_NEXT_SEQUENCE_NUMBER = "next_sequence_number";
+  private Long nextSequenceNumber;
+
+  public ListChangesResponse() { 
+  }
+
+  public ListChangesResponse changes(List<ChangeEvent> changes) {
+    this.changes = changes;
+    return this;
+  }
+
+  public ListChangesResponse addChangesItem(ChangeEvent changesItem) {
+    if (this.changes == null) {
+      this.changes = new ArrayList<>();
+    }
+    this.changes.add(changesItem);
+    return this;
+  }
+
+  /**
+   * The changes in the order they were committed.
+   * @return changes
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CHANGES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public List<ChangeEvent> getChanges() {
+    return changes;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CHANGES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setChanges(List<ChangeEvent> changes) {
+    this.changes = changes;
+  }
+
+
+  public ListChangesResponse nextSequenceNumber(Long nextSequenceNumber) {
+    this.nextSequenceNumber = nextSequenceNumber;
+    return this;
+  }
+
+  /**
+   * Sequence number of the last change returned, or the __since__ value of the request if there were none. __since__ should be set to this value for the next request. 
+   * @return nextSequenceNumber
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_NEXT_SEQUENCE_NUMBER)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public Long getNextSequenceNumber() {
+    return nextSequenceNumber;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_NEXT_SEQUENCE_NUMBER)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setNextSequenceNumber(Long nextSequenceNumber) {
+    this.nextSequenceNumber = nextSequenceNumber;
+  }
+
+
+  /**
+   * Return true if this ListChangesResponse object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ListChangesResponse listChangesResponse = (ListChangesResponse) o;
+    return Objects.equals(this.changes, listChangesResponse.changes) &&
+        Objects.equals(this.nextSequenceNumber, listChangesResponse.nextSequenceNumber);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(changes, nextSequenceNumber);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ListChangesResponse {\n");
+    sb.append("    changes: ").append(toIndentedString(changes)).append("\n");
+    sb.append("    nextSequenceNumber: ").append(toIndentedString(nextSequenceNumber)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `changes` to the URL query string
+    if (getChanges() != null) {
+      for (int i = 0; i < getChanges().size(); i++) {
+        if (getChanges().get(i) != null) {
+          joiner.add(getChanges().get(i).toUrlQueryString(String.format("%schanges%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format("%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    // add `next_sequence_number` to the URL query string
+    if (getNextSequenceNumber() != null) {
+      joiner.add(String.format("%snext_sequence_number%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getNextSequenceNumber()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    return joiner.toString();
+  }
+}
+
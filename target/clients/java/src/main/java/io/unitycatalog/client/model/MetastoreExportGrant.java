@@ -0,0 +1,199 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import io.unitycatalog.client.ApiClient;
+/**
+ * MetastoreExportGrant
+ */
+@JsonPropertyOrder({
+  MetastoreExportGrant.JSON_PROPERTY_PRINCIPAL,
+  MetastoreExportGrant.JSON_PROPERTY_PRIVILEGES
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class MetastoreExportGrant {
+  public static final String JSON_PROPERTY_PRINCIPAL = "principal";
+  private String principal;
+
+  public static final String JSON_PROPERTY_PRIVILEGES = "privileges";
+  private List<String> privileges = new ArrayList<>();
+
+  public MetastoreExportGrant() { 
+  }
+
+  public MetastoreExportGrant principal(String principal) {
+    this.principal = principal;
+    return this;
+  }
+
+  /**
+   * Email address of the principal.
+   * @return principal
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PRINCIPAL)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getPrincipal() {
+    return principal;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PRINCIPAL)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setPrincipal(String principal) {
+    this.principal = principal;
+  }
+
+
+  public MetastoreExportGrant privileges(List<String> privileges) {
+    this.privileges = privileges;
+    return this;
+  }
+
+  public MetastoreExportGrant addPrivilegesItem(String privilegesItem) {
+    if (this.privileges == null) {
+      this.privileges = new ArrayList<>();
+    }
+    this.privileges.add(privilegesItem);
+    return this;
+  }
+
+  /**
+   * The privileges of the principal, including __OWNER__ for its owner.
+   * @return privileges
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_PRIVILEGES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public List<String> getPrivileges() {
+    return privileges;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_PRIVILEGES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setPrivileges(List<String> privileges) {
+    this.privileges = privileges;
+  }
+
+
+  /**
+   * Return true if this MetastoreExportGrant object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    MetastoreExportGrant metastoreExportGrant = (MetastoreExportGrant) o;
+    return Objects.equals(this.principal, metastoreExportGrant.principal) &&
+        Objects.equals(this.privileges, metastoreExportGrant.privileges);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(principal, privileges);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class MetastoreExportGrant {\n");
+    sb.append("    principal: ").append(toIndentedString(principal)).append("\n");
+    sb.append("    privileges: ").append(toIndentedString(privileges)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `principal` to the URL query string
+    if (getPrincipal() != null) {
+      joiner.add(String.format("%sprincipal%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getPrincipal()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `privileges` to the URL query string
+    if (getPrivileges() != null) {
+      for (int i = 0; i < getPrivileges().size(); i++) {
+        joiner.add(String.format("%sprivileges%s%s=%s", prefix, suffix,
+            "".equals(suffix) ? "" : String.format("%s%d%s", containerPrefix, i, containerSuffix),
+            URLEncoder.encode(ApiClient.valueToString(getPrivileges().get(i)), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+      }
+    }
+
+    return joiner.toString();
+  }
+}
+
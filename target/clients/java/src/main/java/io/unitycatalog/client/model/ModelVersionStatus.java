@@ -0,0 +1,82 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * All possible model version statuses (MODEL_VERSION_STATUS_UNKNOWN, PENDING_REGISTRATION, FAILED_REGISTRATION, READY). PENDING_REGISTRATION status indicates that the client has not completely written all model artifacts to external storage. FAILED_REGISTRATION status indicates that the client has failed to write all model artifacts to external storage. READY status indicates that the client has successfully written all model artifacts to external storage. 
+ */
+public enum ModelVersionStatus {
+  
+  MODEL_VERSION_STATUS_UNKNOWN("MODEL_VERSION_STATUS_UNKNOWN"),
+  
+  PENDING_REGISTRATION("PENDING_REGISTRATION"),
+  
+  FAILED_REGISTRATION("FAILED_REGISTRATION"),
+  
+  READY("READY");
+
+  private String value;
+
+  ModelVersionStatus(String value) {
+    this.value = value;
+  }
+
+  @JsonValue
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  @JsonCreator
+  public static ModelVersionStatus fromValue(String value) {
+    for (ModelVersionStatus b : ModelVersionStatus.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    if (prefix == null) {
+      prefix = "";
+    }
+
+    return String.format("%s=%s", prefix, this.toString());
+  }
+
+}
+
@@ -0,0 +1,98 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * The privilege to grant.
+ */
+public enum Privilege {
+  
+  CREATE_CATALOG("CREATE CATALOG"),
+  
+  USE_CATALOG("USE CATALOG"),
+  
+  CREATE_SCHEMA("CREATE SCHEMA"),
+  
+  USE_SCHEMA("USE SCHEMA"),
+  
+  CREATE_TABLE("CREATE TABLE"),
+  
+  SELECT("SELECT"),
+  
+  MODIFY("MODIFY"),
+  
+  CREATE_FUNCTION("CREATE FUNCTION"),
+  
+  EXECUTE("EXECUTE"),
+  
+  CREATE_VOLUME("CREATE VOLUME"),
+  
+  READ_VOLUME("READ VOLUME"),
+  
+  CREATE_MODEL("CREATE MODEL");
+
+  private String value;
+
+  Privilege(String value) {
+    this.value = value;
+  }
+
+  @JsonValue
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  @JsonCreator
+  public static Privilege fromValue(String value) {
+    for (Privilege b : Privilege.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    if (prefix == null) {
+      prefix = "";
+    }
+
+    return String.format("%s=%s", prefix, this.toString());
+  }
+
+}
+
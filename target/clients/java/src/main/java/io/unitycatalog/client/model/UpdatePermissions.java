@@ -0,0 +1,166 @@
+/*
+ * Unity Catalog API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.client.model.PermissionsChange;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import io.unitycatalog.client.ApiClient;
+/**
+ * UpdatePermissions
+ */
+@JsonPropertyOrder({
+  UpdatePermissions.JSON_PROPERTY_CHANGES
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class UpdatePermissions {
+  public static final String JSON_PROPERTY_CHANGES = "changes";
+  private List<PermissionsChange> changes = new ArrayList<>();
+
+  public UpdatePermissions() { 
+  }
+
+  public UpdatePermissions changes(List<PermissionsChange> changes) {
+    this.changes = changes;
+    return this;
+  }
+
+  public UpdatePermissions addChangesItem(PermissionsChange changesItem) {
+    if (this.changes == null) {
+      this.changes = new ArrayList<>();
+    }
+    this.changes.add(changesItem);
+    return this;
+  }
+
+  /**
+   * Array of permissions change objects.
+   * @return changes
+   */
+  @jakarta.annotation.Nonnull
+  @JsonProperty(JSON_PROPERTY_CHANGES)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public List<PermissionsChange> getChanges() {
+    return changes;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CHANGES)
+  @JsonInclude(value = JsonInclude.Include.ALWAYS)
+  public void setChanges(List<PermissionsChange> changes) {
+    this.changes = changes;
+  }
+
+
+  /**
+   * Return true if this UpdatePermissions object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    UpdatePermissions updatePermissions = (UpdatePermissions) o;
+    return Objects.equals(this.changes, updatePermissions.changes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(changes);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class UpdatePermissions {\n");
+    sb.append("    changes: ").append(toIndentedString(changes)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `changes` to the URL query string
+    if (getChanges() != null) {
+      for (int i = 0; i < getChanges().size(); i++) {
+        if (getChanges().get(i) != null) {
+          joiner.add(getChanges().get(i).toUrlQueryString(String.format("%schanges%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format("%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    return joiner.toString();
+  }
+}
+
@@ -0,0 +1,377 @@
+/*
+ * Unity Control API
+ * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
+ *
+ * The version of the OpenAPI document: 0.1
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package io.unitycatalog.control.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.unitycatalog.control.model.UserResource;
+import io.unitycatalog.control.model.UserResourceListMeta;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import io.unitycatalog.control.ApiClient;
+/**
+ * List of SCIM User resources.
+ */
+@JsonPropertyOrder({
+  UserResourceList.JSON_PROPERTY_TOTAL_RESULTS,
+  UserResourceList.JSON_PROPERTY_ITEMS_PER_PAGE,
+  UserResourceList.JSON_PROPERTY_START_INDEX,
+  UserResourceList.JSON_PROPERTY_RESOURCES,
+  UserResourceList.JSON_PROPERTY_ID,
+  UserResourceList.JSON_PROPERTY_EXTERNAL_ID,
+  UserResourceList.JSON_PROPERTY_META
+})
+@jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.9.0")
+public class UserResourceList {
+  public static final String JSON_PROPERTY_TOTAL_RESULTS = "totalResults";
+  private Integer totalResults;
+
+  public static final String JSON_PROPERTY_ITEMS_PER_PAGE = "itemsPerPage";
+  private Integer itemsPerPage;
+
+  public static final String JSON_PROPERTY_START_INDEX = "startIndex";
+  private Integer startIndex;
+
+  public static final String JSON_PROPERTY_RESOURCES = "Resources";
+  private List<UserResource> resources = new ArrayList<>();
+
+  public static final String JSON_PROPERTY_ID = "id";
+  private String id;
+
+  public static final String JSON_PROPERTY_EXTERNAL_ID = "externalId";
+  private String externalId;
+
+  public static final String JSON_PROPERTY_META = "meta";
+  private UserResourceListMeta meta;
+
+  public UserResourceList() { 
+  }
+
+  public UserResourceList totalResults(Integer totalResults) {
+    this.totalResults = totalResults;
+    return this;
+  }
+
+  /**
+   * The total number of results.
+   * @return totalResults
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_TOTAL_RESULTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public Integer getTotalResults() {
+    return totalResults;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_TOTAL_RESULTS)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setTotalResults(Integer totalResults) {
+    this.totalResults = totalResults;
+  }
+
+
+  public UserResourceList itemsPerPage(Integer itemsPerPage) {
+    this.itemsPerPage = itemsPerPage;
+    return this;
+  }
+
+  /**
+   * The number of items per page.
+   * @return itemsPerPage
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ITEMS_PER_PAGE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public Integer getItemsPerPage() {
+    return itemsPerPage;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ITEMS_PER_PAGE)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setItemsPerPage(Integer itemsPerPage) {
+    this.itemsPerPage = itemsPerPage;
+  }
+
+
+  public UserResourceList startIndex(Integer startIndex) {
+    this.startIndex = startIndex;
+    return this;
+  }
+
+  /**
+   * The index of the first result.
+   * @return startIndex
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_START_INDEX)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public Integer getStartIndex() {
+    return startIndex;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_START_INDEX)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setStartIndex(Integer startIndex) {
+    this.startIndex = startIndex;
+  }
+
+
+  public UserResourceList resources(List<UserResource> resources) {
+    this.resources = resources;
+    return this;
+  }
+
+  public UserResourceList addResourcesItem(UserResource resourcesItem) {
+    if (this.resources == null) {
+      this.resources = new ArrayList<>();
+    }
+    this.resources.add(resourcesItem);
+    return this;
+  }
+
+  /**
+   * The list of User resources.
+   * @return resources
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_RESOURCES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public List<UserResource> getResources() {
+    return resources;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_RESOURCES)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setResources(List<UserResource> resources) {
+    this.resources = resources;
+  }
+
+
+  public UserResourceList id(String id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * User list id metadata.
+   * @return id
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getId() {
+    return id;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setId(String id) {
+    this.id = id;
+  }
+
+
+  public UserResourceList externalId(String externalId) {
+    this.externalId = externalId;
+    return this;
+  }
+
+  /**
+   * User list external id metadata.
+   * @return externalId
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_EXTERNAL_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getExternalId() {
+    return externalId;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_EXTERNAL_ID)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setExternalId(String externalId) {
+    this.externalId = externalId;
+  }
+
+
+  public UserResourceList meta(UserResourceListMeta meta) {
+    this.meta = meta;
+    return this;
+  }
+
+  /**
+   * Get meta
+   * @return meta
+   */
+  @jakarta.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_META)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public UserResourceListMeta getMeta() {
+    return meta;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_META)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setMeta(UserResourceListMeta meta) {
+    this.meta = meta;
+  }
+
+
+  /**
+   * Return true if this UserResourceList object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    UserResourceList userResourceList = (UserResourceList) o;
+    return Objects.equals(this.totalResults, userResourceList.totalResults) &&
+        Objects.equals(this.itemsPerPage, userResourceList.itemsPerPage) &&
+        Objects.equals(this.startIndex, userResourceList.startIndex) &&
+        Objects.equals(this.resources, userResourceList.resources) &&
+        Objects.equals(this.id, userResourceList.id) &&
+        Objects.equals(this.externalId, userResourceList.externalId) &&
+        Objects.equals(this.meta, userResourceList.meta);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(totalResults, itemsPerPage, startIndex, resources, id, externalId, meta);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class UserResourceList {\n");
+    sb.append("    totalResults: ").append(toIndentedString(totalResults)).append("\n");
+    sb.append("    itemsPerPage: ").append(toIndentedString(itemsPerPage)).append("\n");
+    sb.append("    startIndex: ").append(toIndentedString(startIndex)).append("\n");
+    sb.append("    resources: ").append(toIndentedString(resources)).append("\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    externalId: ").append(toIndentedString(externalId)).append("\n");
+    sb.append("    meta: ").append(toIndentedString(meta)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `totalResults` to the URL query string
+    if (getTotalResults() != null) {
+      joiner.add(String.format("%stotalResults%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getTotalResults()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `itemsPerPage` to the URL query string
+    if (getItemsPerPage() != null) {
+      joiner.add(String.format("%sitemsPerPage%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getItemsPerPage()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `startIndex` to the URL query string
+    if (getStartIndex() != null) {
+      joiner.add(String.format("%sstartIndex%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getStartIndex()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `Resources` to the URL query string
+    if (getResources() != null) {
+      for (int i = 0; i < getResources().size(); i++) {
+        if (getResources().get(i) != null) {
+          joiner.add(getResources().get(i).toUrlQueryString(String.format("%sResources%s%s", prefix, suffix,
+          "".equals(suffix) ? "" : String.format("%s%d%s", containerPrefix, i, containerSuffix))));
+        }
+      }
+    }
+
+    // add `id` to the URL query string
+    if (getId() != null) {
+      joiner.add(String.format("%sid%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getId()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `externalId` to the URL query string
+    if (getExternalId() != null) {
+      joiner.add(String.format("%sexternalId%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getExternalId()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `meta` to the URL query string
+    if (getMeta() != null) {
+      joiner.add(getMeta().toUrlQueryString(prefix + "meta" + suffix));
+    }
+
+    return joiner.toString();
+  }
+}
+